@@ -83,10 +83,29 @@ tasks.named<Delete>("clean") {
 }
 
 tasks.withType<Test> {
-	useJUnitPlatform()
+	useJUnitPlatform {
+		// 벤치마크는 시간이 오래 걸리므로 기본 test 태스크에서는 제외 (./gradlew benchmark 로 실행)
+		if (name != "benchmark") {
+			excludeTags("benchmark")
+		}
+	}
 	systemProperty("user.timezone", "UTC")
 	// 윈도우 환경에서 인코딩 문제 방지
 	systemProperty("file.encoding", "UTF-8")
 	// 윈도우 환경에서 콘솔 출력 인코딩 설정
 	outputs.upToDateWhen { false }
-}
\ No newline at end of file
+}
+
+// 성능 비교용 벤치마크 테스트 (@Tag("benchmark")) 실행
+tasks.register<Test>("benchmark") {
+	description = "Runs benchmark tests tagged with 'benchmark'."
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QOutboxEvent is a Querydsl query type for OutboxEvent
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QOutboxEvent extends EntityPathBase<OutboxEvent> {
+
+    private static final long serialVersionUID = 1700812002L;
+
+    public static final QOutboxEvent outboxEvent = new QOutboxEvent("outboxEvent");
+
+    public final NumberPath<Long> aggregateId = createNumber("aggregateId", Long.class);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> claimedAt = createDateTime("claimedAt", java.time.LocalDateTime.class);
+
+    public final StringPath claimToken = createString("claimToken");
+
+    public final NumberPath<Long> concertScheduleId = createNumber("concertScheduleId", Long.class);
+
+    public final EnumPath<OutboxEventType> eventType = createEnum("eventType", OutboxEventType.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath lastError = createString("lastError");
+
+    public final DateTimePath<java.time.LocalDateTime> nextAttemptAt = createDateTime("nextAttemptAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> occurredAt = createDateTime("occurredAt", java.time.LocalDateTime.class);
+
+    public final StringPath payload = createString("payload");
+
+    public final DateTimePath<java.time.LocalDateTime> publishedAt = createDateTime("publishedAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<OutboxEventStatus> status = createEnum("status", OutboxEventStatus.class);
+
+    public QOutboxEvent(String variable) {
+        super(OutboxEvent.class, forVariable(variable));
+    }
+
+    public QOutboxEvent(Path<? extends OutboxEvent> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QOutboxEvent(PathMetadata metadata) {
+        super(OutboxEvent.class, metadata);
+    }
+
+}
+
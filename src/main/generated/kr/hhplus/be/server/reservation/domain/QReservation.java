@@ -26,6 +26,8 @@ public class QReservation extends EntityPathBase<Reservation> {
 
     public final kr.hhplus.be.server.concert.domain.QConcertSchedule concertSchedule;
 
+    public final NumberPath<Long> fencingToken = createNumber("fencingToken", Long.class);
+
     public final DateTimePath<java.time.LocalDateTime> holdExpiresAt = createDateTime("holdExpiresAt", java.time.LocalDateTime.class);
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
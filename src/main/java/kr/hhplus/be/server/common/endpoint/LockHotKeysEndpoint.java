@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.common.endpoint;
+
+import kr.hhplus.be.server.common.service.HotLockKeyTracker;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합 락 키 조회 Actuator 엔드포인트
+ *
+ * GET /actuator/lockhotkeys?limit=20
+ * 락 획득 실패가 가장 많은 상위 키와 누적 실패 횟수, 초당 실패율을 반환합니다.
+ */
+@Component
+@Endpoint(id = "lockhotkeys")
+@RequiredArgsConstructor
+public class LockHotKeysEndpoint {
+
+	private static final int DEFAULT_LIMIT = 10;
+
+	private final HotLockKeyTracker hotLockKeyTracker;
+
+	@ReadOperation
+	public HotKeysResponse hotKeys(@Nullable Integer limit) {
+		int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+		return new HotKeysResponse(
+				hotLockKeyTracker.getCapacity(),
+				hotLockKeyTracker.getWindowSeconds(),
+				hotLockKeyTracker.top(size)
+		);
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class HotKeysResponse {
+		/** 추적기 최대 카운터 수 */
+		private final int capacity;
+		/** 초당 실패율 계산 창 (초) */
+		private final long windowSeconds;
+		/** 경합 상위 키 */
+		private final List<HotLockKeyTracker.HotKey> keys;
+	}
+}
@@ -1,18 +1,72 @@
 package kr.hhplus.be.server.common.service;
 
+import kr.hhplus.be.server.config.DistributedLockProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 
 /**
- * Redis 기반 분산락 서비스
+ * 분산락 서비스
  * 
  * 분산 환경에서 동시성 제어를 위한 분산락을 제공합니다.
- * Redis의 SETNX 명령을 사용하여 락을 획득하고, TTL을 설정하여 데드락을 방지합니다.
+ * 
+ * 2단계 락:
+ * - 락 백엔드에 접근하기 전에 노드 내부 락 테이블(LocalLockTable)을 먼저 통과해야 합니다.
+ * - 키마다 노드당 한 요청만 백엔드 락을 두고 경쟁하고, 나머지는 네트워크 없이 로컬에서 대기합니다.
+ * 
+ * 락 백엔드:
+ * - 2단계 획득과 해제는 락 키 접두사별로 선택된 LockProvider가 담당합니다. (LockProviders 참고)
+ * - redis(기본값): SETNX + 워치독 + 해제 알림, 공정 모드 지원 (RedisLockProvider)
+ * - mysql: GET_LOCK / RELEASE_LOCK (MySqlLockProvider)
+ * - memory: 노드 내부 락 테이블만 사용 (InMemoryLockProvider)
+ * 
+ * 부하 차단:
+ * - 이미 점유된 키를 기다리기 시작하는 요청은 키별 대기자 수(LockWaiters, 모든 노드 합계)에 참여합니다.
+ * - 대기자가 hhplus.lock.max-waiters-per-key를 넘으면 기다리지 않고 바로 LockContendedException으로 실패합니다.
+ *   어차피 얻지 못할 락을 수백 개 요청이 최대 대기 시간 동안 붙잡고 있는 것을 막습니다.
+ * - 노드마다 백엔드 락을 두고 경쟁하는 대표 요청(노드당 키별 하나)은 세지 않습니다. 다중 키 락은 차단하지 않습니다.
+ * 
+ * 펜싱 토큰:
+ * - 단일 키 락은 획득할 때마다 키별로 단조 증가하는 펜싱 토큰을 함께 발급합니다.
+ * - 락이 만료된 뒤에도 작업을 계속하는 노드가 있을 수 있으므로, 보호 대상 DB 행의 조건부 UPDATE에 토큰을 넘겨
+ *   더 큰 토큰으로 이미 기록된 행에 대한 쓰기를 거절하게 합니다. (executeWithFencedLock)
+ * 
+ * 비동기 락:
+ * - executeWithLockAsync는 CompletableFuture를 반환하고, 락을 기다리는 동안 스레드를 붙잡지 않습니다.
+ *   로컬 줄 대기와 해제 알림 대기를 future로 표현하고, 획득 시도와 작업만 LockTaskExecutor에서 실행합니다.
+ *   (mysql 백엔드는 GET_LOCK 대기 동안 실행기 스레드 하나를 점유합니다.)
+ * - 동기 방식은 대기자마다 요청 스레드 하나를 최대 MAX_WAIT_TIME_MS 동안 점유하므로,
+ *   경합이 몰리면 기다리기만 하는 스레드로 톰캣 스레드 풀이 고갈됩니다.
+ * 
+ * 다중 키 락:
+ * - executeWithLocks는 여러 키를 전부 획득하거나 하나도 획득하지 않습니다.
+ *   키를 정렬된 순서로 다루므로 교착 상태가 생기지 않습니다.
+ * - 모든 키가 같은 해시 태그와 같은 백엔드를 가져야 합니다. (LockKeys 참고)
+ * 
+ * 읽기/쓰기 락:
+ * - executeWithReadLock은 같은 키의 읽기끼리 서로 막지 않고, executeWithWriteLock과만 배타적입니다.
+ *   (예: 좌석 예약은 공연 일정 읽기 락, 일정 전체를 바꾸는 일괄 작업은 쓰기 락)
+ * - 기다리는 쓰기가 있으면 새 읽기는 대기하므로 읽기가 끊이지 않아도 쓰기가 굶지 않습니다.
+ * - Redis 전용이며(RedisReadWriteLock) 락 백엔드 선택, 노드 내부 락 테이블, 대기자 차단을 거치지 않습니다.
+ * - 같은 키에 일반 락(executeWithLock)과 섞어 쓰면 안 됩니다.
+ * 
+ * 세마포어:
+ * - executeWithPermit은 같은 범위(전역 또는 공연 일정)의 동시 실행을 hhplus.lock.permits.{이름}개로 제한합니다.
+ *   (예: 결제가 한꺼번에 몰려 작은 DB 커넥션 풀 앞에 줄을 서는 대신, 허가를 얻은 N개만 DB에 접근)
+ * - 허가는 워치독이 연장하는 임대이므로 보유 노드가 죽으면 TTL 후 돌아옵니다. (RedisSemaphore)
+ * - executeWithPermitAsync는 허가를 기다리는 동안 실행기 스레드를 붙잡지 않습니다. 락 안에서 허가를 기다려야 하면
+ *   composeWithFencedLockAsync로 이어 붙여 락과 허가 대기 모두 스레드 없이 기다립니다.
+ * 
+ * 메트릭:
+ * - 대기 시간, 재시도, 실패, 보유 시간, 해제 오류를 키 접두사별로 기록합니다. (LockMetrics 참고)
+ * - 이미 점유된 키에 대한 획득 실패는 경합 키 추적기(HotLockKeyTracker)에 기록합니다.
  * 
  * 주의사항:
  * - DB 트랜잭션과 함께 사용할 때는 락 해제 시점을 주의해야 합니다.
@@ -24,19 +78,20 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class DistributedLockService {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final LocalLockTable localLockTable;
+	private final LockProviders lockProviders;
+	private final LockWaiters lockWaiters;
+	private final LockMetrics lockMetrics;
+	private final LockTaskExecutor lockTaskExecutor;
+	private final RedisReadWriteLock readWriteLock;
+	private final RedisSemaphore semaphore;
+	private final DistributedLockProperties lockProperties;
 
 	/**
 	 * 락 키의 기본 TTL (초)
-	 * 락을 획득한 후 일정 시간이 지나면 자동으로 해제되어 데드락을 방지합니다.
-	 */
-	private static final long DEFAULT_LOCK_TTL_SECONDS = 30;
-
-	/**
-	 * 락 획득 시도 간격 (밀리초)
-	 * 락 획득에 실패했을 때 재시도하기 전 대기 시간입니다.
+	 * 작업 중에는 워치독이 연장하므로, 보유 노드가 죽었을 때 락이 풀리기까지의 시간에 해당합니다.
 	 */
-	private static final long LOCK_RETRY_INTERVAL_MS = 100;
+	private static final long DEFAULT_LOCK_TTL_SECONDS = 5;
 
 	/**
 	 * 락 획득 최대 대기 시간 (밀리초)
@@ -66,27 +121,392 @@ public class DistributedLockService {
 	 * @throws RuntimeException 락 획득 실패 시
 	 */
 	public <T> T executeWithLock(String lockKey, long ttlSeconds, Supplier<T> supplier) {
-		boolean lockAcquired = false;
+		return executeWithFencedLock(lockKey, ttlSeconds, fencingToken -> supplier.get());
+	}
+
+	/**
+	 * 분산락을 획득하고, 이번 획득의 펜싱 토큰을 넘겨 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param task 펜싱 토큰을 받아 실행할 작업 (토큰은 같은 키에 대해 획득할 때마다 증가)
+	 * @return 작업 실행 결과
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithFencedLock(String lockKey, LongFunction<T> task) {
+		return executeWithFencedLock(lockKey, DEFAULT_LOCK_TTL_SECONDS, task);
+	}
+
+	/**
+	 * 분산락을 획득하고, 이번 획득의 펜싱 토큰을 넘겨 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param ttlSeconds 락 TTL (초)
+	 * @param task 펜싱 토큰을 받아 실행할 작업 (토큰은 같은 키에 대해 획득할 때마다 증가)
+	 * @return 작업 실행 결과
+	 * @throws LockContendedException 대기자가 너무 많아 기다리지 않고 실패한 경우
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithFencedLock(String lockKey, long ttlSeconds, LongFunction<T> task) {
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(lockKey);
+
+		// 1단계: 같은 노드의 같은 키 요청은 로컬에서 대기 (대기자가 너무 많으면 기다리지 않고 실패)
+		LockWaiters.Ticket ticket = LockWaiters.Ticket.UNCOUNTED;
+		LocalLockTable.Permit permit = localLockTable.tryAcquire(lockKey);
+		if (permit == null) {
+			ticket = joinWaiters(lockKey, meters);
+			try {
+				permit = acquireLocal(lockKey, deadline, meters, startNanos);
+			} catch (RuntimeException e) {
+				lockWaiters.leave(ticket);
+				throw e;
+			}
+		}
 		try {
-			// 락 획득 시도
-			lockAcquired = tryLock(lockKey, ttlSeconds);
-			
-			if (!lockAcquired) {
+			// 2단계: 분산락 획득 시도
+			LockProvider.Lease lease;
+			try {
+				lease = lockProviders.forKey(lockKey).acquire(lockKey, ttlSeconds, deadline);
+			} finally {
+				lockWaiters.leave(ticket);
+			}
+			if (lease == null) {
+				meters.recordRedisFailure(System.nanoTime() - startNanos);
 				throw new IllegalStateException("락 획득에 실패했습니다. lockKey: " + lockKey);
 			}
 
-			log.debug("락 획득 성공: {}", lockKey);
-			
-			// 작업 실행
-			return supplier.get();
-			
+			meters.recordAcquired(System.nanoTime() - startNanos, permit.waited(), lease.contended());
+			log.debug("락 획득 성공: {}, fencingToken={}", lockKey, lease.fencingToken());
+			return runWithLease(List.of(lockKey), lease, () -> task.apply(lease.fencingToken()), meters);
 		} finally {
-			// 락 해제
-			if (lockAcquired) {
-				unlock(lockKey);
-				log.debug("락 해제 완료: {}", lockKey);
+			permit.release();
+		}
+	}
+
+	/**
+	 * 분산락을 비동기로 획득하고 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param supplier 락을 획득한 후 실행할 작업 (LockTaskExecutor에서 실행)
+	 * @return 작업 실행 결과 (락 획득 실패 시 IllegalStateException으로 완료)
+	 */
+	public <T> CompletableFuture<T> executeWithLockAsync(String lockKey, Supplier<T> supplier) {
+		return executeWithLockAsync(lockKey, DEFAULT_LOCK_TTL_SECONDS, supplier);
+	}
+
+	/**
+	 * 분산락을 비동기로 획득하고 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param ttlSeconds 락 TTL (초)
+	 * @param supplier 락을 획득한 후 실행할 작업 (LockTaskExecutor에서 실행)
+	 * @return 작업 실행 결과 (락 획득 실패 시 IllegalStateException으로 완료)
+	 */
+	public <T> CompletableFuture<T> executeWithLockAsync(String lockKey, long ttlSeconds, Supplier<T> supplier) {
+		return executeWithFencedLockAsync(lockKey, ttlSeconds, fencingToken -> supplier.get());
+	}
+
+	/**
+	 * 분산락을 비동기로 획득하고, 이번 획득의 펜싱 토큰을 넘겨 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param task 펜싱 토큰을 받아 실행할 작업 (LockTaskExecutor에서 실행)
+	 * @return 작업 실행 결과 (락 획득 실패 시 IllegalStateException으로 완료)
+	 */
+	public <T> CompletableFuture<T> executeWithFencedLockAsync(String lockKey, LongFunction<T> task) {
+		return executeWithFencedLockAsync(lockKey, DEFAULT_LOCK_TTL_SECONDS, task);
+	}
+
+	/**
+	 * 분산락을 비동기로 획득하고, 이번 획득의 펜싱 토큰을 넘겨 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * 동기 방식과 같은 2단계 락, 공정 모드, 워치독, 메트릭을 사용하며 대기 방식만 다릅니다.
+	 * - 로컬 줄 대기: LocalLockTable.acquireAsync (넘겨받을 때 완료)
+	 * - 백엔드 경합 대기: LockProvider.acquireAsync (redis는 해제 알림 또는 폴링 간격이 지나면 실행기에서 재시도)
+	 * 
+	 * @param lockKey 락 키
+	 * @param ttlSeconds 락 TTL (초)
+	 * @param task 펜싱 토큰을 받아 실행할 작업 (LockTaskExecutor에서 실행)
+	 * @return 작업 실행 결과 (락 획득 실패 시 IllegalStateException, 대기자 초과 시 LockContendedException으로 완료)
+	 */
+	public <T> CompletableFuture<T> executeWithFencedLockAsync(String lockKey, long ttlSeconds, LongFunction<T> task) {
+		return composeWithFencedLockAsync(lockKey, ttlSeconds,
+				fencingToken -> CompletableFuture.completedFuture(task.apply(fencingToken)));
+	}
+
+	/**
+	 * 분산락을 비동기로 획득하고, 펜싱 토큰을 넘겨 비동기 작업을 시작한 후 그 작업이 끝나면 락을 해제합니다.
+	 * 
+	 * 락 안에서 다시 비동기로 기다려야 하는 작업(예: 세마포어 허가)을 실행기 스레드를 붙잡지 않고 이어 붙일 때 사용합니다.
+	 * 작업이 끝날 때까지 워치독이 락을 연장합니다.
+	 * 
+	 * @param lockKey 락 키
+	 * @param task 펜싱 토큰을 받아 비동기 작업을 시작하는 함수 (LockTaskExecutor에서 호출)
+	 * @return 작업 실행 결과 (락 획득 실패 시 IllegalStateException, 대기자 초과 시 LockContendedException으로 완료)
+	 */
+	public <T> CompletableFuture<T> composeWithFencedLockAsync(String lockKey,
+			LongFunction<CompletableFuture<T>> task) {
+		return composeWithFencedLockAsync(lockKey, DEFAULT_LOCK_TTL_SECONDS, task);
+	}
+
+	private <T> CompletableFuture<T> composeWithFencedLockAsync(String lockKey, long ttlSeconds,
+			LongFunction<CompletableFuture<T>> task) {
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(lockKey);
+
+		// 1단계: 같은 노드의 같은 키 요청은 로컬 줄에서 대기 (대기자가 너무 많으면 기다리지 않고 실패)
+		// 넘겨받은 future는 앞 요청이 반납한 스레드에서 완료되므로 실행기로 옮겨서 계속
+		LocalLockTable.Permit immediate = localLockTable.tryAcquire(lockKey);
+		LockWaiters.Ticket ticket;
+		CompletableFuture<LocalLockTable.Permit> local;
+		if (immediate != null) {
+			ticket = LockWaiters.Ticket.UNCOUNTED;
+			local = CompletableFuture.completedFuture(immediate);
+		} else {
+			try {
+				ticket = joinWaiters(lockKey, meters);
+			} catch (LockContendedException e) {
+				return CompletableFuture.failedFuture(e);
 			}
+			local = localLockTable.acquireAsync(lockKey, MAX_WAIT_TIME_MS);
 		}
+		return local.thenComposeAsync(permit -> {
+			if (permit == null) {
+				lockWaiters.leave(ticket);
+				meters.recordLocalFailure(System.nanoTime() - startNanos);
+				throw new IllegalStateException("락 획득에 실패했습니다. lockKey: " + lockKey);
+			}
+			// 2단계: 분산락 획득 시도
+			// 획득 시작 자체가 동기로 실패하면 아래 whenComplete가 붙지 않으므로 여기서 허가와 대기 표를 돌려줌
+			CompletableFuture<LockProvider.Lease> acquired;
+			try {
+				acquired = lockProviders.forKey(lockKey).acquireAsync(lockKey, ttlSeconds, deadline, lockTaskExecutor);
+			} catch (RuntimeException e) {
+				lockWaiters.leave(ticket);
+				permit.release();
+				meters.recordRedisFailure(System.nanoTime() - startNanos);
+				return CompletableFuture.failedFuture(e);
+			}
+			return acquired
+					.whenComplete((lease, e) -> lockWaiters.leave(ticket))
+					.thenCompose(lease -> {
+						if (lease == null) {
+							meters.recordRedisFailure(System.nanoTime() - startNanos);
+							throw new IllegalStateException("락 획득에 실패했습니다. lockKey: " + lockKey);
+						}
+
+						meters.recordAcquired(System.nanoTime() - startNanos, permit.waited(), lease.contended());
+						log.debug("락 획득 성공: {}, fencingToken={}", lockKey, lease.fencingToken());
+						return runWithLeaseAsync(List.of(lockKey), lease, () -> task.apply(lease.fencingToken()), meters);
+					})
+					.whenComplete((result, e) -> permit.release());
+		}, lockTaskExecutor);
+	}
+
+	/**
+	 * 여러 분산락을 한 번에 획득하고 작업을 실행한 후 한 번에 해제합니다.
+	 * 
+	 * @param lockKeys 락 키 목록 (예: 같은 공연 일정의 좌석 키들)
+	 * @param supplier 락을 획득한 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws IllegalArgumentException 키가 없거나 해시 태그가 서로 다른 경우
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithLocks(Collection<String> lockKeys, Supplier<T> supplier) {
+		return executeWithLocks(lockKeys, DEFAULT_LOCK_TTL_SECONDS, supplier);
+	}
+
+	/**
+	 * 여러 분산락을 한 번에 획득하고 작업을 실행한 후 한 번에 해제합니다.
+	 * 
+	 * 모든 키를 정렬된 순서로 전부 획득하거나 하나도 획득하지 않으므로, 일부만 잡힌 채 작업하는 일이 없습니다.
+	 * 키가 하나뿐이면 executeWithLock과 같습니다.
+	 * 
+	 * @param lockKeys 락 키 목록
+	 * @param ttlSeconds 락 TTL (초) - 모든 키에 같은 TTL 적용
+	 * @param supplier 락을 획득한 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws IllegalArgumentException 키가 없거나 해시 태그 또는 락 백엔드가 서로 다른 경우
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithLocks(Collection<String> lockKeys, long ttlSeconds, Supplier<T> supplier) {
+		List<String> sortedKeys = sortedDistinct(lockKeys);
+		if (sortedKeys.size() == 1) {
+			return executeWithLock(sortedKeys.get(0), ttlSeconds, supplier);
+		}
+		LockProvider provider = lockProviders.forKeys(sortedKeys);
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(sortedKeys.get(0));
+
+		// 1단계: 로컬 락도 정렬된 순서로 획득하여 같은 노드 안에서의 교착을 방지
+		List<LocalLockTable.Permit> permits = new ArrayList<>(sortedKeys.size());
+		try {
+			boolean waitedLocally = false;
+			for (String lockKey : sortedKeys) {
+				LocalLockTable.Permit permit = acquireLocal(lockKey, deadline, meters, startNanos);
+				permits.add(permit);
+				waitedLocally |= permit.waited();
+			}
+
+			// 2단계: 모든 키를 한 번에 획득 시도
+			LockProvider.Lease lease = provider.acquireAll(sortedKeys, ttlSeconds, deadline);
+			if (lease == null) {
+				meters.recordRedisFailure(System.nanoTime() - startNanos);
+				throw new IllegalStateException("락 획득에 실패했습니다. lockKeys: " + sortedKeys);
+			}
+
+			meters.recordAcquired(System.nanoTime() - startNanos, waitedLocally, lease.contended());
+			log.debug("락 획득 성공: {}", sortedKeys);
+			return runWithLease(sortedKeys, lease, supplier, meters);
+		} finally {
+			for (int i = permits.size() - 1; i >= 0; i--) {
+				permits.get(i).release();
+			}
+		}
+	}
+
+	/**
+	 * 여러 분산락을 한 번에 획득하고 작업을 실행한 후 한 번에 해제합니다. (반환값 없음)
+	 * 
+	 * @param lockKeys 락 키 목록
+	 * @param runnable 락을 획득한 후 실행할 작업
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public void executeWithLocks(Collection<String> lockKeys, Runnable runnable) {
+		executeWithLocks(lockKeys, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 읽기 락을 획득하고 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * 같은 키의 다른 읽기 락 보유자와는 동시에 실행되고, 쓰기 락 보유자 또는 대기자가 있으면 기다립니다.
+	 * 
+	 * @param lockKey 락 키 (예: LockKeys.schedule)
+	 * @param supplier 락을 획득한 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithReadLock(String lockKey, Supplier<T> supplier) {
+		return executeWithReadWriteLock(lockKey, false, supplier);
+	}
+
+	/**
+	 * 쓰기 락을 획득하고 작업을 실행한 후 자동으로 락을 해제합니다.
+	 * 
+	 * 같은 키의 읽기 락 보유자가 모두 빠질 때까지 기다리며, 기다리는 동안 새 읽기 락 획득을 막습니다.
+	 * 
+	 * @param lockKey 락 키 (예: LockKeys.schedule)
+	 * @param supplier 락을 획득한 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws RuntimeException 락 획득 실패 시
+	 */
+	public <T> T executeWithWriteLock(String lockKey, Supplier<T> supplier) {
+		return executeWithReadWriteLock(lockKey, true, supplier);
+	}
+
+	private <T> T executeWithReadWriteLock(String lockKey, boolean write, Supplier<T> supplier) {
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(lockKey);
+
+		LockProvider.Lease lease = write
+				? readWriteLock.acquireWrite(lockKey, DEFAULT_LOCK_TTL_SECONDS, deadline)
+				: readWriteLock.acquireRead(lockKey, DEFAULT_LOCK_TTL_SECONDS, deadline);
+		if (lease == null) {
+			meters.recordRedisFailure(System.nanoTime() - startNanos);
+			throw new IllegalStateException((write ? "쓰기" : "읽기") + " 락 획득에 실패했습니다. lockKey: " + lockKey);
+		}
+
+		meters.recordAcquired(System.nanoTime() - startNanos);
+		log.debug("{} 락 획득 성공: {}", write ? "쓰기" : "읽기", lockKey);
+		return runWithLease(List.of(lockKey), lease, supplier, meters);
+	}
+
+	/**
+	 * 전역 세마포어 허가를 얻어 작업을 실행한 후 허가를 반납합니다.
+	 * 
+	 * @param semaphoreName 세마포어 이름 (허가 수: hhplus.lock.permits.{이름}, 없으면 제한 없음)
+	 * @param supplier 허가를 얻은 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws RuntimeException 허가 획득 실패 시
+	 */
+	public <T> T executeWithPermit(String semaphoreName, Supplier<T> supplier) {
+		return executeWithPermit(semaphoreName, LockKeys.semaphore(semaphoreName), supplier);
+	}
+
+	/**
+	 * 공연 일정별 세마포어 허가를 얻어 작업을 실행한 후 허가를 반납합니다.
+	 * 
+	 * @param semaphoreName 세마포어 이름 (허가 수: hhplus.lock.permits.{이름}, 없으면 제한 없음)
+	 * @param concertScheduleId 공연 일정 ID (일정마다 허가 수만큼 동시 실행)
+	 * @param supplier 허가를 얻은 후 실행할 작업
+	 * @return 작업 실행 결과
+	 * @throws RuntimeException 허가 획득 실패 시
+	 */
+	public <T> T executeWithPermit(String semaphoreName, Long concertScheduleId, Supplier<T> supplier) {
+		return executeWithPermit(semaphoreName, LockKeys.semaphore(semaphoreName, concertScheduleId), supplier);
+	}
+
+	private <T> T executeWithPermit(String semaphoreName, String semaphoreKey, Supplier<T> supplier) {
+		int permits = lockProperties.permitsOf(semaphoreName);
+		if (permits <= 0) {
+			return supplier.get();
+		}
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(semaphoreKey);
+
+		LockProvider.Lease lease = semaphore.acquire(semaphoreKey, permits, DEFAULT_LOCK_TTL_SECONDS, deadline);
+		if (lease == null) {
+			meters.recordRedisFailure(System.nanoTime() - startNanos);
+			throw new IllegalStateException("세마포어 허가 획득에 실패했습니다. semaphoreKey: " + semaphoreKey);
+		}
+
+		meters.recordAcquired(System.nanoTime() - startNanos);
+		log.debug("세마포어 허가 획득 성공: {}", semaphoreKey);
+		return runWithLease(List.of(semaphoreKey), lease, supplier, meters);
+	}
+
+	/**
+	 * 전역 세마포어 허가를 비동기로 얻어 작업을 실행한 후 허가를 반납합니다.
+	 * 
+	 * 허가를 기다리는 동안 스레드를 붙잡지 않고, 반납 알림이나 재시도 간격이 지나면 LockTaskExecutor에서 다시 시도합니다.
+	 * 
+	 * @param semaphoreName 세마포어 이름 (허가 수: hhplus.lock.permits.{이름}, 없으면 제한 없음)
+	 * @param supplier 허가를 얻은 후 실행할 작업 (허가를 바로 얻으면 호출 스레드, 기다렸으면 LockTaskExecutor에서 실행)
+	 * @return 작업 실행 결과 (허가 획득 실패 시 IllegalStateException으로 완료)
+	 */
+	public <T> CompletableFuture<T> executeWithPermitAsync(String semaphoreName, Supplier<T> supplier) {
+		String semaphoreKey = LockKeys.semaphore(semaphoreName);
+		int permits = lockProperties.permitsOf(semaphoreName);
+		if (permits <= 0) {
+			try {
+				return CompletableFuture.completedFuture(supplier.get());
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		long startNanos = System.nanoTime();
+		long deadline = System.currentTimeMillis() + MAX_WAIT_TIME_MS;
+		LockMetrics.Meters meters = lockMetrics.of(semaphoreKey);
+
+		return semaphore.acquireAsync(semaphoreKey, permits, DEFAULT_LOCK_TTL_SECONDS, deadline, lockTaskExecutor)
+				.thenApply(lease -> {
+					if (lease == null) {
+						meters.recordRedisFailure(System.nanoTime() - startNanos);
+						throw new IllegalStateException("세마포어 허가 획득에 실패했습니다. semaphoreKey: " + semaphoreKey);
+					}
+
+					meters.recordAcquired(System.nanoTime() - startNanos);
+					log.debug("세마포어 허가 획득 성공: {}", semaphoreKey);
+					return runWithLease(List.of(semaphoreKey), lease, supplier, meters);
+				});
 	}
 
 	/**
@@ -119,51 +539,92 @@ public class DistributedLockService {
 	}
 
 	/**
-	 * 락 획득 시도
-	 * 
-	 * @param lockKey 락 키
-	 * @param ttlSeconds TTL (초)
-	 * @return 락 획득 성공 여부
-	 */
-	private boolean tryLock(String lockKey, long ttlSeconds) {
-		long startTime = System.currentTimeMillis();
-		
-		while (System.currentTimeMillis() - startTime < MAX_WAIT_TIME_MS) {
-			// SETNX: 키가 존재하지 않을 때만 설정 (원자적 연산)
-			Boolean success = redisTemplate.opsForValue().setIfAbsent(
-					lockKey, 
-					"locked", 
-					Duration.ofSeconds(ttlSeconds)
-			);
-			
-			if (Boolean.TRUE.equals(success)) {
-				return true;
-			}
-			
-			// 락 획득 실패 시 잠시 대기 후 재시도
-			try {
-				Thread.sleep(LOCK_RETRY_INTERVAL_MS);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				return false;
+	 * 획득한 락으로 작업을 실행하고, 끝나면 락을 해제합니다.
+	 */
+	private <T> T runWithLease(List<String> lockKeys, LockProvider.Lease lease, Supplier<T> supplier,
+			LockMetrics.Meters meters) {
+		long acquiredNanos = System.nanoTime();
+		try {
+			// 작업 실행
+			return supplier.get();
+		} finally {
+			lease.release();
+			meters.recordHold(System.nanoTime() - acquiredNanos);
+			log.debug("락 해제 완료: {}", lockKeys);
+		}
+	}
+
+	/**
+	 * 획득한 락으로 비동기 작업을 시작하고, 작업이 끝나면 락을 해제합니다.
+	 */
+	private <T> CompletableFuture<T> runWithLeaseAsync(List<String> lockKeys, LockProvider.Lease lease,
+			Supplier<CompletableFuture<T>> supplier, LockMetrics.Meters meters) {
+		long acquiredNanos = System.nanoTime();
+		CompletableFuture<T> result;
+		try {
+			result = supplier.get();
+		} catch (RuntimeException e) {
+			result = CompletableFuture.failedFuture(e);
+		}
+		return result.whenComplete((value, e) -> {
+			lease.release();
+			meters.recordHold(System.nanoTime() - acquiredNanos);
+			log.debug("락 해제 완료: {}", lockKeys);
+		});
+	}
+
+	/**
+	 * 락 키를 중복 제거 후 정렬하고, 모두 같은 해시 슬롯에 속하는지 검증합니다.
+	 */
+	private static List<String> sortedDistinct(Collection<String> lockKeys) {
+		List<String> sortedKeys = lockKeys.stream().distinct().sorted().toList();
+		if (sortedKeys.isEmpty()) {
+			throw new IllegalArgumentException("락 키가 없습니다.");
+		}
+		String slotKey = LockKeys.hashSlotKey(sortedKeys.get(0));
+		for (String lockKey : sortedKeys) {
+			if (!LockKeys.hashSlotKey(lockKey).equals(slotKey)) {
+				throw new IllegalArgumentException("같은 해시 태그를 가진 키만 함께 잠글 수 있습니다. lockKeys: " + sortedKeys);
 			}
 		}
-		
-		return false;
+		return sortedKeys;
+	}
+
+	/**
+	 * 락 대기자로 참여합니다.
+	 * 
+	 * @throws LockContendedException 대기자가 이미 최대치인 경우 (기다리지 않고 실패)
+	 */
+	private LockWaiters.Ticket joinWaiters(String lockKey, LockMetrics.Meters meters) {
+		try {
+			return lockWaiters.join(lockKey);
+		} catch (LockContendedException e) {
+			meters.recordShed();
+			throw e;
+		}
 	}
 
 	/**
-	 * 락 해제
+	 * 노드 내부 락 획득
 	 * 
 	 * @param lockKey 락 키
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @param meters 메트릭
+	 * @param startNanos 획득 시작 시각 (실패 시 대기 시간 기록용)
+	 * @return 로컬 락
+	 * @throws IllegalStateException 대기 시간 내에 획득하지 못한 경우
 	 */
-	private void unlock(String lockKey) {
+	private LocalLockTable.Permit acquireLocal(String lockKey, long deadline, LockMetrics.Meters meters, long startNanos) {
 		try {
-			redisTemplate.delete(lockKey);
-		} catch (Exception e) {
-			log.error("락 해제 중 오류 발생: lockKey={}", lockKey, e);
-			// 락 해제 실패는 치명적이지 않으므로 예외를 다시 던지지 않음
-			// TTL이 지나면 자동으로 해제되기 때문
+			long timeoutMs = Math.max(deadline - System.currentTimeMillis(), 0);
+			LocalLockTable.Permit permit = localLockTable.acquire(lockKey, timeoutMs);
+			if (permit != null) {
+				return permit;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
+		meters.recordLocalFailure(System.nanoTime() - startNanos);
+		throw new IllegalStateException("락 획득에 실패했습니다. lockKey: " + lockKey);
 	}
 }
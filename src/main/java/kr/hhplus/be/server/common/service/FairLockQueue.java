@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 공정(FIFO) 분산락 대기열
+ *
+ * 락을 기다리는 요청은 번호표(ticket)를 받아 키별 대기열(Sorted Set)에 도착 순서대로 줄을 섭니다.
+ * 락이 비어 있어도 대기열의 맨 앞 번호표만 락을 가져갈 수 있으므로, 늦게 온 요청이 먼저 온 요청을 앞지르지 못합니다.
+ *
+ * Redis 키 (lockKey = "seat:{schedule:1}:5" 기준, 락 키와 같은 슬롯):
+ * - seat:{schedule:1}:5:fair:queue    번호표 대기열 (score: 도착 순번)
+ * - seat:{schedule:1}:5:fair:timeouts 번호표 만료 시각 (score: epoch 밀리초)
+ * - seat:{schedule:1}:5:fair:seq      도착 순번 발급용 카운터
+ *
+ * 대기자는 재시도할 때마다 번호표의 만료 시각을 갱신합니다.
+ * 갱신이 끊긴(노드 장애 등으로 버려진) 번호표는 다음 시도 시 만료 시각 기준으로 정리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FairLockQueue {
+
+	/**
+	 * 번호표 순서대로 락 획득 시도
+	 * KEYS[1]: 락 키, KEYS[2]: 대기열, KEYS[3]: 만료 시각, KEYS[4]: 순번 카운터, KEYS[5]: 펜싱 토큰 카운터
+	 * ARGV[1]: 번호표(소유자 토큰), ARGV[2]: 락 TTL (밀리초), ARGV[3]: 번호표 TTL (밀리초), ARGV[4]: 펜싱 토큰 카운터 TTL (밀리초)
+	 * 반환: 펜싱 토큰 = 획득, 0 = 대기열에서 대기
+	 */
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+			"local time = redis.call('time') " +
+			"local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+			// 갱신이 끊긴 번호표 정리
+			"local expired = redis.call('zrangebyscore', KEYS[3], '-inf', now) " +
+			"for _, ticket in ipairs(expired) do " +
+			"  redis.call('zrem', KEYS[2], ticket) " +
+			"  redis.call('zrem', KEYS[3], ticket) " +
+			"end " +
+			// 락이 비어 있고 내가 맨 앞(또는 대기열이 비어 있음)이면 획득
+			"if redis.call('exists', KEYS[1]) == 0 then " +
+			"  local head = redis.call('zrange', KEYS[2], 0, 0)[1] " +
+			"  if head == nil or head == ARGV[1] then " +
+			"    redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+			"    redis.call('zrem', KEYS[2], ARGV[1]) " +
+			"    redis.call('zrem', KEYS[3], ARGV[1]) " +
+			"    local fencingToken = redis.call('incr', KEYS[5]) " +
+			"    redis.call('pexpire', KEYS[5], ARGV[4]) " +
+			"    return fencingToken " +
+			"  end " +
+			"end " +
+			// 처음 온 요청은 줄을 세우고, 기존 대기자는 번호표 만료 시각만 갱신
+			"if redis.call('zscore', KEYS[2], ARGV[1]) == false then " +
+			"  redis.call('zadd', KEYS[2], redis.call('incr', KEYS[4]), ARGV[1]) " +
+			"end " +
+			"redis.call('zadd', KEYS[3], now + tonumber(ARGV[3]), ARGV[1]) " +
+			// 대기자가 모두 사라진 대기열은 스스로 만료
+			"local idle = tonumber(ARGV[3]) * 2 " +
+			"redis.call('pexpire', KEYS[2], idle) " +
+			"redis.call('pexpire', KEYS[3], idle) " +
+			"redis.call('pexpire', KEYS[4], idle) " +
+			"return 0",
+			Long.class
+	);
+
+	/**
+	 * 번호표 반납 (대기 포기)
+	 * KEYS[1]: 대기열, KEYS[2]: 만료 시각, ARGV[1]: 번호표
+	 */
+	private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('zrem', KEYS[1], ARGV[1]) " +
+			"return redis.call('zrem', KEYS[2], ARGV[1])",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 번호표 순서대로 락 획득을 시도합니다. 실패하면 대기열에 줄을 서거나 번호표를 갱신합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param ticket 번호표 (획득 시 락 값이 되는 소유자 토큰)
+	 * @param lockTtlMillis 락 TTL (밀리초)
+	 * @param ticketTtlMillis 번호표 TTL (밀리초) - 이 시간 동안 재시도가 없으면 버려진 것으로 간주
+	 * @param fenceKey 펜싱 토큰 카운터 키
+	 * @param fenceTtlMillis 펜싱 토큰 카운터 TTL (밀리초)
+	 * @return 획득 시 펜싱 토큰, 대기 중이면 0
+	 */
+	public long tryAcquire(String lockKey, String ticket, long lockTtlMillis, long ticketTtlMillis,
+			String fenceKey, long fenceTtlMillis) {
+		Long fencingToken = redisTemplate.execute(ACQUIRE_SCRIPT,
+				List.of(lockKey, queueKey(lockKey), timeoutKey(lockKey), LockKeys.companion(lockKey, "fair:seq"), fenceKey),
+				ticket, String.valueOf(lockTtlMillis), String.valueOf(ticketTtlMillis), String.valueOf(fenceTtlMillis));
+		return fencingToken != null ? fencingToken : 0;
+	}
+
+	/**
+	 * 락 획득을 포기한 대기자의 번호표를 반납하여 뒤 순번이 바로 진행할 수 있게 합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param ticket 번호표
+	 */
+	public void leave(String lockKey, String ticket) {
+		try {
+			redisTemplate.execute(LEAVE_SCRIPT, List.of(queueKey(lockKey), timeoutKey(lockKey)), ticket);
+		} catch (Exception e) {
+			// 반납하지 못한 번호표는 TTL이 지나면 다음 시도에서 정리되므로 예외를 던지지 않음
+			log.warn("공정 락 번호표 반납 실패: lockKey={}", lockKey, e);
+		}
+	}
+
+	private static String queueKey(String lockKey) {
+		return LockKeys.companion(lockKey, "fair:queue");
+	}
+
+	private static String timeoutKey(String lockKey) {
+		return LockKeys.companion(lockKey, "fair:timeouts");
+	}
+}
@@ -0,0 +1,205 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 경합이 몰리는 락 키(hot key) 추적기
+ *
+ * 락 획득 시도가 실패(이미 다른 요청이 점유)할 때마다 키를 기록하고, 가장 많이 실패한 상위 K개 키를 제공합니다.
+ * Space-Saving 알고리즘으로 최대 capacity개의 카운터만 유지하므로,
+ * 좌석 키가 몇 개가 들어오든 메모리 사용량은 일정합니다.
+ *
+ * - 누적 카운터와 함께 시간 창(window) 단위 카운터를 따로 유지하여 최근 초당 실패율을 계산합니다.
+ * - 추정치는 실제보다 작지 않으며, 과대 추정 상한은 error로 함께 제공합니다.
+ * - 기록은 락 획득 실패 경로(Redis 왕복 이후)에서만 일어나므로 단순 동기화로 충분합니다.
+ */
+@Component
+public class HotLockKeyTracker {
+
+	private final Clock clock;
+	private final int capacity;
+	private final long windowMillis;
+
+	private final SpaceSaving total;
+	private SpaceSaving currentWindow;
+	private SpaceSaving previousWindow;
+	private long windowStartMillis;
+
+	@Autowired
+	public HotLockKeyTracker(DistributedLockProperties properties) {
+		this(properties, Clock.systemUTC());
+	}
+
+	HotLockKeyTracker(DistributedLockProperties properties, Clock clock) {
+		this.clock = clock;
+		this.capacity = properties.getHotKeyCapacity();
+		this.windowMillis = properties.getHotKeyWindow().toMillis();
+		this.total = new SpaceSaving(capacity);
+		this.currentWindow = new SpaceSaving(capacity);
+		this.previousWindow = new SpaceSaving(capacity);
+		this.windowStartMillis = clock.millis();
+	}
+
+	/**
+	 * 락 획득 실패(경합) 1회를 기록합니다.
+	 *
+	 * @param lockKey 점유 중이던 락 키
+	 */
+	public synchronized void recordContention(String lockKey) {
+		rotateWindow();
+		total.offer(lockKey);
+		currentWindow.offer(lockKey);
+	}
+
+	/**
+	 * 경합이 가장 많은 상위 키를 조회합니다.
+	 *
+	 * @param limit 조회할 개수
+	 * @return 누적 실패 횟수 내림차순 목록
+	 */
+	public synchronized List<HotKey> top(int limit) {
+		rotateWindow();
+		long now = clock.millis();
+		long elapsedInWindow = Math.max(now - windowStartMillis, 1);
+
+		List<HotKey> hotKeys = new ArrayList<>();
+		for (SpaceSaving.Counter counter : total.top(limit)) {
+			String key = counter.key;
+			long previous = previousWindow.estimate(key);
+			long current = currentWindow.estimate(key);
+			// 직전 창이 있으면 직전 창 기준, 없으면(첫 창) 현재 창의 경과 시간 기준
+			double ratePerSecond = previousWindow.isEmpty()
+					? current * 1000.0 / elapsedInWindow
+					: previous * 1000.0 / windowMillis;
+			hotKeys.add(new HotKey(key, counter.count, counter.error, current, ratePerSecond));
+		}
+		return hotKeys;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public long getWindowSeconds() {
+		return windowMillis / 1000;
+	}
+
+	/**
+	 * 창 시간이 지났으면 현재 창을 직전 창으로 넘깁니다. (두 창 이상 지났으면 직전 창도 비움)
+	 */
+	private void rotateWindow() {
+		long now = clock.millis();
+		long elapsed = now - windowStartMillis;
+		if (elapsed < windowMillis) {
+			return;
+		}
+		previousWindow = elapsed < windowMillis * 2 ? currentWindow : new SpaceSaving(capacity);
+		currentWindow = new SpaceSaving(capacity);
+		windowStartMillis = now - (elapsed % windowMillis);
+	}
+
+	/**
+	 * 경합 키 조회 결과
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class HotKey {
+		/** 락 키 */
+		private final String key;
+		/** 누적 실패 횟수 (추정치, 실제보다 작지 않음) */
+		private final long attempts;
+		/** 누적 실패 횟수의 최대 과대 추정치 */
+		private final long error;
+		/** 현재 창의 실패 횟수 */
+		private final long currentWindowAttempts;
+		/** 초당 실패율 (직전 창 기준) */
+		private final double ratePerSecond;
+	}
+
+	/**
+	 * Space-Saving 빈도 추정 (최대 capacity개 카운터)
+	 *
+	 * 새 키가 들어왔는데 자리가 없으면 가장 작은 카운터를 새 키에 넘기고, 그 값을 error로 기록합니다.
+	 */
+	static class SpaceSaving {
+
+		private final int capacity;
+		private final Map<String, Counter> counters = new HashMap<>();
+		private final TreeSet<Counter> ordered = new TreeSet<>(
+				Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.id));
+		private long nextId;
+
+		SpaceSaving(int capacity) {
+			this.capacity = capacity;
+		}
+
+		void offer(String key) {
+			Counter counter = counters.get(key);
+			if (counter != null) {
+				ordered.remove(counter);
+				counter.count++;
+				ordered.add(counter);
+				return;
+			}
+
+			Counter replaced = new Counter(key, nextId++);
+			if (counters.size() >= capacity) {
+				Counter min = ordered.pollFirst();
+				counters.remove(min.key);
+				replaced.count = min.count;
+				replaced.error = min.count;
+			}
+			replaced.count++;
+			counters.put(key, replaced);
+			ordered.add(replaced);
+		}
+
+		long estimate(String key) {
+			Counter counter = counters.get(key);
+			return counter != null ? counter.count : 0;
+		}
+
+		List<Counter> top(int limit) {
+			List<Counter> top = new ArrayList<>(Math.min(limit, counters.size()));
+			for (Counter counter : ordered.descendingSet()) {
+				if (top.size() >= limit) {
+					break;
+				}
+				top.add(counter);
+			}
+			return top;
+		}
+
+		int size() {
+			return counters.size();
+		}
+
+		boolean isEmpty() {
+			return counters.isEmpty();
+		}
+
+		static class Counter {
+			private final String key;
+			private final long id;
+			private long count;
+			private long error;
+
+			private Counter(String key, long id) {
+				this.key = key;
+				this.id = id;
+			}
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.common.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 요청의 처리 상태와 응답 저장소 (Redis)
+ *
+ * - Key: "idempotency:{HTTP 메서드}:{경로}:{Idempotency-Key}"
+ * - Value: JSON 한 개 (처리 중이면 요청 지문과 소유자 토큰, 완료면 요청 지문과 상태 코드, Content-Type, 본문)
+ * - 처리 중 표시는 소유자 토큰이 일치할 때만 완료 응답으로 바꾸거나 지웁니다. (TTL이 지나 다른 요청이 가져간 키를 덮어쓰지 않음)
+ * - 선점 시도와 기존 값 조회를 스크립트 한 번으로 처리하므로, 재요청은 Redis 왕복 한 번으로 저장된 응답을 받습니다.
+ * - 처리 중 표시는 키에 대한 락과 같으므로, 완료하거나 지울 때 락 해제 알림 채널(LockReleaseNotifier)로 발행하여
+ *   같은 키의 결과를 기다리는 요청을 깨웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotentResponseStore {
+
+	private static final String KEY_PREFIX = "idempotency:";
+
+	/**
+	 * 값이 있으면 그대로 반환하고, 없으면 처리 중으로 표시
+	 * KEYS[1]: 키, ARGV[1]: 처리 중 값, ARGV[2]: 처리 중 TTL (밀리초)
+	 * 반환: 기존 값, 선점했으면 nil
+	 */
+	private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+			"local current = redis.call('get', KEYS[1]) " +
+			"if current then " +
+			"  return current " +
+			"end " +
+			"redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+			"return nil",
+			String.class
+	);
+
+	/**
+	 * 처리 중 값이 내 것일 때만 완료 응답으로 교체하고 대기자에게 알림
+	 * KEYS[1]: 키, ARGV[1]: 처리 중 값, ARGV[2]: 완료 값, ARGV[3]: 보관 TTL (밀리초), ARGV[4]: 알림 채널 접두사
+	 * 반환: 1 = 저장, 0 = 이미 내 처리 중 표시가 아님
+	 */
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+			"  redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+			"  redis.call('publish', ARGV[4] .. KEYS[1], KEYS[1]) " +
+			"  return 1 " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	/**
+	 * 처리 중 값이 내 것일 때만 삭제하고 대기자에게 알림
+	 * KEYS[1]: 키, ARGV[1]: 처리 중 값, ARGV[2]: 알림 채널 접두사
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[1]) " +
+			"  redis.call('publish', ARGV[2] .. KEYS[1], KEYS[1]) " +
+			"  return 1 " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 저장된 처리 상태
+	 *
+	 * @param fingerprint 요청 지문 (같은 키로 다른 요청을 보냈는지 확인)
+	 * @param owner 처리 중인 요청의 소유자 토큰 (완료면 null)
+	 * @param status 완료된 응답의 상태 코드 (처리 중이면 0)
+	 */
+	public record Entry(String fingerprint, String owner, int status, String contentType, byte[] body) {
+
+		@JsonIgnore
+		public boolean isCompleted() {
+			return owner == null;
+		}
+	}
+
+	/**
+	 * 선점 결과 (선점했으면 claim, 이미 값이 있으면 existing)
+	 *
+	 * @param key Redis 키 (결과 대기와 조회에 사용)
+	 */
+	public record ClaimResult(String key, Claim claim, Entry existing) {
+
+		public boolean isClaimed() {
+			return claim != null;
+		}
+	}
+
+	/**
+	 * 처리 중 표시의 소유권 (완료 저장과 해제에 사용)
+	 */
+	public record Claim(String key, String inFlightValue) {
+	}
+
+	/**
+	 * 같은 키의 값이 없으면 처리 중으로 표시하고, 있으면 그 값을 반환
+	 *
+	 * @param scope 키 범위 ("{HTTP 메서드}:{경로}")
+	 * @param idempotencyKey Idempotency-Key 헤더 값
+	 * @param fingerprint 요청 지문
+	 * @param inFlightTtl 처리 중 표시 유지 시간
+	 */
+	public ClaimResult claim(String scope, String idempotencyKey, String fingerprint, Duration inFlightTtl) {
+		String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+		String inFlightValue = write(new Entry(fingerprint, UUID.randomUUID().toString(), 0, null, null));
+		String existing = redisTemplate.execute(CLAIM_SCRIPT, List.of(key), inFlightValue,
+				String.valueOf(inFlightTtl.toMillis()));
+		if (existing == null) {
+			return new ClaimResult(key, new Claim(key, inFlightValue), null);
+		}
+		return new ClaimResult(key, null, read(existing));
+	}
+
+	/**
+	 * 키의 현재 상태 조회 (처리 중 표시가 지워졌거나 만료되었으면 빈 값)
+	 *
+	 * @param key 선점 결과의 Redis 키
+	 */
+	public Optional<Entry> find(String key) {
+		String value = redisTemplate.opsForValue().get(key);
+		return value == null ? Optional.empty() : Optional.of(read(value));
+	}
+
+	/**
+	 * 처리 중 표시를 완료 응답으로 교체
+	 *
+	 * @return 저장했으면 true, 처리 중 표시가 이미 만료되어 다른 요청이 가져갔으면 false
+	 */
+	public boolean complete(Claim claim, int status, String contentType, byte[] body, Duration replayTtl) {
+		String fingerprint = read(claim.inFlightValue()).fingerprint();
+		String completed = write(new Entry(fingerprint, null, status, contentType, body));
+		Long stored = redisTemplate.execute(COMPLETE_SCRIPT, List.of(claim.key()), claim.inFlightValue(), completed,
+				String.valueOf(replayTtl.toMillis()), LockReleaseNotifier.CHANNEL_PREFIX);
+		return stored != null && stored == 1L;
+	}
+
+	/**
+	 * 처리 중 표시 삭제 (응답을 저장하지 않고 같은 키로 다시 실행할 수 있게 함)
+	 */
+	public void release(Claim claim) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(claim.key()), claim.inFlightValue(),
+				LockReleaseNotifier.CHANNEL_PREFIX);
+	}
+
+	private String write(Entry entry) {
+		try {
+			return objectMapper.writeValueAsString(entry);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등성 응답 직렬화 실패", e);
+		}
+	}
+
+	private Entry read(String value) {
+		try {
+			return objectMapper.readValue(value, Entry.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등성 응답 역직렬화 실패", e);
+		}
+	}
+}
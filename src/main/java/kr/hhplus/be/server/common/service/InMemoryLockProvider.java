@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.common.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 내부 락 백엔드
+ *
+ * DistributedLockService가 1단계에서 이미 노드 내부 락 테이블(LocalLockTable)로 같은 키를 직렬화하므로,
+ * 이 백엔드는 추가 대기 없이 바로 획득한 것으로 처리합니다. 네트워크 왕복이 없습니다.
+ *
+ * 사용처:
+ * - 단일 노드 배포와 테스트
+ * - 비관적 락(SELECT ... FOR UPDATE)처럼 DB가 이미 여러 노드 간 순서를 보장하는 경로에서,
+ *   같은 노드 안의 요청이 DB 커넥션을 붙잡고 행 락을 기다리지 않도록 앞단에서 줄을 세우는 용도
+ *
+ * 펜싱 토큰:
+ * - 노드 전체에서 공유하는 단조 증가 카운터이므로 키별로도 단조 증가합니다.
+ * - 재시작 후에도 이전 토큰보다 커지도록 기동 시각(밀리초)부터 시작합니다.
+ * - 토큰 공간이 Redis/MySQL 카운터와 다르므로, 펜싱 토큰을 기록하는 키의 백엔드를 운영 중에 바꾸면 안 됩니다.
+ */
+@Component
+public class InMemoryLockProvider implements LockProvider {
+
+	public static final String NAME = "memory";
+
+	private static final Lease MULTI_KEY_LEASE = new InMemoryLease(0);
+
+	private final AtomicLong fencingTokens = new AtomicLong(System.currentTimeMillis());
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public Lease acquire(String lockKey, long ttlSeconds, long deadline) {
+		return new InMemoryLease(fencingTokens.incrementAndGet());
+	}
+
+	@Override
+	public Lease acquireAll(List<String> lockKeys, long ttlSeconds, long deadline) {
+		return MULTI_KEY_LEASE;
+	}
+
+	@Override
+	public CompletableFuture<Lease> acquireAsync(String lockKey, long ttlSeconds, long deadline, Executor executor) {
+		return CompletableFuture.completedFuture(acquire(lockKey, ttlSeconds, deadline));
+	}
+
+	/**
+	 * 노드 내부 락 (해제는 LocalLockTable 반납으로 충분)
+	 */
+	private static class InMemoryLease implements Lease {
+
+		private final long fencingToken;
+
+		private InMemoryLease(long fencingToken) {
+			this.fencingToken = fencingToken;
+		}
+
+		@Override
+		public long fencingToken() {
+			return fencingToken;
+		}
+
+		@Override
+		public boolean contended() {
+			return false;
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+}
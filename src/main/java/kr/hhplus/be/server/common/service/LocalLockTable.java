@@ -0,0 +1,198 @@
+package kr.hhplus.be.server.common.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 내부(JVM) 락 테이블
+ *
+ * Redis 분산락 앞단에서 같은 키에 대한 같은 노드의 요청을 한 줄로 세웁니다.
+ * 키마다 한 요청만 Redis 락 경쟁에 참여하고, 나머지는 네트워크 없이 로컬에서 대기합니다.
+ *
+ * - 사용 중인 키만 테이블에 존재하고 마지막 사용자가 반납하면 제거되므로 메모리는 동시 사용 키 수에 비례합니다.
+ * - 스트라이프 방식과 달리 서로 다른 키가 같은 락을 공유하지 않아 무관한 좌석끼리 대기하지 않습니다.
+ * - 대기자는 키별 FIFO 큐에 줄을 서고, 반납 시 다음 대기자에게 바로 넘겨주므로 도착 순서대로 진입합니다.
+ * - 대기는 CompletableFuture로 표현되므로, 스레드를 붙잡지 않는 비동기 대기(acquireAsync)와
+ *   스레드를 멈추는 동기 대기(acquire)가 같은 줄을 공유합니다.
+ * - 획득한 스레드와 다른 스레드에서도 반납할 수 있습니다.
+ */
+@Component
+public class LocalLockTable {
+
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * 로컬 락 획득 시도
+	 *
+	 * @param lockKey 락 키
+	 * @param timeoutMs 최대 대기 시간 (밀리초)
+	 * @return 획득 결과 (실패 시 null)
+	 * @throws InterruptedException 대기 중 인터럽트 발생 시
+	 */
+	public Permit acquire(String lockKey, long timeoutMs) throws InterruptedException {
+		CompletableFuture<Permit> future = acquireAsync(lockKey, timeoutMs);
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			// 대기를 포기하되, 그 사이에 넘겨받았다면 바로 반납
+			if (!future.complete(null)) {
+				Permit permit = future.getNow(null);
+				if (permit != null) {
+					permit.release();
+				}
+			}
+			throw e;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 로컬 락을 기다리지 않고 획득 시도
+	 *
+	 * 보유자나 대기자가 있으면 줄을 서지 않고 바로 실패합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @return 획득 결과 (이미 사용 중이면 null)
+	 */
+	public Permit tryAcquire(String lockKey) {
+		Entry entry = entries.compute(lockKey, (key, current) -> {
+			Entry target = current != null ? current : new Entry();
+			target.users++;
+			return target;
+		});
+		synchronized (entry) {
+			if (!entry.held) {
+				entry.held = true;
+				return new Permit(lockKey, entry, false);
+			}
+		}
+		leave(lockKey, entry);
+		return null;
+	}
+
+	/**
+	 * 로컬 락 비동기 획득 (대기 중 스레드를 사용하지 않음)
+	 *
+	 * 반환된 future는 반납한 스레드에서 완료될 수 있으므로, 후속 작업은 별도 실행기(*Async)에서 실행해야 합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param timeoutMs 최대 대기 시간 (밀리초)
+	 * @return 획득 결과 (시간 내 획득하지 못하면 null로 완료)
+	 */
+	public CompletableFuture<Permit> acquireAsync(String lockKey, long timeoutMs) {
+		Entry entry = entries.compute(lockKey, (key, current) -> {
+			Entry target = current != null ? current : new Entry();
+			target.users++;
+			return target;
+		});
+
+		CompletableFuture<Permit> waiter = new CompletableFuture<>();
+		synchronized (entry) {
+			if (!entry.held) {
+				// 대기 없이 바로 얻음 (줄이 있으면 held가 유지되므로 새치기 불가)
+				entry.held = true;
+				return CompletableFuture.completedFuture(new Permit(lockKey, entry, false));
+			}
+			entry.waiters.add(waiter);
+		}
+
+		// 타임아웃이나 인터럽트로 permit 없이 끝난 대기자는 줄과 테이블에서 제거
+		waiter.whenComplete((permit, e) -> {
+			if (permit == null) {
+				synchronized (entry) {
+					entry.waiters.remove(waiter);
+				}
+				leave(lockKey, entry);
+			}
+		});
+		return waiter.completeOnTimeout(null, timeoutMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 현재 테이블에 존재하는 키 수 (사용 중이거나 대기 중인 키)
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void leave(String lockKey, Entry entry) {
+		entries.computeIfPresent(lockKey, (key, current) -> {
+			if (current != entry) {
+				return current;
+			}
+			current.users--;
+			return current.users > 0 ? current : null;
+		});
+	}
+
+	private static class Entry {
+
+		/**
+		 * 보유 여부와 대기 줄. entry 모니터 안에서만 변경됩니다.
+		 */
+		private boolean held;
+		private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+		/**
+		 * 보유자와 대기자 수. entries 맵의 compute 안에서만 변경됩니다.
+		 */
+		private int users;
+	}
+
+	/**
+	 * 획득한 로컬 락
+	 */
+	public class Permit {
+
+		private final String lockKey;
+		private final Entry entry;
+		private final boolean waited;
+		private boolean released;
+
+		private Permit(String lockKey, Entry entry, boolean waited) {
+			this.lockKey = lockKey;
+			this.entry = entry;
+			this.waited = waited;
+		}
+
+		/**
+		 * 같은 노드의 다른 요청이 끝나기를 기다린 후 획득했는지 여부
+		 */
+		public boolean waited() {
+			return waited;
+		}
+
+		/**
+		 * 로컬 락 반납 (중복 호출 시 무시)
+		 * 기다리는 요청이 있으면 보유 상태를 유지한 채 맨 앞 대기자에게 넘겨줍니다.
+		 */
+		public void release() {
+			if (released) {
+				return;
+			}
+			released = true;
+			while (true) {
+				CompletableFuture<Permit> next;
+				synchronized (entry) {
+					next = entry.waiters.poll();
+					if (next == null) {
+						entry.held = false;
+						break;
+					}
+				}
+				// 모니터 밖에서 완료해야 대기자의 후속 작업이 모니터를 잡고 실행되지 않음
+				// 그 사이 타임아웃으로 끝난 대기자는 건너뜀
+				if (next.complete(new Permit(lockKey, entry, true))) {
+					break;
+				}
+			}
+			leave(lockKey, entry);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.common.service;
+
+import lombok.Getter;
+
+/**
+ * 락 대기자가 이미 너무 많아 기다리지 않고 실패한 경우
+ *
+ * 대기 시간 초과와 달리 락을 전혀 기다리지 않았으므로, 호출자는 "경합 중" 응답을 바로 돌려줄 수 있습니다.
+ * 기존의 락 획득 실패 처리와 호환되도록 IllegalStateException을 상속합니다.
+ */
+@Getter
+public class LockContendedException extends IllegalStateException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String lockKey;
+
+	public LockContendedException(String lockKey) {
+		super("락 대기자가 많아 요청을 거절했습니다. lockKey: " + lockKey);
+		this.lockKey = lockKey;
+	}
+}
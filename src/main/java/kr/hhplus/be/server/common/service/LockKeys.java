@@ -0,0 +1,95 @@
+package kr.hhplus.be.server.common.service;
+
+/**
+ * 분산락 키 규칙
+ *
+ * 여러 키를 한 번에 잠그는 Lua 스크립트는 Redis Cluster에서 모든 키가 같은 슬롯에 있어야 실행됩니다.
+ * 키에 해시 태그({...})를 넣으면 Redis는 태그 부분만으로 슬롯을 계산하므로,
+ * 같은 공연 일정의 좌석 키는 모두 같은 슬롯에 모입니다.
+ *
+ * 예: seat:{schedule:7}:1201, seat:{schedule:7}:1202 → 태그 "schedule:7"로 같은 슬롯
+ */
+public final class LockKeys {
+
+	private static final String SEAT_PREFIX = "seat:";
+	private static final String SCHEDULE_PREFIX = "schedule:";
+	private static final String SEMAPHORE_PREFIX = "semaphore:";
+
+	private LockKeys() {
+	}
+
+	/**
+	 * 좌석 락 키 (공연 일정 해시 태그 포함)
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param seatId 좌석 ID
+	 * @return 락 키 (예: "seat:{schedule:7}:1201")
+	 */
+	public static String seat(Long concertScheduleId, Long seatId) {
+		return SEAT_PREFIX + "{schedule:" + concertScheduleId + "}:" + seatId;
+	}
+
+	/**
+	 * 공연 일정 읽기/쓰기 락 키 (좌석 락 키와 같은 해시 태그)
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @return 락 키 (예: "schedule:{schedule:7}")
+	 */
+	public static String schedule(Long concertScheduleId) {
+		return SCHEDULE_PREFIX + "{schedule:" + concertScheduleId + "}";
+	}
+
+	/**
+	 * 전역 세마포어 키
+	 *
+	 * @param name 세마포어 이름 (예: "payment")
+	 * @return 세마포어 키 (예: "semaphore:payment")
+	 */
+	public static String semaphore(String name) {
+		return SEMAPHORE_PREFIX + name;
+	}
+
+	/**
+	 * 공연 일정별 세마포어 키 (좌석 락 키와 같은 해시 태그)
+	 *
+	 * @param name 세마포어 이름 (예: "payment")
+	 * @param concertScheduleId 공연 일정 ID
+	 * @return 세마포어 키 (예: "semaphore:payment:{schedule:7}")
+	 */
+	public static String semaphore(String name, Long concertScheduleId) {
+		return SEMAPHORE_PREFIX + name + ":{schedule:" + concertScheduleId + "}";
+	}
+
+	/**
+	 * 락 키와 항상 같은 슬롯에 놓이는 보조 키 (펜싱 토큰 카운터, 공정 락 대기열 등)
+	 * 락 키에 해시 태그가 있으면 그대로 뒤에 붙이고, 없으면 락 키 전체를 해시 태그로 감쌉니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param suffix 보조 키 접미사
+	 * @return 보조 키 (예: "seat:{schedule:7}:1201:fence", "{reservation:5}:fence")
+	 */
+	public static String companion(String lockKey, String suffix) {
+		if (!hashSlotKey(lockKey).equals(lockKey)) {
+			return lockKey + ":" + suffix;
+		}
+		return "{" + lockKey + "}:" + suffix;
+	}
+
+	/**
+	 * Redis Cluster가 슬롯 계산에 사용하는 키 부분을 반환합니다.
+	 * 첫 '{' 이후 처음 나오는 '}' 사이가 비어 있지 않으면 그 부분, 아니면 키 전체가 슬롯 계산 대상입니다.
+	 *
+	 * @param key 락 키
+	 * @return 해시 태그 (태그가 없으면 키 전체)
+	 */
+	public static String hashSlotKey(String key) {
+		int open = key.indexOf('{');
+		if (open >= 0) {
+			int close = key.indexOf('}', open + 1);
+			if (close > open + 1) {
+				return key.substring(open + 1, close);
+			}
+		}
+		return key;
+	}
+}
@@ -0,0 +1,185 @@
+package kr.hhplus.be.server.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산락 메트릭 (Micrometer, /actuator/metrics로 조회)
+ *
+ * 모든 메트릭은 락 키 접두사(prefix 태그: "seat:", "reservation:" 등)별로 집계됩니다.
+ * - lock.wait: 락 획득까지 기다린 시간 (outcome=acquired|timeout, 히스토그램)
+ * - lock.retries: 2단계(Redis 등 락 백엔드) 재시도 횟수 (첫 시도 제외)
+ * - lock.acquire: 기다린 뒤 성공한 획득 수 (stage=local|redis, local은 같은 노드의 선행 요청을 로컬 줄에서 기다린 경우,
+ *   redis는 락 백엔드에서 다른 노드와 경쟁한 경우) - 로컬 락 테이블이 경합을 얼마나 흡수하는지 확인하는 용도
+ * - lock.failures: 락 획득 실패 수 (stage=local|redis|shed, redis는 백엔드와 무관하게 2단계 실패, shed는 대기자 초과로 거절)
+ * - lock.hold: 락을 보유한 시간 (히스토그램)
+ * - lock.unlock.errors: 해제 실패 수 (reason=ownership_lost|error)
+ *
+ * 접두사별 미터는 처음 사용할 때 한 번만 등록하고 캐시하므로, 락 획득 경로에서는 맵 조회와 카운터 증가만 발생합니다.
+ */
+@Component
+public class LockMetrics {
+
+	private static final String OTHER_PREFIX = "other";
+
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentHashMap<String, Meters> metersByPrefix = new ConcurrentHashMap<>();
+
+	public LockMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 락 키가 속한 접두사의 미터를 반환합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @return 접두사별 미터
+	 */
+	public Meters of(String lockKey) {
+		return metersByPrefix.computeIfAbsent(prefixOf(lockKey), this::register);
+	}
+
+	/**
+	 * 락 키의 접두사 (첫 ':'까지, 없으면 "other")
+	 * 키 전체를 태그로 쓰면 좌석 수만큼 시계열이 생기므로 접두사만 사용합니다.
+	 */
+	static String prefixOf(String lockKey) {
+		int index = lockKey.indexOf(':');
+		return index > 0 ? lockKey.substring(0, index + 1) : OTHER_PREFIX;
+	}
+
+	private Meters register(String prefix) {
+		return new Meters(
+				Timer.builder("lock.wait")
+						.description("분산락 획득 대기 시간")
+						.tags("prefix", prefix, "outcome", "acquired")
+						.publishPercentileHistogram()
+						.register(meterRegistry),
+				Timer.builder("lock.wait")
+						.description("분산락 획득 대기 시간")
+						.tags("prefix", prefix, "outcome", "timeout")
+						.publishPercentileHistogram()
+						.register(meterRegistry),
+				Counter.builder("lock.retries")
+						.description("분산락 Redis 재시도 횟수")
+						.tag("prefix", prefix)
+						.register(meterRegistry),
+				Counter.builder("lock.acquire")
+						.description("대기 후 성공한 분산락 획득 수")
+						.tags("prefix", prefix, "stage", "local")
+						.register(meterRegistry),
+				Counter.builder("lock.acquire")
+						.description("대기 후 성공한 분산락 획득 수")
+						.tags("prefix", prefix, "stage", "redis")
+						.register(meterRegistry),
+				Counter.builder("lock.failures")
+						.description("분산락 획득 실패 수")
+						.tags("prefix", prefix, "stage", "local")
+						.register(meterRegistry),
+				Counter.builder("lock.failures")
+						.description("분산락 획득 실패 수")
+						.tags("prefix", prefix, "stage", "redis")
+						.register(meterRegistry),
+				Counter.builder("lock.failures")
+						.description("분산락 획득 실패 수")
+						.tags("prefix", prefix, "stage", "shed")
+						.register(meterRegistry),
+				Timer.builder("lock.hold")
+						.description("분산락 보유 시간")
+						.tag("prefix", prefix)
+						.publishPercentileHistogram()
+						.register(meterRegistry),
+				Counter.builder("lock.unlock.errors")
+						.description("분산락 해제 실패 수")
+						.tags("prefix", prefix, "reason", "ownership_lost")
+						.register(meterRegistry),
+				Counter.builder("lock.unlock.errors")
+						.description("분산락 해제 실패 수")
+						.tags("prefix", prefix, "reason", "error")
+						.register(meterRegistry)
+		);
+	}
+
+	/**
+	 * 접두사별 미터 묶음
+	 */
+	public static class Meters {
+
+		private final Timer acquiredWait;
+		private final Timer timeoutWait;
+		private final Counter retries;
+		private final Counter localWaits;
+		private final Counter remoteWaits;
+		private final Counter localFailures;
+		private final Counter redisFailures;
+		private final Counter shed;
+		private final Timer hold;
+		private final Counter ownershipLost;
+		private final Counter unlockErrors;
+
+		private Meters(Timer acquiredWait, Timer timeoutWait, Counter retries, Counter localWaits, Counter remoteWaits,
+				Counter localFailures, Counter redisFailures, Counter shed, Timer hold, Counter ownershipLost,
+				Counter unlockErrors) {
+			this.acquiredWait = acquiredWait;
+			this.timeoutWait = timeoutWait;
+			this.retries = retries;
+			this.localWaits = localWaits;
+			this.remoteWaits = remoteWaits;
+			this.localFailures = localFailures;
+			this.redisFailures = redisFailures;
+			this.shed = shed;
+			this.hold = hold;
+			this.ownershipLost = ownershipLost;
+			this.unlockErrors = unlockErrors;
+		}
+
+		void recordAcquired(long waitNanos) {
+			acquiredWait.record(waitNanos, TimeUnit.NANOSECONDS);
+		}
+
+		void recordAcquired(long waitNanos, boolean waitedLocally, boolean waitedRemotely) {
+			recordAcquired(waitNanos);
+			if (waitedLocally) {
+				localWaits.increment();
+			}
+			if (waitedRemotely) {
+				remoteWaits.increment();
+			}
+		}
+
+		void recordRetry() {
+			retries.increment();
+		}
+
+		void recordLocalFailure(long waitNanos) {
+			timeoutWait.record(waitNanos, TimeUnit.NANOSECONDS);
+			localFailures.increment();
+		}
+
+		void recordRedisFailure(long waitNanos) {
+			timeoutWait.record(waitNanos, TimeUnit.NANOSECONDS);
+			redisFailures.increment();
+		}
+
+		void recordShed() {
+			shed.increment();
+		}
+
+		void recordHold(long holdNanos) {
+			hold.record(holdNanos, TimeUnit.NANOSECONDS);
+		}
+
+		void recordOwnershipLost() {
+			ownershipLost.increment();
+		}
+
+		void recordUnlockError() {
+			unlockErrors.increment();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.common.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 분산락 백엔드 SPI
+ *
+ * DistributedLockService는 노드 내부 락 테이블(1단계)을 통과한 요청의 2단계 락 획득을
+ * 락 키 접두사별로 선택된 구현에 맡깁니다. (hhplus.lock.provider-key-prefixes, 나머지는 hhplus.lock.default-provider)
+ *
+ * - redis: SETNX + 워치독 + 해제 알림 (여러 노드 간 상호 배제, 기본값)
+ * - mysql: GET_LOCK / RELEASE_LOCK (Redis 없이 DB 세션으로 여러 노드 간 상호 배제)
+ * - memory: 노드 내부 락 테이블만 사용 (단일 노드 배포, 테스트, DB 행 락이 이미 직렬화하는 경로)
+ *
+ * 대기 시간, 보유 시간, 로컬 대기 메트릭과 통계는 DistributedLockService가 기록하므로 구현은 획득과 해제만 책임집니다.
+ */
+public interface LockProvider {
+
+	/**
+	 * 설정에서 사용하는 백엔드 이름 (예: "redis")
+	 */
+	String name();
+
+	/**
+	 * 마감 시각까지 락 획득을 시도합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param ttlSeconds 락 TTL (초) - TTL 개념이 없는 백엔드는 무시
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @return 획득한 락 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	Lease acquire(String lockKey, long ttlSeconds, long deadline);
+
+	/**
+	 * 여러 락을 전부 획득하거나 하나도 획득하지 않습니다.
+	 *
+	 * @param lockKeys 정렬된 락 키 목록
+	 * @param ttlSeconds 락 TTL (초)
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @return 획득한 락 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	Lease acquireAll(List<String> lockKeys, long ttlSeconds, long deadline);
+
+	/**
+	 * 마감 시각까지 락 획득을 비동기로 시도합니다.
+	 * 기본 구현은 실행기 스레드에서 acquire를 호출하므로, 기다리는 동안 그 스레드를 점유합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param ttlSeconds 락 TTL (초)
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @param executor 획득 시도를 실행할 실행기
+	 * @return 획득한 락 (마감까지 획득하지 못하면 null로 완료)
+	 */
+	default CompletableFuture<Lease> acquireAsync(String lockKey, long ttlSeconds, long deadline, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> acquire(lockKey, ttlSeconds, deadline), executor);
+	}
+
+	/**
+	 * 획득한 락
+	 */
+	interface Lease {
+
+		/**
+		 * 펜싱 토큰 (같은 키에 대해 획득할 때마다 증가, 다중 키 락은 0)
+		 */
+		long fencingToken();
+
+		/**
+		 * 다른 보유자가 해제하기를 기다린 후 획득했는지 여부
+		 */
+		boolean contended();
+
+		/**
+		 * 락 해제. 실패해도 예외를 던지지 않습니다. (백엔드별 만료/세션 종료로 결국 풀림)
+		 */
+		void release();
+	}
+}
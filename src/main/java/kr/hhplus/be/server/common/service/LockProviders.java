@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 락 키별 백엔드 선택
+ *
+ * hhplus.lock.provider-key-prefixes에서 락 키에 해당하는 가장 긴 접두사의 백엔드를 고르고,
+ * 해당하는 접두사가 없으면 hhplus.lock.default-provider를 사용합니다.
+ * 설정된 백엔드 이름이 없으면 기동 시점에 실패합니다.
+ */
+@Component
+public class LockProviders {
+
+	private final LockProvider defaultProvider;
+
+	/**
+	 * 접두사와 백엔드 (긴 접두사 먼저)
+	 */
+	private final List<Map.Entry<String, LockProvider>> prefixRoutes;
+
+	public LockProviders(List<LockProvider> providers, DistributedLockProperties properties) {
+		Map<String, LockProvider> byName = new HashMap<>();
+		for (LockProvider provider : providers) {
+			byName.put(provider.name(), provider);
+		}
+		this.defaultProvider = find(byName, properties.getDefaultProvider());
+
+		List<Map.Entry<String, LockProvider>> routes = new ArrayList<>();
+		properties.getProviderKeyPrefixes().forEach((name, prefixes) -> {
+			LockProvider provider = find(byName, name);
+			for (String prefix : prefixes) {
+				routes.add(Map.entry(prefix, provider));
+			}
+		});
+		routes.sort(Comparator.comparingInt((Map.Entry<String, LockProvider> route) -> route.getKey().length()).reversed());
+		this.prefixRoutes = List.copyOf(routes);
+	}
+
+	/**
+	 * 락 키를 담당하는 백엔드를 반환합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @return 락 백엔드
+	 */
+	public LockProvider forKey(String lockKey) {
+		for (Map.Entry<String, LockProvider> route : prefixRoutes) {
+			if (lockKey.startsWith(route.getKey())) {
+				return route.getValue();
+			}
+		}
+		return defaultProvider;
+	}
+
+	/**
+	 * 함께 잠글 락 키들을 담당하는 백엔드를 반환합니다.
+	 *
+	 * @param lockKeys 락 키 목록
+	 * @return 락 백엔드
+	 * @throws IllegalArgumentException 키들의 백엔드가 서로 다른 경우 (백엔드를 넘나드는 원자적 획득은 불가)
+	 */
+	public LockProvider forKeys(Collection<String> lockKeys) {
+		LockProvider provider = null;
+		for (String lockKey : lockKeys) {
+			LockProvider keyProvider = forKey(lockKey);
+			if (provider != null && provider != keyProvider) {
+				throw new IllegalArgumentException("같은 락 백엔드를 사용하는 키만 함께 잠글 수 있습니다. lockKeys: " + lockKeys);
+			}
+			provider = keyProvider;
+		}
+		if (provider == null) {
+			throw new IllegalArgumentException("락 키가 없습니다.");
+		}
+		return provider;
+	}
+
+	private static LockProvider find(Map<String, LockProvider> byName, String name) {
+		LockProvider provider = byName.get(name);
+		if (provider == null) {
+			throw new IllegalStateException("알 수 없는 락 백엔드입니다. provider: " + name + ", available: " + byName.keySet());
+		}
+		return provider;
+	}
+}
@@ -0,0 +1,297 @@
+package kr.hhplus.be.server.common.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 분산락 해제 알림 (Redis Pub/Sub)
+ *
+ * 락 해제 스크립트가 "lock:release:{lockKey}" 채널로 메시지를 발행하면,
+ * 같은 키를 기다리는 모든 노드의 대기 스레드(와 비동기 대기자)를 즉시 깨웁니다.
+ *
+ * - 채널 구독은 패턴(lock:release:*) 하나만 사용하고, 키별 대기자는 로컬 맵으로 관리합니다.
+ * - 대기자가 없는 키의 메시지는 무시되므로 키 수와 무관하게 구독 비용이 일정합니다.
+ * - Pub/Sub은 전달을 보장하지 않으므로 대기자는 반드시 타임아웃과 함께 기다려야 합니다. (폴링 안전망)
+ * - 단일 키 락, 읽기/쓰기 락, 세마포어는 awaitAcquire(Async)로 같은 재시도 규칙을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockReleaseNotifier implements MessageListener {
+
+	/**
+	 * 해제 알림 채널 접두사. 락 해제 스크립트가 삭제와 함께 CHANNEL_PREFIX + 락 키 채널로 발행합니다.
+	 */
+	public static final String CHANNEL_PREFIX = "lock:release:";
+
+	private final RedisMessageListenerContainer listenerContainer;
+
+	/**
+	 * 락 키별 대기 신호 (대기자가 있는 키만 존재)
+	 */
+	private final ConcurrentHashMap<String, ReleaseSignal> signals = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+	}
+
+	/**
+	 * 락 키에 대한 해제 신호를 구독합니다.
+	 * 반환된 신호는 대기가 끝난 후 반드시 {@link #unsubscribe(String, ReleaseSignal)}로 반납해야 합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @return 해제 신호
+	 */
+	public ReleaseSignal subscribe(String lockKey) {
+		return signals.compute(lockKey, (key, signal) -> {
+			ReleaseSignal target = signal != null ? signal : new ReleaseSignal();
+			target.waiters++;
+			return target;
+		});
+	}
+
+	/**
+	 * 해제 신호 구독을 반납합니다. 마지막 대기자가 반납하면 신호를 제거합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @param signal 구독 시 받은 신호
+	 */
+	public void unsubscribe(String lockKey, ReleaseSignal signal) {
+		signals.computeIfPresent(lockKey, (key, current) -> {
+			if (current != signal) {
+				return current;
+			}
+			current.waiters--;
+			return current.waiters > 0 ? current : null;
+		});
+	}
+
+	/**
+	 * 같은 노드에서 락을 해제했을 때 Redis 메시지를 기다리지 않고 대기자를 바로 깨웁니다.
+	 *
+	 * @param lockKey 락 키
+	 */
+	public void notifyReleased(String lockKey) {
+		ReleaseSignal signal = signals.get(lockKey);
+		if (signal != null) {
+			signal.signalAll();
+		}
+	}
+
+	/**
+	 * 첫 시도에 실패한 획득을 해제 알림과 지수 백오프로 마감 시각까지 재시도합니다.
+	 *
+	 * @param lockKey 해제 알림을 기다릴 키
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @param meters 재시도 횟수를 기록할 지표
+	 * @param attempt 획득 시도 한 번 (획득하면 결과, 실패하면 null)
+	 * @return 획득 결과 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	public <T> T awaitAcquire(String lockKey, long deadline, LockMetrics.Meters meters, Supplier<T> attempt) {
+		ReleaseSignal signal = subscribe(lockKey);
+		try {
+			for (int retry = 0; ; retry++) {
+				// 버전을 먼저 읽어두어야 획득 실패 직후 도착한 해제 알림을 놓치지 않음
+				long observedVersion = signal.version();
+				meters.recordRetry();
+				T result = attempt.get();
+				if (result != null) {
+					return result;
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return null;
+				}
+				signal.await(observedVersion, Math.min(remaining, RedisLockProvider.backoffMillis(retry)));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} finally {
+			unsubscribe(lockKey, signal);
+		}
+	}
+
+	/**
+	 * awaitAcquire의 비동기 버전
+	 *
+	 * 재시도 한 번이 실행기 작업 하나이고, 재시도 사이에는 해제 신호의 future만 남으므로 기다리는 스레드가 없습니다.
+	 *
+	 * @param executor 재시도를 실행할 실행기
+	 * @return 획득 결과로 완료되는 future (마감까지 획득하지 못하면 null, 시도 중 예외는 예외로 완료)
+	 */
+	public <T> CompletableFuture<T> awaitAcquireAsync(String lockKey, long deadline, LockMetrics.Meters meters,
+			Supplier<T> attempt, Executor executor) {
+		AsyncRetry<T> retry = new AsyncRetry<>(subscribe(lockKey), deadline, meters, attempt, executor);
+		retry.run();
+		return retry.result.whenComplete((result, e) -> unsubscribe(lockKey, retry.signal));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		notifyReleased(channel.substring(CHANNEL_PREFIX.length()));
+	}
+
+	/**
+	 * 키별 해제 신호
+	 *
+	 * 해제 횟수(version)를 기록하여, 락 획득 시도와 대기 사이에 도착한 알림도 놓치지 않습니다.
+	 */
+	public static class ReleaseSignal {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition released = lock.newCondition();
+		private long version;
+
+		/**
+		 * 비동기 대기자 (다음 해제 알림에 한 번 완료)
+		 */
+		private final List<CompletableFuture<Void>> listeners = new ArrayList<>();
+
+		/**
+		 * signals 맵의 compute 안에서만 변경됩니다.
+		 */
+		private int waiters;
+
+		/**
+		 * 현재 해제 버전을 반환합니다. 락 획득 시도 전에 호출해야 합니다.
+		 */
+		public long version() {
+			lock.lock();
+			try {
+				return version;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 기준 버전 이후 해제 알림이 오거나 타임아웃이 될 때까지 대기합니다.
+		 *
+		 * @param observedVersion 락 획득 시도 전에 읽은 버전
+		 * @param timeoutMs 최대 대기 시간 (밀리초)
+		 * @throws InterruptedException 대기 중 인터럽트 발생 시
+		 */
+		public void await(long observedVersion, long timeoutMs) throws InterruptedException {
+			long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+			lock.lock();
+			try {
+				while (version == observedVersion && remainingNanos > 0) {
+					remainingNanos = released.awaitNanos(remainingNanos);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 기준 버전 이후 해제 알림이 오거나 타임아웃이 되면 완료되는 future를 반환합니다. (스레드를 멈추지 않음)
+		 * future는 알림을 보낸 스레드에서 완료될 수 있으므로, 후속 작업은 별도 실행기(*Async)에서 실행해야 합니다.
+		 *
+		 * @param observedVersion 락 획득 시도 전에 읽은 버전
+		 * @param timeoutMs 최대 대기 시간 (밀리초)
+		 * @return 해제 알림 또는 타임아웃 시 완료되는 future
+		 */
+		public CompletableFuture<Void> whenReleased(long observedVersion, long timeoutMs) {
+			CompletableFuture<Void> listener = new CompletableFuture<>();
+			lock.lock();
+			try {
+				if (version != observedVersion) {
+					listener.complete(null);
+					return listener;
+				}
+				listeners.add(listener);
+			} finally {
+				lock.unlock();
+			}
+			listener.whenComplete((ignored, e) -> {
+				lock.lock();
+				try {
+					listeners.remove(listener);
+				} finally {
+					lock.unlock();
+				}
+			});
+			return listener.completeOnTimeout(null, timeoutMs, TimeUnit.MILLISECONDS);
+		}
+
+		void signalAll() {
+			List<CompletableFuture<Void>> notified;
+			lock.lock();
+			try {
+				version++;
+				released.signalAll();
+				notified = new ArrayList<>(listeners);
+				listeners.clear();
+			} finally {
+				lock.unlock();
+			}
+			// 락 밖에서 완료해야 대기자의 후속 작업이 락을 잡고 실행되지 않음
+			for (CompletableFuture<Void> listener : notified) {
+				listener.complete(null);
+			}
+		}
+	}
+
+	/**
+	 * 비동기 재시도 상태
+	 */
+	private static class AsyncRetry<T> {
+
+		private final ReleaseSignal signal;
+		private final long deadline;
+		private final LockMetrics.Meters meters;
+		private final Supplier<T> attempt;
+		private final Executor executor;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private int retries;
+
+		private AsyncRetry(ReleaseSignal signal, long deadline, LockMetrics.Meters meters, Supplier<T> attempt,
+				Executor executor) {
+			this.signal = signal;
+			this.deadline = deadline;
+			this.meters = meters;
+			this.attempt = attempt;
+			this.executor = executor;
+		}
+
+		private void run() {
+			try {
+				// 버전을 먼저 읽어두어야 획득 실패 직후 도착한 해제 알림을 놓치지 않음
+				long observedVersion = signal.version();
+				meters.recordRetry();
+				T acquired = attempt.get();
+				if (acquired != null) {
+					result.complete(acquired);
+					return;
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					result.complete(null);
+					return;
+				}
+				signal.whenReleased(observedVersion, Math.min(remaining, RedisLockProvider.backoffMillis(retries++)))
+						.thenRunAsync(this::run, executor);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.common.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 분산락 작업 실행기
+ *
+ * executeWithLockAsync는 락을 기다리는 동안 스레드를 사용하지 않고,
+ * 락 획득 시도(Redis 왕복)와 락을 획득한 후의 작업만 이 실행기의 스레드에서 실행합니다.
+ * 따라서 필요한 스레드 수는 락을 기다리는 요청 수가 아니라 동시에 락을 보유하고 작업하는 요청 수에 비례합니다.
+ * (락 안의 작업은 DB 커넥션을 사용하므로 커넥션 풀보다 크게 잡을 필요는 없습니다.)
+ */
+@Component
+public class LockTaskExecutor implements Executor {
+
+	private final ThreadPoolExecutor executor;
+
+	public LockTaskExecutor(DistributedLockProperties properties) {
+		int threads = properties.getAsyncThreads();
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "lock-task-" + sequence.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		executor.execute(command);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 락 키별 대기자 수 (모든 노드 합계, Redis 카운터)
+ *
+ * 이미 점유된 키를 기다리기 시작하는 요청만 카운터에 참여하므로, 경합이 없는 획득에는 Redis 왕복이 추가되지 않습니다.
+ * 대기자가 hhplus.lock.max-waiters-per-key를 넘으면 참여를 거절하고, 호출자는 기다리지 않고 바로 실패합니다.
+ * (인기 좌석 오픈 시 어차피 얻지 못할 락을 수백 개 요청이 5초씩 기다리며 스레드와 Redis를 소모하는 것을 막음)
+ *
+ * - 노드가 죽어 빠지지 못한 대기자는 COUNTER_TTL_MS 동안 새 참여가 없으면 카운터와 함께 사라집니다.
+ * - 카운터 갱신에 실패하면 제한 없이 기다리도록 허용합니다. (부하 차단 실패가 요청 실패로 이어지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockWaiters {
+
+	/**
+	 * 대기자 카운터 TTL (밀리초)
+	 * 참여할 때마다 갱신하며, 락 획득 최대 대기 시간보다 길게 잡습니다.
+	 */
+	private static final long COUNTER_TTL_MS = 10_000;
+
+	/**
+	 * 대기자 참여 (제한을 넘으면 되돌리고 거절)
+	 * KEYS[1]: 대기자 카운터, ARGV[1]: 최대 대기자 수, ARGV[2]: 카운터 TTL (밀리초)
+	 * 반환: 1 = 참여, 0 = 거절
+	 */
+	private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>(
+			"local waiters = redis.call('incr', KEYS[1]) " +
+			"redis.call('pexpire', KEYS[1], ARGV[2]) " +
+			"if waiters > tonumber(ARGV[1]) then " +
+			"  redis.call('decr', KEYS[1]) " +
+			"  return 0 " +
+			"end " +
+			"return 1",
+			Long.class
+	);
+
+	/**
+	 * 대기자 이탈 (0 이하가 되면 카운터 삭제)
+	 * KEYS[1]: 대기자 카운터
+	 */
+	private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+			"local waiters = redis.call('decr', KEYS[1]) " +
+			"if waiters <= 0 then " +
+			"  redis.call('del', KEYS[1]) " +
+			"end " +
+			"return waiters",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final DistributedLockProperties lockProperties;
+
+	/**
+	 * 대기자로 참여합니다.
+	 *
+	 * @param lockKey 락 키
+	 * @return 참여 결과 (반드시 leave로 빠져야 함)
+	 * @throws LockContendedException 대기자가 이미 최대치인 경우
+	 */
+	public Ticket join(String lockKey) {
+		int maxWaiters = lockProperties.getMaxWaitersPerKey();
+		if (maxWaiters <= 0) {
+			return Ticket.UNCOUNTED;
+		}
+		String counterKey = LockKeys.companion(lockKey, "waiters");
+		Long joined;
+		try {
+			joined = redisTemplate.execute(JOIN_SCRIPT, List.of(counterKey),
+					String.valueOf(maxWaiters), String.valueOf(COUNTER_TTL_MS));
+		} catch (Exception e) {
+			log.warn("락 대기자 카운터 갱신 실패, 제한 없이 대기합니다. lockKey={}", lockKey, e);
+			return Ticket.UNCOUNTED;
+		}
+		if (joined != null && joined == 0) {
+			throw new LockContendedException(lockKey);
+		}
+		return new Ticket(counterKey);
+	}
+
+	/**
+	 * 대기를 마칩니다. (획득, 시간 초과, 실패 모두)
+	 *
+	 * @param ticket join 결과
+	 */
+	public void leave(Ticket ticket) {
+		if (ticket.counterKey == null) {
+			return;
+		}
+		try {
+			redisTemplate.execute(LEAVE_SCRIPT, List.of(ticket.counterKey));
+		} catch (Exception e) {
+			// 카운터는 TTL이 지나면 사라지므로 예외를 다시 던지지 않음
+			log.warn("락 대기자 카운터 감소 실패: counterKey={}", ticket.counterKey, e);
+		}
+	}
+
+	/**
+	 * 대기자 참여 결과
+	 */
+	public static final class Ticket {
+
+		/** 카운터에 반영되지 않은 참여 (제한 없음 또는 Redis 오류) */
+		static final Ticket UNCOUNTED = new Ticket(null);
+
+		private final String counterKey;
+
+		private Ticket(String counterKey) {
+			this.counterKey = counterKey;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package kr.hhplus.be.server.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산락 임대 갱신 워치독
+ *
+ * 락을 보유한 작업이 실행되는 동안 TTL의 1/3 주기로 락의 TTL을 연장합니다.
+ * 덕분에 락 TTL을 짧게 잡아도 오래 걸리는 작업이 락을 잃지 않고,
+ * 보유 노드가 죽으면 갱신이 멈추므로 TTL(수 초) 안에 락이 풀립니다.
+ *
+ * 갱신은 소유자 토큰이 일치할 때만 수행되므로 다른 노드가 가진 락을 연장하지 않습니다.
+ * 읽기 락은 읽기 보유자 집합(정렬 집합)에서 자기 토큰의 만료 시각만 연장합니다. (RedisReadWriteLock 참고)
+ */
+@Slf4j
+@Component
+public class LockWatchdog {
+
+	/**
+	 * 소유자 토큰이 일치하는 키만 TTL 연장
+	 * KEYS: 락 키 목록, ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초)
+	 * 반환: 연장한 키 수
+	 */
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+			"local renewed = 0 " +
+			"for _, key in ipairs(KEYS) do " +
+			"  if redis.call('get', key) == ARGV[1] then " +
+			"    renewed = renewed + redis.call('pexpire', key, ARGV[2]) " +
+			"  end " +
+			"end " +
+			"return renewed",
+			Long.class
+	);
+
+	/**
+	 * 읽기 보유자 집합에 토큰이 남아 있으면 만료 시각(점수)과 집합 TTL 연장
+	 * KEYS[1]: 읽기 보유자 집합, ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초)
+	 * 반환: 1 = 연장, 0 = 이미 빠짐
+	 */
+	private static final RedisScript<Long> RENEW_READ_SCRIPT = new DefaultRedisScript<>(
+			"if not redis.call('zscore', KEYS[1], ARGV[1]) then " +
+			"  return 0 " +
+			"end " +
+			"local now = redis.call('time') " +
+			"local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000) " +
+			"redis.call('zadd', KEYS[1], 'XX', nowMillis + tonumber(ARGV[2]), ARGV[1]) " +
+			"if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then " +
+			"  redis.call('pexpire', KEYS[1], ARGV[2]) " +
+			"end " +
+			"return 1",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "lock-watchdog");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public LockWatchdog(StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 락 임대 갱신을 시작합니다.
+	 * 여러 키를 한 번에 획득한 경우 모든 키를 한 번의 호출로 함께 연장합니다.
+	 *
+	 * @param lockKeys 락 키 목록
+	 * @param ownerToken 락 획득 시 저장한 소유자 토큰
+	 * @param ttlMillis 락 TTL (밀리초)
+	 * @return 작업 종료 시 반드시 {@link Lease#cancel()}을 호출해야 하는 임대 핸들
+	 */
+	public Lease watch(List<String> lockKeys, String ownerToken, long ttlMillis) {
+		return schedule(lockKeys, RENEW_SCRIPT, ownerToken, ttlMillis);
+	}
+
+	/**
+	 * 읽기 락 임대 갱신을 시작합니다.
+	 * 보유자를 만료 시각 점수로 정렬 집합에 두는 세마포어 허가(RedisSemaphore)도 같은 방식으로 갱신합니다.
+	 *
+	 * @param readersKey 읽기 보유자 집합 키
+	 * @param ownerToken 읽기 락 획득 시 등록한 소유자 토큰
+	 * @param ttlMillis 읽기 락 TTL (밀리초)
+	 * @return 작업 종료 시 반드시 {@link Lease#cancel()}을 호출해야 하는 임대 핸들
+	 */
+	public Lease watchReadLock(String readersKey, String ownerToken, long ttlMillis) {
+		return schedule(List.of(readersKey), RENEW_READ_SCRIPT, ownerToken, ttlMillis);
+	}
+
+	private Lease schedule(List<String> lockKeys, RedisScript<Long> renewScript, String ownerToken, long ttlMillis) {
+		long period = Math.max(ttlMillis / 3, 1);
+		Lease lease = new Lease(lockKeys);
+		lease.future = scheduler.scheduleAtFixedRate(
+				() -> renew(lease, renewScript, ownerToken, ttlMillis), period, period, TimeUnit.MILLISECONDS);
+		return lease;
+	}
+
+	private void renew(Lease lease, RedisScript<Long> renewScript, String ownerToken, long ttlMillis) {
+		try {
+			Long renewed = redisTemplate.execute(renewScript, lease.lockKeys,
+					ownerToken, String.valueOf(ttlMillis));
+			if (renewed == null || renewed < lease.lockKeys.size()) {
+				// TTL 만료 등으로 이미 락(의 일부)을 잃었으므로 더 이상 갱신하지 않음
+				log.warn("락 임대 갱신 실패 (락 소유권 상실): lockKeys={}", lease.lockKeys);
+				lease.cancel();
+			}
+		} catch (Exception e) {
+			// 일시적인 Redis 오류는 다음 주기에 다시 시도
+			log.warn("락 임대 갱신 중 오류 발생: lockKeys={}", lease.lockKeys, e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * 갱신 중인 락 임대
+	 */
+	public static class Lease {
+
+		private final List<String> lockKeys;
+		private volatile ScheduledFuture<?> future;
+
+		private Lease(List<String> lockKeys) {
+			this.lockKeys = lockKeys;
+		}
+
+		/**
+		 * 임대 갱신을 중단합니다.
+		 */
+		public void cancel() {
+			ScheduledFuture<?> current = future;
+			if (current != null) {
+				current.cancel(false);
+			}
+		}
+	}
+}
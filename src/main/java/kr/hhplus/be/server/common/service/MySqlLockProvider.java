@@ -0,0 +1,306 @@
+package kr.hhplus.be.server.common.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * MySQL 네임드 락 백엔드 (GET_LOCK / RELEASE_LOCK)
+ *
+ * Redis 없이 DB 세션으로 여러 노드 간 상호 배제를 제공합니다.
+ * 네임드 락은 그것을 획득한 세션(커넥션)에 묶이므로, 락을 보유하는 동안 커넥션 하나를 점유합니다.
+ *
+ * 커넥션 풀:
+ * - 애플리케이션 풀(트랜잭션용)과 분리된 전용 풀(hhplus.lock.mysql-pool-size)을 사용합니다.
+ *   락을 기다리는 요청이 애플리케이션 풀을 모두 차지하면 락을 보유한 요청이 트랜잭션 커넥션을 얻지 못해 교착되기 때문입니다.
+ * - 처음 사용할 때 생성하므로 mysql 백엔드를 쓰지 않으면 커넥션을 열지 않습니다.
+ *
+ * TTL:
+ * - 네임드 락은 TTL이 없고 세션이 끝나면 풀립니다. 보유 노드가 죽으면 MySQL이 연결 종료를 감지하는 즉시 해제됩니다.
+ *
+ * 펜싱 토큰:
+ * - 락을 획득한 세션에서 lock_fencing_tokens의 키별 카운터를 증가시켜 발급합니다. (다중 키 락은 0)
+ * - schema.sql을 실행하지 않는 환경(ddl-auto로 스키마를 만드는 local 프로필 등)을 위해 전용 풀을 만들 때 테이블이 없으면 생성합니다.
+ *
+ * 비동기 획득:
+ * - GET_LOCK 대기는 스레드를 점유하므로 기본 구현(실행기 스레드에서 acquire 호출)을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MySqlLockProvider implements LockProvider {
+
+	public static final String NAME = "mysql";
+
+	/**
+	 * MySQL 네임드 락 이름 최대 길이
+	 */
+	private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+	private static final String CREATE_FENCING_TOKEN_TABLE_SQL =
+			"CREATE TABLE IF NOT EXISTS lock_fencing_tokens (" +
+			"lock_key VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '락 키', " +
+			"token BIGINT NOT NULL COMMENT '마지막으로 발급한 펜싱 토큰'" +
+			") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분산락 펜싱 토큰'";
+
+	private static final String FENCING_TOKEN_SQL =
+			"INSERT INTO lock_fencing_tokens (lock_key, token) VALUES (?, LAST_INSERT_ID(1)) " +
+			"ON DUPLICATE KEY UPDATE token = LAST_INSERT_ID(token + 1)";
+
+	private final DataSourceProperties dataSourceProperties;
+	private final DistributedLockProperties lockProperties;
+	private final HotLockKeyTracker hotLockKeyTracker;
+
+	private volatile HikariDataSource dataSource;
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	/**
+	 * 락 획득 시도
+	 *
+	 * 대기 없이 한 번 시도해서 경합 여부를 기록한 후, 남은 시간 동안 GET_LOCK으로 기다립니다.
+	 * GET_LOCK 대기 시간은 초 단위이므로 마감 시각보다 최대 1초 늦게 실패할 수 있습니다.
+	 */
+	@Override
+	public Lease acquire(String lockKey, long ttlSeconds, long deadline) {
+		Connection connection = openConnection(lockKey);
+		String lockName = lockName(lockKey);
+		try {
+			boolean contended = false;
+			if (!getLock(connection, lockName, 0)) {
+				contended = true;
+				hotLockKeyTracker.recordContention(lockKey);
+				if (!getLock(connection, lockName, remainingSeconds(deadline))) {
+					closeQuietly(connection);
+					return null;
+				}
+			}
+			long fencingToken = nextFencingToken(connection, lockKey);
+			return new MySqlLease(connection, List.of(lockName), fencingToken, contended);
+		} catch (SQLException e) {
+			// 세션을 끝내야 획득했을 수도 있는 락이 풀림
+			evict(connection);
+			throw new IllegalStateException("락 획득 중 오류가 발생했습니다. lockKey: " + lockKey, e);
+		}
+	}
+
+	/**
+	 * 여러 락을 정렬된 순서로 하나씩 획득하고, 하나라도 실패하면 이미 획득한 락을 모두 해제합니다.
+	 * 모든 요청이 같은 순서로 획득하므로 교착 상태가 생기지 않습니다.
+	 */
+	@Override
+	public Lease acquireAll(List<String> lockKeys, long ttlSeconds, long deadline) {
+		Connection connection = openConnection(lockKeys.get(0));
+		List<String> lockNames = new ArrayList<>(lockKeys.size());
+		try {
+			boolean contended = false;
+			for (String lockKey : lockKeys) {
+				String lockName = lockName(lockKey);
+				if (!getLock(connection, lockName, 0)) {
+					contended = true;
+					hotLockKeyTracker.recordContention(lockKey);
+					if (!getLock(connection, lockName, remainingSeconds(deadline))) {
+						releaseAll(connection, lockNames);
+						closeQuietly(connection);
+						return null;
+					}
+				}
+				lockNames.add(lockName);
+			}
+			return new MySqlLease(connection, lockNames, 0, contended);
+		} catch (SQLException e) {
+			evict(connection);
+			throw new IllegalStateException("락 획득 중 오류가 발생했습니다. lockKeys: " + lockKeys, e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (dataSource != null) {
+			dataSource.close();
+		}
+	}
+
+	/**
+	 * GET_LOCK 호출
+	 *
+	 * @return 획득 여부 (대기 시간 초과 시 false)
+	 */
+	private boolean getLock(Connection connection, String lockName, long timeoutSeconds) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+			statement.setString(1, lockName);
+			statement.setLong(2, timeoutSeconds);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() && resultSet.getInt(1) == 1;
+			}
+		}
+	}
+
+	/**
+	 * 락 키의 펜싱 토큰 카운터를 증가시키고 새 값을 반환합니다.
+	 * LAST_INSERT_ID(expr)는 세션별 값이므로 다른 세션의 발급과 섞이지 않습니다.
+	 */
+	private long nextFencingToken(Connection connection, String lockKey) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(FENCING_TOKEN_SQL)) {
+			statement.setString(1, lockKey);
+			statement.executeUpdate();
+		}
+		try (PreparedStatement statement = connection.prepareStatement("SELECT LAST_INSERT_ID()");
+			 ResultSet resultSet = statement.executeQuery()) {
+			if (!resultSet.next()) {
+				throw new IllegalStateException("펜싱 토큰 발급 결과가 없습니다. lockKey: " + lockKey);
+			}
+			return resultSet.getLong(1);
+		}
+	}
+
+	private void releaseAll(Connection connection, List<String> lockNames) throws SQLException {
+		for (int i = lockNames.size() - 1; i >= 0; i--) {
+			try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+				statement.setString(1, lockNames.get(i));
+				statement.executeQuery().close();
+			}
+		}
+	}
+
+	private Connection openConnection(String lockKey) {
+		try {
+			return dataSource().getConnection();
+		} catch (SQLException e) {
+			throw new IllegalStateException("락 커넥션을 얻지 못했습니다. lockKey: " + lockKey, e);
+		}
+	}
+
+	private HikariDataSource dataSource() {
+		HikariDataSource current = dataSource;
+		if (current == null) {
+			synchronized (this) {
+				current = dataSource;
+				if (current == null) {
+					current = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+					current.setPoolName("lock-mysql");
+					current.setMaximumPoolSize(lockProperties.getMysqlPoolSize());
+					current.setAutoCommit(true);
+					createFencingTokenTable(current);
+					dataSource = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * 펜싱 토큰 테이블이 없으면 생성합니다. (schema.sql과 같은 정의)
+	 * 실패하면 만든 풀을 닫으므로 다음 획득 시도에서 다시 시도합니다.
+	 */
+	private static void createFencingTokenTable(HikariDataSource dataSource) {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_FENCING_TOKEN_TABLE_SQL);
+		} catch (SQLException e) {
+			dataSource.close();
+			throw new IllegalStateException("펜싱 토큰 테이블을 만들지 못했습니다.", e);
+		}
+	}
+
+	/**
+	 * 커넥션을 풀에서 제거하여 세션을 종료합니다. (세션에 남은 네임드 락이 모두 풀림)
+	 */
+	private void evict(Connection connection) {
+		try {
+			dataSource().evictConnection(connection);
+		} catch (Exception e) {
+			log.error("락 커넥션 제거 중 오류 발생", e);
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			log.warn("락 커넥션 반납 중 오류 발생", e);
+		}
+	}
+
+	/**
+	 * 마감 시각까지 남은 시간 (GET_LOCK 대기 시간, 초 단위로 올림, 최소 0)
+	 */
+	private static long remainingSeconds(long deadline) {
+		long remainingMs = deadline - System.currentTimeMillis();
+		return remainingMs <= 0 ? 0 : (remainingMs + 999) / 1000;
+	}
+
+	/**
+	 * 락 키를 네임드 락 이름으로 변환합니다. 길이 제한을 넘는 키는 해시로 줄입니다.
+	 */
+	static String lockName(String lockKey) {
+		if (lockKey.length() <= MAX_LOCK_NAME_LENGTH) {
+			return lockKey;
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(lockKey.getBytes(StandardCharsets.UTF_8));
+			return "lock:" + HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-1을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * MySQL 네임드 락 (전용 풀 커넥션 포함)
+	 */
+	private class MySqlLease implements Lease {
+
+		private final Connection connection;
+		private final List<String> lockNames;
+		private final long fencingToken;
+		private final boolean contended;
+
+		private MySqlLease(Connection connection, List<String> lockNames, long fencingToken, boolean contended) {
+			this.connection = connection;
+			this.lockNames = lockNames;
+			this.fencingToken = fencingToken;
+			this.contended = contended;
+		}
+
+		@Override
+		public long fencingToken() {
+			return fencingToken;
+		}
+
+		@Override
+		public boolean contended() {
+			return contended;
+		}
+
+		@Override
+		public void release() {
+			try {
+				releaseAll(connection, lockNames);
+				connection.close();
+			} catch (SQLException e) {
+				log.error("락 해제 중 오류 발생: lockNames={}", lockNames, e);
+				// 세션을 종료하면 MySQL이 남은 네임드 락을 해제함
+				evict(connection);
+			}
+		}
+	}
+}
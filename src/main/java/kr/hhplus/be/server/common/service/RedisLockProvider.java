@@ -0,0 +1,383 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 분산락 백엔드 (기본값)
+ *
+ * Redis의 SETNX 명령을 사용하여 락을 획득하고, TTL을 설정하여 데드락을 방지합니다.
+ * 락 획득에 실패한 대기자는 고정 간격으로 재시도하지 않고, 락 해제 알림(Pub/Sub)을 받는 즉시 재시도합니다.
+ * 알림이 없을 때의 재시도 간격은 지수적으로 늘리고 지터를 더해, 여러 노드의 대기자가 같은 순간에 몰리지 않게 합니다.
+ *
+ * 락 소유권:
+ * - 획득할 때마다 고유한 소유자 토큰을 값으로 저장하고, 해제는 토큰이 일치할 때만 삭제(Lua)합니다.
+ *   TTL이 지나 다른 노드가 가져간 락을 지우는 일이 없습니다.
+ * - 작업이 실행되는 동안 워치독이 TTL을 계속 연장하므로 TTL은 짧게 유지합니다.
+ *   보유 노드가 죽으면 갱신이 멈추고 수 초 안에 락이 풀립니다.
+ *
+ * 펜싱 토큰:
+ * - 단일 키 락은 획득할 때마다 키별로 단조 증가하는 펜싱 토큰(Redis INCR)을 함께 발급합니다.
+ *
+ * 공정 모드:
+ * - hhplus.lock.fair-key-prefixes에 해당하는 키는 번호표 대기열(FairLockQueue)을 거쳐 도착 순서대로 획득합니다.
+ *
+ * 다중 키 락:
+ * - 여러 키를 하나의 Lua 스크립트로 전부 획득하거나 하나도 획득하지 않습니다.
+ * - Redis Cluster에서는 모든 키가 같은 해시 태그를 가져야 합니다. (LockKeys 참고)
+ * - 다중 키 락은 번호표 대기열을 거치지 않습니다.
+ *
+ * 비동기 획득:
+ * - 실패하면 해제 알림이나 재시도 간격을 스레드 없이 기다렸다가 호출자가 넘긴 실행기(LockTaskExecutor)에서 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockProvider implements LockProvider {
+
+	public static final String NAME = "redis";
+
+	private final StringRedisTemplate redisTemplate;
+	private final LockReleaseNotifier lockReleaseNotifier;
+	private final LockWatchdog lockWatchdog;
+	private final FairLockQueue fairLockQueue;
+	private final DistributedLockProperties lockProperties;
+	private final LockMetrics lockMetrics;
+	private final HotLockKeyTracker hotLockKeyTracker;
+
+	/**
+	 * 락 획득(SET NX)과 펜싱 토큰 발급(INCR)을 원자적으로 수행
+	 * KEYS[1]: 락 키, KEYS[2]: 펜싱 토큰 카운터, ARGV[1]: 소유자 토큰, ARGV[2]: 락 TTL (밀리초), ARGV[3]: 카운터 TTL (밀리초)
+	 * 반환: 펜싱 토큰 = 획득, 0 = 이미 점유됨
+	 */
+	private static final RedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+			"  local fencingToken = redis.call('incr', KEYS[2]) " +
+			"  redis.call('pexpire', KEYS[2], ARGV[3]) " +
+			"  return fencingToken " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	/**
+	 * 모든 키가 비어 있을 때만 같은 소유자 토큰과 TTL로 한 번에 획득 (전부 아니면 전무)
+	 * KEYS: 정렬된 락 키 목록, ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초)
+	 * 반환: 0 = 획득, 그 외 = 이미 점유된 첫 키의 위치 (1부터 시작)
+	 */
+	private static final RedisScript<Long> MULTI_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"for i, key in ipairs(KEYS) do " +
+			"  if redis.call('exists', key) == 1 then " +
+			"    return i " +
+			"  end " +
+			"end " +
+			"for _, key in ipairs(KEYS) do " +
+			"  redis.call('set', key, ARGV[1], 'PX', ARGV[2]) " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	/**
+	 * 소유자 토큰이 일치하는 키만 삭제하고 키별 해제 알림을 발행
+	 * KEYS: 락 키 목록, ARGV[1]: 소유자 토큰, ARGV[2]: 해제 알림 채널 접두사
+	 * 반환: 해제한 키 수
+	 */
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"local released = 0 " +
+			"for _, key in ipairs(KEYS) do " +
+			"  if redis.call('get', key) == ARGV[1] then " +
+			"    redis.call('del', key) " +
+			"    redis.call('publish', ARGV[2] .. key, key) " +
+			"    released = released + 1 " +
+			"  end " +
+			"end " +
+			"return released",
+			Long.class
+	);
+
+	/**
+	 * 해제 알림 없이 재시도하기까지의 최대 대기 시간 (밀리초)
+	 * Pub/Sub 메시지 유실이나 TTL 만료로 풀린 락을 놓치지 않기 위한 안전망입니다.
+	 */
+	private static final long FALLBACK_POLL_INTERVAL_MS = 500;
+
+	/**
+	 * 첫 재시도 대기 시간 (밀리초)
+	 * 재시도마다 두 배씩 늘려 FALLBACK_POLL_INTERVAL_MS에서 멈춥니다.
+	 */
+	private static final long BACKOFF_BASE_MS = 25;
+
+	/**
+	 * 공정 모드 번호표 TTL (밀리초)
+	 * 대기자는 최소 FALLBACK_POLL_INTERVAL_MS마다 번호표를 갱신하므로, 갱신이 몇 번 연속 빠지면 버려진 번호표로 간주합니다.
+	 */
+	private static final long FAIR_TICKET_TTL_MS = FALLBACK_POLL_INTERVAL_MS * 3;
+
+	/**
+	 * 펜싱 토큰 카운터 TTL (밀리초)
+	 * 락 키마다 카운터가 생기므로 메모리를 위해 만료시키되, 마지막 획득 이후 그 키로 보호되는 쓰기가
+	 * 더 이상 없을 만큼 충분히 길게 잡습니다. (카운터가 초기화되면 이전 토큰보다 작아져 쓰기가 거절되는 방향으로 실패)
+	 */
+	private static final long FENCE_TTL_MS = Duration.ofDays(7).toMillis();
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	/**
+	 * 락 획득 시도
+	 *
+	 * 실패하면 락 해제 알림을 기다렸다가 즉시 재시도합니다.
+	 * 알림이 오지 않으면 backoffMillis만큼 기다린 후 재시도합니다. (최대 FALLBACK_POLL_INTERVAL_MS)
+	 * 공정 모드 키는 SETNX 대신 번호표 대기열을 통해 시도하고, 획득하지 못하고 끝나면 번호표를 반납합니다.
+	 */
+	@Override
+	public Lease acquire(String lockKey, long ttlSeconds, long deadline) {
+		// 이번 획득을 식별하는 소유자 토큰
+		String ownerToken = UUID.randomUUID().toString();
+		boolean fair = lockProperties.isFair(lockKey);
+		long fencingToken = attempt(lockKey, ownerToken, ttlSeconds, fair);
+		if (fencingToken > 0) {
+			return lease(List.of(lockKey), ownerToken, ttlSeconds, fencingToken, false);
+		}
+		hotLockKeyTracker.recordContention(lockKey);
+
+		Lease lease = null;
+		try {
+			lease = lockReleaseNotifier.awaitAcquire(lockKey, deadline, lockMetrics.of(lockKey),
+					() -> retryAttempt(lockKey, ownerToken, ttlSeconds, fair));
+			return lease;
+		} finally {
+			if (fair && lease == null) {
+				// 뒤 순번이 버려진 번호표의 TTL 만료를 기다리지 않도록 즉시 반납
+				fairLockQueue.leave(lockKey, ownerToken);
+			}
+		}
+	}
+
+	/**
+	 * 여러 락을 한 번에 획득 시도
+	 *
+	 * 실패하면 점유 중인 키의 해제 알림을 기다렸다가 다시 전체 획득을 시도합니다.
+	 */
+	@Override
+	public Lease acquireAll(List<String> lockKeys, long ttlSeconds, long deadline) {
+		String ownerToken = UUID.randomUUID().toString();
+		String ttlMillis = String.valueOf(Duration.ofSeconds(ttlSeconds).toMillis());
+		int firstHeld = setAllIfAbsent(lockKeys, ownerToken, ttlMillis);
+		if (firstHeld == 0) {
+			return lease(lockKeys, ownerToken, ttlSeconds, 0, false);
+		}
+		hotLockKeyTracker.recordContention(lockKeys.get(firstHeld - 1));
+
+		LockMetrics.Meters meters = lockMetrics.of(lockKeys.get(0));
+		List<LockReleaseNotifier.ReleaseSignal> signals = new ArrayList<>(lockKeys.size());
+		for (String lockKey : lockKeys) {
+			signals.add(lockReleaseNotifier.subscribe(lockKey));
+		}
+		try {
+			long[] observedVersions = new long[lockKeys.size()];
+			for (int retry = 0; ; retry++) {
+				// 어느 키가 점유 중일지 모르므로 모든 키의 버전을 먼저 읽어둠
+				for (int i = 0; i < signals.size(); i++) {
+					observedVersions[i] = signals.get(i).version();
+				}
+				meters.recordRetry();
+				int heldIndex = setAllIfAbsent(lockKeys, ownerToken, ttlMillis) - 1;
+				if (heldIndex < 0) {
+					return lease(lockKeys, ownerToken, ttlSeconds, 0, true);
+				}
+				hotLockKeyTracker.recordContention(lockKeys.get(heldIndex));
+
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return null;
+				}
+				signals.get(heldIndex).await(observedVersions[heldIndex], Math.min(remaining, backoffMillis(retry)));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} finally {
+			for (int i = 0; i < lockKeys.size(); i++) {
+				lockReleaseNotifier.unsubscribe(lockKeys.get(i), signals.get(i));
+			}
+		}
+	}
+
+	/**
+	 * 락 비동기 획득 시도
+	 *
+	 * 첫 시도는 호출 스레드(실행기)에서 바로 하고, 실패하면 해제 알림이나 폴링 간격을 스레드 없이 기다렸다가
+	 * 실행기에서 다시 시도합니다. 재시도 규칙과 공정 모드 번호표 반납은 acquire와 같습니다.
+	 */
+	@Override
+	public CompletableFuture<Lease> acquireAsync(String lockKey, long ttlSeconds, long deadline, Executor executor) {
+		String ownerToken = UUID.randomUUID().toString();
+		boolean fair = lockProperties.isFair(lockKey);
+		long fencingToken;
+		try {
+			fencingToken = attempt(lockKey, ownerToken, ttlSeconds, fair);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		if (fencingToken > 0) {
+			return CompletableFuture.completedFuture(lease(List.of(lockKey), ownerToken, ttlSeconds, fencingToken, false));
+		}
+		hotLockKeyTracker.recordContention(lockKey);
+
+		return lockReleaseNotifier.awaitAcquireAsync(lockKey, deadline, lockMetrics.of(lockKey),
+				() -> retryAttempt(lockKey, ownerToken, ttlSeconds, fair), executor).whenComplete((lease, e) -> {
+			if (fair && lease == null) {
+				// 뒤 순번이 버려진 번호표의 TTL 만료를 기다리지 않도록 즉시 반납
+				fairLockQueue.leave(lockKey, ownerToken);
+			}
+		});
+	}
+
+	/**
+	 * 경합 후 재시도 한 번 (실패하면 경합을 기록하고 null)
+	 */
+	private Lease retryAttempt(String lockKey, String ownerToken, long ttlSeconds, boolean fair) {
+		long fencingToken = attempt(lockKey, ownerToken, ttlSeconds, fair);
+		if (fencingToken > 0) {
+			return lease(List.of(lockKey), ownerToken, ttlSeconds, fencingToken, true);
+		}
+		hotLockKeyTracker.recordContention(lockKey);
+		return null;
+	}
+
+	/**
+	 * 재시도 대기 시간 (지수 증가 + 지터)
+	 * BACKOFF_BASE_MS부터 재시도마다 두 배로 늘리되 FALLBACK_POLL_INTERVAL_MS를 넘지 않고,
+	 * 그 값의 절반 이상에서 무작위로 골라 같은 시점에 실패한 대기자들의 재시도를 흩어 놓습니다.
+	 *
+	 * @param retry 재시도 순번 (0부터)
+	 * @return 대기 시간 (밀리초)
+	 */
+	static long backoffMillis(int retry) {
+		long ceiling = Math.min(FALLBACK_POLL_INTERVAL_MS, BACKOFF_BASE_MS << Math.min(retry, 10));
+		long half = ceiling / 2;
+		return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+	}
+
+	/**
+	 * 획득한 락의 임대 갱신을 시작합니다.
+	 */
+	private Lease lease(List<String> lockKeys, String ownerToken, long ttlSeconds, long fencingToken, boolean contended) {
+		LockWatchdog.Lease watchdogLease = lockWatchdog.watch(lockKeys, ownerToken, Duration.ofSeconds(ttlSeconds).toMillis());
+		return new RedisLease(lockKeys, ownerToken, watchdogLease, fencingToken, contended);
+	}
+
+	/**
+	 * 다중 키 SETNX (Lua)
+	 *
+	 * @return 0 = 획득, 그 외 = 이미 점유된 첫 키의 위치 (1부터 시작)
+	 */
+	private int setAllIfAbsent(List<String> lockKeys, String ownerToken, String ttlMillis) {
+		Long result = redisTemplate.execute(MULTI_LOCK_SCRIPT, lockKeys, ownerToken, ttlMillis);
+		if (result == null) {
+			throw new IllegalStateException("락 획득 스크립트 실행 결과가 없습니다. lockKeys: " + lockKeys);
+		}
+		return result.intValue();
+	}
+
+	/**
+	 * 락 획득 1회 시도 (공정 모드는 번호표 순서 확인, 비공정 모드는 SETNX)
+	 *
+	 * @return 획득 시 펜싱 토큰, 실패 시 0
+	 */
+	private long attempt(String lockKey, String ownerToken, long ttlSeconds, boolean fair) {
+		long ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+		String fenceKey = LockKeys.companion(lockKey, "fence");
+		if (fair) {
+			return fairLockQueue.tryAcquire(lockKey, ownerToken, ttlMillis, FAIR_TICKET_TTL_MS, fenceKey, FENCE_TTL_MS);
+		}
+		// SETNX: 키가 존재하지 않을 때만 설정하고 펜싱 토큰 발급 (원자적 연산)
+		Long fencingToken = redisTemplate.execute(LOCK_SCRIPT, List.of(lockKey, fenceKey),
+				ownerToken, String.valueOf(ttlMillis), String.valueOf(FENCE_TTL_MS));
+		return fencingToken != null ? fencingToken : 0;
+	}
+
+	/**
+	 * 락 해제 (여러 키도 한 번의 호출로 해제)
+	 *
+	 * 소유자 토큰이 일치할 때만 삭제하므로, TTL 만료 후 다른 노드가 획득한 락은 건드리지 않습니다.
+	 *
+	 * @param lockKeys 락 키 목록
+	 * @param ownerToken 소유자 토큰
+	 */
+	private void unlock(List<String> lockKeys, String ownerToken) {
+		LockMetrics.Meters meters = lockMetrics.of(lockKeys.get(0));
+		try {
+			Long released = redisTemplate.execute(UNLOCK_SCRIPT, lockKeys,
+					ownerToken, LockReleaseNotifier.CHANNEL_PREFIX);
+			if (released == null || released < lockKeys.size()) {
+				meters.recordOwnershipLost();
+				log.warn("이미 소유권을 잃은 락입니다. (TTL 만료 후 다른 요청이 획득) lockKeys={}", lockKeys);
+			}
+			// 같은 노드의 대기자는 Pub/Sub 메시지를 기다리지 않고 바로 재시도
+			for (String lockKey : lockKeys) {
+				lockReleaseNotifier.notifyReleased(lockKey);
+			}
+		} catch (Exception e) {
+			meters.recordUnlockError();
+			log.error("락 해제 중 오류 발생: lockKeys={}", lockKeys, e);
+			// 락 해제 실패는 치명적이지 않으므로 예외를 다시 던지지 않음
+			// 워치독이 중단되었으므로 TTL이 지나면 자동으로 해제되기 때문
+		}
+	}
+
+	/**
+	 * Redis 락 (워치독 임대 포함)
+	 */
+	private class RedisLease implements Lease {
+
+		private final List<String> lockKeys;
+		private final String ownerToken;
+		private final LockWatchdog.Lease watchdogLease;
+		private final long fencingToken;
+		private final boolean contended;
+
+		private RedisLease(List<String> lockKeys, String ownerToken, LockWatchdog.Lease watchdogLease,
+				long fencingToken, boolean contended) {
+			this.lockKeys = lockKeys;
+			this.ownerToken = ownerToken;
+			this.watchdogLease = watchdogLease;
+			this.fencingToken = fencingToken;
+			this.contended = contended;
+		}
+
+		@Override
+		public long fencingToken() {
+			return fencingToken;
+		}
+
+		@Override
+		public boolean contended() {
+			return contended;
+		}
+
+		@Override
+		public void release() {
+			// 임대 갱신 중단 후 락 해제
+			watchdogLease.cancel();
+			unlock(lockKeys, ownerToken);
+		}
+	}
+}
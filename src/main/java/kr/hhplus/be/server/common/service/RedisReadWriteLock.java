@@ -0,0 +1,253 @@
+package kr.hhplus.be.server.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 읽기/쓰기 분산락
+ *
+ * 공연 일정처럼 여러 좌석을 아우르는 범위를, 좌석별 예약(읽기)끼리는 서로 막지 않고
+ * 일정 전체를 바꾸는 일괄 작업(쓰기)과만 배타적으로 잠글 때 사용합니다.
+ *
+ * Redis 구조 (모두 같은 해시 태그):
+ * - 락 키: 쓰기 보유자의 소유자 토큰 (TTL)
+ * - 락 키:readers: 읽기 보유자 정렬 집합 (멤버 = 소유자 토큰, 점수 = 만료 시각)
+ * - 락 키:write-intent: 기다리는 쓰기 요청의 토큰 (짧은 TTL)
+ *
+ * 규칙:
+ * - 읽기는 쓰기 보유자와 쓰기 대기 표시가 없으면 바로 획득합니다. 읽기끼리는 대기하지 않습니다.
+ * - 쓰기는 쓰기 보유자와 (만료되지 않은) 읽기 보유자가 모두 없을 때만 획득합니다.
+ * - 쓰기가 읽기 보유자 때문에 실패하면 쓰기 대기 표시를 남겨 새 읽기를 막습니다.
+ *   읽기가 끊이지 않는 판매 중에도 기존 읽기만 끝나면 쓰기가 들어갈 수 있습니다. (쓰기 기아 방지)
+ * - 임대는 워치독이 갱신합니다. 보유 노드가 죽으면 읽기는 만료 시각이 지나 집합에서 정리되고, 쓰기는 TTL로 풀립니다.
+ * - 읽기 보유자가 모두 빠지거나 쓰기가 해제되면 락 키 채널로 해제 알림을 발행하므로, 대기자는 알림을 받는 즉시 재시도합니다.
+ *
+ * 노드 내부 락 테이블을 거치지 않으며(읽기끼리 직렬화되지 않도록), 펜싱 토큰은 발급하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisReadWriteLock {
+
+	/**
+	 * 읽기 락 획득
+	 * KEYS[1]: 락 키, KEYS[2]: 읽기 보유자 집합, KEYS[3]: 쓰기 대기 표시, ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초)
+	 * 반환: 1 = 획득, 0 = 쓰기 보유 또는 대기 중
+	 */
+	private static final RedisScript<Long> READ_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 1 or redis.call('exists', KEYS[3]) == 1 then " +
+			"  return 0 " +
+			"end " +
+			"local now = redis.call('time') " +
+			"local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000) " +
+			"redis.call('zadd', KEYS[2], nowMillis + tonumber(ARGV[2]), ARGV[1]) " +
+			"if redis.call('pttl', KEYS[2]) < tonumber(ARGV[2]) then " +
+			"  redis.call('pexpire', KEYS[2], ARGV[2]) " +
+			"end " +
+			"return 1",
+			Long.class
+	);
+
+	/**
+	 * 쓰기 락 획득 (만료된 읽기 보유자는 먼저 정리)
+	 * KEYS[1]: 락 키, KEYS[2]: 읽기 보유자 집합, KEYS[3]: 쓰기 대기 표시,
+	 * ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초), ARGV[3]: 쓰기 대기 표시 TTL (밀리초)
+	 * 반환: 1 = 획득, 0 = 다른 보유자 있음
+	 */
+	private static final RedisScript<Long> WRITE_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"local now = redis.call('time') " +
+			"local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000) " +
+			"redis.call('zremrangebyscore', KEYS[2], '-inf', nowMillis) " +
+			"if redis.call('exists', KEYS[1]) == 1 then " +
+			"  return 0 " +
+			"end " +
+			"if redis.call('zcard', KEYS[2]) > 0 then " +
+			"  local intent = redis.call('get', KEYS[3]) " +
+			"  if not intent or intent == ARGV[1] then " +
+			"    redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[3]) " +
+			"  end " +
+			"  return 0 " +
+			"end " +
+			"redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+			"if redis.call('get', KEYS[3]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[3]) " +
+			"end " +
+			"return 1",
+			Long.class
+	);
+
+	/**
+	 * 읽기 락 해제 (마지막 읽기 보유자면 해제 알림 발행)
+	 * KEYS[1]: 락 키, KEYS[2]: 읽기 보유자 집합, ARGV[1]: 소유자 토큰, ARGV[2]: 해제 알림 채널 접두사
+	 * 반환: 1 = 해제, 0 = 이미 빠짐
+	 */
+	private static final RedisScript<Long> READ_UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"local removed = redis.call('zrem', KEYS[2], ARGV[1]) " +
+			"if redis.call('zcard', KEYS[2]) == 0 then " +
+			"  redis.call('publish', ARGV[2] .. KEYS[1], KEYS[1]) " +
+			"end " +
+			"return removed",
+			Long.class
+	);
+
+	/**
+	 * 쓰기 락 해제 또는 쓰기 대기 표시 반납 (토큰이 일치할 때만, 해제 시 알림 발행)
+	 * KEYS[1]: 락 키, KEYS[2]: 쓰기 대기 표시, ARGV[1]: 소유자 토큰, ARGV[2]: 해제 알림 채널 접두사
+	 * 반환: 1 = 쓰기 락 해제, 0 = 보유하지 않음
+	 */
+	private static final RedisScript<Long> WRITE_UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[2]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[2]) " +
+			"end " +
+			"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[1]) " +
+			"  redis.call('publish', ARGV[2] .. KEYS[1], KEYS[1]) " +
+			"  return 1 " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	/**
+	 * 쓰기 대기 표시 TTL (밀리초)
+	 * 쓰기 대기자는 최대 재시도 간격(500ms)마다 표시를 갱신하므로, 몇 번 연속 빠지면 포기한 것으로 간주합니다.
+	 */
+	private static final long WRITE_INTENT_TTL_MS = 1500;
+
+	private final StringRedisTemplate redisTemplate;
+	private final LockReleaseNotifier lockReleaseNotifier;
+	private final LockWatchdog lockWatchdog;
+	private final LockMetrics lockMetrics;
+
+	/**
+	 * 마감 시각까지 읽기 락 획득을 시도합니다.
+	 *
+	 * @param lockKey 락 키 (예: LockKeys.schedule)
+	 * @param ttlSeconds 임대 TTL (초)
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @return 획득한 락 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	public LockProvider.Lease acquireRead(String lockKey, long ttlSeconds, long deadline) {
+		String ownerToken = UUID.randomUUID().toString();
+		long ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+		String readersKey = LockKeys.companion(lockKey, "readers");
+		List<String> keys = List.of(lockKey, readersKey, LockKeys.companion(lockKey, "write-intent"));
+		Attempt attempt = () -> execute(READ_LOCK_SCRIPT, keys, ownerToken, String.valueOf(ttlMillis));
+		boolean contended = false;
+		if (!attempt.tryOnce()) {
+			if (!awaitAcquire(lockKey, attempt, deadline)) {
+				return null;
+			}
+			contended = true;
+		}
+		LockWatchdog.Lease watchdogLease = lockWatchdog.watchReadLock(readersKey, ownerToken, ttlMillis);
+		return new RwLease(contended, () -> {
+			watchdogLease.cancel();
+			unlock(lockKey, READ_UNLOCK_SCRIPT, List.of(lockKey, readersKey), ownerToken);
+		});
+	}
+
+	/**
+	 * 마감 시각까지 쓰기 락 획득을 시도합니다.
+	 *
+	 * @param lockKey 락 키 (예: LockKeys.schedule)
+	 * @param ttlSeconds 임대 TTL (초)
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @return 획득한 락 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	public LockProvider.Lease acquireWrite(String lockKey, long ttlSeconds, long deadline) {
+		String ownerToken = UUID.randomUUID().toString();
+		long ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+		String intentKey = LockKeys.companion(lockKey, "write-intent");
+		List<String> keys = List.of(lockKey, LockKeys.companion(lockKey, "readers"), intentKey);
+		List<String> unlockKeys = List.of(lockKey, intentKey);
+		Attempt attempt = () -> execute(WRITE_LOCK_SCRIPT, keys,
+				ownerToken, String.valueOf(ttlMillis), String.valueOf(WRITE_INTENT_TTL_MS));
+		boolean contended = false;
+		if (!attempt.tryOnce()) {
+			if (!awaitAcquire(lockKey, attempt, deadline)) {
+				// 획득하지 못하고 끝났으므로 새 읽기를 막고 있던 쓰기 대기 표시를 즉시 반납
+				unlock(lockKey, WRITE_UNLOCK_SCRIPT, unlockKeys, ownerToken);
+				return null;
+			}
+			contended = true;
+		}
+		LockWatchdog.Lease watchdogLease = lockWatchdog.watch(List.of(lockKey), ownerToken, ttlMillis);
+		return new RwLease(contended, () -> {
+			watchdogLease.cancel();
+			unlock(lockKey, WRITE_UNLOCK_SCRIPT, unlockKeys, ownerToken);
+		});
+	}
+
+	/**
+	 * 첫 시도에 실패한 락을 마감 시각까지 재시도
+	 *
+	 * @return 마감 전에 획득했으면 true, 획득하지 못하거나 인터럽트되면 false
+	 */
+	private boolean awaitAcquire(String lockKey, Attempt attempt, long deadline) {
+		return lockReleaseNotifier.awaitAcquire(lockKey, deadline, lockMetrics.of(lockKey),
+				() -> attempt.tryOnce() ? Boolean.TRUE : null) != null;
+	}
+
+	private boolean execute(RedisScript<Long> script, List<String> keys, String... args) {
+		Long result = redisTemplate.execute(script, keys, (Object[]) args);
+		return result != null && result == 1;
+	}
+
+	private void unlock(String lockKey, RedisScript<Long> script, List<String> keys, String ownerToken) {
+		try {
+			redisTemplate.execute(script, keys, ownerToken, LockReleaseNotifier.CHANNEL_PREFIX);
+			// 같은 노드의 대기자는 Pub/Sub 메시지를 기다리지 않고 바로 재시도
+			lockReleaseNotifier.notifyReleased(lockKey);
+		} catch (Exception e) {
+			lockMetrics.of(lockKey).recordUnlockError();
+			log.error("읽기/쓰기 락 해제 중 오류 발생: lockKey={}", lockKey, e);
+			// 워치독이 중단되었으므로 TTL이 지나면 자동으로 해제됨
+		}
+	}
+
+	/**
+	 * 락 획득 1회 시도
+	 */
+	@FunctionalInterface
+	private interface Attempt {
+		boolean tryOnce();
+	}
+
+	/**
+	 * 획득한 읽기/쓰기 락
+	 */
+	private static class RwLease implements LockProvider.Lease {
+
+		private final boolean contended;
+		private final Runnable release;
+
+		private RwLease(boolean contended, Runnable release) {
+			this.contended = contended;
+			this.release = release;
+		}
+
+		@Override
+		public long fencingToken() {
+			return 0;
+		}
+
+		@Override
+		public boolean contended() {
+			return contended;
+		}
+
+		@Override
+		public void release() {
+			release.run();
+		}
+	}
+}
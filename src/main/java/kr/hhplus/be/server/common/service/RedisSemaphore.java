@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Redis 카운팅 세마포어
+ *
+ * 한 범위(전역 또는 공연 일정)에서 동시에 실행되는 작업 수를 N개로 제한할 때 사용합니다.
+ * 락과 달리 N개까지는 서로 기다리지 않고, N개가 모두 사용 중일 때만 허가가 반납되기를 기다립니다.
+ *
+ * Redis 구조:
+ * - 세마포어 키: 허가 보유자 정렬 집합 (멤버 = 소유자 토큰, 점수 = 만료 시각)
+ *
+ * 임대:
+ * - 허가는 TTL이 있는 임대이며 작업 중에는 워치독이 연장합니다. (LockWatchdog.watchReadLock)
+ * - 보유 노드가 죽으면 만료 시각이 지난 멤버는 다음 획득 시도에서 정리되어 허가가 돌아옵니다.
+ * - 허가를 반납하면 세마포어 키 채널로 해제 알림을 발행하므로, 대기자는 알림을 받는 즉시 재시도합니다.
+ * - 허가 수는 획득 시점의 값으로 판단하므로, 설정을 줄이면 기존 보유자가 빠질 때까지 새 획득만 막힙니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSemaphore {
+
+	/**
+	 * 허가 획득 (만료된 보유자는 먼저 정리)
+	 * KEYS[1]: 세마포어 키, ARGV[1]: 소유자 토큰, ARGV[2]: TTL (밀리초), ARGV[3]: 허가 수
+	 * 반환: 1 = 획득, 0 = 허가 없음
+	 */
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+			"local now = redis.call('time') " +
+			"local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000) " +
+			"redis.call('zremrangebyscore', KEYS[1], '-inf', nowMillis) " +
+			"if redis.call('zcard', KEYS[1]) >= tonumber(ARGV[3]) then " +
+			"  return 0 " +
+			"end " +
+			"redis.call('zadd', KEYS[1], nowMillis + tonumber(ARGV[2]), ARGV[1]) " +
+			"if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then " +
+			"  redis.call('pexpire', KEYS[1], ARGV[2]) " +
+			"end " +
+			"return 1",
+			Long.class
+	);
+
+	/**
+	 * 허가 반납 (반납했으면 해제 알림 발행)
+	 * KEYS[1]: 세마포어 키, ARGV[1]: 소유자 토큰, ARGV[2]: 해제 알림 채널 접두사
+	 * 반환: 1 = 반납, 0 = 이미 만료되어 빠짐
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('zrem', KEYS[1], ARGV[1]) == 1 then " +
+			"  redis.call('publish', ARGV[2] .. KEYS[1], KEYS[1]) " +
+			"  return 1 " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final LockReleaseNotifier lockReleaseNotifier;
+	private final LockWatchdog lockWatchdog;
+	private final LockMetrics lockMetrics;
+
+	/**
+	 * 마감 시각까지 허가 획득을 시도합니다.
+	 *
+	 * @param semaphoreKey 세마포어 키 (LockKeys.semaphore)
+	 * @param permits 허가 수 (1 이상)
+	 * @param ttlSeconds 임대 TTL (초)
+	 * @param deadline 획득 시도 마감 시각 (epoch 밀리초)
+	 * @return 획득한 허가 (마감까지 획득하지 못하거나 인터럽트되면 null)
+	 */
+	public LockProvider.Lease acquire(String semaphoreKey, int permits, long ttlSeconds, long deadline) {
+		validatePermits(permits);
+		String ownerToken = UUID.randomUUID().toString();
+		long ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+
+		LockProvider.Lease permit = tryAcquire(semaphoreKey, ownerToken, ttlMillis, permits, false);
+		if (permit != null) {
+			return permit;
+		}
+		return lockReleaseNotifier.awaitAcquire(semaphoreKey, deadline, lockMetrics.of(semaphoreKey),
+				() -> tryAcquire(semaphoreKey, ownerToken, ttlMillis, permits, true));
+	}
+
+	/**
+	 * 마감 시각까지 허가 획득을 비동기로 시도합니다.
+	 *
+	 * 첫 시도는 호출 스레드에서 바로 하고, 실패하면 반납 알림이나 재시도 간격을 스레드 없이 기다렸다가
+	 * 실행기에서 다시 시도합니다. (허가를 기다리는 동안 실행기 스레드를 점유하지 않음)
+	 *
+	 * @param executor 재시도를 실행할 실행기 (LockTaskExecutor)
+	 * @return 획득한 허가로 완료되는 future (마감까지 획득하지 못하면 null)
+	 */
+	public CompletableFuture<LockProvider.Lease> acquireAsync(String semaphoreKey, int permits, long ttlSeconds,
+			long deadline, Executor executor) {
+		validatePermits(permits);
+		String ownerToken = UUID.randomUUID().toString();
+		long ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+
+		LockProvider.Lease permit;
+		try {
+			permit = tryAcquire(semaphoreKey, ownerToken, ttlMillis, permits, false);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		if (permit != null) {
+			return CompletableFuture.completedFuture(permit);
+		}
+		return lockReleaseNotifier.awaitAcquireAsync(semaphoreKey, deadline, lockMetrics.of(semaphoreKey),
+				() -> tryAcquire(semaphoreKey, ownerToken, ttlMillis, permits, true), executor);
+	}
+
+	private static void validatePermits(int permits) {
+		if (permits < 1) {
+			throw new IllegalArgumentException("허가 수는 1 이상이어야 합니다. permits: " + permits);
+		}
+	}
+
+	/**
+	 * 허가 획득 시도 한 번 (획득하면 임대 갱신을 시작한 허가, 허가가 없으면 null)
+	 */
+	private LockProvider.Lease tryAcquire(String semaphoreKey, String ownerToken, long ttlMillis, int permits,
+			boolean contended) {
+		Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(semaphoreKey),
+				ownerToken, String.valueOf(ttlMillis), String.valueOf(permits));
+		if (result == null || result != 1) {
+			return null;
+		}
+		LockWatchdog.Lease watchdogLease = lockWatchdog.watchReadLock(semaphoreKey, ownerToken, ttlMillis);
+		return new Permit(semaphoreKey, ownerToken, contended, watchdogLease);
+	}
+
+	/**
+	 * 획득한 허가
+	 */
+	private class Permit implements LockProvider.Lease {
+
+		private final String semaphoreKey;
+		private final String ownerToken;
+		private final boolean contended;
+		private final LockWatchdog.Lease watchdogLease;
+
+		private Permit(String semaphoreKey, String ownerToken, boolean contended, LockWatchdog.Lease watchdogLease) {
+			this.semaphoreKey = semaphoreKey;
+			this.ownerToken = ownerToken;
+			this.contended = contended;
+			this.watchdogLease = watchdogLease;
+		}
+
+		@Override
+		public long fencingToken() {
+			return 0;
+		}
+
+		@Override
+		public boolean contended() {
+			return contended;
+		}
+
+		@Override
+		public void release() {
+			watchdogLease.cancel();
+			try {
+				redisTemplate.execute(RELEASE_SCRIPT, List.of(semaphoreKey), ownerToken, LockReleaseNotifier.CHANNEL_PREFIX);
+				// 같은 노드의 대기자는 Pub/Sub 메시지를 기다리지 않고 바로 재시도
+				lockReleaseNotifier.notifyReleased(semaphoreKey);
+			} catch (Exception e) {
+				lockMetrics.of(semaphoreKey).recordUnlockError();
+				log.error("세마포어 허가 반납 중 오류 발생: semaphoreKey={}", semaphoreKey, e);
+				// 워치독이 중단되었으므로 TTL이 지나면 자동으로 반납됨
+			}
+		}
+	}
+}
@@ -0,0 +1,281 @@
+package kr.hhplus.be.server.common.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.common.service.IdempotentResponseStore;
+import kr.hhplus.be.server.common.service.LockReleaseNotifier;
+import kr.hhplus.be.server.common.service.LockTaskExecutor;
+import kr.hhplus.be.server.config.IdempotencyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 헤더 처리 필터 (Redis)
+ *
+ * 같은 키의 요청을 컨트롤러 앞에서 걸러, 재요청이 유스케이스와 DB까지 내려가지 않게 합니다.
+ * - 처음 온 요청: 키를 처리 중으로 표시(TTL)하고 실행한 뒤, 최종 결과(2xx와 확정된 4xx)의 상태 코드와 본문을 저장
+ *   (5xx와 다시 시도하라는 응답인 408, 409, 425, 429는 저장하지 않고 표시를 지워 같은 키로 다시 실행할 수 있게 함)
+ * - 처리 중에 같은 키로 온 요청: 요청 스레드를 반납하고(비동기 응답) 첫 요청의 결과가 저장되면 같은 응답을 받음
+ *   (첫 요청이 저장하지 않고 끝났거나 대기 시간을 넘으면 409와 Retry-After)
+ * - 완료 후 같은 키로 온 요청: 저장된 상태 코드와 본문을 그대로 받음 (Idempotent-Replayed: true 헤더)
+ * - 같은 키로 요청 파라미터가 다른 요청: 422
+ *
+ * 비동기 응답(CompletableFuture)은 비동기 디스패치가 끝날 때 저장합니다.
+ * Redis 장애 시에는 걸러내지 않고 그대로 실행합니다. (유스케이스의 멱등성 키 처리가 중복 실행을 막음)
+ *
+ * 메트릭: idempotency.requests (outcome=executed|replayed|mismatched|in_flight|bypassed)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final String CLAIM_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".CLAIM";
+	private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+	/**
+	 * 다시 시도하라는 뜻의 4xx (좌석 경합 409 등, 저장하면 같은 키의 재시도가 보관 시간 내내 같은 실패를 받음)
+	 */
+	private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 409, 425, 429);
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+	private final IdempotentResponseStore idempotentResponseStore;
+	private final IdempotencyProperties idempotencyProperties;
+	private final LockReleaseNotifier lockReleaseNotifier;
+	private final LockTaskExecutor lockTaskExecutor;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!idempotencyProperties.isEnabled() || !METHODS.contains(request.getMethod())
+				|| !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))) {
+			return true;
+		}
+		String path = URL_PATH_HELPER.getPathWithinApplication(request);
+		return idempotencyProperties.getPathPatterns().stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+	}
+
+	/**
+	 * 비동기 응답을 저장하기 위해 비동기 디스패치에도 적용
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		HttpServletResponse responseToUse = response;
+		if (!isAsyncDispatch(request)) {
+			responseToUse = admit(request, response);
+			if (responseToUse == null) {
+				return;
+			}
+		}
+
+		try {
+			filterChain.doFilter(request, responseToUse);
+		} catch (IOException | ServletException | RuntimeException e) {
+			release(request);
+			throw e;
+		}
+
+		if (!isAsyncStarted(request)) {
+			finish(request, responseToUse);
+		}
+	}
+
+	/**
+	 * 키를 선점하면 응답을 담아둘 래퍼를, 저장된 응답을 돌려줬거나 거절했거나 결과 대기를 시작했으면 null을 반환
+	 */
+	private HttpServletResponse admit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String scope = request.getMethod() + ":" + URL_PATH_HELPER.getPathWithinApplication(request);
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		String fingerprint = fingerprint(request);
+
+		IdempotentResponseStore.ClaimResult result;
+		try {
+			result = idempotentResponseStore.claim(scope, idempotencyKey, fingerprint,
+					idempotencyProperties.getInFlightTtl());
+		} catch (DataAccessException e) {
+			log.warn("Idempotency-Key 확인 실패, 응답 저장 없이 실행. key : {}", idempotencyKey, e);
+			count("bypassed");
+			return response;
+		}
+
+		if (result.isClaimed()) {
+			request.setAttribute(CLAIM_ATTRIBUTE, result.claim());
+			count("executed");
+			return new ContentCachingResponseWrapper(response);
+		}
+		IdempotentResponseStore.Entry existing = result.existing();
+		if (!existing.fingerprint().equals(fingerprint)) {
+			count("mismatched");
+			response.sendError(422, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+			return null;
+		}
+		if (existing.isCompleted()) {
+			count("replayed");
+			replay(existing, response);
+			return null;
+		}
+
+		// 같은 키의 첫 요청이 처리 중이면 요청 스레드를 반납하고 결과를 기다림
+		AsyncContext asyncContext = request.startAsync(request, response);
+		// 컨테이너 타임아웃보다 먼저 직접 응답하도록 여유를 둠
+		asyncContext.setTimeout(idempotencyProperties.getWaitTimeout().plusSeconds(1).toMillis());
+		awaitResult(asyncContext, result.key(), System.nanoTime() + idempotencyProperties.getWaitTimeout().toNanos());
+		return null;
+	}
+
+	/**
+	 * 처리 중인 같은 키의 결과 대기 (스레드를 멈추지 않음)
+	 *
+	 * 첫 요청이 응답을 저장하거나 처리 중 표시를 지우면 발행되는 알림(LockReleaseNotifier)으로 깨어나 다시 확인합니다.
+	 * Pub/Sub은 전달을 보장하지 않으므로 recheck-interval마다도 확인합니다.
+	 * - 응답이 저장되었으면 그 응답을 돌려줌
+	 * - 저장하지 않고 끝났거나(일시적인 실패) wait-timeout이 지나면 409와 Retry-After로 응답 (다시 요청하면 새로 실행)
+	 */
+	private void awaitResult(AsyncContext asyncContext, String key, long deadline) {
+		HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+		LockReleaseNotifier.ReleaseSignal signal = lockReleaseNotifier.subscribe(key);
+		boolean waiting = false;
+		try {
+			long observedVersion = signal.version();
+			Optional<IdempotentResponseStore.Entry> entry = idempotentResponseStore.find(key);
+			long remainingNanos = deadline - System.nanoTime();
+			if (entry.isPresent() && entry.get().isCompleted()) {
+				count("replayed");
+				replay(entry.get(), response);
+				asyncContext.complete();
+			} else if (entry.isEmpty() || remainingNanos <= 0) {
+				count("in_flight");
+				rejectInFlight(response);
+				asyncContext.complete();
+			} else {
+				long waitMillis = Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos),
+						idempotencyProperties.getRecheckInterval().toMillis());
+				waiting = true;
+				signal.whenReleased(observedVersion, Math.max(waitMillis, 1))
+						.whenCompleteAsync((ignored, e) -> {
+							lockReleaseNotifier.unsubscribe(key, signal);
+							awaitResult(asyncContext, key, deadline);
+						}, lockTaskExecutor);
+			}
+		} catch (DataAccessException | IOException e) {
+			log.warn("Idempotency-Key 결과 확인 실패. key : {}", key, e);
+			count("in_flight");
+			rejectInFlight(response);
+			asyncContext.complete();
+		} finally {
+			if (!waiting) {
+				lockReleaseNotifier.unsubscribe(key, signal);
+			}
+		}
+	}
+
+	private void rejectInFlight(HttpServletResponse response) {
+		response.setStatus(HttpServletResponse.SC_CONFLICT);
+		response.setHeader("Retry-After", "1");
+	}
+
+	/**
+	 * 요청이 끝나면 응답을 저장하고 클라이언트로 내보냄
+	 */
+	private void finish(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+		IdempotentResponseStore.Claim claim = (IdempotentResponseStore.Claim) request.getAttribute(CLAIM_ATTRIBUTE);
+		if (wrapper == null || claim == null) {
+			return;
+		}
+		request.removeAttribute(CLAIM_ATTRIBUTE);
+
+		try {
+			if (!isFinal(wrapper.getStatus())) {
+				// 일시적인 실패는 같은 키로 다시 실행할 수 있게 저장하지 않음
+				idempotentResponseStore.release(claim);
+			} else if (!idempotentResponseStore.complete(claim, wrapper.getStatus(), wrapper.getContentType(),
+					wrapper.getContentAsByteArray(), idempotencyProperties.getReplayTtl())) {
+				log.warn("처리 중 표시가 만료되어 응답을 저장하지 않음. key : {}", claim.key());
+			}
+		} catch (DataAccessException e) {
+			log.warn("Idempotency-Key 응답 저장 실패. key : {}", claim.key(), e);
+		}
+		wrapper.copyBodyToResponse();
+	}
+
+	/**
+	 * 예외로 끝난 요청의 처리 중 표시 삭제
+	 */
+	private void release(HttpServletRequest request) {
+		IdempotentResponseStore.Claim claim = (IdempotentResponseStore.Claim) request.getAttribute(CLAIM_ATTRIBUTE);
+		if (claim == null) {
+			return;
+		}
+		request.removeAttribute(CLAIM_ATTRIBUTE);
+		try {
+			idempotentResponseStore.release(claim);
+		} catch (DataAccessException e) {
+			log.warn("Idempotency-Key 처리 중 표시 삭제 실패. key : {}", claim.key(), e);
+		}
+	}
+
+	/**
+	 * 같은 키의 재요청에 그대로 돌려줄 최종 결과인지 (2xx, 3xx, 다시 시도해도 결과가 같은 4xx)
+	 */
+	static boolean isFinal(int status) {
+		return status < 500 && !RETRYABLE_STATUSES.contains(status);
+	}
+
+	private void replay(IdempotentResponseStore.Entry entry, HttpServletResponse response) throws IOException {
+		response.setStatus(entry.status());
+		response.setHeader(REPLAYED_HEADER, "true");
+		if (entry.contentType() != null) {
+			response.setContentType(entry.contentType());
+		}
+		if (entry.body() != null) {
+			response.setContentLength(entry.body().length);
+			response.getOutputStream().write(entry.body());
+		}
+		response.flushBuffer();
+	}
+
+	/**
+	 * 요청 지문 (이 API들은 요청 값을 @RequestParam으로 받으므로 정렬한 요청 파라미터로 계산)
+	 */
+	private String fingerprint(HttpServletRequest request) {
+		StringBuilder parameters = new StringBuilder();
+		new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+				parameters.append(name).append('=').append(String.join(",", values)).append('&'));
+		return DigestUtils.md5DigestAsHex(parameters.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void count(String outcome) {
+		meterRegistry.counter("idempotency.requests", "outcome", outcome).increment();
+	}
+}
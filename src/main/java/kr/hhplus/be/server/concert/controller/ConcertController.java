@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.concert.controller;
 
 import kr.hhplus.be.server.concert.dto.ConcertResponse;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
 import kr.hhplus.be.server.concert.service.ConcertService;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,4 +22,9 @@ public class ConcertController {
 		return concertService.getConcerts(concert_id);
 	}
 
+	@GetMapping("/{concert_id}/{date}/place")
+	public List<SeatResponse> getAvailableSeats(@PathVariable Long concert_id, @PathVariable String date) {
+		return concertService.getAvailableSeats(concert_id, date);
+	}
+
 }
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.concert.dto;
+
+import kr.hhplus.be.server.common.CommonResponse;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SeatResponse extends CommonResponse {
+	private Long concertScheduleId;
+	private String concertTime;
+	private Long seatId;
+	private int seatNumber;
+	private SeatGrade seatGrade;
+
+	public SeatResponse() {}
+
+	public SeatResponse(Long concertScheduleId, String concertTime, Long seatId, int seatNumber, SeatGrade seatGrade) {
+		this.concertScheduleId = concertScheduleId;
+		this.concertTime = concertTime;
+		this.seatId = seatId;
+		this.seatNumber = seatNumber;
+		this.seatGrade = seatGrade;
+	}
+}
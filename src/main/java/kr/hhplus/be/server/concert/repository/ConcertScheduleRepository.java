@@ -2,9 +2,20 @@ package kr.hhplus.be.server.concert.repository;
 
 import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ConcertScheduleRepository extends JpaRepository<ConcertSchedule, Long> {
 
+	/**
+	 * 콘서트의 특정 날짜 공연 일정 조회 (공연 시간 순)
+	 */
+	@Query("SELECT cs FROM ConcertSchedule cs WHERE cs.concert.id = :concertId AND cs.concertDate = :concertDate " +
+		"ORDER BY cs.concertTime")
+	List<ConcertSchedule> findByConcertIdAndConcertDate(@Param("concertId") Long concertId,
+	                                                    @Param("concertDate") String concertDate);
 }
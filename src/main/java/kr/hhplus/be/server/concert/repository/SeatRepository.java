@@ -1,13 +1,19 @@
 package kr.hhplus.be.server.concert.repository;
 
 import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.concert.common.SeatStatus;
 import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,10 +26,84 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 	@Query("SELECT s FROM Seat s WHERE s.seatId = :seatId")
 	Optional<Seat> findByIdWithLock(@Param("seatId") Long seatId);
 
+	/**
+	 * SELECT FOR UPDATE로 여러 좌석을 좌석 ID 순으로 조회하여 행 잠금
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM Seat s WHERE s.seatId IN :seatIds ORDER BY s.seatId")
+	List<Seat> findAllByIdWithLock(@Param("seatIds") Collection<Long> seatIds);
+
 	/**
 	 * 콘서트 일정별 전체 좌석 개수 조회
 	 */
 	@Query("SELECT COUNT(s) FROM Seat s WHERE s.concertSchedule.concertScheduleId = :concertScheduleId")
 	long countByConcertScheduleId(@Param("concertScheduleId") Long concertScheduleId);
 
+	/**
+	 * 좌석 상태 조건부 변경 (현재 상태가 oldStatus일 때만)
+	 * 영향받은 행 수가 1이면 변경 성공, 0이면 이미 다른 상태(또는 좌석 없음)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Seat s SET s.seatStatus = :newStatus WHERE s.seatId = :seatId AND s.seatStatus = :oldStatus")
+	int updateStatusIfMatches(@Param("seatId") Long seatId,
+	                          @Param("oldStatus") SeatStatus oldStatus,
+	                          @Param("newStatus") SeatStatus newStatus);
+
+	/**
+	 * 여러 좌석 상태 조건부 변경 (현재 상태가 oldStatus인 좌석만)
+	 * 영향받은 행 수가 좌석 수와 같으면 모두 변경 성공
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Seat s SET s.seatStatus = :newStatus WHERE s.seatId IN :seatIds AND s.seatStatus = :oldStatus")
+	int updateStatusIfMatches(@Param("seatIds") Collection<Long> seatIds,
+	                          @Param("oldStatus") SeatStatus oldStatus,
+	                          @Param("newStatus") SeatStatus newStatus);
+
+	/**
+	 * 홀드가 만료된 예약의 좌석 상태 일괄 변경
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Seat s SET s.seatStatus = :newStatus WHERE s.seatStatus = :oldStatus AND s.seatId IN " +
+		"(SELECT r.seat.seatId FROM Reservation r WHERE r.status = :holdStatus AND r.holdExpiresAt < :now)")
+	int updateStatusOfExpiredHolds(@Param("oldStatus") SeatStatus oldStatus,
+	                               @Param("newStatus") SeatStatus newStatus,
+	                               @Param("holdStatus") ReservationStatus holdStatus,
+	                               @Param("now") LocalDateTime now);
+
+	/**
+	 * 공연 일정의 홀드 중인 예약 좌석 상태 일괄 변경
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Seat s SET s.seatStatus = :newStatus WHERE s.seatStatus = :oldStatus AND s.seatId IN " +
+		"(SELECT r.seat.seatId FROM Reservation r " +
+		"WHERE r.concertSchedule.concertScheduleId = :concertScheduleId AND r.status = :holdStatus)")
+	int updateStatusOfHoldsBySchedule(@Param("concertScheduleId") Long concertScheduleId,
+	                                  @Param("oldStatus") SeatStatus oldStatus,
+	                                  @Param("newStatus") SeatStatus newStatus,
+	                                  @Param("holdStatus") ReservationStatus holdStatus);
+
+	/**
+	 * 공연 일정의 전체 좌석 조회 (좌석 번호 순)
+	 */
+	@Query("SELECT s FROM Seat s WHERE s.concertSchedule.concertScheduleId = :concertScheduleId ORDER BY s.seatNumber")
+	List<Seat> findByConcertScheduleId(@Param("concertScheduleId") Long concertScheduleId);
+
+	/**
+	 * 공연 일정에서 예약할 수 없는 좌석 번호 조회
+	 * 좌석이 선점(takenStatus)되어 있거나 좌석에 활성 예약(activeStatuses)이 있으면 예약할 수 없는 좌석입니다.
+	 */
+	@Query("SELECT s.seatNumber FROM Seat s WHERE s.concertSchedule.concertScheduleId = :concertScheduleId " +
+		"AND (s.seatStatus = :takenStatus OR EXISTS " +
+		"(SELECT r.id FROM Reservation r WHERE r.seat.seatId = s.seatId AND r.status IN :activeStatuses))")
+	List<Integer> findTakenSeatNumbers(@Param("concertScheduleId") Long concertScheduleId,
+	                                   @Param("takenStatus") SeatStatus takenStatus,
+	                                   @Param("activeStatuses") Collection<ReservationStatus> activeStatuses);
+
+	/**
+	 * 홀드가 만료된 예약의 좌석 조회 (만료 처리 전에 호출)
+	 */
+	@Query("SELECT s FROM Seat s WHERE s.seatId IN " +
+		"(SELECT r.seat.seatId FROM Reservation r WHERE r.status = :holdStatus AND r.holdExpiresAt < :now)")
+	List<Seat> findSeatsOfExpiredHolds(@Param("holdStatus") ReservationStatus holdStatus,
+	                                   @Param("now") LocalDateTime now);
 }
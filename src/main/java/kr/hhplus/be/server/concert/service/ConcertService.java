@@ -2,7 +2,9 @@ package kr.hhplus.be.server.concert.service;
 
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.dto.ConcertResponse;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
 import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
@@ -10,6 +12,7 @@ import kr.hhplus.be.server.concert.repository.impl.ConcertRepositoryImpl;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,14 +27,18 @@ public class ConcertService {
 
 	private final ConcertRepositoryImpl concertRepositoryImpl;
 
+	private final SeatAvailabilityService seatAvailabilityService;
+
 	ConcertService(ConcertRepository concertRepository,
 	               ConcertScheduleRepository concertScheduleRepository,
 	               SeatRepository seatRepository,
-	               ConcertRepositoryImpl concertRepositoryImpl) {
+	               ConcertRepositoryImpl concertRepositoryImpl,
+	               SeatAvailabilityService seatAvailabilityService) {
 		this.concertRepository = concertRepository;
 		this.concertScheduleRepository = concertScheduleRepository;
 		this.seatRepository = seatRepository;
 		this.concertRepositoryImpl = concertRepositoryImpl;
+		this.seatAvailabilityService = seatAvailabilityService;
 	}
 
 	/*
@@ -45,4 +52,19 @@ public class ConcertService {
 		return concertRepositoryImpl.findConcertDate(concert.getId());
 	}
 
+	/**
+	 * 특정 콘서트의 특정 날짜에 예약 가능한 좌석 조회
+	 * 좌석 상태는 공연 일정별 Redis 비트맵(SeatAvailabilityService)에서 읽습니다.
+	 */
+	public List<SeatResponse> getAvailableSeats(Long concertId, String date) {
+		Concert concert = concertRepository.findById(concertId)
+							.orElseThrow(() -> new RuntimeException("concert를 찾을수 없습니다."));
+
+		List<SeatResponse> availableSeats = new ArrayList<>();
+		for (ConcertSchedule schedule : concertScheduleRepository.findByConcertIdAndConcertDate(concert.getId(), date)) {
+			availableSeats.addAll(seatAvailabilityService.findAvailableSeats(schedule));
+		}
+		return availableSeats;
+	}
+
 }
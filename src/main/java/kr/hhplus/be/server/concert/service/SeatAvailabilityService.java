@@ -0,0 +1,494 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연 일정별 좌석 예약 가능 비트맵
+ *
+ * Redis 비트맵 하나에 좌석 번호마다 1비트(1 = 예약 불가: 홀드 또는 결제 완료)를 둡니다.
+ * - Key: "seat-availability:{schedule:S}" (공연 일정 해시 태그)
+ * - 좌석 맵 조회는 GETRANGE 한 번(좌석 수 / 8 바이트)으로 끝나고, 좌석 배치(ID, 번호, 등급)는 노드 메모리에 둡니다.
+ * - 좌석 배치는 노드 재고와 같은 최대 일정 수(hhplus.reservation.inventory.max-schedules)까지만 두고,
+ *   넘으면 가장 오래 조회되지 않은 일정을, 유휴 시간(layout-idle-ttl) 동안 조회되지 않은 일정(끝난 공연 일정)은 새 일정을 담을 때 버립니다.
+ * - 비트맵이 없으면 DB(좌석 상태 + 활성 예약)에서 만들어 SET NX로 저장합니다.
+ *   DB를 읽는 동안 좌석 비트 변경이 있었으면(변경 버전 "seat-availability:{schedule:S}:version"이 바뀜) 저장한 비트맵을 지웁니다.
+ *   (비트맵이 없어 건너뛴 변경이 DB를 읽기 전 상태의 비트맵에 덮이지 않게 함)
+ * - 자주 조회되는 일정은 노드 로컬 재고(SeatInventoryCache)에서 Redis 없이 읽습니다.
+ * - 좌석 홀드 전 사전 확인(isKnownTaken)은 이미 있는 재고, 비트맵만 보고 DB로 만들지 않습니다.
+ * - 등급별 연속 빈 좌석 찾기(findFreeBlocks)는 등급별 좌석 비트(노드 메모리)와 재고를 원소 단위로 겹쳐 훑습니다.
+ *
+ * 변경 반영:
+ * - 홀드, 결제가 커밋되면 비트를 켜고 홀드 만료 시 끕니다. 비트맵이 없으면 건너뜁니다. (다음 조회에서 DB로 다시 만듦)
+ * - 변경과 삭제는 비트맵 유무와 관계없이 변경 버전을 올립니다.
+ * - 변경은 같은 스크립트에서 SeatInventoryCache.CHANNEL로 발행되어 모든 노드의 로컬 재고에 반영됩니다.
+ * - 홀드 일괄 취소는 일정의 비트맵을 지워 다음 조회에서 다시 만들게 합니다.
+ * - 조회용 값이며 예약 가능 여부의 최종 판단은 좌석 홀드 단계에서 합니다. 반영이 늦는 경우와 최대 시간:
+ *   노드 로컬 재고는 변경 알림을 놓치면 갱신 주기(hhplus.reservation.inventory.refresh-interval)까지,
+ *   Redis 비트맵은 변경 스크립트가 Redis 오류로 실패했을 때만 유지 시간(hhplus.reservation.availability-ttl)까지 늦습니다.
+ * - Redis 오류는 기록만 하고 예약, 결제 흐름으로 전파하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAvailabilityService {
+
+	private static final String KEY_PREFIX = "seat-availability:";
+
+	private static final String VERSION_SUFFIX = ":version";
+
+	/**
+	 * 비트맵이 있을 때만 좌석 비트 변경, 변경 버전과 변경 내용 발행(노드 로컬 재고 반영용)은 비트맵 유무와 관계없이 처리
+	 * KEYS[1]: 비트맵 키, KEYS[2]: 변경 버전 키
+	 * ARGV[1]: 발행 채널, ARGV[2]: 발행 메시지, ARGV[3]: 비트 값 (1 = 예약 불가, 0 = 예약 가능), ARGV[4]: 변경 버전 유지 시간 (밀리초),
+	 * ARGV[5..]: 좌석 번호
+	 */
+	private static final RedisScript<Long> SET_BITS_SCRIPT = new DefaultRedisScript<>(
+			"local updated = 0 " +
+			"if redis.call('exists', KEYS[1]) == 1 then " +
+			"  for i = 5, #ARGV do " +
+			"    redis.call('setbit', KEYS[1], ARGV[i], ARGV[3]) " +
+			"  end " +
+			"  updated = 1 " +
+			"end " +
+			"redis.call('incr', KEYS[2]) " +
+			"redis.call('pexpire', KEYS[2], ARGV[4]) " +
+			"redis.call('publish', ARGV[1], ARGV[2]) " +
+			"return updated",
+			Long.class
+	);
+
+	/**
+	 * 비트맵 삭제, 변경 버전 증가, 삭제 알림 발행
+	 * KEYS[1]: 비트맵 키, KEYS[2]: 변경 버전 키
+	 * ARGV[1]: 발행 채널, ARGV[2]: 발행 메시지, ARGV[3]: 변경 버전 유지 시간 (밀리초)
+	 */
+	private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('del', KEYS[1]) " +
+			"redis.call('incr', KEYS[2]) " +
+			"redis.call('pexpire', KEYS[2], ARGV[3]) " +
+			"redis.call('publish', ARGV[1], ARGV[2]) " +
+			"return 1",
+			Long.class
+	);
+
+	/**
+	 * DB를 읽기 전에 본 변경 버전과 지금 버전이 다르면 비트맵 삭제
+	 * KEYS[1]: 비트맵 키, KEYS[2]: 변경 버전 키
+	 * ARGV[1]: DB를 읽기 전 변경 버전 (없었으면 "0")
+	 * 반환: 1 = 삭제 (그 사이 변경이 있었음), 0 = 유지
+	 */
+	private static final RedisScript<Long> DISCARD_IF_CHANGED_SCRIPT = new DefaultRedisScript<>(
+			"if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then " +
+			"  redis.call('del', KEYS[1]) " +
+			"  return 1 " +
+			"end " +
+			"return 0",
+			Long.class
+	);
+
+	private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.HOLD, ReservationStatus.PAID);
+
+	private final StringRedisTemplate redisTemplate;
+	private final SeatRepository seatRepository;
+	private final ReservationProperties reservationProperties;
+	private final SeatInventoryCache seatInventoryCache;
+
+	/**
+	 * 공연 일정별 좌석 배치와 등급 좌석 색인 (좌석 ID, 번호, 등급은 일정 생성 후 바뀌지 않음, LRU)
+	 */
+	private final Map<Long, ScheduleLayout> scheduleLayouts = new ConcurrentHashMap<>();
+
+	/**
+	 * 공연 일정의 예약 가능한 좌석 조회 (좌석 번호 순)
+	 */
+	public List<SeatResponse> findAvailableSeats(ConcertSchedule schedule) {
+		Long concertScheduleId = schedule.getConcertScheduleId();
+		List<SeatLayout> layout = seatLayoutOf(concertScheduleId);
+		if (layout.isEmpty()) {
+			return List.of();
+		}
+		SeatInventory inventory = inventoryOf(concertScheduleId, layout);
+
+		List<SeatResponse> availableSeats = new ArrayList<>();
+		for (SeatLayout seat : layout) {
+			if (!inventory.isTaken(seat.seatNumber())) {
+				availableSeats.add(new SeatResponse(concertScheduleId, schedule.getConcertTime(),
+						seat.seatId(), seat.seatNumber(), seat.seatGrade()));
+			}
+		}
+		return availableSeats;
+	}
+
+	/**
+	 * 등급 좌석 중 좌석 번호가 이어진 빈 좌석 블록 찾기 (좌석 번호가 작은 블록부터)
+	 *
+	 * 좌석 번호가 작을수록 좋은 자리로 보고, 앞에서부터 서로 겹치지 않는 블록을 최대 limit개 찾습니다.
+	 * 재고 기준이라 반영이 늦은 값일 수 있으므로, 찾은 블록은 좌석 홀드 단계에서 최종 확인해야 합니다.
+	 *
+	 * @param count 블록의 좌석 수
+	 * @param limit 찾을 최대 블록 수
+	 * @return 블록별 좌석 ID 목록 (좌석 번호 순)
+	 */
+	public List<List<Long>> findFreeBlocks(Long concertScheduleId, SeatGrade seatGrade, int count, int limit) {
+		List<SeatLayout> layout = seatLayoutOf(concertScheduleId);
+		if (layout.isEmpty() || count <= 0) {
+			return List.of();
+		}
+		GradeIndex gradeIndex = gradeIndexOf(concertScheduleId, layout);
+		long[] mask = gradeIndex.masks().get(seatGrade);
+		if (mask == null) {
+			return List.of();
+		}
+		SeatInventory inventory = inventoryOf(concertScheduleId, layout);
+
+		List<List<Long>> blocks = new ArrayList<>(limit);
+		int from = 0;
+		while (blocks.size() < limit) {
+			int start = inventory.findFreeRun(mask, count, from);
+			if (start < 0) {
+				break;
+			}
+			List<Long> seatIds = new ArrayList<>(count);
+			for (int seatNumber = start; seatNumber < start + count; seatNumber++) {
+				seatIds.add(gradeIndex.seatIds()[seatNumber]);
+			}
+			blocks.add(seatIds);
+			from = start + count;
+		}
+		return blocks;
+	}
+
+	/**
+	 * 좌석이 예약 불가로 표시되어 있는지 확인 (좌석 홀드 전 사전 확인용)
+	 *
+	 * 노드 로컬 재고를 먼저 보고, 없으면 Redis 비트맵이 있을 때만 읽습니다. (DB에서 만들지 않음)
+	 * 재고도 비트맵도 없거나 Redis 오류가 나면 알 수 없으므로 false를 돌려줍니다.
+	 * 반영이 늦은 값일 수 있으므로 true여도 최종 판단이 아니며, 호출자는 오래된 값으로 거절될 수 있음을 감안해야 합니다.
+	 *
+	 * @return 예약 불가로 표시되어 있으면 true, 예약 가능하거나 알 수 없으면 false
+	 */
+	public boolean isKnownTaken(Long concertScheduleId, int seatNumber) {
+		SeatInventory inventory = seatInventoryCache.get(concertScheduleId);
+		if (inventory != null) {
+			return inventory.isTaken(seatNumber);
+		}
+		byte[] bitmap;
+		try {
+			byte[] key = key(concertScheduleId).getBytes(StandardCharsets.UTF_8);
+			bitmap = redisTemplate.execute(
+					(RedisCallback<byte[]>) connection -> connection.stringCommands().getRange(key, 0, -1));
+		} catch (Exception e) {
+			log.warn("좌석 예약 가능 비트맵 조회 실패, 사전 확인 생략: concertScheduleId={}", concertScheduleId, e);
+			return false;
+		}
+		if (bitmap == null || bitmap.length == 0) {
+			return false;
+		}
+		ScheduleLayout scheduleLayout = scheduleLayouts.get(concertScheduleId);
+		if (scheduleLayout != null) {
+			List<SeatLayout> layout = scheduleLayout.seats();
+			// 좌석 배치를 알고 있는 일정은 재고로 만들어 다음 확인부터 Redis 없이 읽음
+			return seatInventoryCache.load(concertScheduleId, bitmap, layout.get(layout.size() - 1).seatNumber())
+					.isTaken(seatNumber);
+		}
+		return isSet(bitmap, seatNumber);
+	}
+
+	/**
+	 * 좌석을 예약 불가로 표시 (홀드, 결제 커밋 후)
+	 */
+	public void markTaken(Long concertScheduleId, int seatNumber) {
+		setBits(concertScheduleId, List.of(seatNumber), true);
+	}
+
+	/**
+	 * 좌석을 예약 가능으로 표시 (홀드 만료 후)
+	 */
+	public void markAvailable(Collection<Seat> seats) {
+		Map<Long, List<Integer>> bySchedule = new LinkedHashMap<>();
+		for (Seat seat : seats) {
+			bySchedule.computeIfAbsent(seat.getConcertSchedule().getConcertScheduleId(), id -> new ArrayList<>())
+					.add(seat.getSeatNumber());
+		}
+		bySchedule.forEach((concertScheduleId, seatNumbers) -> setBits(concertScheduleId, seatNumbers, false));
+	}
+
+	/**
+	 * 공연 일정의 비트맵 삭제 (일괄 변경 후, 다음 조회에서 DB 기준으로 다시 만듦)
+	 * 이 노드의 좌석 배치도 함께 버립니다. (다른 노드는 유휴 시간이 지나면 버림)
+	 */
+	public void evict(Long concertScheduleId) {
+		scheduleLayouts.remove(concertScheduleId);
+		seatInventoryCache.invalidate(concertScheduleId);
+		try {
+			redisTemplate.execute(EVICT_SCRIPT, List.of(key(concertScheduleId), versionKey(concertScheduleId)),
+					SeatInventoryCache.CHANNEL, concertScheduleId + "|evict", versionTtlMillis());
+		} catch (Exception e) {
+			log.error("좌석 예약 가능 비트맵 삭제 실패: concertScheduleId={}", concertScheduleId, e);
+		}
+	}
+
+	private void setBits(Long concertScheduleId, List<Integer> seatNumbers, boolean taken) {
+		// 이 노드의 재고에는 알림을 기다리지 않고 바로 반영
+		seatNumbers.forEach(seatNumber -> seatInventoryCache.apply(concertScheduleId, seatNumber, taken));
+
+		String bit = taken ? "1" : "0";
+		List<String> seatNumberArgs = seatNumbers.stream().map(String::valueOf).toList();
+		List<String> args = new ArrayList<>(seatNumbers.size() + 4);
+		args.add(SeatInventoryCache.CHANNEL);
+		args.add(concertScheduleId + "|" + bit + "|" + String.join(",", seatNumberArgs));
+		args.add(bit);
+		args.add(versionTtlMillis());
+		args.addAll(seatNumberArgs);
+		try {
+			redisTemplate.execute(SET_BITS_SCRIPT, List.of(key(concertScheduleId), versionKey(concertScheduleId)),
+					args.toArray());
+		} catch (Exception e) {
+			log.error("좌석 예약 가능 비트맵 변경 실패: concertScheduleId={}, seatNumbers={}", concertScheduleId, seatNumbers, e);
+		}
+	}
+
+	/**
+	 * 비트맵 조회 (없으면 DB에서 만들어 저장)
+	 */
+	private Bitmap bitmapOf(Long concertScheduleId) {
+		byte[] key = key(concertScheduleId).getBytes(StandardCharsets.UTF_8);
+		String version;
+		try {
+			byte[] bitmap = redisTemplate.execute(
+					(RedisCallback<byte[]>) connection -> connection.stringCommands().getRange(key, 0, -1));
+			if (bitmap != null && bitmap.length > 0) {
+				return new Bitmap(bitmap, true);
+			}
+			version = redisTemplate.opsForValue().get(versionKey(concertScheduleId));
+		} catch (Exception e) {
+			log.error("좌석 예약 가능 비트맵 조회 실패, DB에서 조회: concertScheduleId={}", concertScheduleId, e);
+			return new Bitmap(loadBitmap(concertScheduleId), false);
+		}
+
+		byte[] bitmap = loadBitmap(concertScheduleId);
+		try {
+			// 그 사이 다른 요청이 만든 비트맵(이후 변경이 반영되었을 수 있음)은 덮어쓰지 않음
+			Boolean stored = redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(key,
+					bitmap, Expiration.from(reservationProperties.getAvailabilityTtl()), RedisStringCommands.SetOption.ifAbsent()));
+			if (!Boolean.TRUE.equals(stored)) {
+				return new Bitmap(bitmap, false);
+			}
+			// DB를 읽는 동안의 변경은 비트맵이 없어 건너뛰었으므로, 버전이 바뀌었으면 방금 저장한 비트맵을 지움
+			Long discarded = redisTemplate.execute(DISCARD_IF_CHANGED_SCRIPT,
+					List.of(key(concertScheduleId), versionKey(concertScheduleId)), version == null ? "0" : version);
+			return new Bitmap(bitmap, discarded != null && discarded == 0L);
+		} catch (Exception e) {
+			log.error("좌석 예약 가능 비트맵 저장 실패: concertScheduleId={}", concertScheduleId, e);
+			return new Bitmap(bitmap, false);
+		}
+	}
+
+	/**
+	 * 공연 일정 재고 조회 (없거나 오래되었으면 비트맵으로 다시 만듦)
+	 * 최신 여부를 알 수 없는 비트맵은 이번 조회에만 쓰고 노드 로컬 재고에 두지 않습니다.
+	 */
+	private SeatInventory inventoryOf(Long concertScheduleId, List<SeatLayout> layout) {
+		SeatInventory inventory = seatInventoryCache.get(concertScheduleId);
+		if (inventory == null) {
+			// 좌석 배치는 좌석 번호 순이므로 마지막 좌석이 가장 큰 번호
+			int maxSeatNumber = layout.get(layout.size() - 1).seatNumber();
+			Bitmap bitmap = bitmapOf(concertScheduleId);
+			inventory = bitmap.current()
+					? seatInventoryCache.load(concertScheduleId, bitmap.bytes(), maxSeatNumber)
+					: SeatInventory.fromRedisBitmap(bitmap.bytes(), maxSeatNumber);
+		}
+		return inventory;
+	}
+
+	private byte[] loadBitmap(Long concertScheduleId) {
+		return toBitmap(seatRepository.findTakenSeatNumbers(concertScheduleId, SeatStatus.RESERVATION, ACTIVE_STATUSES));
+	}
+
+	private List<SeatLayout> seatLayoutOf(Long concertScheduleId) {
+		long now = System.nanoTime();
+		ScheduleLayout scheduleLayout = scheduleLayouts.get(concertScheduleId);
+		if (scheduleLayout != null) {
+			scheduleLayout.touch(now);
+			return scheduleLayout.seats();
+		}
+		List<SeatLayout> layout = seatRepository.findByConcertScheduleId(concertScheduleId).stream()
+				.map(seat -> new SeatLayout(seat.getSeatId(), seat.getSeatNumber(), seat.getSeatGrade()))
+				.toList();
+		if (!layout.isEmpty()) {
+			// 좌석이 아직 등록되지 않은 일정은 두지 않음
+			scheduleLayouts.put(concertScheduleId, new ScheduleLayout(layout, now));
+			evictScheduleLayouts(now);
+		}
+		return layout;
+	}
+
+	private GradeIndex gradeIndexOf(Long concertScheduleId, List<SeatLayout> layout) {
+		ScheduleLayout scheduleLayout = scheduleLayouts.get(concertScheduleId);
+		if (scheduleLayout == null || scheduleLayout.seats() != layout) {
+			// 그 사이 버려진 일정은 담아 두지 않고 이번 조회에만 사용
+			return GradeIndex.of(layout);
+		}
+		return scheduleLayout.gradeIndex();
+	}
+
+	/**
+	 * 유휴 시간 동안 조회되지 않은 일정(끝난 공연 일정)을 버리고, 그래도 최대 일정 수를 넘으면 가장 오래 조회되지 않은 일정을 버림
+	 * 새 일정을 담을 때만 호출되고 일정 수가 작으므로 전체를 훑습니다.
+	 */
+	private void evictScheduleLayouts(long now) {
+		long idleTtlNanos = reservationProperties.getInventory().getLayoutIdleTtl().toNanos();
+		scheduleLayouts.values().removeIf(scheduleLayout -> now - scheduleLayout.lastAccessNanos() >= idleTtlNanos);
+
+		int maxSchedules = reservationProperties.getInventory().getMaxSchedules();
+		while (scheduleLayouts.size() > maxSchedules) {
+			Map.Entry<Long, ScheduleLayout> eldest = null;
+			for (Map.Entry<Long, ScheduleLayout> entry : scheduleLayouts.entrySet()) {
+				if (eldest == null || entry.getValue().lastAccessNanos() < eldest.getValue().lastAccessNanos()) {
+					eldest = entry;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			scheduleLayouts.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	int layoutCount() {
+		return scheduleLayouts.size();
+	}
+
+	/**
+	 * 좌석 번호 목록을 Redis 비트맵 형식으로 변환 (SETBIT와 같이 오프셋 0이 첫 바이트의 최상위 비트)
+	 * 좌석 번호가 없어도 키가 만들어지도록 최소 1바이트를 돌려줍니다.
+	 */
+	static byte[] toBitmap(List<Integer> seatNumbers) {
+		int maxSeatNumber = seatNumbers.stream().mapToInt(Integer::intValue).max().orElse(0);
+		byte[] bitmap = new byte[maxSeatNumber / 8 + 1];
+		for (int seatNumber : seatNumbers) {
+			bitmap[seatNumber >>> 3] |= (byte) (0x80 >>> (seatNumber & 7));
+		}
+		return bitmap;
+	}
+
+	private static boolean isSet(byte[] bitmap, int seatNumber) {
+		int index = seatNumber >>> 3;
+		return seatNumber >= 0 && index < bitmap.length && (bitmap[index] & (0x80 >>> (seatNumber & 7))) != 0;
+	}
+
+	private static String key(Long concertScheduleId) {
+		return KEY_PREFIX + "{schedule:" + concertScheduleId + "}";
+	}
+
+	private static String versionKey(Long concertScheduleId) {
+		return key(concertScheduleId) + VERSION_SUFFIX;
+	}
+
+	/**
+	 * 변경 버전 유지 시간 (DB에서 비트맵을 만드는 시간보다 충분히 길면 되므로 비트맵 유지 시간을 씀)
+	 */
+	private String versionTtlMillis() {
+		return String.valueOf(reservationProperties.getAvailabilityTtl().toMillis());
+	}
+
+	/**
+	 * 조회한 비트맵
+	 *
+	 * @param current Redis에 저장된 최신 비트맵이면 true (노드 로컬 재고에 둘 수 있음),
+	 *                Redis 오류나 DB를 읽는 동안의 변경으로 최신 여부를 알 수 없으면 false
+	 */
+	private record Bitmap(byte[] bytes, boolean current) {
+	}
+
+	private record SeatLayout(Long seatId, int seatNumber, SeatGrade seatGrade) {
+	}
+
+	/**
+	 * 공연 일정 하나의 좌석 배치, 등급 좌석 색인(처음 쓸 때 만듦), 마지막 조회 시각
+	 */
+	private static final class ScheduleLayout {
+
+		private final List<SeatLayout> seats;
+
+		private volatile GradeIndex gradeIndex;
+
+		/**
+		 * 마지막 조회 시각 (LRU, 유휴 판단용, 정확할 필요가 없어 동기화하지 않음)
+		 */
+		private volatile long lastAccessNanos;
+
+		ScheduleLayout(List<SeatLayout> seats, long nowNanos) {
+			this.seats = seats;
+			this.lastAccessNanos = nowNanos;
+		}
+
+		List<SeatLayout> seats() {
+			return seats;
+		}
+
+		/**
+		 * 등급 좌석 색인 (동시에 처음 쓰면 여러 번 만들 수 있으나 결과가 같으므로 동기화하지 않음)
+		 */
+		GradeIndex gradeIndex() {
+			GradeIndex index = gradeIndex;
+			if (index == null) {
+				index = GradeIndex.of(seats);
+				gradeIndex = index;
+			}
+			return index;
+		}
+
+		long lastAccessNanos() {
+			return lastAccessNanos;
+		}
+
+		void touch(long nowNanos) {
+			lastAccessNanos = nowNanos;
+		}
+	}
+
+	/**
+	 * 등급별 좌석 비트(SeatInventory와 같은 배치)와 좌석 번호별 좌석 ID
+	 */
+	private record GradeIndex(Map<SeatGrade, long[]> masks, Long[] seatIds) {
+
+		static GradeIndex of(List<SeatLayout> layout) {
+			int maxSeatNumber = layout.get(layout.size() - 1).seatNumber();
+			int words = (maxSeatNumber + 64) >>> 6;
+			Map<SeatGrade, long[]> masks = new EnumMap<>(SeatGrade.class);
+			Long[] seatIds = new Long[maxSeatNumber + 1];
+			for (SeatLayout seat : layout) {
+				int seatNumber = seat.seatNumber();
+				masks.computeIfAbsent(seat.seatGrade(), grade -> new long[words])[seatNumber >>> 6] |= 1L << (seatNumber & 63);
+				seatIds[seatNumber] = seat.seatId();
+			}
+			return new GradeIndex(masks, seatIds);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package kr.hhplus.be.server.concert.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 공연 일정 하나의 노드 로컬 좌석 재고 (좌석 번호마다 1비트, 1 = 예약 불가)
+ *
+ * long[] 하나에 64석씩 담습니다. (1만 석 = long 157개, 약 1.2KB)
+ * - 조회(isTaken)는 배열 원소 하나를 읽는 비트 연산뿐이라 객체를 만들지 않습니다.
+ * - 변경(setTaken)은 원소 단위 CAS로 처리하여 같은 원소의 다른 좌석 변경과 섞여도 잃어버리지 않습니다.
+ * - 배열 크기는 만들 때 정해지며, 범위 밖 좌석 번호는 예약 가능으로 읽고 변경은 실패(false)로 알립니다.
+ * - 연속 빈 좌석 찾기(findFreeRun)는 좌석 번호 64개씩 원소 단위로 훑습니다.
+ */
+public final class SeatInventory {
+
+	private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final long[] words;
+	private final long loadedAtNanos;
+
+	/**
+	 * 마지막 조회 시각 (LRU 판단용, 정확할 필요가 없어 동기화하지 않음)
+	 */
+	private volatile long lastAccessNanos;
+
+	private SeatInventory(long[] words, long loadedAtNanos) {
+		this.words = words;
+		this.loadedAtNanos = loadedAtNanos;
+		this.lastAccessNanos = loadedAtNanos;
+	}
+
+	/**
+	 * Redis 비트맵(오프셋 0이 첫 바이트의 최상위 비트)으로 재고 생성
+	 *
+	 * @param bitmap Redis 비트맵 바이트
+	 * @param maxSeatNumber 담을 수 있어야 하는 가장 큰 좌석 번호 (비트맵이 더 짧아도 이 번호까지 변경 가능)
+	 */
+	public static SeatInventory fromRedisBitmap(byte[] bitmap, int maxSeatNumber) {
+		int bits = Math.max(maxSeatNumber + 1, bitmap.length * 8);
+		long[] words = new long[(bits + 63) >>> 6];
+		for (int i = 0; i < bitmap.length; i++) {
+			int value = bitmap[i] & 0xFF;
+			while (value != 0) {
+				int highest = Integer.numberOfLeadingZeros(value) - 24;
+				int seatNumber = (i << 3) + highest;
+				words[seatNumber >>> 6] |= 1L << (seatNumber & 63);
+				value &= ~(0x80 >>> highest);
+			}
+		}
+		return new SeatInventory(words, System.nanoTime());
+	}
+
+	public boolean isTaken(int seatNumber) {
+		int index = seatNumber >>> 6;
+		if (seatNumber < 0 || index >= words.length) {
+			return false;
+		}
+		return ((long) WORDS.getAcquire(words, index) & (1L << (seatNumber & 63))) != 0;
+	}
+
+	/**
+	 * 좌석 비트 변경
+	 *
+	 * @return 반영 여부 (좌석 번호가 범위 밖이면 false)
+	 */
+	public boolean setTaken(int seatNumber, boolean taken) {
+		int index = seatNumber >>> 6;
+		if (seatNumber < 0 || index >= words.length) {
+			return false;
+		}
+		long mask = 1L << (seatNumber & 63);
+		long current;
+		long updated;
+		do {
+			current = (long) WORDS.getVolatile(words, index);
+			updated = taken ? current | mask : current & ~mask;
+		} while (current != updated && !WORDS.compareAndSet(words, index, current, updated));
+		return true;
+	}
+
+	/**
+	 * 후보 좌석(mask) 중 예약 가능한 좌석이 좌석 번호로 length개 이어진 첫 구간 찾기
+	 *
+	 * 원소마다 (후보 & ~예약 불가)를 만든 뒤 trailing zero 개수로 빈 구간의 시작과 길이를 건너뛰며 셉니다.
+	 * 원소 경계를 넘는 구간도 이어서 셉니다.
+	 *
+	 * @param mask 후보 좌석 비트 (재고와 같은 배치, 예: 같은 등급의 좌석)
+	 * @param length 필요한 연속 좌석 수 (1 이상)
+	 * @param fromSeatNumber 이 좌석 번호부터 찾음
+	 * @return 구간의 첫 좌석 번호 (없으면 -1)
+	 */
+	public int findFreeRun(long[] mask, int length, int fromSeatNumber) {
+		int limit = Math.min(mask.length, words.length);
+		int runStart = -1;
+		int runLength = 0;
+		for (int index = Math.max(fromSeatNumber, 0) >>> 6; index < limit; index++) {
+			long free = mask[index] & ~(long) WORDS.getAcquire(words, index);
+			if (index == fromSeatNumber >>> 6) {
+				free &= -1L << (fromSeatNumber & 63);
+			}
+			int bit = 0;
+			while (bit < 64) {
+				long rest = free >>> bit;
+				if (runLength == 0) {
+					if (rest == 0) {
+						break;
+					}
+					bit += Long.numberOfTrailingZeros(rest);
+					runStart = (index << 6) + bit;
+					rest = free >>> bit;
+				}
+				int ones = Long.numberOfTrailingZeros(~rest);
+				runLength += ones;
+				bit += ones;
+				if (runLength >= length) {
+					return runStart;
+				}
+				if (bit < 64) {
+					// 원소 안에서 구간이 끊김
+					runLength = 0;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 재고 비트 배열이 차지하는 힙 크기 (배열 헤더 16바이트 + 원소, 이 객체 자체 제외)
+	 */
+	public long sizeInBytes() {
+		return 16L + (long) words.length * Long.BYTES;
+	}
+
+	long loadedAtNanos() {
+		return loadedAtNanos;
+	}
+
+	long lastAccessNanos() {
+		return lastAccessNanos;
+	}
+
+	void touch(long nowNanos) {
+		lastAccessNanos = nowNanos;
+	}
+}
@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.concert.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.config.ReservationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 좌석 재고 캐시 (자주 조회되는 공연 일정만, LRU)
+ *
+ * Redis 좌석 예약 가능 비트맵(SeatAvailabilityService)을 공연 일정별 SeatInventory(long[] 비트셋)로 복사해 둡니다.
+ * - 최대 일정 수(hhplus.reservation.inventory.max-schedules)를 넘으면 가장 오래 조회되지 않은 일정을 버립니다.
+ * - 비트맵 변경 스크립트가 CHANNEL로 변경 내용을 발행하면 모든 노드가 자기 재고에 반영합니다.
+ *   (Redis에서 비트맵을 바꾼 순서대로 발행되므로 노드마다 같은 순서로 반영됩니다)
+ * - Pub/Sub은 전달을 보장하지 않으므로 재고는 갱신 주기(hhplus.reservation.inventory.refresh-interval)가 지나면 버리고 다시 읽습니다.
+ * - 조회용 값이며, 예약 가능 여부의 최종 판단은 좌석 홀드 단계에서 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryCache implements MessageListener {
+
+	/**
+	 * 좌석 비트 변경 알림 채널
+	 * 메시지: "{공연 일정 ID}|{1 = 예약 불가, 0 = 예약 가능}|{좌석 번호},{좌석 번호}..." 또는 "{공연 일정 ID}|evict"
+	 */
+	public static final String CHANNEL = "seat-availability:changed";
+
+	private final ReservationProperties reservationProperties;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Map<Long, SeatInventory> inventories = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 공연 일정 재고 조회 (없거나 갱신 주기가 지났으면 null)
+	 */
+	public SeatInventory get(Long concertScheduleId) {
+		SeatInventory inventory = inventories.get(concertScheduleId);
+		if (inventory == null) {
+			return null;
+		}
+		long now = System.nanoTime();
+		if (now - inventory.loadedAtNanos() >= reservationProperties.getInventory().getRefreshInterval().toNanos()) {
+			inventories.remove(concertScheduleId, inventory);
+			return null;
+		}
+		inventory.touch(now);
+		return inventory;
+	}
+
+	/**
+	 * Redis 비트맵으로 공연 일정 재고를 만들어 둠 (최대 일정 수를 넘으면 가장 오래 조회되지 않은 일정을 버림)
+	 */
+	public SeatInventory load(Long concertScheduleId, byte[] bitmap, int maxSeatNumber) {
+		SeatInventory inventory = SeatInventory.fromRedisBitmap(bitmap, maxSeatNumber);
+		inventories.put(concertScheduleId, inventory);
+		evictLeastRecentlyUsed();
+		return inventory;
+	}
+
+	/**
+	 * 좌석 비트 반영 (재고가 있을 때만)
+	 * 좌석 번호가 재고 범위 밖이면 재고를 버려 다음 조회에서 다시 만들게 합니다.
+	 */
+	public void apply(Long concertScheduleId, int seatNumber, boolean taken) {
+		SeatInventory inventory = inventories.get(concertScheduleId);
+		if (inventory != null && !inventory.setTaken(seatNumber, taken)) {
+			inventories.remove(concertScheduleId, inventory);
+		}
+	}
+
+	public void invalidate(Long concertScheduleId) {
+		inventories.remove(concertScheduleId);
+	}
+
+	int size() {
+		return inventories.size();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			String[] fields = body.split("\\|", 3);
+			Long concertScheduleId = Long.valueOf(fields[0]);
+			if ("evict".equals(fields[1])) {
+				invalidate(concertScheduleId);
+				return;
+			}
+			boolean taken = "1".equals(fields[1]);
+			for (String seatNumber : fields[2].split(",")) {
+				apply(concertScheduleId, Integer.parseInt(seatNumber), taken);
+			}
+		} catch (RuntimeException e) {
+			log.warn("좌석 재고 변경 알림 처리 실패: message={}", body, e);
+		}
+	}
+
+	/**
+	 * 최대 일정 수를 넘은 만큼 가장 오래 조회되지 않은 일정을 버림
+	 * 새 일정을 담을 때만 호출되고 일정 수가 작으므로 전체를 훑습니다.
+	 */
+	private void evictLeastRecentlyUsed() {
+		int maxSchedules = reservationProperties.getInventory().getMaxSchedules();
+		while (inventories.size() > maxSchedules) {
+			Map.Entry<Long, SeatInventory> eldest = null;
+			for (Map.Entry<Long, SeatInventory> entry : inventories.entrySet()) {
+				if (eldest == null || entry.getValue().lastAccessNanos() < eldest.getValue().lastAccessNanos()) {
+					eldest = entry;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			inventories.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 데이터 플랫폼 예약 정보 전송 설정 (application.yml의 hhplus.data-platform.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hhplus.data-platform")
+public class DataPlatformProperties {
+
+	/**
+	 * 전송 사용 여부 (기본 꺼짐, 끄면 커밋된 이벤트를 버퍼에 넣지 않고 전송 스레드도 시작하지 않음)
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * 이벤트 묶음을 받을 데이터 플랫폼 API 주소 (gzip 압축한 JSON 배열을 POST, 켰으면 반드시 지정)
+	 */
+	private String endpoint;
+
+	/**
+	 * 전송 대기 버퍼 크기 (가득 차면 새 이벤트는 버리고 dataplatform.events{outcome=dropped}로 셈)
+	 */
+	private int bufferCapacity = 10_000;
+
+	/**
+	 * 한 번에 보내는 최대 이벤트 수 (이만큼 모이면 시간 창을 기다리지 않고 보냄)
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * 묶음의 첫 이벤트부터 보낼 때까지 기다리는 최대 시간
+	 */
+	private Duration flushInterval = Duration.ofSeconds(1);
+
+	/**
+	 * 묶음 하나의 최대 전송 시도 수 (모두 실패하면 디스크 파일에 남김)
+	 */
+	private int maxAttempts = 3;
+
+	/**
+	 * 첫 재시도 대기 시간 (재시도마다 두 배)
+	 */
+	private Duration retryBackoff = Duration.ofMillis(200);
+
+	private Duration connectTimeout = Duration.ofSeconds(1);
+
+	private Duration readTimeout = Duration.ofSeconds(3);
+
+	/**
+	 * 전송하지 못한 이벤트를 남기는 파일 (한 줄에 이벤트 하나, JSON)
+	 */
+	private String spillPath = "data-platform-spill.jsonl";
+
+	/**
+	 * 남긴 이벤트를 다시 보내 보는 주기 (남긴 이벤트가 있는 동안에는 새 묶음도 재시도 없이 바로 파일에 남김)
+	 */
+	private Duration spillRetryInterval = Duration.ofSeconds(30);
+
+	/**
+	 * 남김 파일 최대 크기 (넘으면 더 남기지 않고 버림)
+	 */
+	private DataSize spillMaxSize = DataSize.ofMegabytes(100);
+}
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분산락 설정 (application.yml의 hhplus.lock.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hhplus.lock")
+public class DistributedLockProperties {
+
+	/**
+	 * 공정(FIFO) 모드로 동작할 락 키 접두사 (기본값: 없음)
+	 * 비어 있으면 모든 락이 비공정 모드(SETNX 경쟁)로 동작합니다.
+	 * 티켓 오픈처럼 좌석 락에 경합이 몰리는 배포에서는 "seat:"를 지정하는 것을 권장합니다.
+	 */
+	private List<String> fairKeyPrefixes = new ArrayList<>();
+
+	/**
+	 * 경합 키 추적기가 유지하는 최대 카운터 수 (메모리 상한)
+	 */
+	private int hotKeyCapacity = 512;
+
+	/**
+	 * 경합 키 초당 실패율 계산 창
+	 */
+	private Duration hotKeyWindow = Duration.ofMinutes(1);
+
+	/**
+	 * 비동기 락(executeWithLockAsync)의 획득 시도와 락 안의 작업을 실행할 스레드 수
+	 * 락을 기다리는 동안에는 스레드를 사용하지 않습니다.
+	 */
+	private int asyncThreads = 16;
+
+	/**
+	 * 접두사 설정에 해당하지 않는 락 키에 사용할 백엔드 (redis, mysql, memory)
+	 */
+	private String defaultProvider = "redis";
+
+	/**
+	 * 백엔드별로 담당할 락 키 접두사 (예: memory: ["point:"])
+	 * 여러 백엔드의 접두사에 해당하면 가장 긴 접두사를 따릅니다.
+	 */
+	private Map<String, List<String>> providerKeyPrefixes = new HashMap<>();
+
+	/**
+	 * mysql 백엔드가 GET_LOCK 세션을 유지하는 전용 커넥션 풀 크기
+	 * 락을 보유하거나 기다리는 동안 커넥션 하나를 점유하므로 애플리케이션 풀과 분리합니다.
+	 */
+	private int mysqlPoolSize = 10;
+
+	/**
+	 * 락 키별 최대 대기자 수 (모든 노드 합계, 0이면 제한 없음)
+	 * 이미 이만큼 기다리고 있으면 새 요청은 기다리지 않고 바로 LockContendedException으로 실패합니다.
+	 */
+	private int maxWaitersPerKey = 64;
+
+	/**
+	 * 세마포어 이름별 동시 실행 허가 수 (예: payment: 2)
+	 * 설정이 없거나 0 이하면 제한 없이 바로 실행합니다. 전역/공연 일정별 범위는 사용하는 쪽이 정합니다.
+	 */
+	private Map<String, Integer> permits = new HashMap<>();
+
+	public int permitsOf(String semaphoreName) {
+		Integer configured = permits.get(semaphoreName);
+		return configured != null ? configured : 0;
+	}
+
+	public boolean isFair(String lockKey) {
+		for (String prefix : fairKeyPrefixes) {
+			if (lockKey.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
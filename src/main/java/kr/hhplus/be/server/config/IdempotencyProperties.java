@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP 멱등성 키 설정 (application.yml의 hhplus.idempotency.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hhplus.idempotency")
+public class IdempotencyProperties {
+
+	/**
+	 * 사용 여부 (끄면 Idempotency-Key 헤더가 있어도 응답을 저장하지 않고 유스케이스의 멱등성 처리만 사용)
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 적용할 요청 경로 패턴 (Ant 스타일, POST/PUT/PATCH/DELETE 요청만 적용)
+	 */
+	private List<String> pathPatterns = new ArrayList<>(List.of("/api/v1/reservation/**"));
+
+	/**
+	 * 처리 중 표시 유지 시간 (요청 처리 시간보다 길어야 함, 처리 노드가 죽으면 이 시간 뒤에 같은 키로 다시 실행 가능)
+	 */
+	private Duration inFlightTtl = Duration.ofSeconds(30);
+
+	/**
+	 * 완료된 응답 보관 시간 (이 시간 안의 같은 키 재요청은 저장된 상태 코드와 본문을 그대로 받음)
+	 */
+	private Duration replayTtl = Duration.ofHours(24);
+
+	/**
+	 * 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간 (요청 스레드를 반납하고 기다림, 넘으면 409와 Retry-After로 응답)
+	 */
+	private Duration waitTimeout = Duration.ofSeconds(3);
+
+	/**
+	 * 완료 알림을 놓쳤을 때를 대비해 처리 중인 요청의 결과를 다시 확인하는 간격
+	 */
+	private Duration recheckInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,196 @@
+package kr.hhplus.be.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 좌석 예약 설정 (application.yml의 hhplus.reservation.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hhplus.reservation")
+public class ReservationProperties {
+
+	/**
+	 * 좌석 홀드 방식
+	 */
+	private HoldStrategy holdStrategy = HoldStrategy.LOCK;
+
+	/**
+	 * 좌석 홀드 유지 시간
+	 */
+	private Duration holdDuration = Duration.ofMinutes(10);
+
+	/**
+	 * Redis 우선 홀드의 쓰기 지연 저장 설정
+	 */
+	private WriteBehind writeBehind = new WriteBehind();
+
+	/**
+	 * 좌석 예약 가능 비트맵 유지 시간 (지나면 DB에서 다시 만듦)
+	 */
+	private Duration availabilityTtl = Duration.ofMinutes(5);
+
+	/**
+	 * 좌석 락, 트랜잭션 전에 예약 가능 비트맵으로 이미 예약된 좌석 요청을 거절할지 여부 (lock, conditional-update 방식)
+	 */
+	private boolean admissionFilter = true;
+
+	/**
+	 * 여러 좌석 함께 예약 시 한 번에 홀드할 수 있는 최대 좌석 수
+	 */
+	private int maxSeatsPerHold = 8;
+
+	/**
+	 * 노드 로컬 좌석 재고 캐시 설정
+	 */
+	private Inventory inventory = new Inventory();
+
+	/**
+	 * 좌석 예약이 노드 메모리에 두는 좌석 기준 정보(공연 일정, 좌석 번호, 가격) 설정
+	 */
+	private SeatCache seatCache = new SeatCache();
+
+	/**
+	 * 공연 일정별 매진 카운터 설정
+	 */
+	private SoldOut soldOut = new SoldOut();
+
+	/**
+	 * 결제 후처리 아웃박스 전달 설정
+	 */
+	private Outbox outbox = new Outbox();
+
+	public enum HoldStrategy {
+		/**
+		 * 좌석 분산락 + SELECT FOR UPDATE + 활성 홀드 조회로 좌석을 선점
+		 */
+		LOCK,
+		/**
+		 * 분산락 없이 조건부 UPDATE(NON_RESERVATION → RESERVATION) 한 번으로 좌석을 선점하고 영향받은 행 수로 판단
+		 */
+		CONDITIONAL_UPDATE,
+		/**
+		 * Redis Lua 스크립트 한 번으로 홀드를 확정하고 바로 응답, 예약 행은 쓰기 지연 작업이 묶음으로 저장
+		 */
+		REDIS_FIRST
+	}
+
+	@Getter
+	@Setter
+	public static class WriteBehind {
+
+		/**
+		 * 저장 대기열 확인 주기 (@Scheduled에서 직접 읽음)
+		 */
+		private Duration interval = Duration.ofMillis(200);
+
+		/**
+		 * 한 트랜잭션에 저장할 최대 홀드 수
+		 */
+		private int batchSize = 100;
+
+		/**
+		 * 정합성 점검 주기 (@Scheduled에서 직접 읽음)
+		 */
+		private Duration reconcileInterval = Duration.ofSeconds(30);
+
+		/**
+		 * 홀드 후 이 시간이 지나도 DB에 없으면 저장이 유실된 것으로 보고 다시 대기열에 넣음
+		 */
+		private Duration reconcileGrace = Duration.ofSeconds(30);
+
+		/**
+		 * 노드가 Redis 예약 ID 카운터에서 한 번에 받아 두는 예약 ID 개수
+		 */
+		private int idBlockSize = 100;
+	}
+
+	@Getter
+	@Setter
+	public static class Inventory {
+
+		/**
+		 * 노드에 둘 최대 공연 일정 수 (넘으면 가장 오래 조회되지 않은 일정을 버림)
+		 */
+		private int maxSchedules = 256;
+
+		/**
+		 * 이 시간이 지난 재고는 버리고 Redis 비트맵에서 다시 읽음 (변경 알림 유실 대비)
+		 */
+		private Duration refreshInterval = Duration.ofSeconds(5);
+
+		/**
+		 * 이 시간 동안 조회되지 않은 공연 일정(끝난 공연 일정)의 좌석 배치는 버림
+		 */
+		private Duration layoutIdleTtl = Duration.ofMinutes(30);
+	}
+
+	@Getter
+	@Setter
+	public static class SeatCache {
+
+		/**
+		 * 노드에 둘 최대 좌석 수 (넘으면 가장 오래전에 읽은 좌석부터 버림)
+		 */
+		private int maxSeats = 100_000;
+
+		/**
+		 * 이 시간이 지난 좌석 정보는 DB에서 다시 읽음 (공연 가격 변경이 반영되기까지의 최대 시간)
+		 */
+		private Duration ttl = Duration.ofMinutes(1);
+	}
+
+	@Getter
+	@Setter
+	public static class SoldOut {
+
+		/**
+		 * 매진 카운터를 DB 기준으로 다시 맞추는 주기 (@Scheduled에서 직접 읽음)
+		 */
+		private Duration reconcileInterval = Duration.ofMinutes(1);
+	}
+
+	@Getter
+	@Setter
+	public static class Outbox {
+
+		/**
+		 * 아웃박스 확인 주기 (@Scheduled에서 직접 읽음)
+		 */
+		private Duration pollInterval = Duration.ofMillis(200);
+
+		/**
+		 * 한 번에 가져갈 최대 이벤트 수
+		 */
+		private int batchSize = 100;
+
+		/**
+		 * 최대 전달 시도 수 (넘으면 FAILED로 남기고 더 시도하지 않음)
+		 */
+		private int maxAttempts = 10;
+
+		/**
+		 * 첫 재시도 대기 시간 (시도마다 두 배, 최대 maxRetryBackoff)
+		 */
+		private Duration retryBackoff = Duration.ofSeconds(1);
+
+		/**
+		 * 최대 재시도 대기 시간
+		 */
+		private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+		/**
+		 * 가져간 뒤 이 시간이 지나도 끝나지 않은 이벤트는 노드가 죽은 것으로 보고 다시 가져감
+		 */
+		private Duration claimTimeout = Duration.ofSeconds(30);
+
+		/**
+		 * 전달 완료 이벤트 보관 기간
+		 */
+		private Duration retention = Duration.ofDays(1);
+	}
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.dataplatform.client;
+
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 데이터 플랫폼 (mock) API 클라이언트
+ *
+ * gzip으로 압축한 이벤트 JSON 배열을 hhplus.data-platform.endpoint로 POST 합니다.
+ */
+@Component
+public class DataPlatformClient {
+
+	private final RestClient restClient;
+	private final DataPlatformProperties properties;
+
+	public DataPlatformClient(DataPlatformProperties properties) {
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(properties.getConnectTimeout());
+		requestFactory.setReadTimeout(properties.getReadTimeout());
+		this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+		this.properties = properties;
+	}
+
+	/**
+	 * 이벤트 묶음 전송
+	 *
+	 * @param gzippedBody gzip으로 압축한 이벤트 JSON 배열
+	 * @throws RestClientException 연결 실패, 제한 시간 초과, 2xx가 아닌 응답인 경우
+	 */
+	public void send(byte[] gzippedBody) {
+		restClient.post()
+				.uri(properties.getEndpoint())
+				.contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+				.body(gzippedBody)
+				.retrieve()
+				.toBodilessEntity();
+	}
+}
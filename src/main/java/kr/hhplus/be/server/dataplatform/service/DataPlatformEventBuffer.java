@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 플랫폼 전송 대기 버퍼 (크기 제한 있는 메모리 큐)
+ *
+ * 요청 스레드(커밋 직후 리스너)는 기다리지 않고 넣기만 하며, 전송 스레드(DataPlatformSender)가 묶음으로 꺼냅니다.
+ * 데이터 플랫폼이 느리거나 내려가 전송이 밀려도 요청이 막히지 않도록, 가득 차면 새 이벤트는 버리고 메트릭으로 셉니다.
+ */
+@Slf4j
+@Component
+public class DataPlatformEventBuffer {
+
+	private final BlockingQueue<ReservationEvent> queue;
+	private final DataPlatformMetrics metrics;
+	private volatile boolean dropping;
+
+	public DataPlatformEventBuffer(DataPlatformProperties properties, DataPlatformMetrics metrics) {
+		this.queue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+		this.metrics = metrics;
+		metrics.registerBuffer(queue);
+	}
+
+	/**
+	 * 이벤트 넣기 (기다리지 않음)
+	 *
+	 * @return 넣었으면 true, 버퍼가 가득 차 버렸으면 false
+	 */
+	public boolean offer(ReservationEvent event) {
+		if (queue.offer(event)) {
+			dropping = false;
+			return true;
+		}
+		metrics.recordDropped(1);
+		if (!dropping) {
+			// 가득 찬 동안 이벤트마다 남기지 않도록 처음 한 번만 기록
+			dropping = true;
+			log.warn("데이터 플랫폼 전송 버퍼가 가득 차 이벤트를 버립니다. capacity={}", queue.size());
+		}
+		return false;
+	}
+
+	/**
+	 * 묶음 하나를 꺼냄
+	 *
+	 * 첫 이벤트를 최대 window만큼 기다리고, 첫 이벤트부터 window가 지나거나 maxSize개가 모이면 돌려줍니다.
+	 * 기다리는 중에 중단되면 그때까지 꺼낸 이벤트를 돌려주고 중단 상태를 유지합니다. (꺼낸 이벤트를 잃지 않도록)
+	 *
+	 * @return 꺼낸 이벤트 (window 동안 이벤트가 없으면 빈 목록)
+	 */
+	List<ReservationEvent> drain(int maxSize, Duration window) {
+		List<ReservationEvent> batch = new ArrayList<>();
+		try {
+			ReservationEvent first = queue.poll(window.toNanos(), TimeUnit.NANOSECONDS);
+			if (first == null) {
+				return batch;
+			}
+			batch.add(first);
+			long deadline = System.nanoTime() + window.toNanos();
+			while (batch.size() < maxSize) {
+				queue.drainTo(batch, maxSize - batch.size());
+				long remaining = deadline - System.nanoTime();
+				if (batch.size() >= maxSize || remaining <= 0) {
+					break;
+				}
+				ReservationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+				if (next == null) {
+					break;
+				}
+				batch.add(next);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return batch;
+	}
+
+	/**
+	 * 남은 이벤트를 모두 꺼냄 (종료 시)
+	 */
+	List<ReservationEvent> drainAll() {
+		List<ReservationEvent> rest = new ArrayList<>();
+		queue.drainTo(rest);
+		return rest;
+	}
+
+	public int size() {
+		return queue.size();
+	}
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 예약 이벤트를 데이터 플랫폼 전송 버퍼에 넣는 리스너
+ *
+ * 예약/결제 트랜잭션이 커밋된 뒤 같은 요청 스레드에서 호출되며, 버퍼에 넣기만 하므로 요청 지연에 HTTP 왕복이 더해지지 않습니다.
+ * 롤백된 트랜잭션의 이벤트는 호출되지 않으므로 데이터 플랫폼에는 확정된 예약 정보만 전송됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataPlatformEventListener {
+
+	private final DataPlatformEventBuffer buffer;
+	private final DataPlatformProperties properties;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onCommitted(ReservationEvent event) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		buffer.offer(event);
+	}
+}
@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 데이터 플랫폼 전송 메트릭 (Micrometer, /actuator/metrics로 조회)
+ *
+ * - dataplatform.buffer: 전송 대기 버퍼에 있는 이벤트 수
+ * - dataplatform.send: 묶음 하나를 보내는 데 걸린 시간 (재시도 포함, 히스토그램)
+ * - dataplatform.events: 이벤트 처리 결과 수 (outcome=sent|spilled|dropped)
+ */
+@Component
+public class DataPlatformMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Timer send;
+	private final Counter sent;
+	private final Counter spilled;
+	private final Counter dropped;
+
+	public DataPlatformMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.send = Timer.builder("dataplatform.send")
+				.description("데이터 플랫폼으로 이벤트 묶음을 보내는 데 걸린 시간")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.sent = Counter.builder("dataplatform.events")
+				.description("데이터 플랫폼 이벤트 처리 결과 수")
+				.tag("outcome", "sent")
+				.register(meterRegistry);
+		this.spilled = Counter.builder("dataplatform.events")
+				.description("데이터 플랫폼 이벤트 처리 결과 수")
+				.tag("outcome", "spilled")
+				.register(meterRegistry);
+		this.dropped = Counter.builder("dataplatform.events")
+				.description("데이터 플랫폼 이벤트 처리 결과 수")
+				.tag("outcome", "dropped")
+				.register(meterRegistry);
+	}
+
+	void registerBuffer(Collection<?> buffer) {
+		Gauge.builder("dataplatform.buffer", buffer, Collection::size)
+				.description("데이터 플랫폼 전송 대기 이벤트 수")
+				.register(meterRegistry);
+	}
+
+	void recordSent(int count, Duration elapsed) {
+		send.record(elapsed);
+		sent.increment(count);
+	}
+
+	void recordSpilled(int count) {
+		spilled.increment(count);
+	}
+
+	void recordDropped(int count) {
+		dropped.increment(count);
+	}
+
+	public double sentCount() {
+		return sent.count();
+	}
+
+	public double spilledCount() {
+		return spilled.count();
+	}
+
+	public double droppedCount() {
+		return dropped.count();
+	}
+}
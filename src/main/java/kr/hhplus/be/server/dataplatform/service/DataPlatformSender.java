@@ -0,0 +1,181 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.dataplatform.client.DataPlatformClient;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 데이터 플랫폼 이벤트 전송 스레드
+ *
+ * 전송 대기 버퍼(DataPlatformEventBuffer)에서 batch-size개가 모이거나 첫 이벤트부터 flush-interval이 지나면
+ * 묶음을 gzip 압축한 JSON 배열로 한 번에 POST 합니다. 요청 스레드와 분리된 전용 스레드 하나에서 동작합니다.
+ *
+ * 실패 처리:
+ * - 묶음마다 최대 max-attempts번 시도하며, 재시도 대기 시간은 retry-backoff부터 두 배씩 늘어납니다.
+ * - 모두 실패하면 묶음을 디스크 파일(DataPlatformSpillFile)에 남깁니다.
+ * - 파일에 남긴 이벤트가 있는 동안에는 데이터 플랫폼이 내려가 있는 것으로 보고, 새 묶음도 시도 없이 파일 뒤에 남깁니다.
+ *   spill-retry-interval마다 파일의 이벤트를 처음부터 다시 보내 보고, 모두 보내면 파일을 지웁니다. (보내는 순서 유지)
+ * - 종료 시 보내던 묶음(재시도 대기 중 포함)과 버퍼에 남은 이벤트는 파일에 남겨 다음 실행에서 보냅니다.
+ *
+ * 전달은 적어도 한 번이므로 (응답을 받지 못한 묶음의 재시도 등) 받는 쪽은 예약 ID와 종류로 중복을 걸러야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataPlatformSender {
+
+	private final DataPlatformEventBuffer buffer;
+	private final DataPlatformClient client;
+	private final DataPlatformSpillFile spillFile;
+	private final DataPlatformMetrics metrics;
+	private final DataPlatformProperties properties;
+	private final ObjectMapper objectMapper;
+
+	private volatile boolean running;
+	private Thread thread;
+	private long nextReplayAt;
+
+	@PostConstruct
+	void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		if (!StringUtils.hasText(properties.getEndpoint())) {
+			throw new IllegalStateException("데이터 플랫폼 전송을 켜려면 hhplus.data-platform.endpoint를 지정해야 합니다.");
+		}
+		running = true;
+		thread = new Thread(this::run, "data-platform-sender");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (thread == null) {
+			return;
+		}
+		running = false;
+		thread.interrupt();
+		// 보내던 묶음을 전송 스레드가 먼저 파일에 남기도록 요청 하나가 끝날 만큼 기다림 (남기는 순서 유지)
+		thread.join(properties.getConnectTimeout().plus(properties.getReadTimeout()).toMillis());
+		spill(buffer.drainAll());
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				flushOnce();
+				if (System.currentTimeMillis() >= nextReplayAt) {
+					nextReplayAt = System.currentTimeMillis() + properties.getSpillRetryInterval().toMillis();
+					replaySpilled();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("데이터 플랫폼 전송 중 오류 발생", e);
+			}
+		}
+	}
+
+	/**
+	 * 묶음 하나를 모아 보내거나 파일에 남김
+	 *
+	 * 모으거나 보내는 중에 중단되면(종료) 버퍼에서 꺼낸 묶음을 파일에 남긴 뒤 InterruptedException을 던집니다.
+	 *
+	 * @return 꺼낸 이벤트 수
+	 */
+	int flushOnce() throws InterruptedException {
+		List<ReservationEvent> batch = buffer.drain(properties.getBatchSize(), properties.getFlushInterval());
+		if (Thread.interrupted()) {
+			spill(batch);
+			throw new InterruptedException();
+		}
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		try {
+			if (!spillFile.isEmpty() || !send(batch, properties.getMaxAttempts())) {
+				spill(batch);
+			}
+		} catch (InterruptedException e) {
+			spill(batch);
+			throw e;
+		}
+		return batch.size();
+	}
+
+	/**
+	 * 파일에 남긴 이벤트를 앞에서부터 묶음으로 다시 보냄 (묶음마다 한 번만 시도, 실패하면 멈추고 나머지는 파일에 둠)
+	 *
+	 * @return 보낸 이벤트 수
+	 */
+	int replaySpilled() throws InterruptedException {
+		int sent = spillFile.replay(properties.getBatchSize(), batch -> send(batch, 1));
+		if (sent > 0) {
+			log.info("데이터 플랫폼 남김 파일의 이벤트를 다시 보냈습니다. sent={}", sent);
+		}
+		return sent;
+	}
+
+	private boolean send(List<ReservationEvent> batch, int maxAttempts) throws InterruptedException {
+		byte[] body = compress(batch);
+		long started = System.nanoTime();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				client.send(body);
+				metrics.recordSent(batch.size(), Duration.ofNanos(System.nanoTime() - started));
+				return true;
+			} catch (RestClientException e) {
+				if (attempt >= maxAttempts) {
+					log.warn("데이터 플랫폼 전송 실패: size={}, attempts={}", batch.size(), attempt, e);
+					return false;
+				}
+				Thread.sleep(backoff(attempt).toMillis());
+			}
+		}
+	}
+
+	private void spill(List<ReservationEvent> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		int spilled = spillFile.append(batch);
+		metrics.recordSpilled(spilled);
+		if (spilled < batch.size()) {
+			metrics.recordDropped(batch.size() - spilled);
+			log.error("데이터 플랫폼 남김 파일이 최대 크기를 넘어 이벤트를 버립니다. size={}", batch.size() - spilled);
+		}
+	}
+
+	/**
+	 * 재시도 대기 시간 (retryBackoff * 2^(attempt - 1))
+	 */
+	Duration backoff(int attempt) {
+		return properties.getRetryBackoff().multipliedBy(1L << Math.min(attempt - 1, 10));
+	}
+
+	private byte[] compress(List<ReservationEvent> batch) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+			objectMapper.writeValue(gzip, batch);
+		} catch (IOException e) {
+			throw new IllegalStateException("데이터 플랫폼 이벤트를 압축할 수 없습니다.", e);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보내지 못한 데이터 플랫폼 이벤트를 남기는 디스크 파일 (한 줄에 이벤트 하나, JSON)
+ *
+ * 데이터 플랫폼이 내려가 있는 동안 메모리 버퍼가 넘치지 않도록 실패한 묶음을 여기에 옮기고, 다시 보낼 수 있게 되면 비웁니다.
+ * 전송 스레드(DataPlatformSender) 하나만 읽고 쓰므로 파일 잠금은 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class DataPlatformSpillFile {
+
+	private final DataPlatformProperties properties;
+	private final ObjectMapper objectMapper;
+
+	public DataPlatformSpillFile(DataPlatformProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	public boolean isEmpty() {
+		try {
+			Path path = path();
+			return !Files.exists(path) || Files.size(path) == 0;
+		} catch (IOException e) {
+			throw new IllegalStateException("데이터 플랫폼 남김 파일을 확인할 수 없습니다. path : " + path(), e);
+		}
+	}
+
+	/**
+	 * 이벤트를 파일 끝에 남김
+	 *
+	 * @return 남긴 이벤트 수 (파일이 최대 크기를 넘었으면 0)
+	 */
+	int append(List<ReservationEvent> events) {
+		Path path = path();
+		try {
+			if (Files.exists(path) && Files.size(path) >= properties.getSpillMaxSize().toBytes()) {
+				return 0;
+			}
+			try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				for (ReservationEvent event : events) {
+					writer.write(objectMapper.writeValueAsString(event));
+					writer.newLine();
+				}
+			}
+			return events.size();
+		} catch (IOException e) {
+			throw new IllegalStateException("데이터 플랫폼 남김 파일에 쓸 수 없습니다. path : " + path, e);
+		}
+	}
+
+	/**
+	 * 남긴 이벤트를 앞에서부터 batchSize개씩 읽어 보냄 (한 번에 한 묶음만 메모리에 올림)
+	 *
+	 * 보내기에 실패하면 거기서 멈추고, 실패한 묶음부터 남은 줄을 파일에 남깁니다. 모두 보냈으면 파일을 지웁니다.
+	 * 남은 줄은 임시 파일에 쓴 뒤 옮기므로 중간에 죽어도 이전 내용이나 새 내용 중 하나가 남습니다.
+	 * 읽을 수 없는 줄은 건너뜁니다.
+	 *
+	 * @return 보낸 이벤트 수
+	 */
+	int replay(int batchSize, BatchSender sender) throws InterruptedException {
+		Path path = path();
+		if (!Files.exists(path)) {
+			return 0;
+		}
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		int sent = 0;
+		boolean delivered = true;
+		InterruptedException interrupted = null;
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			List<String> lines = new ArrayList<>(batchSize);
+			List<ReservationEvent> batch;
+			while (!(batch = readBatch(reader, batchSize, lines)).isEmpty()) {
+				try {
+					delivered = sender.send(batch);
+				} catch (InterruptedException e) {
+					interrupted = e;
+					delivered = false;
+				}
+				if (!delivered) {
+					// 실패하거나 중단된 묶음부터 파일 끝까지 남김
+					writeRemaining(temp, lines, reader);
+					break;
+				}
+				sent += batch.size();
+				lines.clear();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("데이터 플랫폼 남김 파일을 다시 보낼 수 없습니다. path : " + path, e);
+		}
+
+		try {
+			if (delivered) {
+				Files.deleteIfExists(path);
+			} else {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("데이터 플랫폼 남김 파일을 바꿀 수 없습니다. path : " + path, e);
+		}
+		if (interrupted != null) {
+			throw interrupted;
+		}
+		return sent;
+	}
+
+	private List<ReservationEvent> readBatch(BufferedReader reader, int batchSize, List<String> lines) throws IOException {
+		List<ReservationEvent> batch = new ArrayList<>(batchSize);
+		String line;
+		while (batch.size() < batchSize && (line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			try {
+				batch.add(objectMapper.readValue(line, ReservationEvent.class));
+				lines.add(line);
+			} catch (JsonProcessingException e) {
+				log.warn("데이터 플랫폼 남김 파일의 읽을 수 없는 줄을 건너뜁니다. line={}", line, e);
+			}
+		}
+		return batch;
+	}
+
+	private void writeRemaining(Path temp, List<String> lines, BufferedReader reader) throws IOException {
+		Files.deleteIfExists(temp);
+		try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			for (String line : lines) {
+				writer.write(line);
+				writer.newLine();
+			}
+			reader.transferTo(writer);
+		}
+	}
+
+	/**
+	 * 남긴 이벤트 묶음 보내기
+	 */
+	@FunctionalInterface
+	interface BatchSender {
+
+		/**
+		 * @return 보냈으면 true, 실패했으면 false
+		 */
+		boolean send(List<ReservationEvent> batch) throws InterruptedException;
+	}
+
+	private Path path() {
+		return Path.of(properties.getSpillPath());
+	}
+}
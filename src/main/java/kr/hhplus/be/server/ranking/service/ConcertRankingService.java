@@ -48,6 +48,25 @@ public class ConcertRankingService {
 		}
 	}
 
+	/**
+	 * 콘서트 일정이 랭킹에 없을 때만 지금 시각으로 추가 (ZADD NX)
+	 *
+	 * 매진 표시 뒤 몇 번을 다시 호출해도 처음 추가한 매진 시간이 유지되므로, 매진 처리와 정합성 점검이 매번 호출할 수 있습니다.
+	 * Redis 오류는 호출한 쪽이 다시 시도하도록 그대로 던집니다.
+	 *
+	 * @param concertScheduleId 콘서트 일정 ID
+	 * @return 이번 호출로 추가했으면 true, 이미 랭킹에 있었으면 false
+	 */
+	public boolean addSoldOutConcertIfAbsent(Long concertScheduleId) {
+		long soldOutTimestamp = System.currentTimeMillis();
+		boolean added = Boolean.TRUE.equals(
+				redisTemplate.opsForZSet().addIfAbsent(RANKING_KEY, concertScheduleId.toString(), soldOutTimestamp));
+		if (added) {
+			log.info("매진 랭킹 추가: concertScheduleId={}, soldOutTimestamp={}", concertScheduleId, soldOutTimestamp);
+		}
+		return added;
+	}
+
 	/**
 	 * 빠른 매진 랭킹 조회 (상위 N개)
 	 * 
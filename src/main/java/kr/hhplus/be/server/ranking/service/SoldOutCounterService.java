@@ -0,0 +1,265 @@
+package kr.hhplus.be.server.ranking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공연 일정별 매진 카운터 서비스
+ *
+ * 결제마다 전체 좌석 수와 결제 완료 예약 수를 COUNT로 다시 세지 않고,
+ * Redis 해시에 두 값을 두고 결제 시 결제 완료 수만 원자적으로 올려 매진 여부를 O(1)로 판단합니다.
+ *
+ * Redis 구조:
+ * - 카운터 키: "soldout:counter:{schedule:S}" 해시 (total = 전체 좌석 수, paid = 결제 완료 수, soldOut = 매진 표시)
+ * - 반영 이벤트 키: "soldout:counter:{schedule:S}:events" 집합 (결제 완료 수에 이미 반영된 결제 완료 이벤트 ID)
+ * - 추적 키: "soldout:counter:schedules" 집합 (카운터가 있는 공연 일정 ID, 정합성 점검 대상)
+ *
+ * 매진 표시:
+ * - paid가 total에 처음 도달한 요청만 HSETNX soldOut에 성공합니다.
+ *   매진 표시와 랭킹 추가는 원자적이지 않으므로, 랭킹은 매진으로 표시된 동안 ZADD NX로 다시 추가할 수 있습니다.
+ * - 결제 완료 이벤트는 적어도 한 번 전달되므로, 반영 이벤트 집합에 처음 들어간 이벤트만 paid를 올립니다.
+ * - 카운터가 없으면 호출한 쪽이 DB에서 두 값을 한 번 세어 초기화합니다. (initializeOnPaid)
+ * - 카운터와 DB가 어긋나도 정합성 점검(reconcile)이 DB 기준으로 다시 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SoldOutCounterService {
+
+	private static final String COUNTER_KEY_PREFIX = "soldout:counter:{schedule:";
+	private static final String EVENTS_KEY_SUFFIX = ":events";
+	private static final String TRACKED_KEY = "soldout:counter:schedules";
+
+	/**
+	 * 결제 완료 수 증가
+	 * KEYS[1]: 카운터 키, KEYS[2]: 반영 이벤트 키, ARGV[1]: 결제 완료 이벤트 ID
+	 * 반환: -1 = 카운터 없음, 0 = 증가, 1 = 이번 증가로 처음 매진, 2 = 이미 매진, 3 = 이미 반영된 이벤트
+	 */
+	private static final RedisScript<Long> RECORD_PAID_SCRIPT = new DefaultRedisScript<>(
+			"local total = redis.call('hget', KEYS[1], 'total') " +
+			"if not total then " +
+			"  return -1 " +
+			"end " +
+			"if redis.call('sadd', KEYS[2], ARGV[1]) == 0 then " +
+			"  return 3 " +
+			"end " +
+			"local paid = redis.call('hincrby', KEYS[1], 'paid', 1) " +
+			"if paid < tonumber(total) then " +
+			"  return 0 " +
+			"end " +
+			"if redis.call('hsetnx', KEYS[1], 'soldOut', 1) == 1 then " +
+			"  return 1 " +
+			"end " +
+			"return 2",
+			Long.class
+	);
+
+	/**
+	 * DB에서 센 값으로 카운터 초기화 (다른 요청이 먼저 초기화했으면 이번 이벤트만 반영)
+	 * KEYS[1]: 카운터 키, KEYS[2]: 반영 이벤트 키
+	 * ARGV[1]: 전체 좌석 수, ARGV[2]: 결제 완료 수, ARGV[3]: 이번 결제 완료 이벤트 ID,
+	 * ARGV[4..]: 결제 완료 수에 이미 포함된 미반영 이벤트 ID
+	 * 반환: RECORD_PAID_SCRIPT와 같음 (-1 제외)
+	 */
+	private static final RedisScript<Long> INITIALIZE_ON_PAID_SCRIPT = new DefaultRedisScript<>(
+			"local paid " +
+			"if redis.call('hsetnx', KEYS[1], 'total', ARGV[1]) == 1 then " +
+			"  redis.call('hset', KEYS[1], 'paid', ARGV[2]) " +
+			"  paid = tonumber(ARGV[2]) " +
+			"  for i = 3, #ARGV do " +
+			"    redis.call('sadd', KEYS[2], ARGV[i]) " +
+			"  end " +
+			"else " +
+			"  if redis.call('sadd', KEYS[2], ARGV[3]) == 0 then " +
+			"    return 3 " +
+			"  end " +
+			"  paid = redis.call('hincrby', KEYS[1], 'paid', 1) " +
+			"end " +
+			"if paid < tonumber(redis.call('hget', KEYS[1], 'total')) then " +
+			"  return 0 " +
+			"end " +
+			"if redis.call('hsetnx', KEYS[1], 'soldOut', 1) == 1 then " +
+			"  return 1 " +
+			"end " +
+			"return 2",
+			Long.class
+	);
+
+	/**
+	 * DB 기준으로 카운터 덮어쓰기
+	 * KEYS[1]: 카운터 키, KEYS[2]: 반영 이벤트 키
+	 * ARGV[1]: 전체 좌석 수, ARGV[2]: 결제 완료 수, ARGV[3..]: 결제 완료 수에 이미 포함된 미반영 이벤트 ID
+	 * 반환: 0 = 매진 아님, 1 = 이번 점검으로 처음 매진, 2 = 이미 매진
+	 */
+	private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('hset', KEYS[1], 'total', ARGV[1], 'paid', ARGV[2]) " +
+			"for i = 3, #ARGV do " +
+			"  redis.call('sadd', KEYS[2], ARGV[i]) " +
+			"end " +
+			"if redis.call('hexists', KEYS[1], 'soldOut') == 1 then " +
+			"  return 2 " +
+			"end " +
+			"if tonumber(ARGV[2]) < tonumber(ARGV[1]) then " +
+			"  return 0 " +
+			"end " +
+			"redis.call('hset', KEYS[1], 'soldOut', 1) " +
+			"return 1",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 카운터 갱신 결과
+	 */
+	public enum PaidCount {
+		/**
+		 * 카운터가 없음 (initializeOnPaid로 초기화 필요)
+		 */
+		UNINITIALIZED,
+		/**
+		 * 아직 매진 아님
+		 */
+		COUNTED,
+		/**
+		 * 이번 갱신으로 처음 매진 (이 요청만 매진 랭킹을 추가)
+		 */
+		SOLD_OUT_FIRST,
+		/**
+		 * 이미 다른 요청이 매진으로 표시함
+		 */
+		SOLD_OUT,
+		/**
+		 * 이미 결제 완료 수에 반영된 이벤트 (재전달)
+		 */
+		DUPLICATE
+	}
+
+	/**
+	 * 결제 완료 이벤트 하나를 반영하여 결제 완료 수를 1 올리고 매진 여부를 확인합니다.
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param eventId 결제 완료 이벤트 ID (같은 이벤트는 한 번만 반영)
+	 * @return 갱신 결과 (카운터가 없으면 UNINITIALIZED)
+	 */
+	public PaidCount recordPaid(Long concertScheduleId, Long eventId) {
+		Long result = redisTemplate.execute(RECORD_PAID_SCRIPT, keys(concertScheduleId), eventId.toString());
+		return toPaidCount(result);
+	}
+
+	/**
+	 * 카운터가 없을 때 DB에서 센 값으로 초기화합니다.
+	 *
+	 * 결제 완료 수는 커밋된 결제를 모두 포함하므로, 그중 아직 반영되지 않은 결제 완료 이벤트(이번 이벤트 포함)를
+	 * 반영된 것으로 함께 표시하여 나중에 전달되어도 다시 올리지 않게 합니다.
+	 * 그 사이 다른 요청이 먼저 초기화했다면 이번 이벤트만 반영합니다.
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param totalSeats 전체 좌석 수
+	 * @param paidCount 결제 완료 수
+	 * @param eventId 이번 결제 완료 이벤트 ID
+	 * @param countedEventIds 결제 완료 수에 이미 포함된 미반영 이벤트 ID
+	 * @return 갱신 결과
+	 */
+	public PaidCount initializeOnPaid(Long concertScheduleId, long totalSeats, long paidCount,
+	                                  Long eventId, Collection<Long> countedEventIds) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(totalSeats));
+		args.add(String.valueOf(paidCount));
+		args.add(eventId.toString());
+		for (Long countedEventId : countedEventIds) {
+			args.add(countedEventId.toString());
+		}
+		Long result = redisTemplate.execute(INITIALIZE_ON_PAID_SCRIPT, keys(concertScheduleId), args.toArray());
+		redisTemplate.opsForSet().add(TRACKED_KEY, concertScheduleId.toString());
+		return toPaidCount(result);
+	}
+
+	/**
+	 * DB에서 센 값으로 카운터를 덮어쓰고 매진 여부를 확인합니다. (정합성 점검)
+	 *
+	 * 카운터만 올리고 롤백된 결제, 빠진 증가 등으로 어긋난 값을 바로잡고, 놓친 매진 표시를 여기서 처음 표시할 수 있습니다.
+	 * 이미 매진으로 표시된 일정은 다시 표시하지 않습니다.
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param totalSeats 전체 좌석 수
+	 * @param paidCount 결제 완료 수
+	 * @param countedEventIds 결제 완료 수에 이미 포함된 미반영 이벤트 ID
+	 * @return 갱신 결과
+	 */
+	public PaidCount reconcile(Long concertScheduleId, long totalSeats, long paidCount, Collection<Long> countedEventIds) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(totalSeats));
+		args.add(String.valueOf(paidCount));
+		for (Long countedEventId : countedEventIds) {
+			args.add(countedEventId.toString());
+		}
+		Long result = redisTemplate.execute(RECONCILE_SCRIPT, keys(concertScheduleId), args.toArray());
+		return toPaidCount(result);
+	}
+
+	/**
+	 * 매진으로 표시되어 있는지 확인 (다시 전달된 이벤트가 빠진 매진 랭킹을 채울 때)
+	 */
+	public boolean isSoldOut(Long concertScheduleId) {
+		return redisTemplate.opsForHash().hasKey(keys(concertScheduleId).get(0), "soldOut");
+	}
+
+	/**
+	 * 카운터가 있는 공연 일정 ID (정합성 점검 대상)
+	 */
+	public Set<Long> trackedSchedules() {
+		Set<String> members = redisTemplate.opsForSet().members(TRACKED_KEY);
+		if (members == null || members.isEmpty()) {
+			return Set.of();
+		}
+		return members.stream().map(Long::parseLong).collect(Collectors.toSet());
+	}
+
+	/**
+	 * 정합성 점검 대상에서 제외 (매진으로 표시되어 더 바뀌지 않는 일정)
+	 */
+	public void untrack(Long concertScheduleId) {
+		redisTemplate.opsForSet().remove(TRACKED_KEY, concertScheduleId.toString());
+	}
+
+	/**
+	 * 카운터 삭제 (테스트 등에서 DB 기준으로 다시 초기화할 때)
+	 */
+	public void evict(Long concertScheduleId) {
+		redisTemplate.delete(keys(concertScheduleId));
+		untrack(concertScheduleId);
+	}
+
+	private PaidCount toPaidCount(Long result) {
+		if (result == null) {
+			throw new IllegalStateException("매진 카운터 스크립트 결과가 없습니다.");
+		}
+		if (result == -1L) {
+			return PaidCount.UNINITIALIZED;
+		}
+		if (result == 1L) {
+			return PaidCount.SOLD_OUT_FIRST;
+		}
+		if (result == 2L) {
+			return PaidCount.SOLD_OUT;
+		}
+		if (result == 3L) {
+			return PaidCount.DUPLICATE;
+		}
+		return PaidCount.COUNTED;
+	}
+
+	private static List<String> keys(Long concertScheduleId) {
+		String counterKey = COUNTER_KEY_PREFIX + concertScheduleId + "}";
+		return List.of(counterKey, counterKey + EVENTS_KEY_SUFFIX);
+	}
+}
@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.reservation.adapter;
+
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventStatus;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import kr.hhplus.be.server.reservation.repository.OutboxEventJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRepositoryAdapter implements OutboxRepositoryPort {
+
+	private static final List<OutboxEventStatus> UNPUBLISHED =
+			List.of(OutboxEventStatus.PENDING, OutboxEventStatus.PROCESSING);
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+	@Override
+	public OutboxEvent save(OutboxEvent event) {
+		return outboxEventJpaRepository.save(event);
+	}
+
+	@Override
+	public List<OutboxEvent> claim(String claimToken, LocalDateTime now, LocalDateTime staleBefore, int limit) {
+		List<Long> ids = outboxEventJpaRepository.findClaimableIds(OutboxEventStatus.PENDING,
+				OutboxEventStatus.PROCESSING, now, staleBefore, PageRequest.of(0, limit));
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		int claimed = outboxEventJpaRepository.claim(ids, claimToken, OutboxEventStatus.PENDING,
+				OutboxEventStatus.PROCESSING, now, staleBefore);
+		if (claimed == 0) {
+			return List.of();
+		}
+		return outboxEventJpaRepository.findByClaimTokenOrderByIdAsc(claimToken);
+	}
+
+	@Override
+	public void markPublished(Collection<Long> eventIds, String claimToken, LocalDateTime now) {
+		if (eventIds.isEmpty()) {
+			return;
+		}
+		outboxEventJpaRepository.markPublished(eventIds, claimToken, OutboxEventStatus.PUBLISHED, now);
+	}
+
+	@Override
+	public void markAttemptFailed(OutboxEvent event, int attempts, LocalDateTime nextAttemptAt, boolean exhausted, String error) {
+		String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+		outboxEventJpaRepository.markAttemptFailed(event.getId(), event.getClaimToken(),
+				exhausted ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING,
+				attempts, nextAttemptAt, lastError);
+	}
+
+	@Override
+	public List<Long> findUnpublishedIds(Long concertScheduleId, OutboxEventType eventType) {
+		return outboxEventJpaRepository.findIdsByScheduleAndStatusIn(concertScheduleId, eventType, UNPUBLISHED);
+	}
+
+	@Override
+	public long countUnpublished() {
+		return outboxEventJpaRepository.countByStatusIn(UNPUBLISHED);
+	}
+
+	@Override
+	public Optional<OutboxEvent> findOldestUnpublished() {
+		return outboxEventJpaRepository.findFirstByStatusInOrderByIdAsc(UNPUBLISHED);
+	}
+
+	@Override
+	public int deletePublishedBefore(LocalDateTime before) {
+		return outboxEventJpaRepository.deletePublishedBefore(OutboxEventStatus.PUBLISHED, before);
+	}
+}
@@ -0,0 +1,254 @@
+package kr.hhplus.be.server.reservation.adapter;
+
+import kr.hhplus.be.server.reservation.domain.SeatHold;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Redis 좌석 홀드 저장소
+ *
+ * Redis 구조 (공연 일정 해시 태그로 같은 슬롯):
+ * - seat-hold:{schedule:S}:{seatId}: 홀드 내용 (TTL = 홀드 유지 시간)
+ * - seat-hold:{schedule:S}:idem:{멱등성 키}: 같은 요청 재시도 시 돌려줄 홀드 내용 (TTL 동일)
+ * - seat-hold:{schedule:S}:holds: 홀드 중인 좌석 정렬 집합 (점수 = 만료 시각)
+ * - seat-hold:{schedule:S}:pending: DB 저장 대기열 (홀드 내용 목록)
+ * - seat-hold:{schedule:S}:sold: 결제가 끝나 더 선점할 수 없는 좌석 집합
+ * - seat-hold:schedules: 홀드가 있는 공연 일정 ID 집합 (쓰기 지연 작업이 순회)
+ * - seat-hold:reservation-id: 예약 ID 카운터 (모든 공연 일정 공유, 노드가 구간 단위로 발급받음)
+ *
+ * 홀드 내용: "좌석 ID|사용자 ID|금액(센트)|만료 시각(epoch 밀리초)|예약 ID|멱등성 키"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSeatHoldStoreAdapter implements SeatHoldStorePort {
+
+	private static final String KEY_PREFIX = "seat-hold:";
+	private static final String SCHEDULES_KEY = KEY_PREFIX + "schedules";
+	private static final String RESERVATION_ID_KEY = KEY_PREFIX + "reservation-id";
+
+	/**
+	 * 좌석 홀드 선점
+	 * KEYS[1]: 홀드 키, KEYS[2]: 멱등성 키, KEYS[3]: 홀드 좌석 집합, KEYS[4]: 저장 대기열, KEYS[5]: 판매 완료 좌석 집합
+	 * ARGV[1]: 좌석 ID, ARGV[2]: 사용자 ID, ARGV[3]: 금액(센트), ARGV[4]: 홀드 유지 시간 (밀리초), ARGV[5]: 멱등성 키,
+	 * ARGV[6]: 예약 ID
+	 * 반환: 선점한(또는 같은 멱등성 키로 이미 선점한) 홀드 내용, 선점할 수 없으면 nil
+	 */
+	private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+			"local existing = redis.call('get', KEYS[2]) " +
+			"if existing then " +
+			"  return existing " +
+			"end " +
+			"if redis.call('sismember', KEYS[5], ARGV[1]) == 1 or redis.call('exists', KEYS[1]) == 1 then " +
+			"  return false " +
+			"end " +
+			"local now = redis.call('time') " +
+			"local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000) " +
+			"local expiresAt = nowMillis + tonumber(ARGV[4]) " +
+			"local payload = ARGV[1] .. '|' .. ARGV[2] .. '|' .. ARGV[3] .. '|' .. expiresAt .. '|' .. ARGV[6] .. '|' .. ARGV[5] " +
+			"redis.call('set', KEYS[1], payload, 'PX', ARGV[4]) " +
+			"redis.call('set', KEYS[2], payload, 'PX', ARGV[4]) " +
+			"redis.call('zremrangebyscore', KEYS[3], '-inf', nowMillis) " +
+			"redis.call('zadd', KEYS[3], expiresAt, ARGV[1]) " +
+			"redis.call('pexpire', KEYS[3], ARGV[4]) " +
+			"redis.call('rpush', KEYS[4], payload) " +
+			"redis.call('pexpire', KEYS[4], ARGV[4]) " +
+			"return payload",
+			String.class
+	);
+
+	/**
+	 * 예약 ID 구간 발급 (카운터가 없으면 0부터 시작하지 않도록 발급하지 않음)
+	 * KEYS[1]: 예약 ID 카운터, ARGV[1]: 발급할 개수
+	 * 반환: 발급한 구간의 마지막 ID, 카운터가 없으면 nil
+	 */
+	private static final RedisScript<Long> ALLOCATE_IDS_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 0 then " +
+			"  return false " +
+			"end " +
+			"return redis.call('incrby', KEYS[1], ARGV[1])",
+			Long.class
+	);
+
+	/**
+	 * 거절된 홀드 취소 (같은 홀드일 때만)
+	 * KEYS[1]: 홀드 키, KEYS[2]: 멱등성 키, KEYS[3]: 홀드 좌석 집합
+	 * ARGV[1]: 홀드 내용, ARGV[2]: 좌석 ID
+	 */
+	private static final RedisScript<Long> REJECT_SCRIPT = new DefaultRedisScript<>(
+			"local released = 0 " +
+			"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[1]) " +
+			"  redis.call('zrem', KEYS[3], ARGV[2]) " +
+			"  released = 1 " +
+			"end " +
+			"if redis.call('get', KEYS[2]) == ARGV[1] then " +
+			"  redis.call('del', KEYS[2]) " +
+			"end " +
+			"return released",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public Optional<SeatHold> claim(Long concertScheduleId, Long seatId, Long userId, BigDecimal amountCents,
+			String idempotencyKey, Duration holdDuration, long reservationId) {
+		String payload = redisTemplate.execute(CLAIM_SCRIPT,
+				List.of(holdKey(concertScheduleId, seatId), idempotencyKey(concertScheduleId, idempotencyKey),
+						holdsKey(concertScheduleId), pendingKey(concertScheduleId), soldKey(concertScheduleId)),
+				String.valueOf(seatId), String.valueOf(userId), amountCents.toPlainString(),
+				String.valueOf(holdDuration.toMillis()), idempotencyKey, String.valueOf(reservationId));
+		if (payload == null) {
+			return Optional.empty();
+		}
+		// 쓰기 지연 작업이 대기열을 찾을 수 있도록 등록 (이미 있으면 무시됨)
+		redisTemplate.opsForSet().add(SCHEDULES_KEY, String.valueOf(concertScheduleId));
+		return Optional.of(parse(concertScheduleId, payload));
+	}
+
+	@Override
+	public OptionalLong allocateReservationIds(int count) {
+		Long last = redisTemplate.execute(ALLOCATE_IDS_SCRIPT, List.of(RESERVATION_ID_KEY), String.valueOf(count));
+		return last == null ? OptionalLong.empty() : OptionalLong.of(last);
+	}
+
+	@Override
+	public void initReservationIds(long floor) {
+		redisTemplate.opsForValue().setIfAbsent(RESERVATION_ID_KEY, String.valueOf(floor));
+	}
+
+	@Override
+	public List<Long> findSchedulesWithHolds() {
+		Set<String> members = redisTemplate.opsForSet().members(SCHEDULES_KEY);
+		if (members == null) {
+			return List.of();
+		}
+		return members.stream().map(Long::valueOf).toList();
+	}
+
+	@Override
+	public List<SeatHold> pollPending(Long concertScheduleId, int maxCount) {
+		List<String> payloads = redisTemplate.opsForList().leftPop(pendingKey(concertScheduleId), maxCount);
+		if (payloads == null) {
+			return List.of();
+		}
+		return payloads.stream().map(payload -> parse(concertScheduleId, payload)).toList();
+	}
+
+	@Override
+	public void requeue(List<SeatHold> holds) {
+		Map<Long, List<String>> bySchedule = new LinkedHashMap<>();
+		for (SeatHold hold : holds) {
+			bySchedule.computeIfAbsent(hold.concertScheduleId(), id -> new ArrayList<>()).add(format(hold));
+		}
+		bySchedule.forEach((concertScheduleId, payloads) -> {
+			// 다음 주기에 가장 먼저 다시 저장하도록 앞쪽에 넣음
+			redisTemplate.opsForList().leftPushAll(pendingKey(concertScheduleId), payloads);
+			redisTemplate.opsForSet().add(SCHEDULES_KEY, String.valueOf(concertScheduleId));
+		});
+	}
+
+	@Override
+	public List<SeatHold> findActiveHolds(Long concertScheduleId) {
+		Set<String> seatIds = redisTemplate.opsForZSet().rangeByScore(
+				holdsKey(concertScheduleId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+		if (seatIds == null || seatIds.isEmpty()) {
+			return List.of();
+		}
+		List<String> holdKeys = seatIds.stream()
+				.map(seatId -> holdKey(concertScheduleId, Long.valueOf(seatId)))
+				.toList();
+		List<String> payloads = redisTemplate.opsForValue().multiGet(holdKeys);
+		if (payloads == null) {
+			return List.of();
+		}
+		return payloads.stream()
+				.filter(payload -> payload != null)
+				.map(payload -> parse(concertScheduleId, payload))
+				.toList();
+	}
+
+	@Override
+	public void reject(SeatHold hold) {
+		redisTemplate.execute(REJECT_SCRIPT,
+				List.of(holdKey(hold.concertScheduleId(), hold.seatId()),
+						idempotencyKey(hold.concertScheduleId(), hold.idempotencyKey()),
+						holdsKey(hold.concertScheduleId())),
+				format(hold), String.valueOf(hold.seatId()));
+	}
+
+	@Override
+	public void markSold(Long concertScheduleId, Long seatId) {
+		redisTemplate.opsForSet().add(soldKey(concertScheduleId), String.valueOf(seatId));
+	}
+
+	@Override
+	public void forgetScheduleIfIdle(Long concertScheduleId) {
+		List<String> scheduleKeys = List.of(holdsKey(concertScheduleId), pendingKey(concertScheduleId));
+		if (hasAny(scheduleKeys)) {
+			return;
+		}
+		String member = String.valueOf(concertScheduleId);
+		redisTemplate.opsForSet().remove(SCHEDULES_KEY, member);
+		// 확인과 제거 사이에 새 홀드가 들어왔다면 (그 홀드의 등록이 제거보다 먼저였을 수 있으므로) 다시 등록
+		if (hasAny(scheduleKeys)) {
+			redisTemplate.opsForSet().add(SCHEDULES_KEY, member);
+		}
+	}
+
+	private boolean hasAny(List<String> keys) {
+		Long existing = redisTemplate.countExistingKeys(keys);
+		return existing != null && existing > 0;
+	}
+
+	private static SeatHold parse(Long concertScheduleId, String payload) {
+		String[] fields = payload.split("\\|", 6);
+		return new SeatHold(Long.valueOf(fields[4]), concertScheduleId, Long.valueOf(fields[0]), Long.valueOf(fields[1]),
+				new BigDecimal(fields[2]), Long.parseLong(fields[3]), fields[5]);
+	}
+
+	private static String format(SeatHold hold) {
+		return hold.seatId() + "|" + hold.userId() + "|" + hold.amountCents().toPlainString() + "|"
+				+ hold.expiresAtMillis() + "|" + hold.reservationId() + "|" + hold.idempotencyKey();
+	}
+
+	private static String scheduleTag(Long concertScheduleId) {
+		return KEY_PREFIX + "{schedule:" + concertScheduleId + "}:";
+	}
+
+	private static String holdKey(Long concertScheduleId, Long seatId) {
+		return scheduleTag(concertScheduleId) + seatId;
+	}
+
+	private static String idempotencyKey(Long concertScheduleId, String idempotencyKey) {
+		return scheduleTag(concertScheduleId) + "idem:" + idempotencyKey;
+	}
+
+	private static String holdsKey(Long concertScheduleId) {
+		return scheduleTag(concertScheduleId) + "holds";
+	}
+
+	private static String pendingKey(Long concertScheduleId) {
+		return scheduleTag(concertScheduleId) + "pending";
+	}
+
+	private static String soldKey(Long concertScheduleId) {
+		return scheduleTag(concertScheduleId) + "sold";
+	}
+}
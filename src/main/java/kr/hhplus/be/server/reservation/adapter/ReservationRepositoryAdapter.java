@@ -5,17 +5,43 @@ import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
 import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TimeZone;
 
 @Component
 @RequiredArgsConstructor
 public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
 
+	private static final String INSERT_SQL =
+			"INSERT INTO reservations (user_id, concert_schedule_id, seat_id, status, hold_expires_at, amount_cents, " +
+			"idempotency_key, fencing_token) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_WITH_ID_SQL =
+			"INSERT INTO reservations (user_id, concert_schedule_id, seat_id, status, hold_expires_at, amount_cents, " +
+			"idempotency_key, fencing_token, reservation_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	/**
+	 * JPA와 같은 기준으로 시각 저장 (hibernate.jdbc.time_zone: UTC)
+	 */
+	private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
 	private final ReservationJpaRepository reservationJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Reservation save(Reservation reservation) {
@@ -32,11 +58,90 @@ public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
 		return reservationJpaRepository.findByIdempotencyKey(idempotencyKey);
 	}
 
+	@Override
+	public List<Reservation> findAllByIdempotencyKeys(Collection<String> idempotencyKeys) {
+		return reservationJpaRepository.findByIdempotencyKeyIn(idempotencyKeys);
+	}
+
+	@Override
+	public List<Reservation> findAllByIdempotencyKeyPrefix(String idempotencyKeyPrefix) {
+		return reservationJpaRepository.findByIdempotencyKeyStartingWith(idempotencyKeyPrefix);
+	}
+
 	@Override
 	public boolean existsBySeatIdAndStatus(Long seatId, ReservationStatus reservationStatus) {
 		return reservationJpaRepository.existsBySeatIdAndStatus(seatId, reservationStatus);
 	}
 
+	@Override
+	public boolean existsBySeatIdInAndStatus(Collection<Long> seatIds, ReservationStatus reservationStatus) {
+		return reservationJpaRepository.existsBySeatIdInAndStatus(seatIds, reservationStatus);
+	}
+
+	/**
+	 * 예약 ID가 IDENTITY 방식이라 Hibernate는 INSERT를 묶지 않으므로 JdbcTemplate 배치로 저장
+	 * 진행 중인 트랜잭션의 커넥션을 함께 사용합니다. (MySQL은 rewriteBatchedStatements로 다중 행 INSERT 한 문장)
+	 * 상태는 엔티티 매핑(EnumType.ORDINAL)과 같은 값으로 저장합니다.
+	 * 예약 ID가 이미 정해진 예약(Redis 우선 홀드)은 그 ID로 저장합니다. (MySQL은 AUTO_INCREMENT를 그 뒤로 옮김)
+	 */
+	@Override
+	public List<Reservation> insertAll(List<Reservation> reservations) {
+		if (reservations.isEmpty()) {
+			return reservations;
+		}
+		boolean presetIds = reservations.get(0).getId() != null;
+		if (reservations.stream().anyMatch(reservation -> (reservation.getId() != null) != presetIds)) {
+			throw new IllegalArgumentException("예약 ID가 정해진 예약과 정해지지 않은 예약을 함께 저장할 수 없습니다.");
+		}
+		BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				Reservation reservation = reservations.get(i);
+				ps.setLong(1, reservation.getUserId());
+				ps.setLong(2, reservation.getConcertSchedule().getConcertScheduleId());
+				ps.setLong(3, reservation.getSeat().getSeatId());
+				ps.setInt(4, reservation.getStatus().ordinal());
+				if (reservation.getHoldExpiresAt() != null) {
+					ps.setTimestamp(5, Timestamp.valueOf(reservation.getHoldExpiresAt()), Calendar.getInstance(JDBC_TIME_ZONE));
+				} else {
+					ps.setNull(5, Types.TIMESTAMP);
+				}
+				ps.setBigDecimal(6, reservation.getAmountCents());
+				ps.setString(7, reservation.getIdempotencyKey());
+				ps.setObject(8, reservation.getFencingToken(), Types.BIGINT);
+				if (presetIds) {
+					ps.setLong(9, reservation.getId());
+				}
+			}
+
+			@Override
+			public int getBatchSize() {
+				return reservations.size();
+			}
+		};
+
+		if (presetIds) {
+			jdbcTemplate.batchUpdate(INSERT_WITH_ID_SQL, setter);
+			return reservations;
+		}
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+				connection -> connection.prepareStatement(INSERT_SQL, new String[] {"reservation_id"}),
+				setter,
+				keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		for (int i = 0; i < reservations.size(); i++) {
+			reservations.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+		}
+		return reservations;
+	}
+
+	@Override
+	public long findMaxId() {
+		return reservationJpaRepository.findMaxId();
+	}
+
 	@Override
 	public List<Reservation> findExpiredReservations(ReservationStatus status, LocalDateTime now) {
 		return reservationJpaRepository.findExpiredReservations(status, now);
@@ -47,8 +152,20 @@ public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
 		return reservationJpaRepository.expireReservations(oldStatus, newStatus, now);
 	}
 
+	@Override
+	public boolean markAsPaid(Long reservationId, long fencingToken) {
+		return reservationJpaRepository.updateStatusIfFenced(
+				reservationId, ReservationStatus.HOLD, ReservationStatus.PAID, fencingToken) == 1;
+	}
+
 	@Override
 	public long countByConcertScheduleIdAndStatus(Long concertScheduleId, ReservationStatus status) {
 		return reservationJpaRepository.countByConcertScheduleIdAndStatus(concertScheduleId, status);
 	}
+
+	@Override
+	public int cancelHoldsBySchedule(Long concertScheduleId) {
+		return reservationJpaRepository.updateStatusBySchedule(
+				concertScheduleId, ReservationStatus.HOLD, ReservationStatus.CANCELLED);
+	}
 }
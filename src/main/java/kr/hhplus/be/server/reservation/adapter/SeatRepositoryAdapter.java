@@ -3,10 +3,14 @@ package kr.hhplus.be.server.reservation.adapter;
 import kr.hhplus.be.server.concert.common.SeatStatus;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -25,6 +29,11 @@ public class SeatRepositoryAdapter implements SeatRepositoryPort {
 		return seatRepository.findByIdWithLock(seatId);
 	}
 
+	@Override
+	public List<Seat> findAllByIdWithLock(Collection<Long> seatIds) {
+		return seatRepository.findAllByIdWithLock(seatIds);
+	}
+
 	@Override
 	public Seat save(Seat seat) {
 		return seatRepository.save(seat);
@@ -41,4 +50,32 @@ public class SeatRepositoryAdapter implements SeatRepositoryPort {
 	public long countByConcertScheduleId(Long concertScheduleId) {
 		return seatRepository.countByConcertScheduleId(concertScheduleId);
 	}
+
+	@Override
+	public boolean claimSeat(Long seatId) {
+		return seatRepository.updateStatusIfMatches(seatId, SeatStatus.NON_RESERVATION, SeatStatus.RESERVATION) == 1;
+	}
+
+	@Override
+	public boolean claimSeats(Collection<Long> seatIds) {
+		return seatRepository.updateStatusIfMatches(seatIds, SeatStatus.NON_RESERVATION, SeatStatus.RESERVATION)
+				== seatIds.size();
+	}
+
+	@Override
+	public List<Seat> findSeatsOfExpiredHolds(LocalDateTime now) {
+		return seatRepository.findSeatsOfExpiredHolds(ReservationStatus.HOLD, now);
+	}
+
+	@Override
+	public int releaseSeatsOfExpiredHolds(LocalDateTime now) {
+		return seatRepository.updateStatusOfExpiredHolds(
+				SeatStatus.RESERVATION, SeatStatus.NON_RESERVATION, ReservationStatus.HOLD, now);
+	}
+
+	@Override
+	public int releaseSeatsOfHoldsBySchedule(Long concertScheduleId) {
+		return seatRepository.updateStatusOfHoldsBySchedule(
+				concertScheduleId, SeatStatus.RESERVATION, SeatStatus.NON_RESERVATION, ReservationStatus.HOLD);
+	}
 }
@@ -1,14 +1,18 @@
 package kr.hhplus.be.server.reservation.controller;
 
-import kr.hhplus.be.server.reservation.domain.Payment;
-import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.reservation.dto.GroupReservationResponse;
 import kr.hhplus.be.server.reservation.dto.PaymentResponse;
 import kr.hhplus.be.server.reservation.dto.ReservationResponse;
 import kr.hhplus.be.server.reservation.usecase.ProcessPaymentUseCase;
+import kr.hhplus.be.server.reservation.usecase.ReserveBestSeatsUseCase;
 import kr.hhplus.be.server.reservation.usecase.ReserveConcertUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/v1/reservation")
 @RequiredArgsConstructor
@@ -16,34 +20,65 @@ public class ReservationController {
 
 	private final ReserveConcertUseCase reserveConcertUseCase;
 	private final ProcessPaymentUseCase processPaymentUseCase;
+	private final ReserveBestSeatsUseCase reserveBestSeatsUseCase;
 
 	/*
 	* 좌석 예약 (홀드)
 	* POST /api/v1/reservation/dates/place
+	* 좌석 락을 기다리는 동안 요청 스레드를 반납하도록 비동기(CompletableFuture)로 응답
 	* */
 	@PostMapping("dates/place")
-	public ReservationResponse reservationSeat(@RequestParam Long concertId,
+	public CompletableFuture<ReservationResponse> reservationSeat(@RequestParam Long concertId,
 	                                           @RequestParam String date,
 	                                           @RequestParam String place,
 	                                           @RequestParam Long userId,
 	                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 		Long seatId = Long.parseLong(place);
-		Reservation reservation = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+		return reserveConcertUseCase.executeAsync(userId, seatId, idempotencyKey)
+				.thenApply(ReservationResponse::from);
+	}
+
+	/*
+	* 여러 좌석 함께 예약 (홀드)
+	* POST /api/v1/reservation/dates/places?places=1,2,3
+	* 같은 공연 일정의 좌석을 한 트랜잭션으로 모두 홀드하거나 하나도 홀드하지 않음
+	* */
+	@PostMapping("dates/places")
+	public GroupReservationResponse reservationSeats(@RequestParam Long concertId,
+	                                                 @RequestParam String date,
+	                                                 @RequestParam List<Long> places,
+	                                                 @RequestParam Long userId,
+	                                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+		return GroupReservationResponse.from(userId, reserveConcertUseCase.executeGroup(userId, places, idempotencyKey));
+	}
 
-		return ReservationResponse.from(reservation);
+	/*
+	* 등급별 최적 좌석 자동 배정 (홀드)
+	* POST /api/v1/reservation/schedules/{concertScheduleId}/best?grade=ROYAL&count=2
+	* 좌석 번호가 이어진 빈 좌석 count석을 서버가 골라 모두 홀드하거나 하나도 홀드하지 않음
+	* */
+	@PostMapping("schedules/{concertScheduleId}/best")
+	public GroupReservationResponse reservationBestSeats(@PathVariable Long concertScheduleId,
+	                                                     @RequestParam SeatGrade grade,
+	                                                     @RequestParam int count,
+	                                                     @RequestParam Long userId,
+	                                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+		return GroupReservationResponse.from(userId,
+				reserveBestSeatsUseCase.execute(userId, concertScheduleId, grade, count, idempotencyKey));
 	}
 
 	/**
 	 * 결제 처리
 	 * POST /api/v1/user/payment (API 스펙에 따르면 이 경로)
+	 * 예약 락을 기다리는 동안 요청 스레드를 반납하도록 비동기(CompletableFuture)로 응답
 	 */
 	@PostMapping("/{reservationId}/payment")
-	public PaymentResponse payReservation(
+	public CompletableFuture<PaymentResponse> payReservation(
 			@PathVariable Long reservationId,
 			@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-		Payment payment = processPaymentUseCase.execute(reservationId, idempotencyKey);
-		return PaymentResponse.from(payment);
+		return processPaymentUseCase.executeAsync(reservationId, idempotencyKey)
+				.thenApply(PaymentResponse::from);
 	}
 
 }
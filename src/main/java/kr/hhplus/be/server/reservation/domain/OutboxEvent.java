@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.reservation.domain;
+
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.common.domain.CommonEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ *
+ * 결제 트랜잭션 안에서 함께 저장되고, 커밋된 뒤 OutboxRelay가 묶음으로 꺼내 후처리(좌석 표시, 매진 랭킹 등)에 전달합니다.
+ * 전달은 적어도 한 번이므로 처리하는 쪽은 같은 이벤트를 다시 받아도 결과가 같아야 합니다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent extends CommonEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_event_id")
+	private Long id;
+
+	@Column(name = "event_type", nullable = false)
+	@Enumerated(EnumType.ORDINAL)
+	private OutboxEventType eventType;
+
+	/**
+	 * 이벤트 대상 ID (결제 완료 이벤트는 예약 ID)
+	 */
+	@Column(name = "aggregate_id", nullable = false)
+	private Long aggregateId;
+
+	@Column(name = "concert_schedule_id")
+	private Long concertScheduleId;
+
+	@Column(name = "payload", nullable = false, length = 1000)
+	private String payload;
+
+	@Column(name = "status", nullable = false)
+	@Enumerated(EnumType.ORDINAL)
+	private OutboxEventStatus status;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	/**
+	 * 이 이벤트를 가져간 전달 묶음의 토큰 (다른 노드의 전달 작업과 겹치지 않도록)
+	 */
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	public static OutboxEvent paymentCompleted(PaymentCompletedPayload payload) {
+		LocalDateTime now = LocalDateTime.now();
+		OutboxEvent event = new OutboxEvent();
+		event.setEventType(OutboxEventType.PAYMENT_COMPLETED);
+		event.setAggregateId(payload.reservationId());
+		event.setConcertScheduleId(payload.concertScheduleId());
+		event.setPayload(payload.serialize());
+		event.setStatus(OutboxEventStatus.PENDING);
+		event.setOccurredAt(now);
+		event.setNextAttemptAt(now);
+		return event;
+	}
+}
@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import lombok.Getter;
+
+public enum OutboxEventStatus {
+	PENDING(1, "전달 대기"),
+	PROCESSING(2, "전달 중"),
+	PUBLISHED(3, "전달 완료"),
+	FAILED(4, "전달 실패");
+
+	@Getter
+	private final int code;
+
+	@Getter
+	private final String description;
+
+	OutboxEventStatus(int code, String description) {
+		this.code = code;
+		this.description = description;
+	}
+}
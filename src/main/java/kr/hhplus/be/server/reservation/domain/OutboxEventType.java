@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import lombok.Getter;
+
+/**
+ * 아웃박스 이벤트 종류 (이벤트 종류별로 OutboxEventHandler가 처리)
+ */
+public enum OutboxEventType {
+	PAYMENT_COMPLETED(1, "결제 완료");
+
+	@Getter
+	private final int code;
+
+	@Getter
+	private final String description;
+
+	OutboxEventType(int code, String description) {
+		this.code = code;
+		this.description = description;
+	}
+}
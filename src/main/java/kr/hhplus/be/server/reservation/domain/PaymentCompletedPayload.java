@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.reservation.domain;
+
+/**
+ * 결제 완료 아웃박스 이벤트 내용
+ *
+ * 아웃박스 행에는 "reservationId|concertScheduleId|seatId|seatNumber" 형식으로 저장합니다.
+ *
+ * @param reservationId 예약 ID
+ * @param concertScheduleId 공연 일정 ID
+ * @param seatId 좌석 ID
+ * @param seatNumber 좌석 번호
+ */
+public record PaymentCompletedPayload(Long reservationId, Long concertScheduleId, Long seatId, int seatNumber) {
+
+	private static final String SEPARATOR = "|";
+
+	public String serialize() {
+		return reservationId + SEPARATOR + concertScheduleId + SEPARATOR + seatId + SEPARATOR + seatNumber;
+	}
+
+	public static PaymentCompletedPayload parse(String payload) {
+		String[] parts = payload.split("\\|");
+		if (parts.length != 4) {
+			throw new IllegalArgumentException("결제 완료 이벤트 형식이 올바르지 않습니다. payload : " + payload);
+		}
+		return new PaymentCompletedPayload(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+				Long.parseLong(parts[2]), Integer.parseInt(parts[3]));
+	}
+}
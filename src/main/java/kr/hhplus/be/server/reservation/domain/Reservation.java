@@ -45,9 +45,19 @@ public class Reservation extends CommonEntity {
 	@Column(name = "amount_cents", nullable = false)
 	private BigDecimal amountCents;
 
-	@Column(name = "idempotency_key")
+	/**
+	 * 멱등성 키 (유니크, 같은 키의 중복 INSERT는 제약 위반으로 거절되어 기존 예약을 반환하는 데 사용)
+	 */
+	@Column(name = "idempotency_key", unique = true)
 	private String idempotencyKey;
 
+	/**
+	 * 마지막으로 상태를 변경한 락 보유자의 펜싱 토큰
+	 * 이보다 작은 토큰을 가진(락을 이미 잃은) 요청의 상태 변경은 거절됩니다.
+	 */
+	@Column(name = "fencing_token")
+	private Long fencingToken;
+
 	//비즈니스 로직 메서드
 	public boolean isExpired() {
 		return holdExpiresAt != null && LocalDateTime.now().isAfter(holdExpiresAt);
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 도메인 이벤트 (좌석 홀드, 결제 완료)
+ *
+ * 예약/결제 트랜잭션 안에서 ApplicationEventPublisher로 발행하고, 커밋된 뒤에만 리스너에 전달됩니다.
+ * (롤백된 트랜잭션의 이벤트는 버려짐, DataPlatformEventListener 참고)
+ * 트랜잭션이 끝난 뒤에도 읽을 수 있도록 엔티티가 아닌 값만 담습니다.
+ *
+ * @param type 이벤트 종류
+ * @param reservationId 예약 ID
+ * @param userId 사용자 ID
+ * @param concertScheduleId 공연 일정 ID
+ * @param seatId 좌석 ID
+ * @param amountCents 예약 금액 (센트)
+ * @param occurredAt 발생 시각
+ */
+public record ReservationEvent(ReservationEventType type, Long reservationId, Long userId, Long concertScheduleId,
+                               Long seatId, BigDecimal amountCents, LocalDateTime occurredAt) {
+
+	/**
+	 * 저장된 홀드로 좌석 홀드 이벤트 생성
+	 */
+	public static ReservationEvent held(Reservation reservation) {
+		return new ReservationEvent(ReservationEventType.HELD, reservation.getId(), reservation.getUserId(),
+				reservation.getConcertSchedule().getConcertScheduleId(), reservation.getSeat().getSeatId(),
+				reservation.getAmountCents(), LocalDateTime.now());
+	}
+
+	/**
+	 * 결제된 예약의 결제 완료 이벤트 생성
+	 *
+	 * @param reservation 결제된 예약 (공연 일정, 좌석은 읽지 않음)
+	 * @param paymentCompleted 결제 완료 아웃박스 이벤트 내용 (공연 일정 ID, 좌석 ID)
+	 */
+	public static ReservationEvent paid(Reservation reservation, PaymentCompletedPayload paymentCompleted) {
+		return new ReservationEvent(ReservationEventType.PAID, reservation.getId(), reservation.getUserId(),
+				paymentCompleted.concertScheduleId(), paymentCompleted.seatId(), reservation.getAmountCents(),
+				LocalDateTime.now());
+	}
+}
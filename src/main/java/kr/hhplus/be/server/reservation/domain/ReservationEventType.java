@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import lombok.Getter;
+
+/**
+ * 예약 도메인 이벤트 종류 (데이터 플랫폼 전송 대상)
+ */
+public enum ReservationEventType {
+	HELD(1, "좌석 홀드"),
+	PAID(2, "결제 완료");
+
+	@Getter
+	private final int code;
+
+	@Getter
+	private final String description;
+
+	ReservationEventType(int code, String description) {
+		this.code = code;
+		this.description = description;
+	}
+}
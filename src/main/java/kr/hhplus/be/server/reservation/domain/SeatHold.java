@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Redis에서 확정된 좌석 홀드 (DB 예약으로 저장되기 전)
+ *
+ * Redis 우선 홀드 방식에서 좌석 선점은 Redis가 결정하고, 예약 행은 쓰기 지연 작업이 나중에 저장합니다.
+ * 예약 ID는 선점할 때 미리 발급받아(ReservationIdAllocator) 응답에 담고, 쓰기 지연 작업이 그 ID로 예약 행을 저장합니다.
+ *
+ * @param reservationId 예약 ID (저장될 예약 행의 ID)
+ * @param concertScheduleId 공연 일정 ID
+ * @param seatId 좌석 ID
+ * @param userId 사용자 ID
+ * @param amountCents 결제 금액 (센트 단위)
+ * @param expiresAtMillis 홀드 만료 시각 (epoch 밀리초, Redis 서버 시각 기준)
+ * @param idempotencyKey 멱등성 키 (예약 행의 idempotency_key)
+ */
+public record SeatHold(Long reservationId, Long concertScheduleId, Long seatId, Long userId, BigDecimal amountCents,
+		long expiresAtMillis, String idempotencyKey) {
+
+	public LocalDateTime expiresAt() {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.reservation.dto;
+
+import kr.hhplus.be.server.common.CommonResponse;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+public class GroupReservationResponse extends CommonResponse {
+	private Long userId;
+	private List<ReservationResponse> reservations;
+	private BigDecimal totalAmountCents;
+
+	public static GroupReservationResponse from(Long userId, List<Reservation> reservations) {
+		GroupReservationResponse response = new GroupReservationResponse();
+		response.setUserId(userId);
+		response.setReservations(reservations.stream().map(ReservationResponse::from).toList());
+		response.setTotalAmountCents(reservations.stream()
+				.map(Reservation::getAmountCents)
+				.reduce(BigDecimal.ZERO, BigDecimal::add));
+		return response;
+	}
+
+}
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.reservation.port;
+
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxRepositoryPort {
+	OutboxEvent save(OutboxEvent event);
+
+	/**
+	 * 전달할 이벤트를 최대 limit개 가져감 (트랜잭션 안에서 호출)
+	 *
+	 * @param claimToken 이번 전달 묶음의 토큰
+	 * @param now 현재 시각
+	 * @param staleBefore 이 시각 전에 가져간 뒤 끝나지 않은 이벤트는 다시 가져감
+	 * @param limit 최대 이벤트 수
+	 * @return 가져간 이벤트 (ID 순)
+	 */
+	List<OutboxEvent> claim(String claimToken, LocalDateTime now, LocalDateTime staleBefore, int limit);
+
+	/**
+	 * 전달 완료 표시 (트랜잭션 안에서 호출, 같은 토큰으로 가져간 이벤트만)
+	 */
+	void markPublished(Collection<Long> eventIds, String claimToken, LocalDateTime now);
+
+	/**
+	 * 전달 실패 기록 (트랜잭션 안에서 호출, 남은 시도가 없으면 FAILED)
+	 */
+	void markAttemptFailed(OutboxEvent event, int attempts, LocalDateTime nextAttemptAt, boolean exhausted, String error);
+
+	/**
+	 * 공연 일정의 아직 전달이 끝나지 않은 이벤트 ID
+	 */
+	List<Long> findUnpublishedIds(Long concertScheduleId, OutboxEventType eventType);
+
+	long countUnpublished();
+
+	Optional<OutboxEvent> findOldestUnpublished();
+
+	/**
+	 * 전달 완료 후 보관 기간이 지난 이벤트 삭제 (트랜잭션 안에서 호출)
+	 */
+	int deletePublishedBefore(LocalDateTime before);
+}
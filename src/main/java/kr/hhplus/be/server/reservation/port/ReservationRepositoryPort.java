@@ -5,6 +5,7 @@ import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +14,44 @@ public interface ReservationRepositoryPort {
 	Reservation save(Reservation reservation);
 	Optional<Reservation> findById(Long reservationId);
 	Optional<Reservation> findByIdempotencyKey(String idempotencyKey);
+	List<Reservation> findAllByIdempotencyKeys(Collection<String> idempotencyKeys);
+	List<Reservation> findAllByIdempotencyKeyPrefix(String idempotencyKeyPrefix);
 	boolean existsBySeatIdAndStatus(Long seatId, ReservationStatus reservationStatus);
+	boolean existsBySeatIdInAndStatus(Collection<Long> seatIds, ReservationStatus reservationStatus);
+
+	/**
+	 * 예약 여러 건을 JDBC 배치 INSERT 한 번으로 저장 (영속성 컨텍스트를 거치지 않음)
+	 * 생성된 예약 ID를 각 예약에 채워 돌려줍니다. 예약 ID가 이미 정해져 있으면 그 ID로 저장합니다. (모두 같은 경우만)
+	 */
+	List<Reservation> insertAll(List<Reservation> reservations);
+
+	/**
+	 * 가장 큰 예약 ID (예약이 없으면 0, 예약 ID 카운터 시작 값)
+	 */
+	long findMaxId();
 
 	List<Reservation> findExpiredReservations(ReservationStatus status, LocalDateTime now);
 
 	int expireReservations(ReservationStatus oldStatus, ReservationStatus newStatus, LocalDateTime now);
 
+	/**
+	 * HOLD 상태 예약을 결제 완료로 변경 (펜싱 토큰 조건부)
+	 *
+	 * @param reservationId 예약 ID
+	 * @param fencingToken 예약 락 획득 시 발급된 펜싱 토큰
+	 * @return 변경 성공 여부 (이미 처리되었거나 같은 토큰 이상으로 변경된 경우 false)
+	 */
+	boolean markAsPaid(Long reservationId, long fencingToken);
+
 	/**
 	 * 콘서트 일정별 결제 완료된 예약 개수 조회
 	 */
 	long countByConcertScheduleIdAndStatus(Long concertScheduleId, ReservationStatus status);
+
+	/**
+	 * 콘서트 일정의 HOLD 상태 예약을 모두 취소로 변경
+	 *
+	 * @return 취소된 예약 개수
+	 */
+	int cancelHoldsBySchedule(Long concertScheduleId);
 }
@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.reservation.port;
+
+import kr.hhplus.be.server.reservation.domain.SeatHold;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Redis 우선 좌석 홀드 저장소
+ *
+ * 홀드 여부는 이 저장소가 원자적으로 결정하고, 확정된 홀드는 공연 일정별 저장 대기열에 쌓여
+ * 쓰기 지연 작업(SeatHoldWriteBehindWorker)이 DB 예약으로 저장합니다.
+ */
+@Repository
+public interface SeatHoldStorePort {
+
+	/**
+	 * 좌석 홀드 선점 (좌석 확인, 홀드 기록, 저장 대기열 등록을 한 번에)
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param seatId 좌석 ID
+	 * @param userId 사용자 ID
+	 * @param amountCents 결제 금액 (센트 단위)
+	 * @param idempotencyKey 멱등성 키
+	 * @param holdDuration 홀드 유지 시간
+	 * @param reservationId 새로 선점하면 사용할 예약 ID (같은 멱등성 키로 이미 선점했다면 쓰이지 않음)
+	 * @return 선점한 홀드 (같은 멱등성 키로 이미 선점했다면 그 홀드), 이미 다른 요청이 선점한 좌석이면 빈 값
+	 */
+	Optional<SeatHold> claim(Long concertScheduleId, Long seatId, Long userId, BigDecimal amountCents,
+			String idempotencyKey, Duration holdDuration, long reservationId);
+
+	/**
+	 * 예약 ID 구간 발급 (모든 노드가 공유하는 카운터)
+	 *
+	 * @param count 발급할 ID 개수
+	 * @return 발급한 구간의 마지막 ID (last - count + 1 ~ last), 카운터가 아직 없으면 빈 값
+	 */
+	OptionalLong allocateReservationIds(int count);
+
+	/**
+	 * 예약 ID 카운터가 없을 때만 시작 값 설정 (이미 있으면 무시)
+	 *
+	 * @param floor 이미 사용 중인 가장 큰 예약 ID
+	 */
+	void initReservationIds(long floor);
+
+	/**
+	 * 저장 대기 중인 홀드가 있는 공연 일정 ID 목록
+	 */
+	List<Long> findSchedulesWithHolds();
+
+	/**
+	 * 저장 대기열에서 홀드를 최대 maxCount개 꺼냄
+	 */
+	List<SeatHold> pollPending(Long concertScheduleId, int maxCount);
+
+	/**
+	 * 저장에 실패한 홀드를 저장 대기열에 다시 넣음
+	 */
+	void requeue(List<SeatHold> holds);
+
+	/**
+	 * 만료되지 않은 홀드 목록 (정합성 점검용)
+	 */
+	List<SeatHold> findActiveHolds(Long concertScheduleId);
+
+	/**
+	 * DB에서 거절된 홀드를 취소 (같은 홀드일 때만)
+	 */
+	void reject(SeatHold hold);
+
+	/**
+	 * 결제가 끝난 좌석을 판매 불가로 표시 (홀드가 만료되어도 다시 선점되지 않도록)
+	 */
+	void markSold(Long concertScheduleId, Long seatId);
+
+	/**
+	 * 저장 대기열과 홀드가 모두 비었으면 공연 일정을 목록에서 제거
+	 */
+	void forgetScheduleIfIdle(Long concertScheduleId);
+}
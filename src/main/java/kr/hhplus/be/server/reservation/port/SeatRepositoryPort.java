@@ -3,12 +3,20 @@ package kr.hhplus.be.server.reservation.port;
 import kr.hhplus.be.server.concert.domain.Seat;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SeatRepositoryPort {
 	Optional<Seat> findById(Long seatId);
 	Optional<Seat> findByIdWithLock(Long seatId);
+
+	/**
+	 * 여러 좌석을 좌석 ID 순으로 행 잠금 조회 (없는 좌석은 결과에서 빠짐)
+	 */
+	List<Seat> findAllByIdWithLock(Collection<Long> seatIds);
 	Seat save(Seat seat);
 	boolean isSeatAvailable(Long seatId);
 	
@@ -16,4 +24,37 @@ public interface SeatRepositoryPort {
 	 * 콘서트 일정별 전체 좌석 개수 조회
 	 */
 	long countByConcertScheduleId(Long concertScheduleId);
+
+	/**
+	 * 빈 좌석(NON_RESERVATION)을 예약 중(RESERVATION)으로 조건부 변경
+	 *
+	 * @return 선점 성공 여부 (이미 예약 중이거나 좌석이 없으면 false)
+	 */
+	boolean claimSeat(Long seatId);
+
+	/**
+	 * 여러 빈 좌석을 조건부 UPDATE 한 번으로 예약 중으로 변경
+	 *
+	 * @return 모든 좌석 선점 성공 여부 (하나라도 실패하면 false, 호출한 트랜잭션을 롤백해야 함)
+	 */
+	boolean claimSeats(Collection<Long> seatIds);
+
+	/**
+	 * 홀드가 만료된 예약의 좌석 조회 (예약 만료 처리 전에 호출)
+	 */
+	List<Seat> findSeatsOfExpiredHolds(LocalDateTime now);
+
+	/**
+	 * 홀드가 만료된 예약의 좌석을 빈 좌석으로 되돌림 (예약 만료 처리 전에 호출)
+	 *
+	 * @return 되돌린 좌석 개수
+	 */
+	int releaseSeatsOfExpiredHolds(LocalDateTime now);
+
+	/**
+	 * 공연 일정의 홀드 중인 예약 좌석을 빈 좌석으로 되돌림 (홀드 일괄 취소 전에 호출)
+	 *
+	 * @return 되돌린 좌석 개수
+	 */
+	int releaseSeatsOfHoldsBySchedule(Long concertScheduleId);
 }
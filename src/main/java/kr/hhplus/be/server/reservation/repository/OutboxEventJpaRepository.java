@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventStatus;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 전달할 이벤트 ID (재시도 시각이 된 대기 이벤트 + 가져간 노드가 오래 끝내지 못한 이벤트)
+	 */
+	@Query("SELECT e.id FROM OutboxEvent e " +
+		"WHERE (e.status = :pending AND e.nextAttemptAt <= :now) " +
+		"OR (e.status = :processing AND e.claimedAt < :staleBefore) " +
+		"ORDER BY e.id")
+	List<Long> findClaimableIds(@Param("pending") OutboxEventStatus pending,
+	                            @Param("processing") OutboxEventStatus processing,
+	                            @Param("now") LocalDateTime now,
+	                            @Param("staleBefore") LocalDateTime staleBefore,
+	                            Pageable pageable);
+
+	/**
+	 * 조건부 UPDATE로 이벤트를 가져감 (다른 노드가 먼저 가져간 이벤트는 영향받지 않음)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE OutboxEvent e SET e.status = :processing, e.claimToken = :claimToken, e.claimedAt = :now " +
+		"WHERE e.id IN :ids AND ((e.status = :pending AND e.nextAttemptAt <= :now) " +
+		"OR (e.status = :processing AND e.claimedAt < :staleBefore))")
+	int claim(@Param("ids") Collection<Long> ids,
+	          @Param("claimToken") String claimToken,
+	          @Param("pending") OutboxEventStatus pending,
+	          @Param("processing") OutboxEventStatus processing,
+	          @Param("now") LocalDateTime now,
+	          @Param("staleBefore") LocalDateTime staleBefore);
+
+	List<OutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE OutboxEvent e SET e.status = :published, e.publishedAt = :now " +
+		"WHERE e.id IN :ids AND e.claimToken = :claimToken")
+	int markPublished(@Param("ids") Collection<Long> ids,
+	                  @Param("claimToken") String claimToken,
+	                  @Param("published") OutboxEventStatus published,
+	                  @Param("now") LocalDateTime now);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, " +
+		"e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError " +
+		"WHERE e.id = :id AND e.claimToken = :claimToken")
+	int markAttemptFailed(@Param("id") Long id,
+	                      @Param("claimToken") String claimToken,
+	                      @Param("status") OutboxEventStatus status,
+	                      @Param("attempts") int attempts,
+	                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+	                      @Param("lastError") String lastError);
+
+	@Query("SELECT e.id FROM OutboxEvent e " +
+		"WHERE e.concertScheduleId = :concertScheduleId AND e.eventType = :eventType AND e.status IN :statuses")
+	List<Long> findIdsByScheduleAndStatusIn(@Param("concertScheduleId") Long concertScheduleId,
+	                                        @Param("eventType") OutboxEventType eventType,
+	                                        @Param("statuses") Collection<OutboxEventStatus> statuses);
+
+	long countByStatusIn(Collection<OutboxEventStatus> statuses);
+
+	Optional<OutboxEvent> findFirstByStatusInOrderByIdAsc(Collection<OutboxEventStatus> statuses);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.status = :published AND e.publishedAt < :before")
+	int deletePublishedBefore(@Param("published") OutboxEventStatus published,
+	                          @Param("before") LocalDateTime before);
+}
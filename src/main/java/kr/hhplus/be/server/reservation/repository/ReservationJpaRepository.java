@@ -9,16 +9,27 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationJpaRepository extends JpaRepository<Reservation, Long> {
 	Optional<Reservation> findByIdempotencyKey(String idempotencyKey);
+
+	List<Reservation> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+	List<Reservation> findByIdempotencyKeyStartingWith(String idempotencyKeyPrefix);
+
+	@Query("SELECT COALESCE(MAX(r.id), 0) FROM Reservation r")
+	long findMaxId();
 	
 	@Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.seat.seatId = :seatId AND r.status = :status")
 	boolean existsBySeatIdAndStatus(@Param("seatId") Long seatId, @Param("status") ReservationStatus status);
 
+	@Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.seat.seatId IN :seatIds AND r.status = :status")
+	boolean existsBySeatIdInAndStatus(@Param("seatIds") Collection<Long> seatIds, @Param("status") ReservationStatus status);
+
 	@Query("SELECT r FROM Reservation r " +
 		"WHERE r.status = :status AND r.holdExpiresAt < :now")
 	List<Reservation> findExpiredReservations(
@@ -33,9 +44,33 @@ public interface ReservationJpaRepository extends JpaRepository<Reservation, Lon
 		                       @Param("newStatus") ReservationStatus newStatus,
 		                       @Param("now") LocalDateTime now);
 
+	/**
+	 * 펜싱 토큰 조건부 상태 변경
+	 * 현재 상태가 oldStatus이고, 저장된 토큰이 없거나 요청 토큰보다 작을 때만 변경하고 요청 토큰을 기록합니다.
+	 * 호출한 트랜잭션 안에서 실행되므로, 트랜잭션이 롤백되면 토큰 기록도 함께 롤백됩니다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Reservation r SET r.status = :newStatus, r.fencingToken = :fencingToken " +
+		"WHERE r.id = :reservationId AND r.status = :oldStatus " +
+		"AND (r.fencingToken IS NULL OR r.fencingToken < :fencingToken)")
+	int updateStatusIfFenced(@Param("reservationId") Long reservationId,
+	                         @Param("oldStatus") ReservationStatus oldStatus,
+	                         @Param("newStatus") ReservationStatus newStatus,
+	                         @Param("fencingToken") Long fencingToken);
+
 	/**
 	 * 콘서트 일정별 결제 완료된 예약 개수 조회
 	 */
 	@Query("SELECT COUNT(r) FROM Reservation r WHERE r.concertSchedule.concertScheduleId = :concertScheduleId AND r.status = :status")
 	long countByConcertScheduleIdAndStatus(@Param("concertScheduleId") Long concertScheduleId, @Param("status") ReservationStatus status);
+
+	/**
+	 * 콘서트 일정의 예약 상태 일괄 변경
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Reservation r SET r.status = :newStatus " +
+		"WHERE r.concertSchedule.concertScheduleId = :concertScheduleId AND r.status = :oldStatus")
+	int updateStatusBySchedule(@Param("concertScheduleId") Long concertScheduleId,
+	                           @Param("oldStatus") ReservationStatus oldStatus,
+	                           @Param("newStatus") ReservationStatus newStatus);
 }
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 처리기
+ *
+ * OutboxRelay는 이벤트 종류가 같은 모든 처리기에 이벤트를 전달하고, 하나라도 실패하면 이벤트 전체를 재시도합니다.
+ * 따라서 처리기는 같은 이벤트를 여러 번 받아도 결과가 같아야 합니다.
+ */
+public interface OutboxEventHandler {
+
+	OutboxEventType eventType();
+
+	void handle(OutboxEvent event);
+}
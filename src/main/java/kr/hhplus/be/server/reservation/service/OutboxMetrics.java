@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 전달 메트릭 (Micrometer, /actuator/metrics로 조회)
+ *
+ * - outbox.pending: 아직 전달이 끝나지 않은 이벤트 수 (마지막 확인 시점)
+ * - outbox.lag: 전달되지 않은 가장 오래된 이벤트가 발생한 뒤 지난 시간 (초, 마지막 확인 시점)
+ * - outbox.delivery: 이벤트 발생부터 전달 완료까지 걸린 시간 (히스토그램)
+ * - outbox.events: 전달 시도 결과 수 (outcome=published|retry|failed)
+ *
+ * 게이지 값은 OutboxRelay가 확인 주기마다 갱신하므로, 조회할 때 DB를 읽지 않습니다.
+ */
+@Component
+public class OutboxMetrics {
+
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong lagMillis = new AtomicLong();
+	private final Timer delivery;
+	private final Counter published;
+	private final Counter retried;
+	private final Counter failed;
+
+	public OutboxMetrics(MeterRegistry meterRegistry) {
+		Gauge.builder("outbox.pending", pending, AtomicLong::get)
+				.description("전달되지 않은 아웃박스 이벤트 수")
+				.register(meterRegistry);
+		Gauge.builder("outbox.lag", lagMillis, value -> value.get() / 1000.0)
+				.description("전달되지 않은 가장 오래된 아웃박스 이벤트의 경과 시간")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+		this.delivery = Timer.builder("outbox.delivery")
+				.description("아웃박스 이벤트 발생부터 전달 완료까지 걸린 시간")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.published = Counter.builder("outbox.events")
+				.description("아웃박스 이벤트 전달 시도 결과 수")
+				.tag("outcome", "published")
+				.register(meterRegistry);
+		this.retried = Counter.builder("outbox.events")
+				.description("아웃박스 이벤트 전달 시도 결과 수")
+				.tag("outcome", "retry")
+				.register(meterRegistry);
+		this.failed = Counter.builder("outbox.events")
+				.description("아웃박스 이벤트 전달 시도 결과 수")
+				.tag("outcome", "failed")
+				.register(meterRegistry);
+	}
+
+	void recordBacklog(long pendingCount, Duration lag) {
+		pending.set(pendingCount);
+		lagMillis.set(lag.toMillis());
+	}
+
+	void recordPublished(Duration sinceOccurred) {
+		delivery.record(sinceOccurred);
+		published.increment();
+	}
+
+	void recordRetry() {
+		retried.increment();
+	}
+
+	void recordFailed() {
+		failed.increment();
+	}
+
+	public long pending() {
+		return pending.get();
+	}
+
+	public Duration lag() {
+		return Duration.ofMillis(lagMillis.get());
+	}
+}
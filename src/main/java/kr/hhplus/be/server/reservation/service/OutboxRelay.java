@@ -0,0 +1,156 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아웃박스 이벤트 전달 작업
+ *
+ * 결제 트랜잭션과 함께 저장된 이벤트를 커밋 후 묶음으로 꺼내 이벤트 종류별 처리기(OutboxEventHandler)에 전달합니다.
+ * 결제는 DB 작업만 하고 응답하므로, Redis 지연이나 오류가 결제 시간과 결과에 영향을 주지 않습니다.
+ *
+ * 중복 전달 방지:
+ * - 이벤트는 조건부 UPDATE로 묶음 토큰을 붙여 가져가므로, 여러 노드가 동시에 확인해도 같은 이벤트를 함께 처리하지 않습니다.
+ * - 가져간 노드가 죽어 claimTimeout이 지나도록 끝나지 않은 이벤트는 다른 노드가 다시 가져갑니다.
+ *   이때는 같은 이벤트가 다시 처리될 수 있으므로, 처리기는 같은 이벤트를 다시 받아도 결과가 같아야 합니다.
+ *
+ * 재시도:
+ * - 처리기 하나라도 실패하면 이벤트를 대기 상태로 되돌리고 retryBackoff부터 두 배씩 늘린 시간 뒤에 다시 시도합니다.
+ * - maxAttempts번 실패하면 FAILED로 남기고 더 시도하지 않습니다. (last_error로 원인 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private final OutboxRepositoryPort outboxRepositoryPort;
+	private final List<OutboxEventHandler> handlers;
+	private final OutboxMetrics outboxMetrics;
+	private final ReservationProperties reservationProperties;
+	private final PlatformTransactionManager transactionManager;
+
+	@Scheduled(fixedDelayString = "${hhplus.reservation.outbox.poll-interval:200ms}")
+	public void poll() {
+		try {
+			// 가득 찬 묶음이면 밀린 이벤트가 더 있을 수 있으므로 바로 다음 묶음을 가져감
+			int batchSize = reservationProperties.getOutbox().getBatchSize();
+			int relayed;
+			do {
+				relayed = relayBatch();
+			} while (relayed == batchSize);
+			recordBacklog();
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 전달 중 오류 발생", e);
+		}
+	}
+
+	@Scheduled(fixedDelay = 3600000)
+	public void purge() {
+		try {
+			LocalDateTime before = LocalDateTime.now().minus(reservationProperties.getOutbox().getRetention());
+			Integer deleted = new TransactionTemplate(transactionManager)
+					.execute(status -> outboxRepositoryPort.deletePublishedBefore(before));
+			if (deleted != null && deleted > 0) {
+				log.info("보관 기간이 지난 아웃박스 이벤트 {}개를 삭제했습니다.", deleted);
+			}
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 삭제 중 오류 발생", e);
+		}
+	}
+
+	/**
+	 * 이벤트 한 묶음을 가져가 전달
+	 *
+	 * @return 가져간 이벤트 개수
+	 */
+	int relayBatch() {
+		ReservationProperties.Outbox properties = reservationProperties.getOutbox();
+		String claimToken = UUID.randomUUID().toString();
+		LocalDateTime claimedAt = LocalDateTime.now();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		List<OutboxEvent> events = transactionTemplate.execute(status -> outboxRepositoryPort.claim(claimToken,
+				claimedAt, claimedAt.minus(properties.getClaimTimeout()), properties.getBatchSize()));
+		if (events == null || events.isEmpty()) {
+			return 0;
+		}
+
+		List<Long> published = new ArrayList<>();
+		for (OutboxEvent event : events) {
+			try {
+				dispatch(event);
+				published.add(event.getId());
+				outboxMetrics.recordPublished(Duration.between(event.getOccurredAt(), LocalDateTime.now()));
+			} catch (Exception e) {
+				recordFailure(transactionTemplate, event, e);
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status ->
+				outboxRepositoryPort.markPublished(published, claimToken, LocalDateTime.now()));
+		return events.size();
+	}
+
+	private void dispatch(OutboxEvent event) {
+		for (OutboxEventHandler handler : handlers) {
+			if (handler.eventType() == event.getEventType()) {
+				handler.handle(event);
+			}
+		}
+	}
+
+	private void recordFailure(TransactionTemplate transactionTemplate, OutboxEvent event, Exception cause) {
+		ReservationProperties.Outbox properties = reservationProperties.getOutbox();
+		int attempts = event.getAttempts() + 1;
+		boolean exhausted = attempts >= properties.getMaxAttempts();
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+
+		if (exhausted) {
+			log.error("아웃박스 이벤트 전달 실패, 더 시도하지 않음: eventId={}, type={}, attempts={}",
+					event.getId(), event.getEventType(), attempts, cause);
+			outboxMetrics.recordFailed();
+		} else {
+			log.warn("아웃박스 이벤트 전달 실패, 재시도 예정: eventId={}, type={}, attempts={}, nextAttemptAt={}",
+					event.getId(), event.getEventType(), attempts, nextAttemptAt, cause);
+			outboxMetrics.recordRetry();
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> outboxRepositoryPort.markAttemptFailed(event, attempts,
+					nextAttemptAt, exhausted, String.valueOf(cause)));
+		} catch (Exception e) {
+			// 기록하지 못하면 claimTimeout이 지난 뒤 다시 가져가 재시도됨
+			log.error("아웃박스 이벤트 실패 기록 실패: eventId={}", event.getId(), e);
+		}
+	}
+
+	/**
+	 * 재시도 대기 시간 (retryBackoff * 2^(attempts - 1), 최대 maxRetryBackoff)
+	 */
+	Duration backoff(int attempts) {
+		ReservationProperties.Outbox properties = reservationProperties.getOutbox();
+		Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+		return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+	}
+
+	private void recordBacklog() {
+		long pending = outboxRepositoryPort.countUnpublished();
+		Duration lag = outboxRepositoryPort.findOldestUnpublished()
+				.map(event -> Duration.between(event.getOccurredAt(), LocalDateTime.now()))
+				.orElse(Duration.ZERO);
+		outboxMetrics.recordBacklog(pending, lag);
+	}
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료 좌석 표시
+ *
+ * - Redis 우선 홀드 방식이면 결제된 좌석을 Redis에도 판매 완료로 표시합니다.
+ *   (홀드가 만료된 뒤 Redis에서 다시 선점되었다가 저장 단계에서 거절되는 일을 막음)
+ * - 결제된 좌석을 예약 가능 비트맵에 예약 불가로 표시합니다. (홀드 때 표시한 비트가 지워졌어도 다시 맞춤)
+ *
+ * 두 표시 모두 같은 값을 덮어쓰므로 다시 받아도 결과가 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentCompletedSeatHandler implements OutboxEventHandler {
+
+	private final ReservationProperties reservationProperties;
+	private final SeatHoldStorePort seatHoldStorePort;
+	private final SeatAvailabilityService seatAvailabilityService;
+
+	@Override
+	public OutboxEventType eventType() {
+		return OutboxEventType.PAYMENT_COMPLETED;
+	}
+
+	@Override
+	public void handle(OutboxEvent event) {
+		PaymentCompletedPayload payload = PaymentCompletedPayload.parse(event.getPayload());
+
+		if (reservationProperties.getHoldStrategy() == ReservationProperties.HoldStrategy.REDIS_FIRST) {
+			seatHoldStorePort.markSold(payload.concertScheduleId(), payload.seatId());
+		}
+
+		seatAvailabilityService.markTaken(payload.concertScheduleId(), payload.seatNumber());
+	}
+}
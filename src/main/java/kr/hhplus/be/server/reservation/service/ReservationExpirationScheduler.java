@@ -1,14 +1,18 @@
 package kr.hhplus.be.server.reservation.service;
 
 import jakarta.transaction.Transactional;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -16,6 +20,8 @@ import java.time.LocalDateTime;
 public class ReservationExpirationScheduler {
 
 	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final SeatRepositoryPort seatRepositoryPort;
+	private final SeatAvailabilityService seatAvailabilityService;
 
 	@Scheduled(fixedDelay = 60000)
 	@Transactional
@@ -23,6 +29,12 @@ public class ReservationExpirationScheduler {
 		try {
 			LocalDateTime now = LocalDateTime.now();
 
+			//만료될 홀드의 좌석 (예약 가능 비트맵에서 되돌릴 좌석)
+			List<Seat> expiredSeats = seatRepositoryPort.findSeatsOfExpiredHolds(now);
+
+			//조건부 UPDATE 방식으로 선점된 좌석을 먼저 빈 좌석으로 되돌림 (만료 대상 예약을 찾을 수 있을 때)
+			seatRepositoryPort.releaseSeatsOfExpiredHolds(now);
+
 			//만료된 HOLD 상태 예약을 EXPIRED로 변경
 			int expiredCount = reservationRepositoryPort.expireReservations(
 					ReservationStatus.HOLD,
@@ -31,6 +43,7 @@ public class ReservationExpirationScheduler {
 			);
 
 			if(expiredCount > 0) {
+				seatAvailabilityService.markAvailable(expiredSeats);
 				log.info("만료된 예약 {}개를 해제했습니다.", expiredCount);
 			}
 
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * Redis 우선 홀드의 예약 ID 발급
+ *
+ * 예약 행은 쓰기 지연 작업이 나중에 저장하지만, 응답의 예약 ID로 바로 결제할 수 있도록 선점 전에 ID를 정합니다.
+ * - 모든 노드가 공유하는 Redis 카운터에서 구간(hhplus.reservation.write-behind.id-block-size)을 받아
+ *   노드 메모리에서 하나씩 나눠 주므로, Redis 왕복은 구간마다 한 번입니다.
+ * - 카운터가 없으면(처음 사용, Redis 초기화) DB의 가장 큰 예약 ID에서 시작하여 기존 예약과 겹치지 않게 합니다.
+ * - 선점에 실패하거나 노드가 재시작되면 받은 ID 중 쓰지 않은 것은 버려지므로 예약 ID에 빈 번호가 생길 수 있습니다.
+ * - 카운터는 DB의 IDENTITY와 따로 증가하므로 다른 홀드 방식과 섞어 쓰지 않아야 합니다. (ReserveConcertUseCase 참고)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationIdAllocator {
+
+	private final SeatHoldStorePort seatHoldStorePort;
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final ReservationProperties reservationProperties;
+
+	/**
+	 * 다음에 나눠 줄 ID와 받은 구간의 마지막 ID (nextId > lastId면 구간을 다 씀)
+	 */
+	private long nextId = 1;
+	private long lastId;
+
+	/**
+	 * 예약 ID 하나 발급
+	 *
+	 * @return 예약 ID
+	 * @throws IllegalStateException 카운터를 시작한 직후에도 구간을 받지 못한 경우
+	 */
+	public synchronized long next() {
+		if (nextId > lastId) {
+			refill();
+		}
+		return nextId++;
+	}
+
+	private void refill() {
+		int blockSize = reservationProperties.getWriteBehind().getIdBlockSize();
+		OptionalLong last = seatHoldStorePort.allocateReservationIds(blockSize);
+		if (last.isEmpty()) {
+			seatHoldStorePort.initReservationIds(reservationRepositoryPort.findMaxId());
+			last = seatHoldStorePort.allocateReservationIds(blockSize);
+		}
+		if (last.isEmpty()) {
+			throw new IllegalStateException("예약 ID 구간을 발급받지 못했습니다.");
+		}
+		lastId = last.getAsLong();
+		nextId = lastId - blockSize + 1;
+	}
+}
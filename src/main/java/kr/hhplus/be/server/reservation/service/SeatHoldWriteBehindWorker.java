@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.SeatHold;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 우선 좌석 홀드의 쓰기 지연 저장 작업
+ *
+ * Redis가 확정한 홀드를 공연 일정별 저장 대기열에서 묶음으로 꺼내 한 트랜잭션에 예약 행으로 저장합니다.
+ * - 예약 행은 선점할 때 응답한 예약 ID(SeatHold.reservationId)로 묶음마다 배치 INSERT 한 번에 저장합니다.
+ * - 이미 같은 멱등성 키의 예약이 있으면 건너뜁니다. (재시도, 정합성 점검으로 다시 들어온 홀드)
+ * - 좌석은 조건부 UPDATE로 선점 표시하여 다른 홀드 방식, 홀드 만료 처리와 같은 좌석 상태를 공유합니다.
+ * - 좌석이 DB에서 이미 선점되어 있으면 Redis 홀드를 취소합니다. (판매 완료 좌석 등 Redis가 모르는 상태)
+ * - DB 오류로 묶음이 롤백되면 묶음 전체를 대기열 앞쪽에 다시 넣고 다음 주기에 재시도합니다.
+ * - 저장한 홀드마다 좌석 홀드 이벤트(ReservationEvent)를 발행하며, 묶음이 커밋된 뒤에만 데이터 플랫폼으로 전송됩니다.
+ *
+ * 정합성 점검:
+ * - 대기열에서 꺼낸 뒤 저장 전에 노드가 죽으면 그 홀드는 대기열에서 사라집니다.
+ * - 주기적으로 만료되지 않은 Redis 홀드 중 일정 시간이 지나도록 DB에 없는 홀드를 다시 대기열에 넣습니다.
+ *
+ * 홀드 방식이 redis-first인 노드에서만 동작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldWriteBehindWorker {
+
+	private final SeatHoldStorePort seatHoldStorePort;
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final SeatRepositoryPort seatRepositoryPort;
+	private final ReservationProperties reservationProperties;
+	private final PlatformTransactionManager transactionManager;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Scheduled(fixedDelayString = "${hhplus.reservation.write-behind.interval:200ms}")
+	public void flush() {
+		if (!isRedisFirst()) {
+			return;
+		}
+		try {
+			for (Long concertScheduleId : seatHoldStorePort.findSchedulesWithHolds()) {
+				flushSchedule(concertScheduleId);
+				seatHoldStorePort.forgetScheduleIfIdle(concertScheduleId);
+			}
+		} catch (Exception e) {
+			log.error("좌석 홀드 쓰기 지연 저장 중 오류 발생", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${hhplus.reservation.write-behind.reconcile-interval:30s}")
+	public void reconcile() {
+		if (!isRedisFirst()) {
+			return;
+		}
+		try {
+			for (Long concertScheduleId : seatHoldStorePort.findSchedulesWithHolds()) {
+				reconcileSchedule(concertScheduleId);
+			}
+		} catch (Exception e) {
+			log.error("좌석 홀드 정합성 점검 중 오류 발생", e);
+		}
+	}
+
+	/**
+	 * 공연 일정의 저장 대기열을 비울 때까지 묶음 단위로 저장
+	 *
+	 * @return 저장한 예약 개수
+	 */
+	int flushSchedule(Long concertScheduleId) {
+		int saved = 0;
+		int batchSize = reservationProperties.getWriteBehind().getBatchSize();
+		while (true) {
+			List<SeatHold> batch = seatHoldStorePort.pollPending(concertScheduleId, batchSize);
+			if (batch.isEmpty()) {
+				return saved;
+			}
+			List<SeatHold> rejected = new ArrayList<>();
+			try {
+				Integer count = new TransactionTemplate(transactionManager).execute(status -> persist(batch, rejected));
+				saved += count != null ? count : 0;
+			} catch (Exception e) {
+				log.warn("좌석 홀드 묶음 저장 실패, 다시 대기열에 넣음: concertScheduleId={}, size={}",
+						concertScheduleId, batch.size(), e);
+				seatHoldStorePort.requeue(batch);
+				return saved;
+			}
+			rejected.forEach(this::rejectIfNotPersisted);
+			if (batch.size() < batchSize) {
+				return saved;
+			}
+		}
+	}
+
+	/**
+	 * 오래된(저장되었어야 할) Redis 홀드 중 DB에 없는 홀드를 다시 대기열에 넣음
+	 *
+	 * @return 다시 넣은 홀드 개수
+	 */
+	int reconcileSchedule(Long concertScheduleId) {
+		long holdMillis = reservationProperties.getHoldDuration().toMillis();
+		long graceMillis = reservationProperties.getWriteBehind().getReconcileGrace().toMillis();
+		long now = System.currentTimeMillis();
+		List<SeatHold> missing = new ArrayList<>();
+		for (SeatHold hold : seatHoldStorePort.findActiveHolds(concertScheduleId)) {
+			long claimedAt = hold.expiresAtMillis() - holdMillis;
+			if (now - claimedAt < graceMillis) {
+				// 아직 대기열에 있거나 저장 중일 수 있음
+				continue;
+			}
+			if (reservationRepositoryPort.findByIdempotencyKey(hold.idempotencyKey()).isEmpty()) {
+				missing.add(hold);
+			}
+		}
+		if (!missing.isEmpty()) {
+			log.warn("DB에 저장되지 않은 좌석 홀드를 다시 대기열에 넣음: concertScheduleId={}, count={}",
+					concertScheduleId, missing.size());
+			seatHoldStorePort.requeue(missing);
+		}
+		return missing.size();
+	}
+
+	private boolean isRedisFirst() {
+		return reservationProperties.getHoldStrategy() == ReservationProperties.HoldStrategy.REDIS_FIRST;
+	}
+
+	private int persist(List<SeatHold> batch, List<SeatHold> rejected) {
+		List<Reservation> reservations = new ArrayList<>(batch.size());
+		for (SeatHold hold : batch) {
+			if (reservationRepositoryPort.findByIdempotencyKey(hold.idempotencyKey()).isPresent()) {
+				continue;
+			}
+			Optional<Seat> seat = seatRepositoryPort.findById(hold.seatId());
+			if (seat.isEmpty() || !seatRepositoryPort.claimSeat(hold.seatId())) {
+				rejected.add(hold);
+				continue;
+			}
+			reservations.add(toReservation(hold, seat.get()));
+		}
+		for (Reservation reservation : reservationRepositoryPort.insertAll(reservations)) {
+			eventPublisher.publishEvent(ReservationEvent.held(reservation));
+		}
+		return reservations.size();
+	}
+
+	/**
+	 * DB가 거절한 홀드 취소
+	 * 같은 홀드가 다른 노드에서 먼저 저장되어 좌석 선점에 실패한 경우는 취소하지 않습니다.
+	 */
+	private void rejectIfNotPersisted(SeatHold hold) {
+		if (reservationRepositoryPort.findByIdempotencyKey(hold.idempotencyKey()).isPresent()) {
+			return;
+		}
+		log.warn("DB에서 선점할 수 없는 좌석의 홀드를 취소함: concertScheduleId={}, seatId={}, idempotencyKey={}",
+				hold.concertScheduleId(), hold.seatId(), hold.idempotencyKey());
+		seatHoldStorePort.reject(hold);
+	}
+
+	private static Reservation toReservation(SeatHold hold, Seat seat) {
+		Reservation reservation = new Reservation();
+		reservation.setId(hold.reservationId());
+		reservation.setUserId(hold.userId());
+		reservation.setSeat(seat);
+		reservation.setConcertSchedule(seat.getConcertSchedule());
+		reservation.setStatus(ReservationStatus.HOLD);
+		reservation.setHoldExpiresAt(hold.expiresAt());
+		reservation.setAmountCents(hold.amountCents());
+		reservation.setIdempotencyKey(hold.idempotencyKey());
+		return reservation;
+	}
+}
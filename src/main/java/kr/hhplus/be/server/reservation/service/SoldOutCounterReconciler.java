@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.ranking.service.ConcertRankingService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 매진 카운터 정합성 점검
+ *
+ * 결제 완료 이벤트 처리(SoldOutRankingHandler)는 Redis 매진 카운터만 올리므로, Redis 오류나 FAILED로 남은 이벤트 등으로
+ * 빠진 증가가 있으면 카운터가 DB와 어긋납니다. 주기적으로 카운터가 있는 공연 일정의 좌석 수와 결제 완료 수를 DB에서 세어 덮어쓰고,
+ * 이벤트 처리 중 놓친 매진은 여기서 처음 표시하여 랭킹에 추가합니다.
+ *
+ * 주의사항:
+ * - 결제 완료 수에는 커밋되었지만 아직 전달되지 않은 결제도 포함되므로, 그 이벤트들은 반영된 것으로 함께 표시합니다.
+ * - 매진으로 표시된 일정은 랭킹에 없을 때만 추가합니다. (ZADD NX, 매진 표시 후 랭킹 추가가 실패한 일정도 여기서 채움)
+ * - 매진으로 표시되고 랭킹에도 있는 일정만 점검 대상에서 제외합니다. (랭킹 추가가 실패하면 다음 점검에서 다시 시도)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoldOutCounterReconciler {
+
+	private final SoldOutCounterService soldOutCounterService;
+	private final ConcertRankingService concertRankingService;
+	private final SeatRepositoryPort seatRepositoryPort;
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final OutboxRepositoryPort outboxRepositoryPort;
+
+	@Scheduled(fixedDelayString = "${hhplus.reservation.sold-out.reconcile-interval:1m}")
+	public void reconcile() {
+		try {
+			for (Long concertScheduleId : soldOutCounterService.trackedSchedules()) {
+				try {
+					reconcile(concertScheduleId);
+				} catch (Exception e) {
+					log.error("매진 카운터 정합성 점검 실패, 다음 점검에서 다시 시도: concertScheduleId={}", concertScheduleId, e);
+				}
+			}
+		} catch (Exception e) {
+			log.error("매진 카운터 정합성 점검 중 오류 발생", e);
+		}
+	}
+
+	/**
+	 * 공연 일정 하나의 카운터를 DB 기준으로 맞춤
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 */
+	public void reconcile(Long concertScheduleId) {
+		long totalSeats = seatRepositoryPort.countByConcertScheduleId(concertScheduleId);
+		if (totalSeats == 0) {
+			return;
+		}
+
+		long paidReservations = reservationRepositoryPort.countByConcertScheduleIdAndStatus(
+				concertScheduleId,
+				ReservationStatus.PAID
+		);
+
+		List<Long> countedEventIds = outboxRepositoryPort.findUnpublishedIds(concertScheduleId,
+				OutboxEventType.PAYMENT_COMPLETED);
+
+		SoldOutCounterService.PaidCount paidCount =
+				soldOutCounterService.reconcile(concertScheduleId, totalSeats, paidReservations, countedEventIds);
+
+		if (paidCount == SoldOutCounterService.PaidCount.COUNTED) {
+			return;
+		}
+		// Redis 오류는 그대로 던져 점검 대상에 남김
+		if (concertRankingService.addSoldOutConcertIfAbsent(concertScheduleId)) {
+			if (paidCount == SoldOutCounterService.PaidCount.SOLD_OUT_FIRST) {
+				log.info("정합성 점검에서 콘서트 매진 확인: concertScheduleId={}, totalSeats={}, paidReservations={}",
+						concertScheduleId, totalSeats, paidReservations);
+			} else {
+				log.warn("매진 표시 후 빠진 랭킹을 다시 추가: concertScheduleId={}", concertScheduleId);
+			}
+		}
+		soldOutCounterService.untrack(concertScheduleId);
+	}
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.ranking.service.ConcertRankingService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 결제 완료 시 매진 여부를 확인하고, 매진이면 랭킹에 추가
+ *
+ * 공연 일정별 Redis 매진 카운터의 결제 완료 수를 1 올려 O(1)로 판단하고,
+ * 카운터가 전체 좌석 수에 도달해 있으면 랭킹에 없을 때만 추가합니다. (ZADD NX, 처음 매진 시간 유지)
+ * 같은 이벤트가 다시 전달되면 카운터가 이벤트 ID로 걸러내므로 두 번 올리지 않습니다.
+ * 매진 표시 후 랭킹 추가가 실패하면 예외를 던져 아웃박스가 다시 전달하게 하고, 다시 전달된 이벤트는
+ * 매진으로 표시되어 있으면 랭킹을 채웁니다.
+ *
+ * 카운터가 없을 때만 전체 좌석 수와 결제 완료 수를 DB에서 세어 초기화합니다.
+ * 결제 완료 수에는 이미 커밋되었지만 아직 전달되지 않은 결제도 포함되므로, 그 이벤트들을 반영된 것으로 함께 표시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutRankingHandler implements OutboxEventHandler {
+
+	private final SoldOutCounterService soldOutCounterService;
+	private final ConcertRankingService concertRankingService;
+	private final SeatRepositoryPort seatRepositoryPort;
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final OutboxRepositoryPort outboxRepositoryPort;
+
+	@Override
+	public OutboxEventType eventType() {
+		return OutboxEventType.PAYMENT_COMPLETED;
+	}
+
+	@Override
+	public void handle(OutboxEvent event) {
+		Long concertScheduleId = event.getConcertScheduleId();
+		SoldOutCounterService.PaidCount paidCount = soldOutCounterService.recordPaid(concertScheduleId, event.getId());
+
+		if (paidCount == SoldOutCounterService.PaidCount.UNINITIALIZED) {
+			// 전체 좌석 개수 조회
+			long totalSeats = seatRepositoryPort.countByConcertScheduleId(concertScheduleId);
+
+			if (totalSeats == 0) {
+				// 좌석이 없으면 매진 확인 불가
+				return;
+			}
+
+			// 결제 완료된 예약 개수 조회
+			long paidReservations = reservationRepositoryPort.countByConcertScheduleIdAndStatus(
+					concertScheduleId,
+					ReservationStatus.PAID
+			);
+			List<Long> countedEventIds = outboxRepositoryPort.findUnpublishedIds(concertScheduleId,
+					OutboxEventType.PAYMENT_COMPLETED);
+			paidCount = soldOutCounterService.initializeOnPaid(concertScheduleId, totalSeats, paidReservations,
+					event.getId(), countedEventIds);
+		}
+
+		// 매진이면 랭킹에 없을 때만 추가 (실패하면 그대로 던져 아웃박스가 다시 전달)
+		if (isSoldOut(concertScheduleId, paidCount) && concertRankingService.addSoldOutConcertIfAbsent(concertScheduleId)) {
+			log.info("콘서트 매진: concertScheduleId={}", concertScheduleId);
+		}
+	}
+
+	private boolean isSoldOut(Long concertScheduleId, SoldOutCounterService.PaidCount paidCount) {
+		if (paidCount == SoldOutCounterService.PaidCount.SOLD_OUT_FIRST
+				|| paidCount == SoldOutCounterService.PaidCount.SOLD_OUT) {
+			return true;
+		}
+		// 매진 표시 후 랭킹 추가가 실패해 다시 전달된 이벤트일 수 있음
+		return paidCount == SoldOutCounterService.PaidCount.DUPLICATE && soldOutCounterService.isSoldOut(concertScheduleId);
+	}
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.common.service.DistributedLockService;
+import kr.hhplus.be.server.common.service.LockKeys;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공연 일정 홀드 일괄 취소 (관리자 작업)
+ *
+ * 공연 일정 쓰기 락(LockKeys.schedule)을 잡고 일정의 HOLD 예약을 모두 취소합니다.
+ * - 좌석 예약(ReserveConcertUseCase)은 같은 키의 읽기 락을 잡으므로, 진행 중인 예약이 모두 끝난 뒤 실행되고
+ *   실행되는 동안 새 예약은 기다립니다. 일괄 변경 도중 새 홀드가 끼어들어 남는 일이 없습니다.
+ * - 조건부 UPDATE 방식으로 선점된 좌석(RESERVATION)은 취소 전에 빈 좌석으로 되돌립니다.
+ * - 취소 후 공연 일정의 좌석 예약 가능 비트맵을 지워 다음 조회에서 DB 기준으로 다시 만들게 합니다.
+ * - 좌석 락은 잡지 않습니다. (좌석 락 → 일정 읽기 락 순서의 예약과 교착하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CancelScheduleHoldsUseCase {
+
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final SeatRepositoryPort seatRepositoryPort;
+	private final DistributedLockService distributedLockService;
+	private final PlatformTransactionManager transactionManager;
+	private final SeatAvailabilityService seatAvailabilityService;
+
+	/**
+	 * 공연 일정의 HOLD 예약 일괄 취소
+	 *
+	 * @param concertScheduleId 공연 일정 ID
+	 * @return 취소된 예약 개수
+	 * @throws IllegalStateException 쓰기 락 획득 실패 시
+	 */
+	public int execute(Long concertScheduleId) {
+		int cancelledCount = distributedLockService.executeWithWriteLock(LockKeys.schedule(concertScheduleId), () -> {
+			Integer count = new TransactionTemplate(transactionManager).execute(status -> {
+				seatRepositoryPort.releaseSeatsOfHoldsBySchedule(concertScheduleId);
+				return reservationRepositoryPort.cancelHoldsBySchedule(concertScheduleId);
+			});
+			// 커밋 후 쓰기 락을 쥔 채로 지워, 취소 전 상태로 다시 만들어지지 않게 함
+			seatAvailabilityService.evict(concertScheduleId);
+			return count != null ? count : 0;
+		});
+		log.info("공연 일정 홀드 일괄 취소: concertScheduleId={}, count={}", concertScheduleId, cancelledCount);
+		return cancelledCount;
+	}
+}
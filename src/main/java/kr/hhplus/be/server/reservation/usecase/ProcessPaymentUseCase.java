@@ -5,25 +5,28 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import kr.hhplus.be.server.point.domain.Ledger;
 import kr.hhplus.be.server.point.domain.Wallet;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
 import kr.hhplus.be.server.reservation.domain.Payment;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
 import kr.hhplus.be.server.reservation.domain.PaymentStatus;
 import kr.hhplus.be.server.reservation.domain.Reservation;
-import kr.hhplus.be.server.ranking.service.ConcertRankingService;
-import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
 import kr.hhplus.be.server.reservation.port.LedgerRepositoryPort;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
 import kr.hhplus.be.server.reservation.port.PaymentRepositoryPort;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
-import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
 import kr.hhplus.be.server.reservation.port.WalletRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
@@ -34,10 +37,10 @@ public class ProcessPaymentUseCase {
 	private final PaymentRepositoryPort paymentRepositoryPort;
 	private final WalletRepositoryPort walletRepositoryPort;
 	private final LedgerRepositoryPort ledgerRepositoryPort;
-	private final SeatRepositoryPort seatRepositoryPort;
-	private final ConcertRankingService concertRankingService;
 	private final DistributedLockService distributedLockService;
 	private final PlatformTransactionManager transactionManager;
+	private final OutboxRepositoryPort outboxRepositoryPort;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	// TransactionTemplate은 PlatformTransactionManager로부터 생성
 	private TransactionTemplate getTransactionTemplate() {
@@ -46,6 +49,11 @@ public class ProcessPaymentUseCase {
 
 	private static final String LOCK_KEY_PREFIX = "reservation:";
 
+	/**
+	 * 결제 동시 실행 세마포어 이름 (허가 수: hhplus.lock.permits.payment)
+	 */
+	static final String PAYMENT_SEMAPHORE = "payment";
+
 	/**
 	 * 예약 결제 처리
 	 * 
@@ -58,6 +66,11 @@ public class ProcessPaymentUseCase {
 	 * - 락을 획득한 후 DB 트랜잭션 내에서 작업을 수행합니다.
 	 * - 트랜잭션이 커밋된 후 락이 해제됩니다.
 	 * - 같은 예약에 대해 동시에 결제가 발생하는 것을 방지합니다.
+	 * - 락 TTL이 지나 다른 요청이 락을 가져간 뒤에도 이전 요청이 계속 실행될 수 있으므로,
+	 *   예약 상태 변경은 락 획득 시 받은 펜싱 토큰을 조건으로 걸어 늦은 요청의 쓰기를 거절합니다.
+	 * - 예약 락 안에서 결제 세마포어 허가를 얻은 뒤 트랜잭션을 시작하므로, 모든 노드를 합쳐
+	 *   동시에 DB 커넥션을 잡는 결제는 허가 수만큼으로 제한됩니다. 나머지는 커넥션 풀이 아닌 Redis에서 기다립니다.
+	 * - 멱등성은 락이 아닌 payments_main.idempotency_key 유니크 제약으로 보장합니다. (payWithPermit 참고)
 	 *
 	 * @param reservationId 예약 ID
 	 * @param idempotencyKey 멱등성 키
@@ -69,38 +82,98 @@ public class ProcessPaymentUseCase {
 		
 		// 분산락을 획득하고 작업 실행
 		// 락은 트랜잭션 외부에서 획득되지만, 내부 작업은 트랜잭션 내에서 수행됩니다.
-		return distributedLockService.executeWithLock(lockKey, () -> {
+		return distributedLockService.executeWithFencedLock(lockKey,
+				fencingToken -> payWithPermit(reservationId, idempotencyKey, fencingToken));
+	}
+
+	/**
+	 * 예약 결제 처리 - 비동기
+	 * 
+	 * execute와 같은 락(펜싱 토큰 포함), 세마포어, 트랜잭션으로 처리하되, 락과 세마포어 허가를 기다리는 동안
+	 * 스레드를 붙잡지 않습니다. 허가를 얻은 후의 트랜잭션은 분산락 작업 실행기(LockTaskExecutor)에서 실행됩니다.
+	 * 실행기는 비동기 좌석 선점과 함께 쓰므로, 허가 대기로 실행기 스레드를 점유하면 결제가 몰릴 때 좌석 선점까지 밀립니다.
+	 *
+	 * @param reservationId 예약 ID
+	 * @param idempotencyKey 멱등성 키
+	 * @return 처리된 결제 정보 (락 또는 허가 획득 실패 시 IllegalStateException으로 완료)
+	 */
+	public CompletableFuture<Payment> executeAsync(Long reservationId, String idempotencyKey) {
+		String lockKey = LOCK_KEY_PREFIX + reservationId;
+		String finalIdempotencyKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+
+		return distributedLockService.composeWithFencedLockAsync(lockKey,
+				fencingToken -> distributedLockService.executeWithPermitAsync(PAYMENT_SEMAPHORE,
+						() -> pay(reservationId, finalIdempotencyKey, fencingToken)));
+	}
+
+	/**
+	 * 결제 세마포어 허가를 얻고 트랜잭션 안에서 결제 (예약 락 안에서 실행)
+	 */
+	private Payment payWithPermit(Long reservationId, String idempotencyKey, long fencingToken) {
+		// 멱등성 키가 null이면 UUID를 생성하지만, 이는 멱등성을 보장하지 않으므로
+		// 실제 운영 환경에서는 idempotencyKey를 필수로 받아야 합니다.
+		String finalIdempotencyKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+		return distributedLockService.executeWithPermit(PAYMENT_SEMAPHORE,
+				() -> pay(reservationId, finalIdempotencyKey, fencingToken));
+	}
+
+	/**
+	 * 트랜잭션 안에서 결제하고, 멱등성 키가 중복이면 먼저 커밋된 결제를 반환 (예약 락과 세마포어 허가 안에서 실행)
+	 */
+	private Payment pay(Long reservationId, String idempotencyKey, long fencingToken) {
+		try {
 			// TransactionTemplate을 사용하여 명시적으로 트랜잭션 실행
 			return getTransactionTemplate().execute(status -> {
-				return executeInternal(reservationId, idempotencyKey);
+				return executeInternal(reservationId, idempotencyKey, fencingToken);
 			});
-		});
+		} catch (DataIntegrityViolationException e) {
+			return replayStoredPayment(idempotencyKey, e);
+		}
+	}
+
+	/**
+	 * 멱등성 키 중복으로 롤백된 결제 요청에 먼저 커밋된 결제를 반환
+	 *
+	 * 결제 트랜잭션은 롤백된 뒤라 새로 조회합니다. 같은 키의 결제가 없으면 다른 제약 위반이므로 그대로 던집니다.
+	 */
+	private Payment replayStoredPayment(String idempotencyKey, DataIntegrityViolationException e) {
+		return paymentRepositoryPort.findByIdempotencyKey(idempotencyKey)
+				.orElseThrow(() -> e);
 	}
 
 	/**
 	 * 결제 처리 내부 로직 (트랜잭션 내부에서 실행)
 	 * 
 	 * 분산락 내부에서 실행되므로 새로운 트랜잭션을 시작해야 합니다.
+	 * 멱등성 키를 먼저 조회하지 않고 결제 행부터 INSERT합니다. (insert-first)
+	 * - 처음 요청은 조회 없이 INSERT 한 번으로 키를 선점하고, 이후 검증이나 차감이 실패하면 INSERT도 함께 롤백됩니다.
+	 * - 같은 키의 재요청은 유니크 제약 위반(DataIntegrityViolationException)으로 롤백되고, 호출자가 저장된 결제를 반환합니다.
+	 * - 같은 키의 요청이 동시에 들어오면 뒤의 INSERT는 앞 트랜잭션이 끝날 때까지 유니크 인덱스에서 기다린 뒤 위반으로 실패하므로,
+	 *   락 없이도 한 번만 결제됩니다.
 	 *
 	 * @param reservationId 예약 ID
 	 * @param idempotencyKey 멱등성 키
+	 * @param fencingToken 예약 락 펜싱 토큰
 	 * @return 처리된 결제 정보
 	 */
-	private Payment executeInternal(Long reservationId, String idempotencyKey) {
-		// 1. 멱등성 체크 (가장 먼저 수행 - 잔액 차감 전에 중복 요청을 방지)
-		// 멱등성 키가 null이면 UUID를 생성하지만, 이는 멱등성을 보장하지 않으므로
-		// 실제 운영 환경에서는 idempotencyKey를 필수로 받아야 합니다.
-		String finalIdempotencyKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
-		Optional<Payment> existingPayment = paymentRepositoryPort.findByIdempotencyKey(finalIdempotencyKey);
-		if(existingPayment.isPresent()) {
-			// 이미 존재하는 결제 반환 (멱등성 보장)
-			return existingPayment.get();
-		}
-
-		// 2. 예약 조회
+	private Payment executeInternal(Long reservationId, String idempotencyKey, long fencingToken) {
+		// 1. 예약 조회
 		Reservation reservation = reservationRepositoryPort.findById(reservationId)
 				.orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다. reservationId : " + reservationId));
 
+		// 2. 결제 정보 생성 및 저장 (멱등성 키 선점, 처음부터 APPROVED 상태로 생성)
+		// 이미 결제된 예약의 재요청도 상태 확인보다 먼저 키 중복으로 걸러지도록 가장 먼저 INSERT합니다.
+		// ID가 IDENTITY 방식이라 save 시점에 바로 INSERT되어 중복이 여기서 드러납니다.
+		// INIT 상태로 저장한 후 즉시 APPROVED로 변경하는 것은 불필요한 두 번의 저장입니다.
+		Payment payment = new Payment();
+		payment.setUserId(reservation.getUserId());
+		payment.setReservationId(reservationId);
+		payment.setTotalAmountCents(reservation.getAmountCents());
+		payment.setIdempotencyKey(idempotencyKey);
+		// 처음부터 APPROVED 상태로 설정 (아래 단계가 실패하면 트랜잭션과 함께 롤백)
+		payment.markAsApproved();
+		payment = paymentRepositoryPort.save(payment);
+
 		// 3. 결제 가능 여부 확인 (비즈니스 로직)
 		if (!reservation.canBePaid()) {
 			if (reservation.isExpired()) {
@@ -113,11 +186,27 @@ public class ProcessPaymentUseCase {
 			throw new IllegalStateException("결제할 수 없는 예약입니다. reservationId : " + reservationId);
 		}
 
-		// 4. 지갑 조회
+		// 결제 후처리 이벤트 내용은 미리 만들어 둠 (조건부 UPDATE가 영속성 컨텍스트를 비우면 좌석 프록시를 읽을 수 없음)
+		PaymentCompletedPayload paymentCompleted = new PaymentCompletedPayload(
+				reservationId,
+				reservation.getConcertSchedule().getConcertScheduleId(),
+				reservation.getSeat().getSeatId(),
+				reservation.getSeat().getSeatNumber()
+		);
+
+		// 4. 예약 상태 변경 (펜싱 토큰 조건부 UPDATE)
+		// 잔액 차감보다 먼저 수행하여, 락을 잃은 요청은 차감 없이 실패하게 합니다. (먼저 INSERT한 결제도 함께 롤백)
+		// 지갑은 여러 예약 락이 공유하는 행이라 토큰을 직접 비교할 수 없으므로,
+		// 같은 트랜잭션 안에서 이 UPDATE가 거절되면 차감도 함께 롤백되는 것으로 보호합니다.
+		if (!reservationRepositoryPort.markAsPaid(reservationId, fencingToken)) {
+			throw new IllegalStateException("이미 처리되었거나 락 소유권을 잃은 결제 요청입니다. reservationId : " + reservationId);
+		}
+
+		// 5. 지갑 조회
 		Wallet wallet = walletRepositoryPort.findByUserId(reservation.getUserId())
 				.orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. userId : " + reservation.getUserId()));
 
-		// 5. 잔액 확인 및 차감 (원자적 연산)
+		// 6. 잔액 확인 및 차감 (원자적 연산)
 		// deductBalanceIfSufficient는 잔액이 충분할 때만 차감하고 true를 반환합니다.
 		// 잔액이 부족하면 차감하지 않고 false를 반환합니다.
 		boolean deducted = walletRepositoryPort.deductBalanceIfSufficient(
@@ -134,21 +223,8 @@ public class ProcessPaymentUseCase {
 
 		// 주의: deductBalanceIfSufficient가 이미 잔액을 차감했으므로
 		// 추가로 deductBalance를 호출하면 안 됩니다. (중복 차감 방지)
-		
-		// 6. 결제 정보 생성 및 승인 (처음부터 APPROVED 상태로 생성)
-		// INIT 상태로 저장한 후 즉시 APPROVED로 변경하는 것은 불필요한 두 번의 저장입니다.
-		Payment payment = new Payment();
-		payment.setUserId(reservation.getUserId());
-		payment.setReservationId(reservationId);
-		payment.setTotalAmountCents(reservation.getAmountCents());
-		payment.setIdempotencyKey(finalIdempotencyKey);
-		// 처음부터 APPROVED 상태로 설정
-		payment.markAsApproved();
 
-		// 7. 결제 저장
-		payment = paymentRepositoryPort.save(payment);
-
-		// 8. 거래 이력 기록
+		// 7. 거래 이력 기록
 		Ledger ledger = new Ledger();
 		ledger.setWallet(wallet); // 트랜잭션 내에서 처리되므로 지연 로딩 문제 없음
 		ledger.setAmount(reservation.getAmountCents());
@@ -157,49 +233,14 @@ public class ProcessPaymentUseCase {
 		ledger.setChargeTime(LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss")));
 		ledgerRepositoryPort.save(ledger);
 
-		// 9. 예약 상태 업데이트
-		reservation.markAsPaid();
-		reservationRepositoryPort.save(reservation);
+		// 8. 결제 후처리 이벤트를 같은 트랜잭션에 저장 (판매 완료 좌석 표시, 매진 확인 및 랭킹 업데이트)
+		// Redis 작업은 커밋 후 OutboxRelay가 처리하므로, 결제는 DB 작업만으로 끝나고 Redis 지연이나 오류의 영향을 받지 않음
+		outboxRepositoryPort.save(OutboxEvent.paymentCompleted(paymentCompleted));
 
-		// 10. 매진 여부 확인 및 랭킹 업데이트 (비동기 처리 권장)
-		// 트랜잭션 외부에서 처리하여 랭킹 업데이트 실패가 결제 실패로 이어지지 않도록 함
-		try {
-			checkAndUpdateRanking(reservation.getConcertSchedule().getConcertScheduleId());
-		} catch (Exception e) {
-			log.error("랭킹 업데이트 실패: concertScheduleId={}", reservation.getConcertSchedule().getConcertScheduleId(), e);
-			// 랭킹 업데이트 실패는 치명적이지 않으므로 예외를 다시 던지지 않음
-		}
+		// 9. 데이터 플랫폼 전송용 결제 완료 이벤트 발행 (커밋된 뒤에만 전송 버퍼에 들어감, 전송은 요청 스레드와 무관)
+		eventPublisher.publishEvent(ReservationEvent.paid(reservation, paymentCompleted));
 
 		return payment;
 	}
 
-	/**
-	 * 콘서트 일정의 매진 여부를 확인하고, 매진이면 랭킹에 추가
-	 * 
-	 * @param concertScheduleId 콘서트 일정 ID
-	 */
-	private void checkAndUpdateRanking(Long concertScheduleId) {
-		// 전체 좌석 개수 조회
-		long totalSeats = seatRepositoryPort.countByConcertScheduleId(concertScheduleId);
-		
-		if (totalSeats == 0) {
-			// 좌석이 없으면 매진 확인 불가
-			return;
-		}
-
-		// 결제 완료된 예약 개수 조회
-		long paidReservations = reservationRepositoryPort.countByConcertScheduleIdAndStatus(
-				concertScheduleId, 
-				ReservationStatus.PAID
-		);
-
-		// 모든 좌석이 결제 완료되었는지 확인
-		if (paidReservations >= totalSeats) {
-			// 매진! 랭킹에 추가
-			concertRankingService.addSoldOutConcert(concertScheduleId);
-			log.info("콘서트 매진: concertScheduleId={}, totalSeats={}, paidReservations={}", 
-					concertScheduleId, totalSeats, paidReservations);
-		}
-	}
-
 }
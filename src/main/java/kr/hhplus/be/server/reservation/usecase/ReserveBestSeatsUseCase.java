@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 등급별 최적 좌석 자동 배정 (좌석 번호가 이어진 N석)
+ *
+ * 사용자가 좌석 ID를 직접 고르면 모두 같은 좋은 좌석을 노려 같은 락 키에 경합이 몰립니다.
+ * 이 유스케이스는 노드 로컬 재고(SeatAvailabilityService.findFreeBlocks)에서 등급의 빈 좌석 블록을 찾아 대신 고릅니다.
+ * - 좌석 번호가 작을수록 좋은 자리로 보고, 앞쪽 블록 CANDIDATES개 중 하나를 무작위로 골라 동시 요청을 흩어 놓습니다.
+ * - 선점은 여러 좌석 함께 예약(ReserveConcertUseCase.executeGroup)으로 하므로 블록 전체를 홀드하거나 하나도 홀드하지 않습니다.
+ * - 고른 블록이 이미 선점되었거나 경합 중이면 블록을 다시 찾아 시도한 블록을 뺀 후보로 최대 MAX_ATTEMPTS번까지 다시 시도합니다.
+ * - 멱등성 키는 여러 좌석 예약과 같이 좌석별로 저장되며, 같은 키의 재요청에는 배정된 예약들을 돌려줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReserveBestSeatsUseCase {
+
+	/**
+	 * 무작위로 고를 앞쪽 블록 수
+	 */
+	static final int CANDIDATES = 8;
+
+	/**
+	 * 블록 선점 최대 시도 횟수
+	 */
+	static final int MAX_ATTEMPTS = 3;
+
+	private final SeatAvailabilityService seatAvailabilityService;
+	private final ReserveConcertUseCase reserveConcertUseCase;
+	private final ReservationRepositoryPort reservationRepositoryPort;
+	private final ReservationProperties reservationProperties;
+
+	/**
+	 * 등급 좌석 중 좌석 번호가 이어진 빈 좌석 count석을 골라 홀드
+	 *
+	 * @param userId 사용자 ID
+	 * @param concertScheduleId 공연 일정 ID
+	 * @param seatGrade 좌석 등급
+	 * @param count 좌석 수
+	 * @param idempotencyKey 멱등성 키 (중복 요청 방지)
+	 * @return 생성된 예약 목록 (좌석 번호 순)
+	 * @throws IllegalArgumentException 이어진 빈 좌석이 없거나 모든 시도가 실패한 경우
+	 */
+	public List<Reservation> execute(Long userId, Long concertScheduleId, SeatGrade seatGrade, int count,
+	                                 String idempotencyKey) {
+		if (count < 1 || count > reservationProperties.getMaxSeatsPerHold()) {
+			throw new IllegalArgumentException("좌석 수는 1 이상 " + reservationProperties.getMaxSeatsPerHold() + " 이하여야 합니다. count : " + count);
+		}
+		if (idempotencyKey != null) {
+			List<Reservation> existing = new ArrayList<>(reservationRepositoryPort.findAllByIdempotencyKeyPrefix(
+					ReserveConcertUseCase.groupIdempotencyKeyPrefix(idempotencyKey)));
+			if (!existing.isEmpty()) {
+				existing.sort(Comparator.comparing(reservation -> reservation.getSeat().getSeatId()));
+				return existing;
+			}
+		}
+
+		List<List<Long>> tried = new ArrayList<>(MAX_ATTEMPTS);
+		RuntimeException lastFailure = null;
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			// 실패한 선점은 재고에 반영되어 있을 수 있으므로 시도마다 다시 찾음
+			List<List<Long>> candidates = new ArrayList<>(
+					seatAvailabilityService.findFreeBlocks(concertScheduleId, seatGrade, count, CANDIDATES));
+			candidates.removeAll(tried);
+			if (candidates.isEmpty()) {
+				break;
+			}
+			List<Long> seatIds = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+			try {
+				return reserveConcertUseCase.executeGroup(userId, seatIds, idempotencyKey);
+			} catch (SeatContestedException | IllegalArgumentException e) {
+				// 다른 요청이 먼저 선점했거나 경합 중인 블록이면 다른 후보로 다시 시도
+				log.debug("좌석 블록 선점 실패, 다른 후보로 재시도: concertScheduleId={}, seatIds={}, reason={}",
+						concertScheduleId, seatIds, e.getMessage());
+				tried.add(seatIds);
+				lastFailure = e;
+			}
+		}
+		throw new IllegalArgumentException("이어진 빈 좌석을 찾을 수 없습니다. concertScheduleId : " + concertScheduleId
+				+ ", seatGrade : " + seatGrade + ", count : " + count, lastFailure);
+	}
+}
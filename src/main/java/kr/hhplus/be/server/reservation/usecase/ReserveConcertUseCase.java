@@ -1,22 +1,42 @@
 package kr.hhplus.be.server.reservation.usecase;
 
 import kr.hhplus.be.server.common.service.DistributedLockService;
+import kr.hhplus.be.server.common.service.LockContendedException;
+import kr.hhplus.be.server.common.service.LockKeys;
+import kr.hhplus.be.server.config.ReservationProperties;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import kr.hhplus.be.server.concert.common.SeatStatus;
 import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.SeatHold;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
 import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import kr.hhplus.be.server.reservation.service.ReservationIdAllocator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReserveConcertUseCase {
@@ -25,46 +45,439 @@ public class ReserveConcertUseCase {
 	private final ReservationRepositoryPort reservationRepositoryPort;
 	private final DistributedLockService distributedLockService;
 	private final PlatformTransactionManager transactionManager;
+	private final ReservationProperties reservationProperties;
+	private final SeatHoldStorePort seatHoldStorePort;
+	private final SeatAvailabilityService seatAvailabilityService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ReservationIdAllocator reservationIdAllocator;
+
+	/**
+	 * 락 키, 사전 확인, Redis 우선 홀드에 쓰는 좌석별 공연 일정 ID/좌석 번호/가격
+	 * 가격은 바뀔 수 있으므로 유지 시간(hhplus.reservation.seat-cache.ttl)이 지나면 다시 읽고, 최대 좌석 수를 넘으면 오래된 것부터 버립니다.
+	 */
+	private final Map<Long, SeatInfo> seatInfos = new ConcurrentHashMap<>();
 	
 	// TransactionTemplate은 PlatformTransactionManager로부터 생성
 	private TransactionTemplate getTransactionTemplate() {
 		return new TransactionTemplate(transactionManager);
 	}
 
-	private static final int HOLD_DURATION_MINUTES = 10;
-	private static final String LOCK_KEY_PREFIX = "seat:";
-
 	/**
 	 * 좌석 예약 (홀드)
 	 * 
 	 * 분산락을 사용하여 동시성 제어를 수행합니다.
-	 * - 락 키: "seat:{seatId}"
+	 * - 락 키: "seat:{schedule:{scheduleId}}:{seatId}" (LockKeys.seat)
 	 * - 락 범위: 좌석 조회부터 예약 생성까지의 전체 과정
+	 * - 좌석 락 안에서 공연 일정 읽기 락(LockKeys.schedule)을 함께 잡아, 일정 전체를 바꾸는 일괄 작업과 겹치지 않게 합니다.
+	 *   다른 좌석 예약끼리는 읽기 락으로 서로 막지 않습니다. (CancelScheduleHoldsUseCase 참고)
 	 * 
 	 * 주의사항:
 	 * - 분산락은 DB 트랜잭션 외부에서 획득되어야 합니다.
 	 * - 락을 획득한 후 DB 트랜잭션 내에서 작업을 수행합니다.
 	 * - 트랜잭션이 커밋된 후 락이 해제됩니다.
+	 * - 같은 좌석을 기다리는 요청이 이미 너무 많으면 기다리지 않고 SeatContestedException으로 실패합니다.
+	 * 
+	 * hhplus.reservation.hold-strategy가 CONDITIONAL_UPDATE이면 락 없이 조건부 UPDATE로 선점합니다. (executeConditional)
+	 * REDIS_FIRST이면 Redis에서 홀드를 확정하고 예약 행은 나중에 저장합니다. (executeRedisFirst)
+	 * 어느 방식이든 홀드가 확정되면 좌석 예약 가능 비트맵(SeatAvailabilityService)에 예약 불가로 표시합니다.
+	 * 락, 조건부 UPDATE 방식은 락과 트랜잭션 전에 이 비트맵으로 이미 예약된 좌석 요청을 먼저 거절합니다. (admit)
+	 * 멱등성 키는 미리 조회하지 않고 reservations.idempotency_key 유니크 제약에 맡깁니다. (replayOnConflict)
 	 *
 	 * @param userId 사용자 ID
 	 * @param seatId 좌석 ID
 	 * @param idempotencyKey 멱등성 키 (중복 요청 방지)
 	 * @return 생성된 예약 정보
+	 * @throws SeatContestedException 좌석 락 대기자가 제한을 넘은 경우
 	 */
 	public Reservation execute(Long userId, Long seatId, String idempotencyKey) {
-		// 분산락 키 생성: 좌석 ID 기준
-		String lockKey = LOCK_KEY_PREFIX + seatId;
+		if (holdStrategy() == ReservationProperties.HoldStrategy.REDIS_FIRST) {
+			return executeRedisFirst(userId, seatId, idempotencyKey);
+		}
+		SeatInfo seatInfo = seatInfoOf(seatId);
+		Optional<Reservation> replayed = admit(seatInfo, seatId, idempotencyKey);
+		if (replayed.isPresent()) {
+			return replayed.get();
+		}
+		if (holdStrategy() == ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE) {
+			return executeConditional(userId, seatId, idempotencyKey);
+		}
+		Long concertScheduleId = seatInfo.concertScheduleId();
+		String lockKey = LockKeys.seat(concertScheduleId, seatId);
 		
 		// 분산락을 획득하고 작업 실행
 		// 락은 트랜잭션 외부에서 획득되지만, 내부 작업은 트랜잭션 내에서 수행됩니다.
-		return distributedLockService.executeWithLock(lockKey, () -> {
-			// TransactionTemplate을 사용하여 명시적으로 트랜잭션 실행
-			return getTransactionTemplate().execute(status -> {
-				return executeInternal(userId, seatId, idempotencyKey);
+		try {
+			return distributedLockService.executeWithLock(lockKey,
+					() -> reserveUnderScheduleReadLock(concertScheduleId, userId, seatId, idempotencyKey));
+		} catch (LockContendedException e) {
+			throw new SeatContestedException(seatId, e);
+		}
+	}
+
+	/**
+	 * 좌석 예약 (홀드) - 비동기
+	 * 
+	 * execute와 같은 락과 트랜잭션으로 처리하되, 락을 기다리는 동안 요청 스레드를 붙잡지 않습니다.
+	 * 락을 획득한 후의 트랜잭션은 분산락 작업 실행기(LockTaskExecutor)에서 실행됩니다.
+	 * 공연 일정 읽기 락은 실행기 스레드에서 잡으므로, 일괄 작업이 쓰기 락을 쥐고 있을 때만 그 스레드가 기다립니다.
+	 * 조건부 UPDATE, Redis 우선 방식은 기다릴 락이 없으므로 호출 스레드에서 바로 처리한 결과를 반환합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param seatId 좌석 ID
+	 * @param idempotencyKey 멱등성 키 (중복 요청 방지)
+	 * @return 생성된 예약 정보 (락 획득 실패 시 IllegalStateException, 좌석 경합 시 SeatContestedException으로 완료)
+	 */
+	public CompletableFuture<Reservation> executeAsync(Long userId, Long seatId, String idempotencyKey) {
+		if (holdStrategy() != ReservationProperties.HoldStrategy.LOCK) {
+			try {
+				return CompletableFuture.completedFuture(execute(userId, seatId, idempotencyKey));
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		Long concertScheduleId;
+		try {
+			SeatInfo seatInfo = seatInfoOf(seatId);
+			Optional<Reservation> replayed = admit(seatInfo, seatId, idempotencyKey);
+			if (replayed.isPresent()) {
+				return CompletableFuture.completedFuture(replayed.get());
+			}
+			concertScheduleId = seatInfo.concertScheduleId();
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		String lockKey = LockKeys.seat(concertScheduleId, seatId);
+
+		return distributedLockService.executeWithLockAsync(lockKey,
+				() -> reserveUnderScheduleReadLock(concertScheduleId, userId, seatId, idempotencyKey)
+		).handle((reservation, e) -> {
+			if (e == null) {
+				return reservation;
+			}
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof LockContendedException) {
+				throw new SeatContestedException(seatId, cause);
+			}
+			throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+		});
+	}
+
+	/**
+	 * 여러 좌석 함께 예약 (홀드) - 모두 홀드하거나 하나도 홀드하지 않음
+	 *
+	 * 같은 공연 일정의 좌석 여러 개를 트랜잭션 하나로 선점하고, 예약 행은 JDBC 배치 INSERT 한 번으로 저장합니다.
+	 * 좌석 하나라도 선점하지 못하면 트랜잭션 전체가 롤백되어 일부만 홀드되는 일이 없습니다.
+	 * - 락 방식: 좌석 락을 한 번에 모두 잡고(executeWithLocks, 정렬 순서) 공연 일정 읽기 락 안에서
+	 *   SELECT FOR UPDATE 한 번과 활성 홀드 조회 한 번으로 확인합니다.
+	 * - 조건부 UPDATE 방식: 좌석 ID IN (...) 조건부 UPDATE 한 번의 영향받은 행 수가 좌석 수와 같을 때만 선점합니다.
+	 * - Redis 우선 방식은 좌석별 Lua 선점이라 하나로 묶을 수 없어 지원하지 않습니다.
+	 * - 멱등성 키는 좌석별로 "{멱등성 키}:{좌석 ID}"로 저장하며, 같은 키의 재요청에는 기존 예약들을 돌려줍니다.
+	 * - 사전 확인(admit)은 좌석마다 적용합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param seatIds 좌석 ID 목록 (중복은 하나로 처리)
+	 * @param idempotencyKey 멱등성 키 (중복 요청 방지)
+	 * @return 생성된 예약 목록 (좌석 ID 순)
+	 * @throws SeatContestedException 좌석 락 대기자가 제한을 넘은 경우
+	 */
+	public List<Reservation> executeGroup(Long userId, List<Long> seatIds, String idempotencyKey) {
+		if (holdStrategy() == ReservationProperties.HoldStrategy.REDIS_FIRST) {
+			throw new IllegalStateException("Redis 우선 홀드 방식에서는 여러 좌석을 함께 예약할 수 없습니다.");
+		}
+		List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+		if (sortedSeatIds.isEmpty()) {
+			throw new IllegalArgumentException("예약할 좌석이 없습니다.");
+		}
+		if (sortedSeatIds.size() > reservationProperties.getMaxSeatsPerHold()) {
+			throw new IllegalArgumentException("한 번에 예약할 수 있는 좌석 수를 넘었습니다. max : " + reservationProperties.getMaxSeatsPerHold());
+		}
+
+		List<SeatInfo> seatInfoList = sortedSeatIds.stream().map(this::seatInfoOf).toList();
+		Long concertScheduleId = seatInfoList.get(0).concertScheduleId();
+		if (seatInfoList.stream().anyMatch(seatInfo -> !seatInfo.concertScheduleId().equals(concertScheduleId))) {
+			throw new IllegalArgumentException("같은 공연 일정의 좌석만 함께 예약할 수 있습니다. seatIds : " + sortedSeatIds);
+		}
+		List<String> idempotencyKeys = idempotencyKey == null ? List.of()
+				: sortedSeatIds.stream().map(seatId -> groupIdempotencyKeyPrefix(idempotencyKey) + seatId).toList();
+
+		for (int i = 0; i < sortedSeatIds.size(); i++) {
+			if (reservationProperties.isAdmissionFilter()
+					&& seatAvailabilityService.isKnownTaken(concertScheduleId, seatInfoList.get(i).seatNumber())) {
+				List<Reservation> existing = findAllByIdempotencyKeys(idempotencyKeys);
+				if (!existing.isEmpty()) {
+					return existing;
+				}
+				throw new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + sortedSeatIds.get(i));
+			}
+		}
+
+		if (holdStrategy() == ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE) {
+			return replayGroupOnConflict(idempotencyKeys, () -> {
+				List<Reservation> reservations = reserveGroupInTransaction(userId, sortedSeatIds, idempotencyKeys, true);
+				reservations.forEach(this::markTaken);
+				return reservations;
 			});
+		}
+		List<String> lockKeys = sortedSeatIds.stream().map(seatId -> LockKeys.seat(concertScheduleId, seatId)).toList();
+		try {
+			return distributedLockService.executeWithLocks(lockKeys,
+					() -> distributedLockService.executeWithReadLock(LockKeys.schedule(concertScheduleId),
+							() -> replayGroupOnConflict(idempotencyKeys, () -> {
+								List<Reservation> reservations = reserveGroupInTransaction(userId, sortedSeatIds, idempotencyKeys, false);
+								reservations.forEach(this::markTaken);
+								return reservations;
+							})));
+		} catch (LockContendedException e) {
+			throw new SeatContestedException(sortedSeatIds.get(0), e);
+		}
+	}
+
+	/**
+	 * 여러 좌석 선점과 예약 배치 저장 (트랜잭션 하나)
+	 *
+	 * @param seatIds 좌석 ID 목록 (정렬, 중복 없음)
+	 * @param idempotencyKeys 좌석별 멱등성 키 (seatIds와 같은 순서, 멱등성 키가 없으면 빈 목록)
+	 * @param conditional true면 조건부 UPDATE로 선점, false면 좌석 락 안에서 SELECT FOR UPDATE로 확인
+	 */
+	private List<Reservation> reserveGroupInTransaction(Long userId, List<Long> seatIds, List<String> idempotencyKeys,
+	                                                    boolean conditional) {
+		return getTransactionTemplate().execute(status -> {
+			// 1. 조건부 UPDATE로 좌석 선점 (하나라도 실패하면 예외로 롤백)
+			if (conditional && !seatRepositoryPort.claimSeats(seatIds)) {
+				throw new IllegalArgumentException("이미 예약된 좌석이 포함되어 있습니다. seatIds : " + seatIds);
+			}
+
+			// 2. 좌석 조회 (좌석 ID 순으로 행 잠금)
+			List<Seat> seats = seatRepositoryPort.findAllByIdWithLock(seatIds);
+			if (seats.size() != seatIds.size()) {
+				throw new IllegalArgumentException("좌석을 찾을 수 없습니다. seatIds: " + seatIds);
+			}
+
+			// 3. 좌석 사용 가능 여부, 활성 홀드 확인 (조건부 UPDATE로 선점했으면 생략)
+			if (!conditional) {
+				for (Seat seat : seats) {
+					if (seat.getSeatStatus() != SeatStatus.NON_RESERVATION) {
+						throw new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + seat.getSeatId());
+					}
+				}
+				if (reservationRepositoryPort.existsBySeatIdInAndStatus(seatIds, ReservationStatus.HOLD)) {
+					throw new IllegalArgumentException("이미 홀드된 좌석이 포함되어 있습니다. seatIds : " + seatIds);
+				}
+			}
+
+			// 4. 예약 배치 저장 (좌석별 멱등성 키가 이미 있으면 유니크 제약 위반으로 전체 롤백)
+			List<Reservation> holds = new ArrayList<>(seats.size());
+			for (int i = 0; i < seats.size(); i++) {
+				holds.add(newHold(userId, seats.get(i), idempotencyKeys.isEmpty() ? null : idempotencyKeys.get(i)));
+			}
+			List<Reservation> saved = reservationRepositoryPort.insertAll(holds);
+			saved.forEach(this::publishHeld);
+			return saved;
 		});
 	}
 
+	/**
+	 * 여러 좌석 예약의 좌석별 멱등성 키 접두사 ("{멱등성 키}:" 뒤에 좌석 ID)
+	 */
+	static String groupIdempotencyKeyPrefix(String idempotencyKey) {
+		return idempotencyKey + ":";
+	}
+
+	/**
+	 * 좌석별 멱등성 키로 기존 예약 조회 (좌석 ID 순, 키가 없으면 빈 목록)
+	 */
+	private List<Reservation> findAllByIdempotencyKeys(List<String> idempotencyKeys) {
+		if (idempotencyKeys.isEmpty()) {
+			return List.of();
+		}
+		List<Reservation> existing = new ArrayList<>(reservationRepositoryPort.findAllByIdempotencyKeys(idempotencyKeys));
+		existing.sort(Comparator.comparing(reservation -> reservation.getSeat().getSeatId()));
+		return existing;
+	}
+
+	/**
+	 * 좌석 예약 (홀드) - 조건부 UPDATE 방식
+	 * 
+	 * 분산락, SELECT FOR UPDATE, 활성 홀드 조회 없이 좌석 상태를 조건부로 바꾸는 UPDATE 한 번으로 선점합니다.
+	 * - UPDATE seat SET seat_status = RESERVATION WHERE seat_id = ? AND seat_status = NON_RESERVATION
+	 * - 영향받은 행이 1이면 선점 성공, 0이면 이미 다른 요청이 선점한 좌석입니다.
+	 * - 같은 좌석의 경쟁은 DB 행 잠금이 UPDATE 한 문장 동안만 직렬화하며, 진 쪽은 기다리지 않고 바로 실패합니다.
+	 * - 선점한 좌석은 홀드 만료(ReservationExpirationScheduler)나 일괄 취소(CancelScheduleHoldsUseCase) 시 되돌립니다.
+	 * - 공연 일정 읽기 락도 잡지 않으므로, 홀드 일괄 취소와 같은 순간에 커밋된 홀드는 취소 대상에서 빠질 수 있습니다.
+	 *   이런 홀드는 만료 시각이 지나면 만료 처리로 정리됩니다.
+	 */
+	private Reservation executeConditional(Long userId, Long seatId, String idempotencyKey) {
+		return replayOnConflict(idempotencyKey, () -> {
+			Reservation reservation = getTransactionTemplate().execute(status -> holdConditionally(userId, seatId, idempotencyKey));
+			markTaken(reservation);
+			return reservation;
+		});
+	}
+
+	/**
+	 * 조건부 UPDATE 방식 좌석 선점과 예약 저장 (트랜잭션 내부에서 실행)
+	 */
+	private Reservation holdConditionally(Long userId, Long seatId, String idempotencyKey) {
+		// 1. 조건부 UPDATE로 좌석 선점 (영향받은 행 수로 판단)
+		if (!seatRepositoryPort.claimSeat(seatId)) {
+			seatRepositoryPort.findById(seatId)
+					.orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다. seatId: " + seatId));
+			throw new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + seatId);
+		}
+
+		// 2. 예약 생성 (가격과 공연 일정은 선점한 좌석에서 조회)
+		Seat seat = seatRepositoryPort.findById(seatId)
+				.orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다. seatId: " + seatId));
+		return publishHeld(reservationRepositoryPort.save(newHold(userId, seat, idempotencyKey)));
+	}
+
+	/**
+	 * 좌석 예약 (홀드) - Redis 우선 방식
+	 * 
+	 * Lua 스크립트 한 번으로 좌석 확인, 홀드 기록(만료 시각 포함), DB 저장 대기열 등록을 원자적으로 처리하고
+	 * DB를 거치지 않고 바로 응답합니다. 예약 행은 SeatHoldWriteBehindWorker가 묶음으로 저장합니다.
+	 * - 예약 ID는 선점 전에 미리 발급받아(ReservationIdAllocator) 응답하고, 쓰기 지연 작업이 그 ID로 예약 행을 저장하므로
+	 *   응답의 예약 ID로 결제할 수 있습니다. (저장 주기 hhplus.reservation.write-behind.interval 전에 결제하면 예약을 찾지 못해 다시 시도해야 함)
+	 * - DB에서만 선점된 좌석(다른 홀드 방식, 판매 완료 후 Redis에 표시되기 전)은 저장 단계에서 거절되어 홀드가 취소됩니다.
+	 *   따라서 다른 홀드 방식과 섞어 쓰지 않아야 합니다.
+	 * - 좌석의 공연 일정과 가격은 DB에서 읽어 노드 메모리에 두므로, 공연 가격을 바꾸면 유지 시간(seat-cache.ttl) 동안은 이전 가격으로 홀드될 수 있습니다.
+	 */
+	private Reservation executeRedisFirst(Long userId, Long seatId, String idempotencyKey) {
+		SeatInfo seatInfo = seatInfoOf(seatId);
+		String finalIdempotencyKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+
+		SeatHold hold = seatHoldStorePort.claim(seatInfo.concertScheduleId(), seatId, userId, seatInfo.amountCents(),
+						finalIdempotencyKey, reservationProperties.getHoldDuration(), reservationIdAllocator.next())
+				.orElseThrow(() -> new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + seatId));
+		markTaken(seatInfo.concertScheduleId(), seatInfo.seatNumber());
+
+		Seat seat = new Seat();
+		seat.setSeatId(hold.seatId());
+		seat.setSeatNumber(seatInfo.seatNumber());
+		Reservation reservation = new Reservation();
+		reservation.setId(hold.reservationId());
+		reservation.setUserId(hold.userId());
+		reservation.setSeat(seat);
+		reservation.setStatus(ReservationStatus.HOLD);
+		reservation.setHoldExpiresAt(hold.expiresAt());
+		reservation.setAmountCents(hold.amountCents());
+		reservation.setIdempotencyKey(hold.idempotencyKey());
+		return reservation;
+	}
+
+	private ReservationProperties.HoldStrategy holdStrategy() {
+		return reservationProperties.getHoldStrategy();
+	}
+
+	/**
+	 * 좌석의 공연 일정 ID, 좌석 번호, 가격 조회 (유지 시간 안에는 노드 메모리에서 읽음)
+	 * 같은 일정의 여러 좌석을 함께 잠그는 요청과 같은 락 키(공연 일정 해시 태그 + 좌석 ID)를 사용하기 위해 먼저 조회
+	 * 같은 좌석을 동시에 처음 읽으면 DB 조회가 겹칠 수 있지만 결과는 같습니다.
+	 *
+	 * @param seatId 좌석 ID
+	 * @return 좌석 기준 정보
+	 */
+	private SeatInfo seatInfoOf(Long seatId) {
+		long now = System.nanoTime();
+		SeatInfo cached = seatInfos.get(seatId);
+		if (cached != null && now - cached.loadedAtNanos() < reservationProperties.getSeatCache().getTtl().toNanos()) {
+			return cached;
+		}
+		Seat seat = seatRepositoryPort.findById(seatId)
+				.orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다. seatId: " + seatId));
+		SeatInfo seatInfo = new SeatInfo(seat.getConcertSchedule().getConcertScheduleId(), seat.getSeatNumber(),
+				priceInCents(seat), now);
+		seatInfos.put(seatId, seatInfo);
+		if (seatInfos.size() > reservationProperties.getSeatCache().getMaxSeats()) {
+			evictSeatInfos();
+		}
+		return seatInfo;
+	}
+
+	/**
+	 * 최대 좌석 수를 넘으면 가장 오래전에 읽은 좌석부터 최대치의 3/4만 남기고 버림
+	 * 한 번에 여유를 두고 버리므로 전체를 훑는 비용은 새로 읽은 좌석 여러 개에 나뉩니다.
+	 */
+	private void evictSeatInfos() {
+		synchronized (seatInfos) {
+			int maxSeats = reservationProperties.getSeatCache().getMaxSeats();
+			if (seatInfos.size() <= maxSeats) {
+				return;
+			}
+			List<Map.Entry<Long, SeatInfo>> entries = new ArrayList<>(seatInfos.entrySet());
+			entries.sort(Comparator.comparingLong(entry -> entry.getValue().loadedAtNanos()));
+			int excess = entries.size() - maxSeats * 3 / 4;
+			for (int i = 0; i < excess; i++) {
+				seatInfos.remove(entries.get(i).getKey(), entries.get(i).getValue());
+			}
+		}
+	}
+
+	/**
+	 * 좌석 락, 트랜잭션 전 사전 확인 (hhplus.reservation.admission-filter)
+	 *
+	 * 판매 중에는 대부분의 요청이 이미 홀드된 좌석을 노리므로, 예약 가능 비트맵(노드 로컬 재고)에 예약 불가로 표시된 좌석은
+	 * 분산락과 DB 커넥션을 쓰지 않고 바로 거절합니다.
+	 * - 통과한 요청은 락, 트랜잭션 안에서 원래대로 최종 판단합니다. (비트맵에 없던 좌석이 선점된 경우도 거기서 거절)
+	 * - 같은 멱등성 키의 재요청은 자기 홀드 때문에 예약 불가로 보이므로, 거절 전에 락 없이 기존 예약을 조회해 돌려줍니다.
+	 * - 비트맵은 홀드 만료 반영이 늦을 수 있어, 막 풀린 좌석이 거절될 수 있습니다.
+	 *   노드 로컬 재고가 변경 알림을 놓치면 갱신 주기(inventory.refresh-interval)까지, 만료 반영 스크립트가 Redis 오류로
+	 *   실패하면 비트맵 유지 시간(availability-ttl)까지입니다. (비트맵을 DB에서 만드는 동안의 만료는 변경 버전으로 걸러 남지 않음)
+	 *
+	 * @return 같은 멱등성 키의 기존 예약 (없으면 빈 값)
+	 * @throws IllegalArgumentException 예약 불가로 표시된 좌석인 경우
+	 */
+	private Optional<Reservation> admit(SeatInfo seatInfo, Long seatId, String idempotencyKey) {
+		if (!reservationProperties.isAdmissionFilter()
+				|| !seatAvailabilityService.isKnownTaken(seatInfo.concertScheduleId(), seatInfo.seatNumber())) {
+			return Optional.empty();
+		}
+		Optional<Reservation> existing = findByIdempotencyKey(idempotencyKey);
+		if (existing.isPresent()) {
+			return existing;
+		}
+		throw new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + seatId);
+	}
+
+	/**
+	 * 공연 일정 읽기 락을 잡고 트랜잭션 안에서 예약 (좌석 락 안에서 실행)
+	 *
+	 * 쓰기 락을 잡는 일괄 작업은 좌석 락을 잡지 않으므로 좌석 락 → 일정 읽기 락 순서로도 교착이 생기지 않습니다.
+	 */
+	private Reservation reserveUnderScheduleReadLock(Long concertScheduleId, Long userId, Long seatId, String idempotencyKey) {
+		return distributedLockService.executeWithReadLock(LockKeys.schedule(concertScheduleId),
+				() -> replayOnConflict(idempotencyKey, () -> {
+					// TransactionTemplate을 사용하여 명시적으로 트랜잭션 실행
+					Reservation reservation = getTransactionTemplate().execute(status -> {
+						return executeInternal(userId, seatId, idempotencyKey);
+					});
+					markTaken(reservation);
+					return reservation;
+				}));
+	}
+
+	/**
+	 * 커밋된 홀드의 좌석을 예약 가능 비트맵에 예약 불가로 표시
+	 */
+	private void markTaken(Reservation reservation) {
+		if (reservation == null) {
+			return;
+		}
+		markTaken(reservation.getConcertSchedule().getConcertScheduleId(), reservation.getSeat().getSeatNumber());
+	}
+
+	/**
+	 * 좌석을 예약 가능 비트맵에 예약 불가로 표시
+	 */
+	private void markTaken(Long concertScheduleId, int seatNumber) {
+		try {
+			seatAvailabilityService.markTaken(concertScheduleId, seatNumber);
+		} catch (Exception e) {
+			// 조회용 비트맵이라 표시 실패가 예약 실패로 이어지지 않도록 함
+			log.error("좌석 예약 가능 비트맵 표시 실패: concertScheduleId={}, seatNumber={}", concertScheduleId, seatNumber, e);
+		}
+	}
+
 	/**
 	 * 좌석 예약 내부 로직 (트랜잭션 내부에서 실행)
 	 * 
@@ -76,47 +489,105 @@ public class ReserveConcertUseCase {
 	 * @return 생성된 예약 정보
 	 */
 	private Reservation executeInternal(Long userId, Long seatId, String idempotencyKey) {
-		// 1. 멱등성 체크 (같은 요청이 중복으로 들어오면 기존 예약 반환)
-		if(idempotencyKey != null) {
-			Optional<Reservation> byIdempotencyKey = reservationRepositoryPort.findByIdempotencyKey(idempotencyKey);
-			if(byIdempotencyKey.isPresent()) {
-				return byIdempotencyKey.get();
-			}
-		}
-
-		// 2. 좌석 조회
+		// 1. 좌석 조회 (멱등성 키는 미리 조회하지 않음, 같은 요청의 재시도는 replayOnConflict가 처리)
 		Seat seat = seatRepositoryPort.findByIdWithLock(seatId)
 				.orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다. seatId: " + seatId));
 
-		// 3. 좌석 사용 가능 여부 확인
+		// 2. 좌석 사용 가능 여부 확인
 		if(seat.getSeatStatus() != SeatStatus.NON_RESERVATION) {
 			throw new IllegalArgumentException("이미 예약된 좌석입니다. seatId : " + seatId);
 		}
 
-		// 4. 동일 좌석에 대한 활성 예약이 있는지 확인
+		// 3. 동일 좌석에 대한 활성 예약이 있는지 확인
 		if(reservationRepositoryPort.existsBySeatIdAndStatus(seatId, ReservationStatus.HOLD)) {
 			throw new IllegalArgumentException("이미 홀드된 좌석입니다. seatId : " + seatId);
 		}
 
-		// 5. 예약 생성(비즈니스 로직)
+		// 4. 예약 생성(비즈니스 로직)
+		return publishHeld(reservationRepositoryPort.save(newHold(userId, seat, idempotencyKey)));
+	}
+
+	/**
+	 * 저장한 홀드의 좌석 홀드 이벤트 발행 (트랜잭션 안에서 호출, 커밋된 뒤에만 데이터 플랫폼 전송 버퍼에 들어감)
+	 */
+	private Reservation publishHeld(Reservation reservation) {
+		eventPublisher.publishEvent(ReservationEvent.held(reservation));
+		return reservation;
+	}
+
+	/**
+	 * 홀드를 시도하고, 실패하면 같은 멱등성 키로 먼저 커밋된 예약을 반환 (insert-first)
+	 *
+	 * 처음 요청은 멱등성 키를 미리 조회하지 않고 예약 INSERT까지 바로 진행합니다.
+	 * 같은 키의 재요청은 자기 홀드 때문에 좌석 선점에 실패(IllegalArgumentException)하거나,
+	 * 좌석 확인을 통과했더라도 reservations.idempotency_key 유니크 제약에 걸려(DataIntegrityViolationException) 롤백됩니다.
+	 * 이때만 롤백된 트랜잭션 밖에서 키로 조회해 기존 예약을 돌려주므로, 락이 없는 조건부 UPDATE 방식에서도 예약은 한 번만 생깁니다.
+	 * 같은 키의 예약이 없으면 원래 실패를 그대로 던집니다.
+	 */
+	private Reservation replayOnConflict(String idempotencyKey, Supplier<Reservation> hold) {
+		try {
+			return hold.get();
+		} catch (DataIntegrityViolationException | IllegalArgumentException e) {
+			return findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
+		}
+	}
+
+	/**
+	 * 여러 좌석 홀드를 시도하고, 실패하면 좌석별 멱등성 키로 먼저 커밋된 예약들을 반환 (replayOnConflict와 같은 방식)
+	 */
+	private List<Reservation> replayGroupOnConflict(List<String> idempotencyKeys, Supplier<List<Reservation>> hold) {
+		try {
+			return hold.get();
+		} catch (DataIntegrityViolationException | IllegalArgumentException e) {
+			List<Reservation> existing = findAllByIdempotencyKeys(idempotencyKeys);
+			if (existing.isEmpty()) {
+				throw e;
+			}
+			return existing;
+		}
+	}
+
+	/**
+	 * 멱등성 키로 기존 예약 조회 (키가 없으면 빈 값)
+	 */
+	private Optional<Reservation> findByIdempotencyKey(String idempotencyKey) {
+		if(idempotencyKey == null) {
+			return Optional.empty();
+		}
+		return reservationRepositoryPort.findByIdempotencyKey(idempotencyKey);
+	}
+
+	/**
+	 * HOLD 상태 예약 생성 (저장 전)
+	 */
+	private Reservation newHold(Long userId, Seat seat, String idempotencyKey) {
 		Reservation reservation = new Reservation();
 		reservation.setUserId(userId);
 		reservation.setSeat(seat);
 		reservation.setConcertSchedule(seat.getConcertSchedule());
 		reservation.setStatus(ReservationStatus.HOLD);
-		reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(HOLD_DURATION_MINUTES));
-
-		// 가격 계산 (센트 단위)
-		BigDecimal priceInCents = seat.getConcertSchedule().getConcertPrice()
-				.multiply(new BigDecimal(100));
-
-		reservation.setAmountCents(priceInCents);
+		reservation.setHoldExpiresAt(LocalDateTime.now().plus(reservationProperties.getHoldDuration()));
+		reservation.setAmountCents(priceInCents(seat));
 
 		reservation.setIdempotencyKey(
 				idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString()
 		);
 
-		return reservationRepositoryPort.save(reservation);
+		return reservation;
+	}
+
+	/**
+	 * 가격 계산 (센트 단위)
+	 */
+	private static BigDecimal priceInCents(Seat seat) {
+		return seat.getConcertSchedule().getConcertPrice()
+				.multiply(new BigDecimal(100));
+	}
+
+	/**
+	 * @param loadedAtNanos DB에서 읽은 시각 (System.nanoTime)
+	 */
+	private record SeatInfo(Long concertScheduleId, int seatNumber, BigDecimal amountCents, long loadedAtNanos) {
 	}
 
 }
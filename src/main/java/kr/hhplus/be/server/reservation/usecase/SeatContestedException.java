@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 좌석 경합 중 (이미 많은 요청이 같은 좌석을 기다리고 있어 바로 거절)
+ *
+ * 좌석 락 대기자가 제한을 넘으면 5초를 기다리지 않고 409 Conflict로 응답합니다.
+ * 클라이언트는 다른 좌석을 고르거나 잠시 후 다시 시도하면 됩니다.
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "seat contested")
+public class SeatContestedException extends IllegalStateException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Long seatId;
+
+	public SeatContestedException(Long seatId, Throwable cause) {
+		super("다른 요청이 선점을 시도 중인 좌석입니다. seatId : " + seatId, cause);
+		this.seatId = seatId;
+	}
+}
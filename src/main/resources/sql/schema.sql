@@ -124,7 +124,8 @@ CREATE TABLE IF NOT EXISTS reservations (
     status TINYINT NOT NULL DEFAULT 1 COMMENT '상태: 1=PENDING, 2=HOLD, 3=EXPIRED, 4=CANCELLED, 5=PAID',
     hold_expires_at DATETIME COMMENT '홀드 만료 시각',
     amount_cents BIGINT NOT NULL COMMENT '예약 금액 (센트 단위)',
-    idempotency_key VARCHAR(255) COMMENT '멱등성 키',
+    idempotency_key VARCHAR(255) UNIQUE COMMENT '멱등성 키 (유니크)',
+    fencing_token BIGINT COMMENT '마지막 상태 변경 락 보유자의 펜싱 토큰',
     create_time DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     modification_time DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE RESTRICT ON UPDATE CASCADE,
@@ -209,6 +210,43 @@ CREATE TABLE IF NOT EXISTS queue_tokens (
     INDEX idx_schedule_status_position (concert_schedule_id, status, position) COMMENT '일정별 상태/순번 조회 최적화'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='대기열 토큰';
 
+-- ============================================
+-- 6. 분산락 (mysql 락 백엔드 사용 시)
+-- ============================================
+
+-- 락 키별 펜싱 토큰 카운터 (GET_LOCK 획득 시 증가)
+CREATE TABLE IF NOT EXISTS lock_fencing_tokens (
+    lock_key VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '락 키',
+    token BIGINT NOT NULL COMMENT '마지막으로 발급한 펜싱 토큰'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분산락 펜싱 토큰';
+
+-- ============================================
+-- 7. 트랜잭션 아웃박스
+-- ============================================
+
+-- 결제 트랜잭션과 함께 저장되는 후처리 이벤트 (OutboxRelay가 커밋 후 묶음으로 전달)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    outbox_event_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이벤트 ID',
+    event_type TINYINT NOT NULL COMMENT '이벤트 종류: 0=PAYMENT_COMPLETED',
+    aggregate_id BIGINT NOT NULL COMMENT '이벤트 대상 ID (결제 완료는 예약 ID)',
+    concert_schedule_id BIGINT COMMENT '콘서트 일정 ID',
+    payload VARCHAR(1000) NOT NULL COMMENT '이벤트 내용',
+    status TINYINT NOT NULL COMMENT '상태: 0=PENDING, 1=PROCESSING, 2=PUBLISHED, 3=FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '실패한 전달 시도 수',
+    occurred_at DATETIME NOT NULL COMMENT '발생 시각',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 전달 시도 시각',
+    claim_token VARCHAR(36) COMMENT '이벤트를 가져간 전달 묶음 토큰',
+    claimed_at DATETIME COMMENT '가져간 시각',
+    published_at DATETIME COMMENT '전달 완료 시각',
+    last_error VARCHAR(500) COMMENT '마지막 전달 오류',
+    create_time DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    modification_time DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_status_next_attempt (status, next_attempt_at) COMMENT '전달 대상 조회',
+    INDEX idx_claim_token (claim_token),
+    INDEX idx_schedule_type_status (concert_schedule_id, event_type, status) COMMENT '일정별 미전달 이벤트 조회 (매진 카운터)',
+    INDEX idx_status_published_at (status, published_at) COMMENT '보관 기간 지난 이벤트 삭제'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='트랜잭션 아웃박스';
+
 -- ============================================
 -- 인덱스 및 제약조건 요약
 -- ============================================
@@ -221,6 +259,7 @@ CREATE TABLE IF NOT EXISTS queue_tokens (
 -- - concert_schedules(concert_id, concert_date, concert_time)
 -- - seats(concert_schedule_id, seat_number)
 -- - reservations(seat_id, status) - 부분 유니크 (MySQL 제한으로 인덱스만)
+-- - reservations.idempotency_key
 -- - payments_main.idempotency_key
 -- - queue_tokens.token
 --
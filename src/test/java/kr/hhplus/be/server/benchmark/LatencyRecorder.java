@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벤치마크용 지연 시간 기록기
+ *
+ * 스레드 안전하게 지연 시간(나노초)을 기록하고 백분위수를 계산합니다.
+ * 측정 횟수를 미리 알고 있으므로 고정 크기 배열을 사용하여 측정 중 할당을 피합니다.
+ */
+public class LatencyRecorder {
+
+	private final long[] samples;
+	private final AtomicInteger count = new AtomicInteger();
+
+	public LatencyRecorder(int capacity) {
+		this.samples = new long[capacity];
+	}
+
+	public void record(long nanos) {
+		int index = count.getAndIncrement();
+		if (index < samples.length) {
+			samples[index] = nanos;
+		}
+	}
+
+	public int count() {
+		return Math.min(count.get(), samples.length);
+	}
+
+	/**
+	 * 백분위수 조회 (밀리초)
+	 *
+	 * @param percentile 0~100 사이 백분위 (예: 99.9)
+	 */
+	public double percentileMs(double percentile) {
+		int size = count();
+		if (size == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+		return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+	}
+
+	public String summary(String name) {
+		return String.format("[%s] n=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+				name, count(), percentileMs(50), percentileMs(99), percentileMs(99.9), percentileMs(100));
+	}
+}
@@ -0,0 +1,629 @@
+package kr.hhplus.be.server.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DistributedLockService 통합 테스트 (Redis 필요)
+ *
+ * - 소유자 토큰 기반 해제: 다른 노드가 가진 락을 지우지 않는지
+ * - 펜싱 토큰: 획득할 때마다 증가하는 토큰이 작업에 전달되는지
+ * - 워치독: TTL보다 오래 걸리는 작업 동안 락이 유지되는지
+ * - 2단계 락: 같은 노드의 경합이 로컬 락 테이블에서 해소되는지
+ * - 비동기 락: 기다리는 동안 호출 스레드를 막지 않는지
+ * - 부하 차단: 대기자가 제한을 넘으면 기다리지 않고 바로 실패하는지
+ * - 다중 키 락: 모든 키를 한 번에 획득/해제하고, 일부만 잡는 일이 없는지
+ * - 읽기/쓰기 락: 읽기끼리는 겹치고, 쓰기는 읽기가 끝날 때까지 기다리며 기다리는 동안 새 읽기를 막는지
+ * - 세마포어: 허가 수만큼만 동시에 실행되고, 죽은 보유자의 허가는 만료 후 돌아오는지
+ * - 메트릭: 키 접두사별로 대기/보유 시간과 해제 오류가 기록되는지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class DistributedLockServiceTest {
+
+	@Autowired
+	private DistributedLockService distributedLockService;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private DistributedLockProperties lockProperties;
+
+	@Autowired
+	private LocalLockTable localLockTable;
+
+	@Autowired
+	private LockWaiters lockWaiters;
+
+	@Autowired
+	private LockMetrics lockMetrics;
+
+	@Autowired
+	private LockTaskExecutor lockTaskExecutor;
+
+	@Autowired
+	private RedisReadWriteLock readWriteLock;
+
+	@Autowired
+	private RedisSemaphore semaphore;
+
+	private String lockKey;
+
+	@BeforeEach
+	void setUp() {
+		lockKey = "test:lock:" + UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("작업이 끝나면 락이 해제됨")
+	void testExecuteWithLock_ReleasesLockAfterCompletion() {
+		// when
+		String result = distributedLockService.executeWithLock(lockKey, () -> {
+			assertThat(redisTemplate.hasKey(lockKey)).isTrue();
+			return "done";
+		});
+
+		// then
+		assertThat(result).isEqualTo("done");
+		assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 키를 다시 획득하면 이전보다 큰 펜싱 토큰이 작업에 전달됨")
+	void testExecuteWithFencedLock_PassesIncreasingFencingToken() {
+		// when
+		long firstToken = distributedLockService.executeWithFencedLock(lockKey, fencingToken -> fencingToken);
+		long secondToken = distributedLockService.executeWithFencedLock(lockKey, fencingToken -> fencingToken);
+
+		// then
+		assertThat(firstToken).isPositive();
+		assertThat(secondToken).isGreaterThan(firstToken);
+		assertThat(redisTemplate.opsForValue().get(LockKeys.companion(lockKey, "fence")))
+				.isEqualTo(String.valueOf(secondToken));
+	}
+
+	@Test
+	@DisplayName("락 값에는 획득마다 다른 소유자 토큰이 저장됨")
+	void testExecuteWithLock_StoresUniqueOwnerToken() {
+		// when
+		String firstToken = distributedLockService.executeWithLock(lockKey,
+				() -> redisTemplate.opsForValue().get(lockKey));
+		String secondToken = distributedLockService.executeWithLock(lockKey,
+				() -> redisTemplate.opsForValue().get(lockKey));
+
+		// then
+		assertThat(firstToken).isNotBlank().isNotEqualTo("locked");
+		assertThat(secondToken).isNotBlank().isNotEqualTo(firstToken);
+	}
+
+	@Test
+	@DisplayName("TTL 만료 후 다른 노드가 획득한 락은 해제하지 않음")
+	void testExecuteWithLock_DoesNotDeleteLockOwnedByAnotherNode() {
+		// when: 작업 도중 락이 만료되고 다른 노드가 같은 키를 획득한 상황을 재현
+		distributedLockService.executeWithLock(lockKey, 1, () -> {
+			redisTemplate.opsForValue().set(lockKey, "other-node-token");
+		});
+
+		// then
+		assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-node-token");
+		redisTemplate.delete(lockKey);
+	}
+
+	@Test
+	@DisplayName("TTL보다 오래 걸리는 작업 동안 워치독이 락을 연장함")
+	void testExecuteWithLock_WatchdogRenewsLeaseWhileRunning() {
+		// when: TTL 1초, 작업 2.5초
+		Boolean stillLocked = distributedLockService.executeWithLock(lockKey, 1, () -> {
+			try {
+				Thread.sleep(2500);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return redisTemplate.hasKey(lockKey);
+		});
+
+		// then
+		assertThat(stillLocked).isTrue();
+		assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+	}
+
+	@Test
+	@DisplayName("비동기 락은 기다리는 동안 호출 스레드를 막지 않고, 해제되면 한 번에 하나씩 모두 실행됨")
+	void testExecuteWithLockAsync_WaitsWithoutBlockingCaller() {
+		// given: 다른 노드가 락을 보유 중
+		int waiterCount = 50;
+		redisTemplate.opsForValue().set(lockKey, "other-node", Duration.ofSeconds(10));
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		// when: 호출 스레드 하나로 대기자 50개를 등록
+		long startNanos = System.nanoTime();
+		List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < waiterCount; i++) {
+			int index = i;
+			futures.add(distributedLockService.executeWithLockAsync(lockKey, () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				running.decrementAndGet();
+				return index;
+			}));
+		}
+		long submitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		assertThat(futures).noneMatch(CompletableFuture::isDone);
+
+		redisTemplate.delete(lockKey);
+		redisTemplate.convertAndSend(LockReleaseNotifier.CHANNEL_PREFIX + lockKey, lockKey);
+
+		// then
+		List<Integer> results = futures.stream().map(CompletableFuture::join).toList();
+		assertThat(submitMillis).isLessThan(1000);
+		assertThat(results).hasSize(waiterCount).doesNotHaveDuplicates();
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 노드의 같은 키 경합은 Redis가 아닌 로컬에서 대기함")
+	void testExecuteWithLock_SameNodeContention_WaitsLocally() throws InterruptedException {
+		// given
+		int threadCount = 8;
+		long acquiredBefore = timerCount("lock.wait", "outcome", "acquired");
+		double localWaitsBefore = counterCount("lock.acquire", "stage", "local");
+		double remoteWaitsBefore = counterCount("lock.acquire", "stage", "redis");
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				startLatch.await();
+				return distributedLockService.executeWithLock(lockKey, () -> {
+					try {
+						Thread.sleep(20);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return null;
+				});
+			});
+		}
+		startLatch.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		// then: 단일 노드이므로 Redis 경합 없이 모두 로컬에서 순서를 기다림
+		assertThat(timerCount("lock.wait", "outcome", "acquired") - acquiredBefore).isEqualTo(threadCount);
+		assertThat(counterCount("lock.acquire", "stage", "local") - localWaitsBefore).isEqualTo(threadCount - 1);
+		assertThat(counterCount("lock.acquire", "stage", "redis") - remoteWaitsBefore).isZero();
+	}
+
+	@Test
+	@DisplayName("대기자가 제한을 넘으면 기다리지 않고 바로 LockContendedException으로 실패하고, 대기가 끝나면 카운터가 비워짐")
+	void testExecuteWithLock_TooManyWaiters_FailsFast() throws Exception {
+		// given: 보유자 1명과 대기자 2명 (제한 2)
+		int maxWaitersBefore = lockProperties.getMaxWaitersPerKey();
+		lockProperties.setMaxWaitersPerKey(2);
+		String waitersKey = LockKeys.companion(lockKey, "waiters");
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+					distributedLockService.executeWithLock(lockKey, () -> {
+						holding.countDown();
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}));
+			assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+			List<CompletableFuture<String>> waiters = List.of(
+					distributedLockService.executeWithLockAsync(lockKey, () -> "first"),
+					distributedLockService.executeWithLockAsync(lockKey, () -> "second"));
+			assertThat(redisTemplate.opsForValue().get(waitersKey)).isEqualTo("2");
+
+			// when
+			long startNanos = System.nanoTime();
+			assertThatThrownBy(() -> distributedLockService.executeWithLock(lockKey, () -> "third"))
+					.isInstanceOf(LockContendedException.class);
+			long rejectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+			release.countDown();
+
+			// then
+			holder.get(5, TimeUnit.SECONDS);
+			assertThat(waiters.stream().map(CompletableFuture::join).toList()).containsExactly("first", "second");
+			assertThat(rejectMillis).isLessThan(1000);
+			assertThat(redisTemplate.hasKey(waitersKey)).isFalse();
+		} finally {
+			release.countDown();
+			lockProperties.setMaxWaitersPerKey(maxWaitersBefore);
+		}
+	}
+
+	@Test
+	@DisplayName("락 백엔드의 비동기 획득이 바로 예외를 던져도 로컬 허가와 대기자 카운터를 돌려줌")
+	void testComposeWithFencedLockAsync_ProviderThrows_ReleasesPermitAndTicket() {
+		// given: 획득을 시작하자마자 예외를 던지는 락 백엔드, 로컬 허가를 먼저 잡아 대기자로 줄을 서게 함
+		LockProvider failingProvider = new LockProvider() {
+			@Override
+			public String name() {
+				return lockProperties.getDefaultProvider();
+			}
+
+			@Override
+			public Lease acquire(String key, long ttlSeconds, long deadline) {
+				throw new IllegalStateException("backend down");
+			}
+
+			@Override
+			public Lease acquireAll(List<String> keys, long ttlSeconds, long deadline) {
+				throw new IllegalStateException("backend down");
+			}
+
+			@Override
+			public CompletableFuture<Lease> acquireAsync(String key, long ttlSeconds, long deadline, Executor executor) {
+				throw new IllegalStateException("backend down");
+			}
+		};
+		DistributedLockService service = new DistributedLockService(localLockTable,
+				new LockProviders(List.of(failingProvider), new DistributedLockProperties()),
+				lockWaiters, lockMetrics, lockTaskExecutor, readWriteLock, semaphore, lockProperties);
+		String waitersKey = LockKeys.companion(lockKey, "waiters");
+		LocalLockTable.Permit holder = localLockTable.tryAcquire(lockKey);
+
+		// when
+		CompletableFuture<Long> future = service.composeWithFencedLockAsync(lockKey, CompletableFuture::completedFuture);
+		assertThat(redisTemplate.opsForValue().get(waitersKey)).isEqualTo("1");
+		holder.release();
+
+		// then
+		assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(IllegalStateException.class)
+				.hasRootCauseMessage("backend down");
+		assertThat(redisTemplate.hasKey(waitersKey)).isFalse();
+		LocalLockTable.Permit next = localLockTable.tryAcquire(lockKey);
+		assertThat(next).isNotNull();
+		next.release();
+	}
+
+	@Test
+	@DisplayName("여러 키를 같은 소유자 토큰으로 한 번에 획득하고 한 번에 해제함")
+	void testExecuteWithLocks_AcquiresAndReleasesAllKeys() {
+		// given
+		List<String> lockKeys = List.of(LockKeys.seat(1L, 12L), LockKeys.seat(1L, 11L), LockKeys.seat(1L, 13L));
+
+		// when
+		List<String> tokens = distributedLockService.executeWithLocks(lockKeys,
+				() -> redisTemplate.opsForValue().multiGet(lockKeys));
+
+		// then
+		assertThat(tokens).doesNotContainNull();
+		assertThat(tokens).containsOnly(tokens.get(0));
+		assertThat(redisTemplate.countExistingKeys(lockKeys)).isZero();
+	}
+
+	@Test
+	@DisplayName("키 하나라도 점유 중이면 나머지 키도 잡지 않고 기다렸다가 한 번에 획득함")
+	void testExecuteWithLocks_AllOrNothing() throws Exception {
+		// given: 다른 노드가 두 번째 좌석을 점유 중
+		String freeKey = LockKeys.seat(2L, 21L);
+		String heldKey = LockKeys.seat(2L, 22L);
+		redisTemplate.opsForValue().set(heldKey, "other-node-token");
+
+		// when
+		CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() ->
+				distributedLockService.executeWithLocks(List.of(freeKey, heldKey),
+						() -> redisTemplate.hasKey(freeKey) && redisTemplate.hasKey(heldKey)));
+		Thread.sleep(200);
+
+		// then: 대기 중에는 비어 있는 키도 잡지 않음
+		assertThat(redisTemplate.hasKey(freeKey)).isFalse();
+
+		redisTemplate.delete(heldKey);
+		assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(redisTemplate.hasKey(freeKey)).isFalse();
+	}
+
+	@Test
+	@DisplayName("순서를 바꿔 같은 키들을 동시에 요청해도 교착 없이 모두 완료됨")
+	void testExecuteWithLocks_OppositeOrder_NoDeadlock() throws InterruptedException {
+		// given
+		String first = LockKeys.seat(3L, 31L);
+		String second = LockKeys.seat(3L, 32L);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		// when
+		for (List<String> lockKeys : List.of(List.of(first, second), List.of(second, first))) {
+			executorService.submit(() -> {
+				for (int i = 0; i < 20; i++) {
+					distributedLockService.executeWithLocks(lockKeys, () -> {
+					});
+				}
+				return null;
+			});
+		}
+		executorService.shutdown();
+
+		// then
+		assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(redisTemplate.countExistingKeys(List.of(first, second))).isZero();
+	}
+
+	@Test
+	@DisplayName("해시 태그가 다른 키는 함께 잠글 수 없음")
+	void testExecuteWithLocks_DifferentHashTags_ThrowsException() {
+		assertThatThrownBy(() -> distributedLockService.executeWithLocks(
+				List.of(LockKeys.seat(1L, 1L), LockKeys.seat(2L, 2L)), () -> {
+				}))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("같은 해시 태그");
+	}
+
+	@Test
+	@DisplayName("같은 키의 읽기 락끼리는 서로 기다리지 않고 동시에 실행됨")
+	void testExecuteWithReadLock_ReadersShare() throws Exception {
+		// given
+		CountDownLatch bothInside = new CountDownLatch(2);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		// when: 두 읽기가 서로 상대가 들어올 때까지 락을 쥐고 기다림
+		List<java.util.concurrent.Future<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			futures.add(executorService.submit(() -> distributedLockService.executeWithReadLock(lockKey, () -> {
+				bothInside.countDown();
+				try {
+					return bothInside.await(3, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			})));
+		}
+
+		// then
+		for (java.util.concurrent.Future<Boolean> future : futures) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+		}
+		executorService.shutdown();
+		assertThat(redisTemplate.hasKey(LockKeys.companion(lockKey, "readers"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("쓰기 락은 읽기 락이 모두 해제될 때까지 기다리고, 기다리는 동안 새 읽기 락도 쓰기 뒤로 밀림")
+	void testExecuteWithWriteLock_WaitsForReadersAndBlocksNewReaders() throws Exception {
+		// given: 읽기 락 보유 중
+		CountDownLatch readerInside = new CountDownLatch(1);
+		CountDownLatch releaseReader = new CountDownLatch(1);
+		List<String> order = java.util.Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<Void> reader = CompletableFuture.runAsync(() ->
+				distributedLockService.executeWithReadLock(lockKey, () -> {
+					readerInside.countDown();
+					try {
+						releaseReader.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					order.add("reader-1");
+					return null;
+				}));
+		assertThat(readerInside.await(3, TimeUnit.SECONDS)).isTrue();
+
+		// when: 쓰기가 대기를 시작한 뒤 새 읽기가 도착
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+				distributedLockService.executeWithWriteLock(lockKey, () -> order.add("writer")));
+		Thread.sleep(200);
+		assertThat(redisTemplate.hasKey(LockKeys.companion(lockKey, "write-intent"))).isTrue();
+		CompletableFuture<Void> lateReader = CompletableFuture.runAsync(() ->
+				distributedLockService.executeWithReadLock(lockKey, () -> order.add("reader-2")));
+		Thread.sleep(200);
+
+		// then: 기존 읽기가 끝나기 전에는 아무도 실행되지 않고, 끝나면 쓰기 → 새 읽기 순서
+		assertThat(order).isEmpty();
+		releaseReader.countDown();
+		CompletableFuture.allOf(reader, writer, lateReader).get(10, TimeUnit.SECONDS);
+		assertThat(order).containsExactly("reader-1", "writer", "reader-2");
+		assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+		assertThat(redisTemplate.hasKey(LockKeys.companion(lockKey, "write-intent"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("쓰기 락 보유 중에는 읽기 락이 기다렸다가 해제 후 획득함")
+	void testExecuteWithReadLock_WaitsForWriter() throws Exception {
+		// given
+		CountDownLatch writerInside = new CountDownLatch(1);
+		CountDownLatch releaseWriter = new CountDownLatch(1);
+		AtomicInteger readsDuringWrite = new AtomicInteger();
+		AtomicInteger writing = new AtomicInteger();
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+				distributedLockService.executeWithWriteLock(lockKey, () -> {
+					writing.set(1);
+					writerInside.countDown();
+					try {
+						releaseWriter.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					writing.set(0);
+					return null;
+				}));
+		assertThat(writerInside.await(3, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		CompletableFuture<Void> reader = CompletableFuture.runAsync(() ->
+				distributedLockService.executeWithReadLock(lockKey, () -> readsDuringWrite.addAndGet(writing.get())));
+		Thread.sleep(200);
+		assertThat(reader).isNotDone();
+		releaseWriter.countDown();
+
+		// then
+		CompletableFuture.allOf(writer, reader).get(5, TimeUnit.SECONDS);
+		assertThat(readsDuringWrite.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("세마포어 허가 수만큼만 동시에 실행되고, 나머지는 허가가 반납되면 이어서 실행됨")
+	void testExecuteWithPermit_BoundsConcurrency() throws InterruptedException {
+		// given
+		String semaphoreName = "test-" + UUID.randomUUID();
+		lockProperties.getPermits().put(semaphoreName, 2);
+		AtomicInteger inside = new AtomicInteger();
+		AtomicInteger maxInside = new AtomicInteger();
+		AtomicInteger completed = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(6);
+
+		// when
+		try {
+			for (int i = 0; i < 12; i++) {
+				executorService.submit(() -> distributedLockService.executeWithPermit(semaphoreName, 1L, () -> {
+					maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(50);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					inside.decrementAndGet();
+					return completed.incrementAndGet();
+				}));
+			}
+			executorService.shutdown();
+			assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			lockProperties.getPermits().remove(semaphoreName);
+		}
+
+		// then
+		assertThat(completed.get()).isEqualTo(12);
+		assertThat(maxInside.get()).isEqualTo(2);
+		assertThat(redisTemplate.opsForZSet().zCard(LockKeys.semaphore(semaphoreName, 1L))).isZero();
+	}
+
+	@Test
+	@DisplayName("비동기 허가 대기자는 실행기 스레드를 붙잡지 않아, 허가가 없는 동안에도 다른 비동기 락 작업이 실행됨")
+	void testExecuteWithPermitAsync_WaitsWithoutHoldingExecutorThreads() {
+		// given: 허가 1개를 다른 노드가 보유 중이고, 실행기 스레드 수보다 많은 대기자가 락 안에서 허가를 기다림
+		String semaphoreName = "test-" + UUID.randomUUID();
+		String semaphoreKey = LockKeys.semaphore(semaphoreName);
+		lockProperties.getPermits().put(semaphoreName, 1);
+		redisTemplate.opsForZSet().add(semaphoreKey, "other-node", System.currentTimeMillis() + 10_000);
+		int waiterCount = lockProperties.getAsyncThreads() * 2;
+		AtomicInteger inside = new AtomicInteger();
+		AtomicInteger maxInside = new AtomicInteger();
+
+		try {
+			List<CompletableFuture<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < waiterCount; i++) {
+				int index = i;
+				futures.add(distributedLockService.composeWithFencedLockAsync(lockKey + ":" + i,
+						fencingToken -> distributedLockService.executeWithPermitAsync(semaphoreName, () -> {
+							maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+							inside.decrementAndGet();
+							return index;
+						})));
+			}
+
+			// when: 허가를 기다리는 중에 다른 키의 비동기 락 작업 실행
+			String other = distributedLockService.executeWithLockAsync(lockKey, () -> "other")
+					.orTimeout(1, TimeUnit.SECONDS).join();
+			assertThat(futures).noneMatch(CompletableFuture::isDone);
+
+			redisTemplate.opsForZSet().remove(semaphoreKey, "other-node");
+			redisTemplate.convertAndSend(LockReleaseNotifier.CHANNEL_PREFIX + semaphoreKey, semaphoreKey);
+
+			// then
+			List<Integer> results = futures.stream().map(CompletableFuture::join).toList();
+			assertThat(other).isEqualTo("other");
+			assertThat(results).hasSize(waiterCount).doesNotHaveDuplicates();
+			assertThat(maxInside.get()).isEqualTo(1);
+			assertThat(redisTemplate.opsForZSet().zCard(semaphoreKey)).isZero();
+		} finally {
+			lockProperties.getPermits().remove(semaphoreName);
+			redisTemplate.delete(semaphoreKey);
+		}
+	}
+
+	@Test
+	@DisplayName("죽은 노드가 반납하지 못한 허가는 임대가 만료되면 다시 사용할 수 있음")
+	void testExecuteWithPermit_ExpiredHolderIsReclaimed() {
+		// given: 허가 1개를 다른 노드가 보유한 채 죽음 (만료 시각이 지난 보유자)
+		String semaphoreName = "test-" + UUID.randomUUID();
+		String semaphoreKey = LockKeys.semaphore(semaphoreName);
+		lockProperties.getPermits().put(semaphoreName, 1);
+		redisTemplate.opsForZSet().add(semaphoreKey, "dead-node-token", System.currentTimeMillis() - 1000);
+
+		// when
+		try {
+			String result = distributedLockService.executeWithPermit(semaphoreName, () -> "done");
+
+			// then
+			assertThat(result).isEqualTo("done");
+			assertThat(redisTemplate.opsForZSet().score(semaphoreKey, "dead-node-token")).isNull();
+		} finally {
+			lockProperties.getPermits().remove(semaphoreName);
+			redisTemplate.delete(semaphoreKey);
+		}
+	}
+
+	@Test
+	@DisplayName("키 접두사별로 대기 시간, 보유 시간, 소유권 상실이 메트릭으로 기록됨")
+	void testExecuteWithLock_RecordsMetricsByKeyPrefix() {
+		// given
+		long waitsBefore = timerCount("lock.wait", "outcome", "acquired");
+		long holdsBefore = timerCount("lock.hold", null, null);
+		double lostBefore = counterCount("lock.unlock.errors", "reason", "ownership_lost");
+
+		// when: 정상 해제 1회 + 작업 도중 다른 노드에 소유권을 잃은 해제 1회
+		distributedLockService.executeWithLock(lockKey, () -> {
+		});
+		distributedLockService.executeWithLock(lockKey, 1, () -> {
+			redisTemplate.opsForValue().set(lockKey, "other-node-token");
+		});
+		redisTemplate.delete(lockKey);
+
+		// then
+		assertThat(timerCount("lock.wait", "outcome", "acquired") - waitsBefore).isEqualTo(2);
+		assertThat(timerCount("lock.hold", null, null) - holdsBefore).isEqualTo(2);
+		assertThat(counterCount("lock.unlock.errors", "reason", "ownership_lost") - lostBefore).isEqualTo(1);
+	}
+
+	private long timerCount(String name, String tagKey, String tagValue) {
+		Search search = meterRegistry.find(name).tag("prefix", "test:");
+		if (tagKey != null) {
+			search = search.tag(tagKey, tagValue);
+		}
+		Timer timer = search.timer();
+		return timer != null ? timer.count() : 0;
+	}
+
+	private double counterCount(String name, String tagKey, String tagValue) {
+		Counter counter = meterRegistry.find(name).tag("prefix", "test:").tag(tagKey, tagValue).counter();
+		return counter != null ? counter.count() : 0;
+	}
+}
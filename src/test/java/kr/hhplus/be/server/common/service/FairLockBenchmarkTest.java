@@ -0,0 +1,137 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공정(FIFO) 락 vs 비공정(SETNX 경쟁) 락 벤치마크
+ *
+ * 여러 노드가 같은 키에 몰릴 때의 락 획득 대기 시간 꼬리(p99.9)를 비교합니다.
+ * 노드마다 로컬 락 테이블을 따로 두어, 노드 간 경합은 Redis에서만 해소되도록 구성합니다.
+ *
+ * 실행: ./gradlew benchmark --tests "*FairLockBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("h2")
+class FairLockBenchmarkTest {
+
+	private static final String FAIR_PREFIX = "bench:fair:";
+	private static final int NODES = 8;
+	private static final int THREADS_PER_NODE = 2;
+	private static final int ITERATIONS_PER_THREAD = 40;
+	private static final long HOLD_MS = 2;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private LockReleaseNotifier lockReleaseNotifier;
+
+	@Autowired
+	private LockWatchdog lockWatchdog;
+
+	@Autowired
+	private FairLockQueue fairLockQueue;
+
+	@Autowired
+	private LockMetrics lockMetrics;
+
+	@Autowired
+	private HotLockKeyTracker hotLockKeyTracker;
+
+	@Autowired
+	private LockTaskExecutor lockTaskExecutor;
+
+	@Autowired
+	private LockWaiters lockWaiters;
+
+	@Test
+	@DisplayName("공정 모드의 p99.9 락 획득 대기 시간이 비공정 모드보다 짧아야 함")
+	void compareTailLatency() throws InterruptedException {
+		LatencyRecorder unfair = run("bench:unfair:" + UUID.randomUUID());
+		LatencyRecorder fair = run(FAIR_PREFIX + UUID.randomUUID());
+
+		System.out.println(unfair.summary("unfair: SETNX race"));
+		System.out.println(fair.summary("fair: FIFO tickets"));
+		System.out.printf("p99.9 wait: unfair=%.1fms, fair=%.1fms%n",
+				unfair.percentileMs(99.9), fair.percentileMs(99.9));
+
+		assertThat(fair.count()).isEqualTo(NODES * THREADS_PER_NODE * ITERATIONS_PER_THREAD);
+		assertThat(fair.percentileMs(99.9)).isLessThan(unfair.percentileMs(99.9));
+	}
+
+	/**
+	 * NODES개의 노드에서 THREADS_PER_NODE개씩 스레드가 동시에 같은 키의 락을 획득하고 대기 시간을 기록합니다.
+	 */
+	private LatencyRecorder run(String lockKey) throws InterruptedException {
+		int threads = NODES * THREADS_PER_NODE;
+		LatencyRecorder recorder = new LatencyRecorder(threads * ITERATIONS_PER_THREAD);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		CountDownLatch startLatch = new CountDownLatch(1);
+
+		for (DistributedLockService node : nodes()) {
+			for (int i = 0; i < THREADS_PER_NODE; i++) {
+				executorService.submit(() -> {
+					startLatch.await();
+					for (int n = 0; n < ITERATIONS_PER_THREAD; n++) {
+						long start = System.nanoTime();
+						recorder.record(node.executeWithLock(lockKey, () -> {
+							long waited = System.nanoTime() - start;
+							sleep(HOLD_MS);
+							return waited;
+						}));
+					}
+					return null;
+				});
+			}
+		}
+
+		startLatch.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		return recorder;
+	}
+
+	/**
+	 * 로컬 락 테이블을 공유하지 않는 노드들을 만듭니다.
+	 */
+	private List<DistributedLockService> nodes() {
+		DistributedLockProperties properties = new DistributedLockProperties();
+		properties.setFairKeyPrefixes(List.of(FAIR_PREFIX));
+
+		List<DistributedLockService> nodes = new ArrayList<>();
+		for (int i = 0; i < NODES; i++) {
+			RedisLockProvider redisLockProvider = new RedisLockProvider(redisTemplate, lockReleaseNotifier, lockWatchdog,
+					fairLockQueue, properties, lockMetrics, hotLockKeyTracker);
+			nodes.add(new DistributedLockService(new LocalLockTable(),
+					new LockProviders(List.of(redisLockProvider), properties), lockWaiters, lockMetrics, lockTaskExecutor, null, null, properties));
+		}
+		return nodes;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
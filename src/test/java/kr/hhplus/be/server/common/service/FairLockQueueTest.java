@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.common.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FairLockQueue 통합 테스트 (Redis 필요)
+ *
+ * - 락이 풀리면 먼저 줄을 선 번호표만 획득하는지
+ * - 갱신이 끊긴 번호표는 TTL이 지나면 정리되는지
+ * - 반납한 번호표는 즉시 대기열에서 빠지는지
+ * - 획득할 때마다 더 큰 펜싱 토큰이 발급되는지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class FairLockQueueTest {
+
+	private static final long LOCK_TTL_MS = 5000;
+	private static final long TICKET_TTL_MS = 1500;
+	private static final long FENCE_TTL_MS = 60_000;
+
+	@Autowired
+	private FairLockQueue fairLockQueue;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private String lockKey;
+	private String fenceKey;
+
+	@BeforeEach
+	void setUp() {
+		lockKey = "test:fair:" + UUID.randomUUID();
+		fenceKey = LockKeys.companion(lockKey, "fence");
+	}
+
+	@Test
+	@DisplayName("락이 풀리면 먼저 줄을 선 번호표가 획득하고, 늦게 온 번호표는 앞지르지 못함")
+	void testTryAcquire_GrantsInArrivalOrder() {
+		// given: holder가 락을 잡은 상태에서 first, second 순서로 줄을 섬
+		assertThat(fairLockQueue.tryAcquire(lockKey, "holder", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "first", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "second", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+
+		// when
+		redisTemplate.delete(lockKey);
+
+		// then
+		assertThat(fairLockQueue.tryAcquire(lockKey, "second", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "late", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "first", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+		assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("first");
+	}
+
+	@Test
+	@DisplayName("갱신이 끊긴 번호표는 TTL이 지나면 정리되어 다음 순번이 획득함")
+	void testTryAcquire_ReapsAbandonedTicket() throws InterruptedException {
+		// given: abandoned가 맨 앞에 줄을 선 뒤 더 이상 재시도하지 않음
+		assertThat(fairLockQueue.tryAcquire(lockKey, "holder", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "abandoned", LOCK_TTL_MS, 200, fenceKey, FENCE_TTL_MS)).isZero();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "next", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+		redisTemplate.delete(lockKey);
+		assertThat(fairLockQueue.tryAcquire(lockKey, "next", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+
+		// when
+		Thread.sleep(300);
+
+		// then
+		assertThat(fairLockQueue.tryAcquire(lockKey, "next", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+	}
+
+	@Test
+	@DisplayName("대기를 포기하고 반납한 번호표는 즉시 대기열에서 빠짐")
+	void testLeave_RemovesTicketImmediately() {
+		// given
+		assertThat(fairLockQueue.tryAcquire(lockKey, "holder", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "gave-up", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+		assertThat(fairLockQueue.tryAcquire(lockKey, "next", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isZero();
+
+		// when
+		fairLockQueue.leave(lockKey, "gave-up");
+		redisTemplate.delete(lockKey);
+
+		// then
+		assertThat(fairLockQueue.tryAcquire(lockKey, "next", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS)).isPositive();
+	}
+
+	@Test
+	@DisplayName("획득할 때마다 이전보다 큰 펜싱 토큰이 발급됨")
+	void testTryAcquire_IssuesIncreasingFencingTokens() {
+		// given
+		long first = fairLockQueue.tryAcquire(lockKey, "first", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS);
+		redisTemplate.delete(lockKey);
+
+		// when
+		long second = fairLockQueue.tryAcquire(lockKey, "second", LOCK_TTL_MS, TICKET_TTL_MS, fenceKey, FENCE_TTL_MS);
+
+		// then
+		assertThat(first).isPositive();
+		assertThat(second).isGreaterThan(first);
+	}
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HotLockKeyTracker 단위 테스트
+ */
+class HotLockKeyTrackerTest {
+
+	private static final int CAPACITY = 16;
+
+	private MutableClock clock;
+	private HotLockKeyTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		DistributedLockProperties properties = new DistributedLockProperties();
+		properties.setHotKeyCapacity(CAPACITY);
+		properties.setHotKeyWindow(Duration.ofSeconds(60));
+		clock = new MutableClock();
+		tracker = new HotLockKeyTracker(properties, clock);
+	}
+
+	@Test
+	@DisplayName("서로 다른 키가 아무리 많아도 카운터 수는 capacity를 넘지 않고, 경합 상위 키는 찾아냄")
+	void testRecordContention_BoundedMemory_FindsHeavyHitters() {
+		// given: 한 번씩 실패한 좌석 10,000개 + 자주 실패한 인기 좌석 2개 (5,000회, 2,000회)
+		for (int i = 0; i < 10_000; i++) {
+			tracker.recordContention("seat:" + i);
+			if (i % 2 == 0) {
+				tracker.recordContention("seat:hot-1");
+			}
+			if (i % 5 == 0) {
+				tracker.recordContention("seat:hot-2");
+			}
+		}
+
+		// when
+		List<HotLockKeyTracker.HotKey> all = tracker.top(Integer.MAX_VALUE);
+		List<HotLockKeyTracker.HotKey> top = tracker.top(2);
+
+		// then
+		assertThat(all).hasSizeLessThanOrEqualTo(CAPACITY);
+		assertThat(top).extracting(HotLockKeyTracker.HotKey::getKey).containsExactly("seat:hot-1", "seat:hot-2");
+		assertThat(top.get(0).getAttempts()).isGreaterThanOrEqualTo(5000);
+		assertThat(top.get(0).getAttempts() - top.get(0).getError()).isLessThanOrEqualTo(5000);
+	}
+
+	@Test
+	@DisplayName("초당 실패율은 직전 창 기준으로 계산되고, 오래된 창은 비워짐")
+	void testTop_WindowedRate() {
+		// given: 첫 창에서 120회 실패
+		for (int i = 0; i < 120; i++) {
+			tracker.recordContention("seat:1");
+		}
+
+		// when & then: 창이 넘어가면 직전 창 기준 120회 / 60초
+		clock.advance(Duration.ofSeconds(60));
+		HotLockKeyTracker.HotKey hotKey = tracker.top(1).get(0);
+		assertThat(hotKey.getRatePerSecond()).isEqualTo(2.0);
+		assertThat(hotKey.getCurrentWindowAttempts()).isZero();
+		assertThat(hotKey.getAttempts()).isEqualTo(120);
+
+		// when & then: 두 창 이상 실패가 없으면 실패율 0, 누적값은 유지
+		clock.advance(Duration.ofSeconds(120));
+		hotKey = tracker.top(1).get(0);
+		assertThat(hotKey.getRatePerSecond()).isZero();
+		assertThat(hotKey.getAttempts()).isEqualTo(120);
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant now = Instant.parse("2024-12-25T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.common.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalLockTable 단위 테스트
+ */
+class LocalLockTableTest {
+
+	private final LocalLockTable localLockTable = new LocalLockTable();
+
+	@Test
+	@DisplayName("같은 키는 보유자가 반납할 때까지 획득할 수 없음")
+	void testAcquire_SameKey_BlocksUntilReleased() throws Exception {
+		// given
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+
+		// when
+		LocalLockTable.Permit second = localLockTable.acquire("seat:1", 50);
+
+		// then
+		assertThat(first).isNotNull();
+		assertThat(first.waited()).isFalse();
+		assertThat(second).isNull();
+		first.release();
+	}
+
+	@Test
+	@DisplayName("서로 다른 키는 서로 대기하지 않음")
+	void testAcquire_DifferentKeys_DoNotBlock() throws Exception {
+		// when
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+		LocalLockTable.Permit second = localLockTable.acquire("seat:2", 0);
+
+		// then
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		first.release();
+		second.release();
+	}
+
+	@Test
+	@DisplayName("대기 후 획득하면 waited가 true이고, 다른 스레드에서 반납해도 됨")
+	void testAcquire_AfterWaiting_MarksWaited() throws Exception {
+		// given
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+		CompletableFuture<LocalLockTable.Permit> waiter = CompletableFuture.supplyAsync(() -> {
+			try {
+				return localLockTable.acquire("seat:1", 2000);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Thread.sleep(100);
+
+		// when
+		CompletableFuture.runAsync(first::release).get(1, TimeUnit.SECONDS);
+		LocalLockTable.Permit second = waiter.get(2, TimeUnit.SECONDS);
+
+		// then
+		assertThat(second).isNotNull();
+		assertThat(second.waited()).isTrue();
+		second.release();
+	}
+
+	@Test
+	@DisplayName("반납 직후 다시 획득을 시도해도 먼저 기다리던 대기자를 새치기하지 않음")
+	void testAcquire_AfterRelease_DoesNotBargeAheadOfWaiter() throws Exception {
+		// given
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+		CompletableFuture<LocalLockTable.Permit> waiter = CompletableFuture.supplyAsync(() -> {
+			try {
+				return localLockTable.acquire("seat:1", 2000);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Thread.sleep(100);
+
+		// when
+		first.release();
+		LocalLockTable.Permit barging = localLockTable.acquire("seat:1", 0);
+
+		// then
+		assertThat(barging).isNull();
+		LocalLockTable.Permit second = waiter.get(2, TimeUnit.SECONDS);
+		assertThat(second).isNotNull();
+		second.release();
+	}
+
+	@Test
+	@DisplayName("비동기 대기자는 스레드 없이 줄을 서고, 반납될 때마다 도착 순서대로 넘겨받음")
+	void testAcquireAsync_HandsOffInArrivalOrder() throws Exception {
+		// given
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+		CompletableFuture<LocalLockTable.Permit> second = localLockTable.acquireAsync("seat:1", 2000);
+		CompletableFuture<LocalLockTable.Permit> third = localLockTable.acquireAsync("seat:1", 2000);
+		assertThat(second).isNotDone();
+		assertThat(third).isNotDone();
+
+		// when & then
+		first.release();
+		LocalLockTable.Permit secondPermit = second.get(1, TimeUnit.SECONDS);
+		assertThat(secondPermit.waited()).isTrue();
+		assertThat(third).isNotDone();
+
+		secondPermit.release();
+		third.get(1, TimeUnit.SECONDS).release();
+		assertThat(localLockTable.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("비동기 대기가 시간 내 넘겨받지 못하면 null로 완료되고 줄에서 빠짐")
+	void testAcquireAsync_Timeout_CompletesWithNull() throws Exception {
+		// given
+		LocalLockTable.Permit first = localLockTable.acquire("seat:1", 100);
+
+		// when
+		LocalLockTable.Permit timedOut = localLockTable.acquireAsync("seat:1", 50).get(1, TimeUnit.SECONDS);
+		first.release();
+
+		// then: 빠진 대기자에게 넘겨주지 않으므로 바로 다시 획득 가능
+		assertThat(timedOut).isNull();
+		LocalLockTable.Permit next = localLockTable.acquire("seat:1", 0);
+		assertThat(next).isNotNull();
+		assertThat(next.waited()).isFalse();
+		next.release();
+		assertThat(localLockTable.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("모든 사용자가 반납하면 테이블에서 키가 제거됨")
+	void testRelease_LastUser_RemovesEntry() throws Exception {
+		// given
+		LocalLockTable.Permit permit = localLockTable.acquire("seat:1", 100);
+		localLockTable.acquire("seat:1", 10); // 타임아웃 실패
+		assertThat(localLockTable.size()).isEqualTo(1);
+
+		// when
+		permit.release();
+		permit.release(); // 중복 반납은 무시
+
+		// then
+		assertThat(localLockTable.size()).isZero();
+	}
+}
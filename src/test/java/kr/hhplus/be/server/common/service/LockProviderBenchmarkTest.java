@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.common.service;
+
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 백엔드별 처리량/지연 시간 벤치마크 (redis vs memory, 설정 시 mysql)
+ *
+ * 같은 DistributedLockService 경로에서 백엔드만 바꿔, 키가 흩어진 경우(경합 없음)와
+ * 한 키에 몰린 경우(경합)의 락 획득~해제 왕복 지연과 초당 처리량을 비교합니다.
+ * mysql은 BENCH_MYSQL_URL(, BENCH_MYSQL_USER, BENCH_MYSQL_PASSWORD) 환경 변수가 있을 때만 측정합니다.
+ *
+ * 실행: ./gradlew benchmark --tests "*LockProviderBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("h2")
+class LockProviderBenchmarkTest {
+
+	private static final int THREADS = 16;
+	private static final int ITERATIONS_PER_THREAD = 200;
+	private static final int WARMUP_ITERATIONS = 50;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private LockReleaseNotifier lockReleaseNotifier;
+
+	@Autowired
+	private LockWatchdog lockWatchdog;
+
+	@Autowired
+	private FairLockQueue fairLockQueue;
+
+	@Autowired
+	private LockMetrics lockMetrics;
+
+	@Autowired
+	private HotLockKeyTracker hotLockKeyTracker;
+
+	@Autowired
+	private LockTaskExecutor lockTaskExecutor;
+
+	@Autowired
+	private LockWaiters lockWaiters;
+
+	@Test
+	@DisplayName("백엔드별 락 왕복 지연과 처리량 비교")
+	void compareProviders() throws InterruptedException {
+		DistributedLockProperties properties = new DistributedLockProperties();
+		List<LockProvider> providers = new ArrayList<>();
+		providers.add(new RedisLockProvider(redisTemplate, lockReleaseNotifier, lockWatchdog, fairLockQueue,
+				properties, lockMetrics, hotLockKeyTracker));
+		providers.add(new InMemoryLockProvider());
+		MySqlLockProvider mySqlLockProvider = mySqlLockProvider(properties);
+		if (mySqlLockProvider != null) {
+			providers.add(mySqlLockProvider);
+		}
+
+		try {
+			for (LockProvider provider : providers) {
+				properties.setDefaultProvider(provider.name());
+				DistributedLockService service = new DistributedLockService(new LocalLockTable(),
+						new LockProviders(providers, properties), lockWaiters, lockMetrics, lockTaskExecutor, null, null, properties);
+				String prefix = "bench:provider:" + provider.name() + ":" + UUID.randomUUID() + ":";
+
+				run(service, prefix, false, WARMUP_ITERATIONS);
+				report(provider.name() + " uncontended", run(service, prefix, false, ITERATIONS_PER_THREAD));
+				report(provider.name() + " contended", run(service, prefix, true, ITERATIONS_PER_THREAD));
+			}
+		} finally {
+			if (mySqlLockProvider != null) {
+				mySqlLockProvider.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * THREADS개 스레드가 락을 획득하고 바로 해제하는 작업을 반복합니다.
+	 *
+	 * @param contended true면 모든 스레드가 같은 키를, false면 스레드마다 다른 키를 사용
+	 * @return 왕복 지연 기록과 전체 소요 시간
+	 */
+	private Result run(DistributedLockService service, String prefix, boolean contended, int iterations)
+			throws InterruptedException {
+		LatencyRecorder recorder = new LatencyRecorder(THREADS * iterations);
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+
+		for (int t = 0; t < THREADS; t++) {
+			String lockKey = contended ? prefix + "hot" : prefix + t;
+			executorService.submit(() -> {
+				startLatch.await();
+				for (int n = 0; n < iterations; n++) {
+					long start = System.nanoTime();
+					service.executeWithLock(lockKey, () -> { });
+					recorder.record(System.nanoTime() - start);
+				}
+				return null;
+			});
+		}
+
+		long startNanos = System.nanoTime();
+		startLatch.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		long elapsedNanos = System.nanoTime() - startNanos;
+
+		assertThat(recorder.count()).isEqualTo(THREADS * iterations);
+		return new Result(recorder, elapsedNanos);
+	}
+
+	private static void report(String name, Result result) {
+		System.out.println(result.recorder.summary(name));
+		System.out.printf("%s: %.0f ops/s%n", name,
+				result.recorder.count() / (result.elapsedNanos / 1_000_000_000.0));
+	}
+
+	/**
+	 * BENCH_MYSQL_URL이 설정된 경우에만 mysql 백엔드를 만듭니다.
+	 */
+	private static MySqlLockProvider mySqlLockProvider(DistributedLockProperties properties) {
+		String url = System.getenv("BENCH_MYSQL_URL");
+		if (url == null || url.isBlank()) {
+			System.out.println("mysql: BENCH_MYSQL_URL 미설정으로 측정 생략");
+			return null;
+		}
+		DataSourceProperties dataSourceProperties = new DataSourceProperties();
+		dataSourceProperties.setUrl(url);
+		dataSourceProperties.setUsername(System.getenv("BENCH_MYSQL_USER"));
+		dataSourceProperties.setPassword(System.getenv("BENCH_MYSQL_PASSWORD"));
+		properties.setMysqlPoolSize(THREADS);
+		return new MySqlLockProvider(dataSourceProperties, properties, new HotLockKeyTracker(properties));
+	}
+
+	private record Result(LatencyRecorder recorder, long elapsedNanos) {
+	}
+}
@@ -0,0 +1,148 @@
+package kr.hhplus.be.server.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.config.DistributedLockProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LockProviders 단위 테스트
+ *
+ * - 락 키 접두사별 백엔드 선택 (가장 긴 접두사 우선, 없으면 기본 백엔드)
+ * - 설정 오류는 기동 시점에 실패하는지
+ * - memory 백엔드로도 DistributedLockService의 상호 배제와 펜싱 토큰이 유지되는지
+ */
+class LockProvidersTest {
+
+	private static final LockProvider REDIS = new NamedProvider("redis");
+
+	private DistributedLockProperties properties;
+	private InMemoryLockProvider memory;
+
+	@BeforeEach
+	void setUp() {
+		properties = new DistributedLockProperties();
+		memory = new InMemoryLockProvider();
+	}
+
+	@Test
+	@DisplayName("가장 긴 접두사의 백엔드를 고르고, 해당하는 접두사가 없으면 기본 백엔드를 사용함")
+	void testForKey_LongestPrefixWins() {
+		// given
+		properties.setProviderKeyPrefixes(Map.of(
+				"memory", List.of("seat:"),
+				"redis", List.of("seat:{schedule:1}")));
+		LockProviders providers = new LockProviders(List.of(REDIS, memory), properties);
+
+		// then
+		assertThat(providers.forKey("seat:{schedule:1}:10")).isSameAs(REDIS);
+		assertThat(providers.forKey("seat:{schedule:2}:10")).isSameAs(memory);
+		assertThat(providers.forKey("reservation:1")).isSameAs(REDIS);
+	}
+
+	@Test
+	@DisplayName("설정된 백엔드 이름이 없으면 생성 시 실패함")
+	void testConstructor_UnknownProvider_Fails() {
+		// given
+		properties.setDefaultProvider("zookeeper");
+
+		// when & then
+		assertThatThrownBy(() -> new LockProviders(List.of(REDIS, memory), properties))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("zookeeper");
+	}
+
+	@Test
+	@DisplayName("백엔드가 서로 다른 키는 함께 잠글 수 없음")
+	void testForKeys_MixedProviders_Fails() {
+		// given
+		properties.setProviderKeyPrefixes(Map.of("memory", List.of("point:")));
+		LockProviders providers = new LockProviders(List.of(REDIS, memory), properties);
+
+		// when & then
+		assertThatThrownBy(() -> providers.forKeys(List.of("point:1", "seat:1")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(providers.forKeys(List.of("point:1", "point:2"))).isSameAs(memory);
+	}
+
+	@Test
+	@DisplayName("memory 백엔드로도 같은 키의 작업은 겹치지 않고, 펜싱 토큰은 획득할 때마다 증가함")
+	void testMemoryProvider_MutualExclusionAndFencing() throws InterruptedException {
+		// given
+		properties.setDefaultProvider("memory");
+		properties.setAsyncThreads(2);
+		properties.setMaxWaitersPerKey(0);
+		LockTaskExecutor lockTaskExecutor = new LockTaskExecutor(properties);
+		DistributedLockService service = new DistributedLockService(new LocalLockTable(),
+				new LockProviders(List.of(REDIS, memory), properties), new LockWaiters(null, properties),
+				new LockMetrics(new SimpleMeterRegistry()), lockTaskExecutor, null, null, properties);
+		AtomicInteger inside = new AtomicInteger();
+		AtomicInteger maxInside = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		for (int i = 0; i < 200; i++) {
+			executor.submit(() -> service.executeWithLock("point:1", () -> {
+				maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+				inside.decrementAndGet();
+			}));
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		long first = service.executeWithFencedLock("point:1", fencingToken -> fencingToken);
+		long second = service.executeWithFencedLock("point:1", fencingToken -> fencingToken);
+		lockTaskExecutor.shutdown();
+
+		// then
+		assertThat(maxInside.get()).isEqualTo(1);
+		assertThat(second).isGreaterThan(first);
+	}
+
+	@Test
+	@DisplayName("MySQL 네임드 락 이름 길이 제한을 넘는 키는 해시로 줄임")
+	void testMySqlLockName_ShortensLongKeys() {
+		String longKey = "seat:" + "x".repeat(100);
+
+		assertThat(MySqlLockProvider.lockName("seat:1")).isEqualTo("seat:1");
+		assertThat(MySqlLockProvider.lockName(longKey)).hasSizeLessThanOrEqualTo(64).startsWith("lock:");
+		assertThat(MySqlLockProvider.lockName(longKey)).isEqualTo(MySqlLockProvider.lockName(longKey));
+	}
+
+	/**
+	 * 선택 결과만 확인하기 위한 이름뿐인 백엔드
+	 */
+	private static class NamedProvider implements LockProvider {
+
+		private final String name;
+
+		private NamedProvider(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String name() {
+			return name;
+		}
+
+		@Override
+		public Lease acquire(String lockKey, long ttlSeconds, long deadline) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Lease acquireAll(List<String> lockKeys, long ttlSeconds, long deadline) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,353 @@
+package kr.hhplus.be.server.common.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.config.IdempotencyProperties;
+import kr.hhplus.be.server.reservation.domain.Payment;
+import kr.hhplus.be.server.reservation.domain.PaymentStatus;
+import kr.hhplus.be.server.reservation.usecase.ProcessPaymentUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 필터 테스트 (H2 + 실제 Redis)
+ *
+ * 테스트 목적:
+ * - 완료된 요청과 같은 키로 다시 요청하면 유스케이스를 거치지 않고 저장된 상태 코드와 본문을 받는지 검증
+ * - 비동기(CompletableFuture) 응답도 비동기 디스패치가 끝날 때 저장되는지 검증
+ * - 처리 중에 같은 키로 온 요청은 요청 스레드를 반납하고 기다렸다가, 첫 요청의 완료 알림을 받으면 같은 응답을 받는지 검증
+ * - 같은 키의 다른 요청(422), 대기 시간 초과(409), 5xx와 다시 시도하라는 4xx 응답 미저장을 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class IdempotencyKeyFilterTest {
+
+	private static final String PAYMENT_PATH = "/api/v1/reservation/1/payment";
+
+	@Autowired
+	private IdempotencyKeyFilter idempotencyKeyFilter;
+
+	@Autowired
+	private IdempotencyProperties idempotencyProperties;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ProcessPaymentUseCase processPaymentUseCase;
+
+	private String idempotencyKey;
+	private Duration originalWaitTimeout;
+	private Duration originalRecheckInterval;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyKey = UUID.randomUUID().toString();
+		originalWaitTimeout = idempotencyProperties.getWaitTimeout();
+		originalRecheckInterval = idempotencyProperties.getRecheckInterval();
+	}
+
+	@AfterEach
+	void tearDown() {
+		idempotencyProperties.setWaitTimeout(originalWaitTimeout);
+		idempotencyProperties.setRecheckInterval(originalRecheckInterval);
+		redisTemplate.delete(redisTemplate.keys("idempotency:*:" + idempotencyKey));
+	}
+
+	@Test
+	@DisplayName("비동기 결제 응답이 저장되고, 같은 키로 다시 결제하면 유스케이스를 거치지 않고 저장된 응답을 받음")
+	void testPayment_RetryWithSameKey_ReplaysStoredResponse() throws Exception {
+		// given
+		when(processPaymentUseCase.executeAsync(anyLong(), anyString()))
+				.thenReturn(CompletableFuture.completedFuture(approvedPayment()));
+		MvcResult first = mockMvc.perform(post(PAYMENT_PATH).header(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(first))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.paymentId").value(10));
+
+		// when & then
+		mockMvc.perform(post(PAYMENT_PATH).header(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isOk())
+				.andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"))
+				.andExpect(jsonPath("$.paymentId").value(10))
+				.andExpect(jsonPath("$.status").value("APPROVED"));
+		verify(processPaymentUseCase, times(1)).executeAsync(1L, idempotencyKey);
+	}
+
+	@Test
+	@DisplayName("처리 중에 같은 키로 온 요청은 요청 스레드를 반납하고 기다렸다가, 첫 요청이 완료 알림을 보내면 같은 응답을 받음")
+	void testConcurrentDuplicate_WaitsForFirstResult() throws Exception {
+		// given - 재확인 간격을 길게 두어 완료 알림으로 깨어나는지 확인
+		idempotencyProperties.setWaitTimeout(Duration.ofSeconds(10));
+		idempotencyProperties.setRecheckInterval(Duration.ofSeconds(10));
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain slowChain = (request, response) -> {
+			executions.incrementAndGet();
+			firstStarted.countDown();
+			awaitQuietly(releaseFirst);
+			response.setContentType("application/json");
+			response.getWriter().write("{\"result\":\"first\"}");
+		};
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<MockHttpServletResponse> first = executorService.submit(() -> doFilter("", slowChain));
+			assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// when
+			MockHttpServletRequest duplicateRequest = newRequest("");
+			MockHttpServletResponse duplicateResponse = new MockHttpServletResponse();
+			idempotencyKeyFilter.doFilter(duplicateRequest, duplicateResponse, slowChain);
+
+			// then - 요청 스레드는 바로 돌아오고 응답은 비동기로 대기
+			assertThat(duplicateRequest.isAsyncStarted()).isTrue();
+			releaseFirst.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"result\":\"first\"}");
+			awaitAsyncCompleted(duplicateRequest, Duration.ofSeconds(5));
+			assertThat(duplicateResponse.getStatus()).isEqualTo(200);
+			assertThat(duplicateResponse.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+			assertThat(duplicateResponse.getContentAsString()).isEqualTo("{\"result\":\"first\"}");
+			assertThat(executions).hasValue(1);
+		} finally {
+			releaseFirst.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("기다리던 첫 요청이 응답을 저장하지 않고 끝나면 대기 시간을 채우지 않고 409와 Retry-After로 응답")
+	void testConcurrentDuplicate_FirstReleased_ConflictWithoutWaitingOut() throws Exception {
+		// given
+		idempotencyProperties.setWaitTimeout(Duration.ofSeconds(10));
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		FilterChain failingChain = (request, response) -> {
+			firstStarted.countDown();
+			awaitQuietly(releaseFirst);
+			((HttpServletResponse) response).setStatus(503);
+		};
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<MockHttpServletResponse> first = executorService.submit(() -> doFilter("", failingChain));
+			assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+			MockHttpServletRequest duplicateRequest = newRequest("");
+			MockHttpServletResponse duplicateResponse = new MockHttpServletResponse();
+			idempotencyKeyFilter.doFilter(duplicateRequest, duplicateResponse, failingChain);
+
+			// when
+			releaseFirst.countDown();
+			first.get(5, TimeUnit.SECONDS);
+
+			// then
+			awaitAsyncCompleted(duplicateRequest, Duration.ofSeconds(5));
+			assertThat(duplicateResponse.getStatus()).isEqualTo(409);
+			assertThat(duplicateResponse.getHeader("Retry-After")).isEqualTo("1");
+		} finally {
+			releaseFirst.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("처리 중인 같은 키의 결과를 대기 시간 안에 받지 못하면 409와 Retry-After로 응답")
+	void testConcurrentDuplicate_WaitTimeout_Conflict() throws Exception {
+		// given
+		idempotencyProperties.setWaitTimeout(Duration.ofMillis(100));
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		FilterChain slowChain = (request, response) -> {
+			firstStarted.countDown();
+			awaitQuietly(releaseFirst);
+		};
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			executorService.submit(() -> doFilter("", slowChain));
+			assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// when
+			MockHttpServletResponse duplicate = doFilter("", slowChain);
+
+			// then
+			assertThat(duplicate.getStatus()).isEqualTo(409);
+			assertThat(duplicate.getHeader("Retry-After")).isEqualTo("1");
+		} finally {
+			releaseFirst.countDown();
+			executorService.shutdown();
+			executorService.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	@DisplayName("같은 키로 요청 파라미터가 다른 요청을 보내면 422로 거절하고 실행하지 않음")
+	void testSameKey_DifferentParameters_Unprocessable() throws Exception {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain chain = (request, response) -> executions.incrementAndGet();
+		doFilter("place=1", chain);
+
+		// when
+		MockHttpServletResponse response = doFilter("place=2", chain);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(422);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("5xx 응답은 저장하지 않아 같은 키로 다시 실행됨")
+	void testServerError_NotStored() throws Exception {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain failingChain = (request, response) -> {
+			executions.incrementAndGet();
+			((HttpServletResponse) response).setStatus(503);
+		};
+		doFilter("", failingChain);
+
+		// when
+		MockHttpServletResponse retried = doFilter("", failingChain);
+
+		// then
+		assertThat(executions).hasValue(2);
+		assertThat(retried.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+	}
+
+	@Test
+	@DisplayName("좌석 경합(409)처럼 다시 시도하라는 응답은 저장하지 않아 같은 키로 다시 실행됨")
+	void testRetryableConflict_NotStored() throws Exception {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain contestedChain = (request, response) -> {
+			executions.incrementAndGet();
+			((HttpServletResponse) response).setStatus(409);
+		};
+		doFilter("", contestedChain);
+
+		// when
+		MockHttpServletResponse retried = doFilter("", contestedChain);
+
+		// then
+		assertThat(executions).hasValue(2);
+		assertThat(retried.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+	}
+
+	@Test
+	@DisplayName("확정된 4xx(404)는 저장하여 같은 키의 재요청에 그대로 돌려줌")
+	void testDefinitiveClientError_Stored() throws Exception {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain notFoundChain = (request, response) -> {
+			executions.incrementAndGet();
+			((HttpServletResponse) response).setStatus(404);
+		};
+		doFilter("", notFoundChain);
+
+		// when
+		MockHttpServletResponse retried = doFilter("", notFoundChain);
+
+		// then
+		assertThat(executions).hasValue(1);
+		assertThat(retried.getStatus()).isEqualTo(404);
+		assertThat(retried.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	/**
+	 * 필터를 거친 응답 (결과 대기로 비동기 응답이 시작되었으면 완료될 때까지 기다림)
+	 */
+	private MockHttpServletResponse doFilter(String query, FilterChain chain) throws Exception {
+		MockHttpServletRequest request = newRequest(query);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		idempotencyKeyFilter.doFilter(request, response, chain);
+		awaitAsyncCompleted(request, Duration.ofSeconds(15));
+		return response;
+	}
+
+	private MockHttpServletRequest newRequest(String query) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", PAYMENT_PATH);
+		request.setAsyncSupported(true);
+		request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+		if (!query.isEmpty()) {
+			String[] pair = query.split("=");
+			request.setQueryString(query);
+			request.addParameter(pair[0], pair[1]);
+		}
+		return request;
+	}
+
+	private static void awaitAsyncCompleted(MockHttpServletRequest request, Duration timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (request.isAsyncStarted() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(request.isAsyncStarted()).isFalse();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Payment approvedPayment() {
+		Payment payment = new Payment();
+		payment.setId(10L);
+		payment.setUserId(1L);
+		payment.setReservationId(1L);
+		payment.setTotalAmountCents(new BigDecimal(80000));
+		payment.setStatus(PaymentStatus.APPROVED);
+		payment.setApprovedAt(LocalDateTime.now());
+		return payment;
+	}
+}
@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.concert.service;
 
+import kr.hhplus.be.server.concert.common.SeatGrade;
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.dto.ConcertResponse;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
 import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.*;
  * Mock을 사용하여 의존성을 격리하고 비즈니스 로직을 검증합니다.
  * - 콘서트 조회 성공
  * - 콘서트를 찾을 수 없는 경우
+ * - 날짜별 예약 가능 좌석 조회
  */
 @ExtendWith(MockitoExtension.class)
 class ConcertServiceTest {
@@ -44,6 +48,9 @@ class ConcertServiceTest {
 	@Mock
 	private ConcertRepositoryImpl concertRepositoryImpl;
 
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
 	@InjectMocks
 	private ConcertService concertService;
 
@@ -103,4 +110,41 @@ class ConcertServiceTest {
 		verify(concertRepository).findById(concertId);
 		verify(concertRepositoryImpl, never()).findConcertDate(any());
 	}
+
+	@Test
+	@DisplayName("날짜의 모든 공연 일정에서 예약 가능한 좌석을 모아 반환")
+	void testGetAvailableSeats_CollectsSeatsOfAllSchedulesOnDate() {
+		// given
+		ConcertSchedule afternoon = new ConcertSchedule(10L, "20241225", "140000", null, concert);
+		ConcertSchedule evening = new ConcertSchedule(11L, "20241225", "190000", null, concert);
+		SeatResponse seat1 = new SeatResponse(10L, "140000", 100L, 1, SeatGrade.VIP);
+		SeatResponse seat2 = new SeatResponse(11L, "190000", 200L, 3, SeatGrade.VIP);
+
+		when(concertRepository.findById(concertId)).thenReturn(Optional.of(concert));
+		when(concertScheduleRepository.findByConcertIdAndConcertDate(concertId, "20241225"))
+				.thenReturn(List.of(afternoon, evening));
+		when(seatAvailabilityService.findAvailableSeats(any(ConcertSchedule.class)))
+				.thenReturn(List.of(seat1))
+				.thenReturn(List.of(seat2));
+
+		// when
+		List<SeatResponse> result = concertService.getAvailableSeats(concertId, "20241225");
+
+		// then
+		assertThat(result).containsExactly(seat1, seat2);
+		verify(seatAvailabilityService, times(2)).findAvailableSeats(any(ConcertSchedule.class));
+	}
+
+	@Test
+	@DisplayName("예약 가능 좌석 조회 시 콘서트를 찾을 수 없으면 예외 발생")
+	void testGetAvailableSeats_ConcertNotFound_ThrowsException() {
+		// given
+		when(concertRepository.findById(concertId)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> concertService.getAvailableSeats(concertId, "20241225"))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessageContaining("concert를 찾을수 없습니다");
+		verifyNoInteractions(seatAvailabilityService);
+	}
 }
@@ -0,0 +1,146 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 맵 조회 벤치마크 (Redis 비트맵 vs DB 조회)
+ *
+ * 좌석 2,000석 중 절반에 활성 예약이 있는 공연 일정의 예약 가능 좌석을 반복 조회합니다.
+ * - bitmap: SeatAvailabilityService (노드 로컬 재고, 없거나 오래되면 GETRANGE 한 번 + 노드 메모리 좌석 배치)
+ * - db: 좌석 목록 조회 + 예약 불가 좌석 번호 조회 (비트맵을 만들 때와 같은 쿼리)
+ *
+ * 실행: ./gradlew benchmark --tests "*SeatAvailabilityBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("h2")
+class SeatAvailabilityBenchmarkTest {
+
+	private static final int SEATS = 2_000;
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 2_000;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private ConcertSchedule schedule;
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("벤치마크 콘서트");
+		concert.setConcertDec("좌석 맵 조회 비교용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+
+		List<Seat> seats = new ArrayList<>(SEATS);
+		for (int seatNumber = 1; seatNumber <= SEATS; seatNumber++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(seatNumber);
+			seat.setSeatGrade(SeatGrade.VIP);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seats.add(seat);
+		}
+		seats = seatRepository.saveAll(seats);
+
+		List<Reservation> reservations = new ArrayList<>();
+		for (int i = 0; i < SEATS; i += 2) {
+			Reservation reservation = new Reservation();
+			reservation.setUserId((long) i);
+			reservation.setSeat(seats.get(i));
+			reservation.setConcertSchedule(schedule);
+			reservation.setStatus(i % 4 == 0 ? ReservationStatus.HOLD : ReservationStatus.PAID);
+			reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+			reservation.setAmountCents(new BigDecimal(8000000));
+			reservations.add(reservation);
+		}
+		reservationJpaRepository.saveAll(reservations);
+
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@Test
+	@DisplayName("예약 가능 좌석 조회 지연 비교 (비트맵 vs DB)")
+	void compareSeatMapReads() {
+		Long concertScheduleId = schedule.getConcertScheduleId();
+		List<ReservationStatus> activeStatuses = List.of(ReservationStatus.HOLD, ReservationStatus.PAID);
+
+		Runnable bitmap = () -> assertThat(seatAvailabilityService.findAvailableSeats(schedule)).hasSize(SEATS / 2);
+		Runnable db = () -> {
+			List<Seat> seats = seatRepository.findByConcertScheduleId(concertScheduleId);
+			Set<Integer> taken = seatRepository.findTakenSeatNumbers(concertScheduleId, SeatStatus.RESERVATION, activeStatuses)
+					.stream().collect(Collectors.toSet());
+			assertThat(seats.stream().filter(seat -> !taken.contains(seat.getSeatNumber())).count()).isEqualTo(SEATS / 2);
+		};
+
+		System.out.println(measure(bitmap).summary("bitmap " + SEATS + " seats"));
+		System.out.println(measure(db).summary("db " + SEATS + " seats"));
+	}
+
+	private static LatencyRecorder measure(Runnable read) {
+		for (int i = 0; i < WARMUP; i++) {
+			read.run();
+		}
+		LatencyRecorder recorder = new LatencyRecorder(ITERATIONS);
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			read.run();
+			recorder.record(System.nanoTime() - start);
+		}
+		return recorder;
+	}
+}
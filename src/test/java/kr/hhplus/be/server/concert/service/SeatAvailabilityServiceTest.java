@@ -0,0 +1,326 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 예약 가능 비트맵 테스트
+ *
+ * 테스트 목적:
+ * - 비트맵이 없으면 DB(좌석 상태 + 활성 예약) 기준으로 만들어지는지 검증
+ * - 홀드/만료 반영이 DB 조회 없이 비트맵에 바로 보이는지 검증
+ * - 비트맵이 없을 때의 변경은 건너뛰고, 삭제 후에는 DB 기준으로 다시 만들어지는지 검증
+ * - DB에서 비트맵을 만드는 동안의 변경이 있으면 만든 비트맵을 남기지 않는지 검증
+ * - 좌석 홀드 전 사전 확인은 있는 비트맵만 보고 DB로 만들지 않는지 검증
+ * - 등급별로 좌석 번호가 이어진 빈 좌석 블록을 앞에서부터 찾는지 검증
+ * - 노드 메모리의 좌석 배치가 최대 일정 수를 넘지 않고, 비트맵 삭제 시 함께 버려지는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class SeatAvailabilityServiceTest {
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private ReservationProperties reservationProperties;
+
+	@Autowired
+	private SeatInventoryCache seatInventoryCache;
+
+	private ConcertSchedule schedule;
+	private List<Seat> seats;
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("좌석 맵 테스트 콘서트");
+		concert.setConcertDec("좌석 예약 가능 비트맵 테스트용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+
+		// 좌석 1~10: 2번은 조건부 UPDATE로 선점, 3번은 홀드, 4번은 만료된 예약, 9번은 결제 완료
+		seats = new ArrayList<>();
+		for (int seatNumber = 1; seatNumber <= 10; seatNumber++) {
+			seats.add(createSeat(seatNumber, seatNumber == 2 ? SeatStatus.RESERVATION : SeatStatus.NON_RESERVATION));
+		}
+		createReservation(seats.get(2), ReservationStatus.HOLD);
+		createReservation(seats.get(3), ReservationStatus.EXPIRED);
+		createReservation(seats.get(8), ReservationStatus.PAID);
+
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 비트맵 제거
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@Test
+	@DisplayName("비트맵이 없으면 DB 기준으로 만들어 예약 가능한 좌석만 반환해야 함")
+	void testFindAvailableSeats_BuildsBitmapFromDb() {
+		// when
+		List<SeatResponse> availableSeats = seatAvailabilityService.findAvailableSeats(schedule);
+
+		// then
+		assertThat(seatNumbers(availableSeats)).containsExactly(1, 4, 5, 6, 7, 8, 10);
+		assertThat(availableSeats.get(0).getSeatId()).isEqualTo(seats.get(0).getSeatId());
+		assertThat(availableSeats.get(0).getConcertTime()).isEqualTo("180000");
+		assertThat(redisTemplate.hasKey(bitmapKey())).isTrue();
+	}
+
+	@Test
+	@DisplayName("홀드와 만료 반영이 DB 조회 없이 비트맵에 바로 보여야 함")
+	void testMarkTakenAndAvailable_UpdatesBitmap() {
+		// given
+		seatAvailabilityService.findAvailableSeats(schedule);
+
+		// when: DB는 그대로 두고 비트맵만 변경
+		seatAvailabilityService.markTaken(schedule.getConcertScheduleId(), 7);
+		seatAvailabilityService.markAvailable(List.of(seats.get(2)));
+
+		// then
+		assertThat(seatNumbers(seatAvailabilityService.findAvailableSeats(schedule)))
+				.containsExactly(1, 3, 4, 5, 6, 8, 10);
+	}
+
+	@Test
+	@DisplayName("비트맵이 없을 때의 변경은 건너뛰고, 다음 조회에서 DB 기준으로 만들어야 함")
+	void testMarkTaken_WithoutBitmap_IsSkipped() {
+		// when
+		seatAvailabilityService.markTaken(schedule.getConcertScheduleId(), 7);
+
+		// then
+		assertThat(redisTemplate.hasKey(bitmapKey())).isFalse();
+		assertThat(seatNumbers(seatAvailabilityService.findAvailableSeats(schedule)))
+				.containsExactly(1, 4, 5, 6, 7, 8, 10);
+	}
+
+	@Test
+	@DisplayName("비트맵을 지우면 다음 조회에서 DB 변경이 반영되어야 함")
+	void testEvict_RebuildsFromDb() {
+		// given
+		seatAvailabilityService.findAvailableSeats(schedule);
+		Seat seat = seats.get(4);
+		seat.setSeatStatus(SeatStatus.RESERVATION);
+		seatRepository.save(seat);
+
+		// when
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+
+		// then
+		assertThat(seatNumbers(seatAvailabilityService.findAvailableSeats(schedule)))
+				.containsExactly(1, 4, 6, 7, 8, 10);
+	}
+
+	@Test
+	@DisplayName("DB에서 비트맵을 만드는 동안 홀드 만료가 반영되면 만든 비트맵을 남기지 않아야 함")
+	void testFindAvailableSeats_ChangeDuringLoad_DiscardsBitmap() {
+		// given: DB에서 3번을 홀드로 읽은 직후 3번 홀드 만료가 반영됨 (비트맵이 없어 건너뜀)
+		Long concertScheduleId = schedule.getConcertScheduleId();
+		SeatRepository racingSeatRepository = mock(SeatRepository.class);
+		SeatAvailabilityService service = new SeatAvailabilityService(redisTemplate, racingSeatRepository,
+				reservationProperties, seatInventoryCache);
+		when(racingSeatRepository.findByConcertScheduleId(concertScheduleId)).thenReturn(seats);
+		when(racingSeatRepository.findTakenSeatNumbers(eq(concertScheduleId), any(), anyList())).thenAnswer(invocation -> {
+			service.markAvailable(List.of(seats.get(2)));
+			return List.of(2, 3, 9);
+		});
+
+		// when
+		List<SeatResponse> availableSeats = service.findAvailableSeats(schedule);
+
+		// then: 이번 조회는 읽은 값을 쓰지만, 오래된 3번 비트는 Redis와 노드 로컬 재고에 남지 않음
+		assertThat(seatNumbers(availableSeats)).containsExactly(1, 4, 5, 6, 7, 8, 10);
+		assertThat(redisTemplate.hasKey(bitmapKey())).isFalse();
+		assertThat(service.isKnownTaken(concertScheduleId, 3)).isFalse();
+	}
+
+	@Test
+	@DisplayName("사전 확인은 비트맵이 없으면 DB로 만들지 않고 알 수 없음(false)을 반환해야 함")
+	void testIsKnownTaken_UsesExistingBitmapOnly() {
+		Long concertScheduleId = schedule.getConcertScheduleId();
+
+		// 비트맵이 없으면 홀드된 3번도 알 수 없음
+		assertThat(seatAvailabilityService.isKnownTaken(concertScheduleId, 3)).isFalse();
+		assertThat(redisTemplate.hasKey(bitmapKey())).isFalse();
+
+		// 좌석 맵 조회로 비트맵이 만들어진 뒤에는 예약 불가 좌석을 알 수 있음
+		seatAvailabilityService.findAvailableSeats(schedule);
+		assertThat(seatAvailabilityService.isKnownTaken(concertScheduleId, 3)).isTrue();
+		assertThat(seatAvailabilityService.isKnownTaken(concertScheduleId, 1)).isFalse();
+
+		seatAvailabilityService.markTaken(concertScheduleId, 1);
+		assertThat(seatAvailabilityService.isKnownTaken(concertScheduleId, 1)).isTrue();
+	}
+
+	@Test
+	@DisplayName("등급 좌석 중 좌석 번호가 이어진 빈 좌석 블록을 앞에서부터 찾아야 함")
+	void testFindFreeBlocks() {
+		// given: 예약 가능 1, 4, 5, 6, 7, 8, 10 중 8번만 ROYAL
+		Seat royal = seats.get(7);
+		royal.setSeatGrade(SeatGrade.ROYAL);
+		seatRepository.save(royal);
+		Long concertScheduleId = schedule.getConcertScheduleId();
+
+		// then
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.VIP, 2, 4))
+				.containsExactly(seatIds(4, 5), seatIds(6, 7));
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.VIP, 4, 4))
+				.containsExactly(seatIds(4, 5, 6, 7));
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.VIP, 5, 4)).isEmpty();
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.ROYAL, 1, 4))
+				.containsExactly(seatIds(8));
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.SPECIAL, 1, 4)).isEmpty();
+
+		// 홀드가 반영되면 다음 블록을 찾음
+		seatAvailabilityService.markTaken(concertScheduleId, 5);
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.VIP, 2, 1))
+				.containsExactly(seatIds(6, 7));
+	}
+
+	@Test
+	@DisplayName("좌석 배치는 최대 일정 수를 넘으면 가장 오래 조회되지 않은 일정부터 버려야 함")
+	void testSeatLayouts_BoundedByMaxSchedules() {
+		// given
+		ConcertSchedule other = new ConcertSchedule();
+		other.setConcert(schedule.getConcert());
+		other.setConcertDate("20241226");
+		other.setConcertTime("180000");
+		other.setConcertPrice(new BigDecimal(80000));
+		other = concertScheduleRepository.save(other);
+		Seat seat = new Seat();
+		seat.setSeatNumber(1);
+		seat.setSeatGrade(SeatGrade.VIP);
+		seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+		seat.setConcertSchedule(other);
+		seatRepository.save(seat);
+		int maxSchedules = reservationProperties.getInventory().getMaxSchedules();
+		reservationProperties.getInventory().setMaxSchedules(1);
+
+		try {
+			// when
+			seatAvailabilityService.findAvailableSeats(schedule);
+			seatAvailabilityService.findAvailableSeats(other);
+
+			// then
+			assertThat(seatAvailabilityService.layoutCount()).isEqualTo(1);
+			assertThat(seatNumbers(seatAvailabilityService.findAvailableSeats(schedule)))
+					.containsExactly(1, 4, 5, 6, 7, 8, 10);
+		} finally {
+			reservationProperties.getInventory().setMaxSchedules(maxSchedules);
+			seatAvailabilityService.evict(other.getConcertScheduleId());
+		}
+	}
+
+	@Test
+	@DisplayName("비트맵을 지우면 좌석 배치도 버려 다음 조회에서 DB의 좌석 등급을 읽어야 함")
+	void testEvict_DropsSeatLayout() {
+		// given
+		Long concertScheduleId = schedule.getConcertScheduleId();
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.ROYAL, 1, 4)).isEmpty();
+		Seat royal = seats.get(7);
+		royal.setSeatGrade(SeatGrade.ROYAL);
+		seatRepository.save(royal);
+
+		// when
+		seatAvailabilityService.evict(concertScheduleId);
+
+		// then
+		assertThat(seatAvailabilityService.findFreeBlocks(concertScheduleId, SeatGrade.ROYAL, 1, 4))
+				.containsExactly(seatIds(8));
+	}
+
+	private List<Long> seatIds(int... seatNumbers) {
+		List<Long> seatIds = new ArrayList<>();
+		for (int seatNumber : seatNumbers) {
+			seatIds.add(seats.get(seatNumber - 1).getSeatId());
+		}
+		return seatIds;
+	}
+
+	private String bitmapKey() {
+		return "seat-availability:{schedule:" + schedule.getConcertScheduleId() + "}";
+	}
+
+	private static List<Integer> seatNumbers(List<SeatResponse> seats) {
+		return seats.stream().map(SeatResponse::getSeatNumber).toList();
+	}
+
+	private Seat createSeat(int seatNumber, SeatStatus seatStatus) {
+		Seat seat = new Seat();
+		seat.setSeatNumber(seatNumber);
+		seat.setSeatGrade(SeatGrade.VIP);
+		seat.setSeatStatus(seatStatus);
+		seat.setConcertSchedule(schedule);
+		return seatRepository.save(seat);
+	}
+
+	private void createReservation(Seat seat, ReservationStatus status) {
+		Reservation reservation = new Reservation();
+		reservation.setUserId(1L);
+		reservation.setSeat(seat);
+		reservation.setConcertSchedule(schedule);
+		reservation.setStatus(status);
+		reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+		reservation.setAmountCents(new BigDecimal(8000000));
+		reservationJpaRepository.save(reservation);
+	}
+}
@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.concert.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 로컬 좌석 재고 벤치마크
+ *
+ * - 메모리: 1만 석 재고의 비트 배열 크기와 같은 좌석 수의 Redis 비트맵 크기
+ * - 조회 처리량: 스레드 수별로 임의 좌석의 isTaken을 일정 시간 반복한 초당 조회 수
+ * - 할당: 조회 반복 동안 스레드가 할당한 바이트 (com.sun.management.ThreadMXBean)
+ * - 좌석 맵 훑기: 1만 석 전체를 순서대로 읽는 데 걸린 시간
+ *
+ * 실행: ./gradlew benchmark --tests "*SeatInventoryBenchmarkTest"
+ */
+@Tag("benchmark")
+class SeatInventoryBenchmarkTest {
+
+	private static final int SEATS = 10_000;
+	private static final long DURATION_NANOS = 1_000_000_000L;
+
+	@Test
+	@DisplayName("1만 석 재고의 메모리, 조회 처리량, 조회당 할당 측정")
+	void measureInventory() throws Exception {
+		List<Integer> taken = new ArrayList<>();
+		for (int seatNumber = 1; seatNumber <= SEATS; seatNumber += 2) {
+			taken.add(seatNumber);
+		}
+		byte[] bitmap = SeatAvailabilityService.toBitmap(taken);
+		SeatInventory inventory = SeatInventory.fromRedisBitmap(bitmap, SEATS);
+
+		System.out.printf("memory per %d seats: inventory %d bytes, redis bitmap %d bytes%n",
+				SEATS, inventory.sizeInBytes(), bitmap.length);
+
+		for (int threads : new int[] {1, 4, 8}) {
+			ExecutorService executorService = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<long[]>> futures = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					futures.add(executorService.submit(() -> readRandomSeats(inventory)));
+				}
+				long reads = 0;
+				long allocatedBytes = 0;
+				long takenCount = 0;
+				for (Future<long[]> future : futures) {
+					long[] result = future.get();
+					reads += result[0];
+					allocatedBytes += result[1];
+					takenCount += result[2];
+				}
+				assertThat(takenCount).isPositive();
+				System.out.printf("random isTaken x%d threads: %.1f M reads/s, %.4f bytes allocated/read%n",
+						threads, reads / (DURATION_NANOS / 1_000_000_000.0) / 1_000_000, (double) allocatedBytes / reads);
+			} finally {
+				executorService.shutdownNow();
+			}
+		}
+
+		long scanStart = System.nanoTime();
+		int scans = 10_000;
+		long available = 0;
+		for (int i = 0; i < scans; i++) {
+			for (int seatNumber = 1; seatNumber <= SEATS; seatNumber++) {
+				if (!inventory.isTaken(seatNumber)) {
+					available++;
+				}
+			}
+		}
+		assertThat(available).isEqualTo((long) scans * SEATS / 2);
+		System.out.printf("full scan of %d seats: %.1f us/scan%n",
+				SEATS, (System.nanoTime() - scanStart) / 1_000.0 / scans);
+	}
+
+	/**
+	 * @return [조회 수, 할당 바이트, 예약 불가 좌석 수]
+	 */
+	private static long[] readRandomSeats(SeatInventory inventory) {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		// 워밍업
+		long takenCount = 0;
+		for (int i = 0; i < 1_000_000; i++) {
+			if (inventory.isTaken(random.nextInt(1, SEATS + 1))) {
+				takenCount++;
+			}
+		}
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long reads = 0;
+		long deadline = System.nanoTime() + DURATION_NANOS;
+		while (System.nanoTime() < deadline) {
+			for (int i = 0; i < 1_000; i++) {
+				if (inventory.isTaken(random.nextInt(1, SEATS + 1))) {
+					takenCount++;
+				}
+			}
+			reads += 1_000;
+		}
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		return new long[] {reads, allocated, takenCount};
+	}
+}
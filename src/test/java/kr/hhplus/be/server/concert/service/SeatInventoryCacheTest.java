@@ -0,0 +1,156 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.config.ReservationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SeatInventoryCache, SeatInventory 단위 테스트
+ *
+ * - Redis 비트맵(최상위 비트 우선)과 같은 좌석 번호로 읽히는지
+ * - 변경 알림이 재고에 반영되는지
+ * - 최대 일정 수를 넘으면 가장 오래 조회되지 않은 일정을 버리는지
+ * - 갱신 주기가 지난 재고는 버리는지
+ * - 후보 좌석 중 이어진 빈 좌석 구간을 원소 경계를 넘어서도 찾는지
+ */
+class SeatInventoryCacheTest {
+
+	private ReservationProperties reservationProperties;
+	private SeatInventoryCache seatInventoryCache;
+
+	@BeforeEach
+	void setUp() {
+		reservationProperties = new ReservationProperties();
+		seatInventoryCache = new SeatInventoryCache(reservationProperties, mock(RedisMessageListenerContainer.class));
+	}
+
+	@Test
+	@DisplayName("Redis 비트맵과 같은 좌석 번호로 읽혀야 함")
+	void testFromRedisBitmap_MatchesRedisBitOrder() {
+		// given: 좌석 1, 7, 8, 70이 예약 불가인 Redis 비트맵
+		List<Integer> taken = List.of(1, 7, 8, 70);
+		byte[] bitmap = SeatAvailabilityService.toBitmap(taken);
+
+		// when
+		SeatInventory inventory = SeatInventory.fromRedisBitmap(bitmap, 100);
+
+		// then
+		for (int seatNumber = 0; seatNumber <= 100; seatNumber++) {
+			assertThat(inventory.isTaken(seatNumber)).as("seat %d", seatNumber).isEqualTo(taken.contains(seatNumber));
+		}
+		assertThat(inventory.isTaken(10_000)).isFalse();
+		assertThat(inventory.setTaken(10_000, true)).isFalse();
+	}
+
+	@Test
+	@DisplayName("1만 석 재고는 long 157개 크기여야 함")
+	void testSizeInBytes() {
+		SeatInventory inventory = SeatInventory.fromRedisBitmap(new byte[1], 10_000);
+
+		assertThat(inventory.sizeInBytes()).isEqualTo(16 + 157 * 8);
+		assertThat(inventory.setTaken(10_000, true)).isTrue();
+		assertThat(inventory.isTaken(10_000)).isTrue();
+	}
+
+	@Test
+	@DisplayName("변경 알림이 재고에 반영되고, 일정 삭제 알림이면 재고를 버려야 함")
+	void testOnMessage_AppliesChanges() {
+		// given
+		seatInventoryCache.load(1L, new byte[1], 100);
+
+		// when
+		seatInventoryCache.onMessage(message("1|1|3,64"), null);
+		seatInventoryCache.onMessage(message("2|1|5"), null);
+
+		// then
+		SeatInventory inventory = seatInventoryCache.get(1L);
+		assertThat(inventory.isTaken(3)).isTrue();
+		assertThat(inventory.isTaken(64)).isTrue();
+		assertThat(inventory.isTaken(5)).isFalse();
+		assertThat(seatInventoryCache.get(2L)).isNull();
+
+		// when
+		seatInventoryCache.onMessage(message("1|0|3"), null);
+		assertThat(seatInventoryCache.get(1L).isTaken(3)).isFalse();
+
+		seatInventoryCache.onMessage(message("1|evict"), null);
+		assertThat(seatInventoryCache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("재고 범위 밖 좌석 변경이 오면 재고를 버려야 함")
+	void testApply_OutOfRange_Invalidates() {
+		seatInventoryCache.load(1L, new byte[1], 10);
+
+		seatInventoryCache.apply(1L, 500, true);
+
+		assertThat(seatInventoryCache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("최대 일정 수를 넘으면 가장 오래 조회되지 않은 일정을 버려야 함")
+	void testLoad_EvictsLeastRecentlyUsed() throws InterruptedException {
+		// given
+		reservationProperties.getInventory().setMaxSchedules(2);
+		seatInventoryCache.load(1L, new byte[1], 10);
+		Thread.sleep(1);
+		seatInventoryCache.load(2L, new byte[1], 10);
+		Thread.sleep(1);
+		seatInventoryCache.get(1L);
+		Thread.sleep(1);
+
+		// when
+		seatInventoryCache.load(3L, new byte[1], 10);
+
+		// then
+		assertThat(seatInventoryCache.size()).isEqualTo(2);
+		assertThat(seatInventoryCache.get(1L)).isNotNull();
+		assertThat(seatInventoryCache.get(2L)).isNull();
+		assertThat(seatInventoryCache.get(3L)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("갱신 주기가 지난 재고는 버려야 함")
+	void testGet_ExpiredInventory_ReturnsNull() {
+		reservationProperties.getInventory().setRefreshInterval(Duration.ZERO);
+		seatInventoryCache.load(1L, new byte[1], 10);
+
+		assertThat(seatInventoryCache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("후보 좌석 중 이어진 빈 좌석 구간을 원소 경계를 넘어서도 찾아야 함")
+	void testFindFreeRun() {
+		// given: 좌석 1~200 중 62, 66, 150이 예약 불가, 후보는 60~199
+		SeatInventory inventory = SeatInventory.fromRedisBitmap(SeatAvailabilityService.toBitmap(List.of(62, 66, 150)), 200);
+		long[] mask = new long[4];
+		for (int seatNumber = 60; seatNumber < 200; seatNumber++) {
+			mask[seatNumber >>> 6] |= 1L << (seatNumber & 63);
+		}
+
+		// then
+		assertThat(inventory.findFreeRun(mask, 2, 0)).isEqualTo(60);
+		assertThat(inventory.findFreeRun(mask, 3, 0)).isEqualTo(63);
+		assertThat(inventory.findFreeRun(mask, 10, 0)).isEqualTo(67);
+		assertThat(inventory.findFreeRun(mask, 83, 0)).isEqualTo(67);
+		assertThat(inventory.findFreeRun(mask, 84, 0)).isEqualTo(-1);
+		assertThat(inventory.findFreeRun(mask, 2, 64)).isEqualTo(64);
+		assertThat(inventory.findFreeRun(mask, 49, 120)).isEqualTo(151);
+		assertThat(inventory.findFreeRun(mask, 50, 120)).isEqualTo(-1);
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(SeatInventoryCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
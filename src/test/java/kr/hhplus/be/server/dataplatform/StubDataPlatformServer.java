@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.dataplatform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 테스트용 데이터 플랫폼 스텁 서버 (JDK HttpServer, 로컬 임의 포트)
+ *
+ * gzip으로 압축된 이벤트 JSON 배열을 받아 묶음별로 기록합니다.
+ * 다음 N번의 요청을 실패(503)시키거나 응답을 늦춰 데이터 플랫폼 장애와 지연을 흉내 냅니다.
+ */
+public class StubDataPlatformServer implements AutoCloseable {
+
+	public static final String PATH = "/data-platform/events";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final ObjectMapper objectMapper;
+	private final List<List<ReservationEvent>> batches = new CopyOnWriteArrayList<>();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger failuresLeft = new AtomicInteger();
+	private volatile long delayMillis;
+
+	public StubDataPlatformServer(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		try {
+			this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		server.createContext(PATH, this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+	}
+
+	public void failNext(int count) {
+		failuresLeft.set(count);
+	}
+
+	public void delay(long millis) {
+		this.delayMillis = millis;
+	}
+
+	public int requests() {
+		return requests.get();
+	}
+
+	public List<List<ReservationEvent>> batches() {
+		return new ArrayList<>(batches);
+	}
+
+	public List<ReservationEvent> events() {
+		return batches.stream().flatMap(List::stream).toList();
+	}
+
+	public void reset() {
+		batches.clear();
+		requests.set(0);
+		failuresLeft.set(0);
+		delayMillis = 0;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			requests.incrementAndGet();
+			if (delayMillis > 0) {
+				Thread.sleep(delayMillis);
+			}
+			if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+				exchange.sendResponseHeaders(503, -1);
+				return;
+			}
+			if (!"gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+				exchange.sendResponseHeaders(415, -1);
+				return;
+			}
+			try (InputStream body = new GZIPInputStream(exchange.getRequestBody())) {
+				batches.add(Arrays.asList(objectMapper.readValue(body, ReservationEvent[].class)));
+			}
+			exchange.sendResponseHeaders(202, -1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,199 @@
+package kr.hhplus.be.server.dataplatform.integration;
+
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.dataplatform.StubDataPlatformServer;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationEventType;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.usecase.ReserveConcertUseCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 정보 데이터 플랫폼 전송 통합 테스트 (H2 + 실제 Redis + 로컬 스텁 서버)
+ *
+ * 테스트 목적:
+ * - 커밋된 트랜잭션에서 발행한 이벤트만 전송되고, 롤백된 트랜잭션의 이벤트는 전송되지 않는지 검증
+ * - 좌석 홀드가 커밋되면 예약 ID가 담긴 좌석 홀드 이벤트가 전송되는지 검증
+ */
+@SpringBootTest(properties = {
+		"hhplus.data-platform.enabled=true",
+		"hhplus.data-platform.flush-interval=100ms"
+})
+@ActiveProfiles("h2")
+class DataPlatformExportIntegrationTest {
+
+	private static final long WAIT_MILLIS = 5000;
+
+	private static final StubDataPlatformServer STUB = new StubDataPlatformServer(Jackson2ObjectMapperBuilder.json().build());
+	private static final Path SPILL_DIR = createTempDirectory();
+
+	@DynamicPropertySource
+	static void dataPlatformProperties(DynamicPropertyRegistry registry) {
+		registry.add("hhplus.data-platform.endpoint", STUB::endpoint);
+		registry.add("hhplus.data-platform.spill-path", () -> SPILL_DIR.resolve("spill.jsonl").toString());
+	}
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private ConcertSchedule schedule;
+
+	@BeforeEach
+	void setUp() {
+		STUB.reset();
+
+		Concert concert = new Concert();
+		concert.setConcertName("데이터 플랫폼 테스트 콘서트");
+		concert.setConcertDec("예약 정보 전송 테스트용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 Redis 상태 제거
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationJpaRepository.deleteAll(reservationJpaRepository.findAll().stream()
+				.filter(reservation -> reservation.getConcertSchedule().getConcertScheduleId()
+						.equals(schedule.getConcertScheduleId()))
+				.toList());
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@AfterAll
+	static void stopStub() {
+		STUB.close();
+	}
+
+	@Test
+	@DisplayName("커밋된 트랜잭션의 이벤트만 전송되고 롤백된 트랜잭션의 이벤트는 전송되지 않음")
+	void testExport_OnlyCommittedEventsAreSent() throws InterruptedException {
+		// given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event(9_900_001L)));
+		transactionTemplate.executeWithoutResult(status -> {
+			eventPublisher.publishEvent(event(9_900_002L));
+			status.setRollbackOnly();
+		});
+		transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event(9_900_003L)));
+
+		// then - 뒤에 커밋된 이벤트까지 전송된 뒤에도 롤백된 이벤트는 없음
+		awaitExported(9_900_003L);
+		assertThat(STUB.events()).extracting(ReservationEvent::reservationId)
+				.contains(9_900_001L, 9_900_003L)
+				.doesNotContain(9_900_002L);
+	}
+
+	@Test
+	@DisplayName("좌석 홀드가 커밋되면 예약 ID가 담긴 좌석 홀드 이벤트가 전송됨")
+	void testExport_ReservationHold_SendsHeldEvent() throws InterruptedException {
+		// given
+		Seat seat = new Seat();
+		seat.setSeatNumber(1);
+		seat.setSeatGrade(SeatGrade.VIP);
+		seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+		seat.setConcertSchedule(schedule);
+		seat = seatRepository.save(seat);
+
+		// when
+		Reservation reservation = reserveConcertUseCase.execute(1L, seat.getSeatId(), UUID.randomUUID().toString());
+
+		// then
+		ReservationEvent exported = awaitExported(reservation.getId());
+		assertThat(exported.type()).isEqualTo(ReservationEventType.HELD);
+		assertThat(exported.userId()).isEqualTo(1L);
+		assertThat(exported.concertScheduleId()).isEqualTo(schedule.getConcertScheduleId());
+		assertThat(exported.seatId()).isEqualTo(seat.getSeatId());
+		assertThat(exported.amountCents()).isEqualByComparingTo(reservation.getAmountCents());
+	}
+
+	private ReservationEvent awaitExported(Long reservationId) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+		while (System.currentTimeMillis() < deadline) {
+			for (ReservationEvent event : STUB.events()) {
+				if (reservationId.equals(event.reservationId())) {
+					return event;
+				}
+			}
+			Thread.sleep(20);
+		}
+		throw new AssertionError("데이터 플랫폼으로 이벤트가 전송되지 않았습니다. reservationId : " + reservationId);
+	}
+
+	private static ReservationEvent event(Long reservationId) {
+		return new ReservationEvent(ReservationEventType.PAID, reservationId, 1L, 10L, 20L,
+				new BigDecimal(8000000), LocalDateTime.now());
+	}
+
+	private static Path createTempDirectory() {
+		try {
+			return Files.createTempDirectory("data-platform-spill");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
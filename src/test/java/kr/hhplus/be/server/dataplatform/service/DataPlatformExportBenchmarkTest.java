@@ -0,0 +1,243 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.dataplatform.StubDataPlatformServer;
+import kr.hhplus.be.server.dataplatform.client.DataPlatformClient;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.usecase.ReserveConcertUseCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 정보 데이터 플랫폼 전송 방식별 좌석 홀드 요청 지연 벤치마크
+ *
+ * 응답에 STUB_DELAY_MILLIS가 걸리는 데이터 플랫폼 스텁을 두고, USERS명이 동시에 서로 다른 좌석을 SEATS_PER_USER번씩 홀드합니다.
+ * - off: 전송하지 않음 (기준)
+ * - async: 커밋 후 버퍼에 넣고 전송 스레드가 묶음으로 보냄 (DataPlatformEventListener, DataPlatformSender)
+ * - sync: 비교용으로 홀드가 끝날 때마다 요청 스레드에서 바로 POST (요청마다 HTTP 왕복이 더해짐)
+ * 요청 지연 백분위와 async의 전송 요청 수(묶음 수)를 출력합니다.
+ *
+ * 실행: ./gradlew benchmark --tests "*DataPlatformExportBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+		"hhplus.data-platform.enabled=true",
+		"hhplus.data-platform.flush-interval=200ms"
+})
+@ActiveProfiles("h2")
+class DataPlatformExportBenchmarkTest {
+
+	private static final int USERS = 8;
+	private static final int SEATS_PER_USER = 50;
+	private static final long STUB_DELAY_MILLIS = 20;
+
+	private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+	private static final StubDataPlatformServer STUB = new StubDataPlatformServer(OBJECT_MAPPER);
+	private static final Path SPILL_DIR = createTempDirectory();
+
+	@DynamicPropertySource
+	static void dataPlatformProperties(DynamicPropertyRegistry registry) {
+		registry.add("hhplus.data-platform.endpoint", STUB::endpoint);
+		registry.add("hhplus.data-platform.spill-path", () -> SPILL_DIR.resolve("spill.jsonl").toString());
+	}
+
+	private enum Mode { OFF, ASYNC, SYNC }
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private DataPlatformProperties dataPlatformProperties;
+
+	@Autowired
+	private DataPlatformClient dataPlatformClient;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private Concert concert;
+	private final List<Long> scheduleIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		concert = new Concert();
+		concert.setConcertName("벤치마크 콘서트");
+		concert.setConcertDec("데이터 플랫폼 전송 비교용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+		STUB.delay(STUB_DELAY_MILLIS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dataPlatformProperties.setEnabled(true);
+		scheduleIds.forEach(seatAvailabilityService::evict);
+		reservationJpaRepository.deleteAll(reservationJpaRepository.findAll().stream()
+				.filter(reservation -> scheduleIds.contains(reservation.getConcertSchedule().getConcertScheduleId()))
+				.toList());
+	}
+
+	@AfterAll
+	static void stopStub() {
+		STUB.close();
+	}
+
+	@Test
+	@DisplayName("전송하지 않을 때, 비동기 묶음 전송, 요청마다 동기 전송의 홀드 요청 지연 비교")
+	void compareExportModes() throws InterruptedException {
+		// 워밍업
+		run(Mode.OFF);
+		run(Mode.ASYNC);
+		run(Mode.SYNC);
+
+		System.out.println(run(Mode.OFF).summary("off hold"));
+
+		STUB.reset();
+		STUB.delay(STUB_DELAY_MILLIS);
+		LatencyRecorder async = run(Mode.ASYNC);
+		awaitExported(USERS * SEATS_PER_USER);
+		System.out.println(async.summary("async hold"));
+		System.out.printf("async: %d events in %d requests%n", STUB.events().size(), STUB.requests());
+
+		System.out.println(run(Mode.SYNC).summary("sync hold"));
+	}
+
+	private LatencyRecorder run(Mode mode) throws InterruptedException {
+		dataPlatformProperties.setEnabled(mode == Mode.ASYNC);
+		List<Seat> seats = newScheduleSeats();
+		LatencyRecorder recorder = new LatencyRecorder(seats.size());
+		ExecutorService executorService = Executors.newFixedThreadPool(USERS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(USERS);
+		try {
+			for (int u = 0; u < USERS; u++) {
+				long userId = u + 1;
+				List<Seat> userSeats = seats.subList(u * SEATS_PER_USER, (u + 1) * SEATS_PER_USER);
+				executorService.submit(() -> {
+					try {
+						startLatch.await();
+						for (Seat seat : userSeats) {
+							long start = System.nanoTime();
+							Reservation reservation = reserveConcertUseCase.execute(userId, seat.getSeatId(), null);
+							if (mode == Mode.SYNC) {
+								dataPlatformClient.send(gzip(List.of(ReservationEvent.held(reservation))));
+							}
+							recorder.record(System.nanoTime() - start);
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						doneLatch.countDown();
+					}
+				});
+			}
+			startLatch.countDown();
+			assertThat(doneLatch.await(5, TimeUnit.MINUTES)).isTrue();
+			assertThat(recorder.count()).isEqualTo(seats.size());
+			return recorder;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void awaitExported(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (STUB.events().size() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(STUB.events()).hasSize(count);
+	}
+
+	private List<Seat> newScheduleSeats() {
+		ConcertSchedule schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+		scheduleIds.add(schedule.getConcertScheduleId());
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 비트맵 제거
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+
+		List<Seat> seats = new ArrayList<>(USERS * SEATS_PER_USER);
+		for (int seatNumber = 1; seatNumber <= USERS * SEATS_PER_USER; seatNumber++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(seatNumber);
+			seat.setSeatGrade(SeatGrade.ROYAL);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seats.add(seat);
+		}
+		return seatRepository.saveAll(seats);
+	}
+
+	private static byte[] gzip(List<ReservationEvent> events) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+			OBJECT_MAPPER.writeValue(gzip, events);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Path createTempDirectory() {
+		try {
+			return Files.createTempDirectory("data-platform-spill");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
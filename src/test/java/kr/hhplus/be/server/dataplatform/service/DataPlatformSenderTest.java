@@ -0,0 +1,280 @@
+package kr.hhplus.be.server.dataplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.config.DataPlatformProperties;
+import kr.hhplus.be.server.dataplatform.StubDataPlatformServer;
+import kr.hhplus.be.server.dataplatform.client.DataPlatformClient;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DataPlatformSender 단위 테스트 (로컬 스텁 서버 사용)
+ *
+ * - batch-size개가 모이면 시간 창을 기다리지 않고 보냄
+ * - 시간 창이 지나면 모인 만큼 보냄
+ * - 일시적인 실패는 재시도하여 보냄
+ * - 데이터 플랫폼이 내려가 있으면 파일에 남기고, 다시 올라오면 남긴 순서대로 보내고 파일을 지움
+ * - 남긴 이벤트는 묶음 크기씩 읽어 보내고 실패하면 멈춤
+ * - 종료 시 보내던 묶음을 파일에 남김
+ * - 버퍼가 가득 차면 새 이벤트는 버림
+ */
+class DataPlatformSenderTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private StubDataPlatformServer stub;
+	private DataPlatformProperties properties;
+	private DataPlatformMetrics metrics;
+	private DataPlatformEventBuffer buffer;
+	private DataPlatformSpillFile spillFile;
+	private DataPlatformSender sender;
+
+	@BeforeEach
+	void setUp() {
+		stub = new StubDataPlatformServer(objectMapper);
+		properties = new DataPlatformProperties();
+		properties.setEndpoint(stub.endpoint());
+		properties.setSpillPath(tempDir.resolve("spill.jsonl").toString());
+		properties.setBatchSize(3);
+		properties.setFlushInterval(Duration.ofMillis(200));
+		properties.setRetryBackoff(Duration.ofMillis(10));
+		properties.setBufferCapacity(100);
+		createSender();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	@Test
+	@DisplayName("batch-size개가 모이면 시간 창을 기다리지 않고 gzip 압축한 묶음 하나로 보냄")
+	void testFlushOnce_BatchSizeReached_SendsImmediately() throws InterruptedException {
+		// given
+		properties.setFlushInterval(Duration.ofSeconds(10));
+		offer(1L, 2L, 3L);
+
+		// when
+		long started = System.nanoTime();
+		int flushed = sender.flushOnce();
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+		// then
+		assertThat(flushed).isEqualTo(3);
+		assertThat(elapsedMillis).isLessThan(5000);
+		assertThat(stub.batches()).hasSize(1);
+		assertThat(stub.events()).extracting(ReservationEvent::reservationId).containsExactly(1L, 2L, 3L);
+		assertThat(metrics.sentCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("시간 창이 지나면 batch-size보다 적어도 모인 만큼 보냄")
+	void testFlushOnce_WindowElapsed_SendsPartialBatch() throws InterruptedException {
+		// given
+		properties.setBatchSize(100);
+		offer(1L, 2L);
+
+		// when
+		long started = System.nanoTime();
+		int flushed = sender.flushOnce();
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+		// then
+		assertThat(flushed).isEqualTo(2);
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(200);
+		assertThat(stub.events()).extracting(ReservationEvent::reservationId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("버퍼가 비어 있으면 시간 창만큼 기다린 뒤 보내지 않음")
+	void testFlushOnce_EmptyBuffer_SendsNothing() throws InterruptedException {
+		assertThat(sender.flushOnce()).isZero();
+		assertThat(stub.requests()).isZero();
+	}
+
+	@Test
+	@DisplayName("일시적인 실패는 재시도하여 보내고 파일에 남기지 않음")
+	void testFlushOnce_TransientFailure_RetriesAndSends() throws InterruptedException {
+		// given
+		properties.setMaxAttempts(3);
+		stub.failNext(2);
+		offer(1L, 2L, 3L);
+
+		// when
+		sender.flushOnce();
+
+		// then
+		assertThat(stub.requests()).isEqualTo(3);
+		assertThat(stub.events()).hasSize(3);
+		assertThat(spillFile.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("데이터 플랫폼이 내려가 있으면 파일에 남기고, 다시 올라오면 남긴 순서대로 보내고 파일을 지움")
+	void testEndpointDown_SpillsThenReplaysInOrder() throws InterruptedException {
+		// given - 시도 수를 모두 실패하여 파일에 남김
+		properties.setMaxAttempts(2);
+		stub.failNext(Integer.MAX_VALUE);
+		offer(1L, 2L, 3L);
+		sender.flushOnce();
+		assertThat(spillFile.isEmpty()).isFalse();
+		assertThat(stub.requests()).isEqualTo(2);
+
+		// 파일에 남긴 이벤트가 있는 동안 새 묶음은 시도 없이 파일 뒤에 남김
+		offer(4L, 5L);
+		sender.flushOnce();
+		assertThat(stub.requests()).isEqualTo(2);
+		assertThat(metrics.spilledCount()).isEqualTo(5);
+
+		// when - 데이터 플랫폼 복구 후 다시 보내기
+		stub.failNext(0);
+		int replayed = sender.replaySpilled();
+
+		// then
+		assertThat(replayed).isEqualTo(5);
+		assertThat(stub.events()).extracting(ReservationEvent::reservationId).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(stub.batches()).hasSize(2);
+		assertThat(spillFile.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("다시 보내기가 실패하면 남은 이벤트는 파일에 그대로 둠")
+	void testReplaySpilled_StillDown_KeepsEvents() throws InterruptedException {
+		// given
+		properties.setMaxAttempts(1);
+		stub.failNext(Integer.MAX_VALUE);
+		offer(1L, 2L);
+		sender.flushOnce();
+
+		// when
+		int replayed = sender.replaySpilled();
+
+		// then
+		assertThat(replayed).isZero();
+		assertThat(spilledIds()).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("남긴 이벤트는 묶음 크기씩 읽어 보내고, 실패한 묶음부터 끝까지 파일에 남김")
+	void testReplaySpilled_FailsMidway_KeepsFailedBatchAndRest() throws InterruptedException {
+		// given
+		spillFile.append(List.of(event(1L), event(2L), event(3L), event(4L), event(5L)));
+		List<List<Long>> attempted = new ArrayList<>();
+
+		// when - 두 번째 묶음에서 실패
+		int sent = spillFile.replay(2, batch -> {
+			attempted.add(batch.stream().map(ReservationEvent::reservationId).toList());
+			return attempted.size() < 2;
+		});
+
+		// then - 실패한 뒤 세 번째 묶음은 읽지 않음
+		assertThat(sent).isEqualTo(2);
+		assertThat(attempted).containsExactly(List.of(1L, 2L), List.of(3L, 4L));
+		assertThat(spilledIds()).containsExactly(3L, 4L, 5L);
+	}
+
+	@Test
+	@DisplayName("재시도 대기 중에 종료되면 보내던 묶음을 파일에 남김")
+	void testFlushOnce_InterruptedDuringBackoff_SpillsInFlightBatch() throws InterruptedException {
+		// given
+		properties.setMaxAttempts(3);
+		properties.setRetryBackoff(Duration.ofSeconds(30));
+		stub.failNext(Integer.MAX_VALUE);
+		offer(1L, 2L, 3L);
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		Thread flusher = new Thread(() -> {
+			try {
+				sender.flushOnce();
+			} catch (Throwable e) {
+				thrown.set(e);
+			}
+		});
+		flusher.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (stub.requests() < 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		// when
+		flusher.interrupt();
+		flusher.join(5000);
+
+		// then
+		assertThat(thrown.get()).isInstanceOf(InterruptedException.class);
+		assertThat(stub.requests()).isEqualTo(1);
+		assertThat(spilledIds()).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 요청 스레드를 막지 않고 새 이벤트를 버림")
+	void testOffer_BufferFull_DropsEvent() {
+		// given
+		properties.setBufferCapacity(2);
+		createSender();
+
+		// when
+		boolean first = buffer.offer(event(1L));
+		boolean second = buffer.offer(event(2L));
+		boolean third = buffer.offer(event(3L));
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		assertThat(third).isFalse();
+		assertThat(metrics.droppedCount()).isEqualTo(1);
+	}
+
+	private void createSender() {
+		metrics = new DataPlatformMetrics(new SimpleMeterRegistry());
+		buffer = new DataPlatformEventBuffer(properties, metrics);
+		spillFile = new DataPlatformSpillFile(properties, objectMapper);
+		sender = new DataPlatformSender(buffer, new DataPlatformClient(properties), spillFile, metrics, properties,
+				objectMapper);
+	}
+
+	private List<Long> spilledIds() {
+		try {
+			List<Long> ids = new ArrayList<>();
+			for (String line : Files.readAllLines(tempDir.resolve("spill.jsonl"))) {
+				ids.add(objectMapper.readValue(line, ReservationEvent.class).reservationId());
+			}
+			return ids;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void offer(Long... reservationIds) {
+		for (Long reservationId : reservationIds) {
+			buffer.offer(event(reservationId));
+		}
+	}
+
+	private static ReservationEvent event(Long reservationId) {
+		return new ReservationEvent(ReservationEventType.HELD, reservationId, 1L, 10L, 100L + reservationId,
+				new BigDecimal(8000000), LocalDateTime.now());
+	}
+}
@@ -182,6 +182,24 @@ class ConcertRankingIntegrationTest {
 		// Sorted Set은 같은 member가 있으면 score가 업데이트되므로, 마지막 점수가 적용됨
 	}
 
+	@Test
+	@DisplayName("랭킹에 없을 때만 추가하면 여러 번 호출해도 처음 매진 시간이 유지됨")
+	void testAddRankingIfAbsent_KeepsFirstTimestamp() throws InterruptedException {
+		// given
+		Long concertScheduleId = 1L;
+		assertThat(concertRankingService.addSoldOutConcertIfAbsent(concertScheduleId)).isTrue();
+		long firstTimestamp = concertRankingService.getTopSoldOutRankingWithScore(1).get(0).getSoldOutTimestamp();
+		Thread.sleep(10);
+
+		// when
+		boolean addedAgain = concertRankingService.addSoldOutConcertIfAbsent(concertScheduleId);
+
+		// then
+		assertThat(addedAgain).isFalse();
+		assertThat(concertRankingService.getTopSoldOutRankingWithScore(1).get(0).getSoldOutTimestamp())
+				.isEqualTo(firstTimestamp);
+	}
+
 	@Test
 	@DisplayName("랭킹 초기화 후 빈 랭킹 조회 가능")
 	void testClearRanking_AfterClear_ReturnsEmpty() throws InterruptedException {
@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.ranking.integration;
+
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService.PaidCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SoldOutCounterService 통합 테스트
+ *
+ * 실제 Redis를 사용한 통합 테스트:
+ * - 동시 결제 중 처음 전체 좌석 수에 도달한 요청 하나만 매진으로 표시
+ * - 카운터가 없을 때 동시 초기화
+ * - 같은 결제 완료 이벤트의 중복 반영 방지
+ * - 정합성 점검의 덮어쓰기와 놓친 매진 표시
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class SoldOutCounterIntegrationTest {
+
+	private static final Long SCHEDULE_ID = 921_001L;
+
+	@Autowired
+	private SoldOutCounterService soldOutCounterService;
+
+	@BeforeEach
+	void setUp() {
+		soldOutCounterService.evict(SCHEDULE_ID);
+	}
+
+	@AfterEach
+	void tearDown() {
+		soldOutCounterService.evict(SCHEDULE_ID);
+	}
+
+	@Test
+	@DisplayName("카운터가 없으면 결제 완료 수를 올리지 않고 UNINITIALIZED 반환")
+	void testRecordPaid_NoCounter_ReturnsUninitialized() {
+		// when
+		PaidCount result = soldOutCounterService.recordPaid(SCHEDULE_ID, 1L);
+
+		// then
+		assertThat(result).isEqualTo(PaidCount.UNINITIALIZED);
+		assertThat(soldOutCounterService.trackedSchedules()).doesNotContain(SCHEDULE_ID);
+	}
+
+	@Test
+	@DisplayName("동시에 남은 좌석보다 많은 결제가 들어와도 매진은 한 번만 표시됨")
+	void testRecordPaid_Concurrent_SoldOutFirstExactlyOnce() throws InterruptedException {
+		// given - 100석 중 90석 결제 완료 상태로 초기화
+		soldOutCounterService.reconcile(SCHEDULE_ID, 100, 90, List.of());
+		int threadCount = 30;
+		AtomicLong eventIds = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		ConcurrentLinkedQueue<PaidCount> results = new ConcurrentLinkedQueue<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					results.add(soldOutCounterService.recordPaid(SCHEDULE_ID, eventIds.incrementAndGet()));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		// then - 10번째 결제만 처음 매진, 앞의 9개는 증가만, 나머지는 이미 매진
+		assertThat(results).hasSize(threadCount);
+		assertThat(results).filteredOn(result -> result == PaidCount.SOLD_OUT_FIRST).hasSize(1);
+		assertThat(results).filteredOn(result -> result == PaidCount.COUNTED).hasSize(9);
+		assertThat(results).filteredOn(result -> result == PaidCount.SOLD_OUT).hasSize(20);
+	}
+
+	@Test
+	@DisplayName("여러 결제가 동시에 초기화하면 하나만 DB 값으로 초기화하고 나머지는 1씩 올림")
+	void testInitializeOnPaid_Concurrent_OnlyFirstUsesDatabaseCount() throws InterruptedException {
+		// given - 두 이벤트의 결제 중 하나만 커밋된 시점에 각자 세어 8개 (커밋된 이벤트 1번만 미반영 이벤트로 보임)
+		int threadCount = 2;
+		AtomicLong eventIds = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		List<PaidCount> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					long eventId = eventIds.incrementAndGet();
+					PaidCount result = soldOutCounterService.initializeOnPaid(SCHEDULE_ID, 9, 8, eventId, List.of(1L));
+					synchronized (results) {
+						results.add(result);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		// then - 먼저 초기화한 쪽이 1번이면 8개로 초기화 후 2번이 올려 9개 (매진),
+		// 2번이 먼저면 8개로 초기화하며 1번을 반영된 것으로 표시하므로 1번은 다시 올리지 않음 (매진 아님)
+		assertThat(results).containsAnyOf(PaidCount.SOLD_OUT_FIRST, PaidCount.DUPLICATE);
+		assertThat(results).filteredOn(result -> result == PaidCount.SOLD_OUT_FIRST).hasSizeLessThanOrEqualTo(1);
+		assertThat(soldOutCounterService.trackedSchedules()).contains(SCHEDULE_ID);
+	}
+
+	@Test
+	@DisplayName("정합성 점검은 어긋난 카운터를 DB 값으로 덮어씀")
+	void testReconcile_OverwritesDriftedCounter() {
+		// given - 롤백된 결제로 카운터가 DB보다 2 많음
+		soldOutCounterService.initializeOnPaid(SCHEDULE_ID, 10, 7, 1L, List.of(1L));
+		soldOutCounterService.recordPaid(SCHEDULE_ID, 2L);
+		soldOutCounterService.recordPaid(SCHEDULE_ID, 3L);
+
+		// when - DB 기준 7석 결제 완료
+		PaidCount reconciled = soldOutCounterService.reconcile(SCHEDULE_ID, 10, 7, List.of());
+
+		// then - 결제 3건이 더 있어야 매진
+		assertThat(reconciled).isEqualTo(PaidCount.COUNTED);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 4L)).isEqualTo(PaidCount.COUNTED);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 5L)).isEqualTo(PaidCount.COUNTED);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 6L)).isEqualTo(PaidCount.SOLD_OUT_FIRST);
+	}
+
+	@Test
+	@DisplayName("결제 중 놓친 매진은 정합성 점검에서 한 번만 표시됨")
+	void testReconcile_MissedSoldOut_MarkedOnce() {
+		// given - 마지막 결제의 카운터 증가가 빠져 9/10으로 남음
+		soldOutCounterService.initializeOnPaid(SCHEDULE_ID, 10, 9, 1L, List.of(1L));
+
+		// when
+		PaidCount first = soldOutCounterService.reconcile(SCHEDULE_ID, 10, 10, List.of());
+		PaidCount second = soldOutCounterService.reconcile(SCHEDULE_ID, 10, 10, List.of());
+
+		// then
+		assertThat(first).isEqualTo(PaidCount.SOLD_OUT_FIRST);
+		assertThat(second).isEqualTo(PaidCount.SOLD_OUT);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 2L)).isEqualTo(PaidCount.SOLD_OUT);
+	}
+
+	@Test
+	@DisplayName("같은 결제 완료 이벤트는 한 번만 반영되고, 초기화 때 함께 표시한 이벤트도 다시 올리지 않음")
+	void testRecordPaid_SameEvent_CountedOnce() {
+		// given - DB 결제 완료 8개에 아직 전달되지 않은 이벤트 7, 8번이 포함됨
+		soldOutCounterService.initializeOnPaid(SCHEDULE_ID, 10, 8, 8L, List.of(7L, 8L));
+
+		// when & then
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 7L)).isEqualTo(PaidCount.DUPLICATE);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 8L)).isEqualTo(PaidCount.DUPLICATE);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 9L)).isEqualTo(PaidCount.COUNTED);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 9L)).isEqualTo(PaidCount.DUPLICATE);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 10L)).isEqualTo(PaidCount.SOLD_OUT_FIRST);
+		assertThat(soldOutCounterService.recordPaid(SCHEDULE_ID, 10L)).isEqualTo(PaidCount.DUPLICATE);
+	}
+}
@@ -0,0 +1,214 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.ranking.service.ConcertRankingService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventStatus;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import kr.hhplus.be.server.reservation.repository.OutboxEventJpaRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 전달 통합 테스트 (H2 + 실제 Redis, 주기 작업으로 실행되는 OutboxRelay 포함)
+ *
+ * 테스트 목적:
+ * - 커밋된 결제 완료 이벤트가 전달되어 좌석이 예약 불가로 표시되고, 마지막 좌석 결제에서 매진 랭킹이 추가되는지 검증
+ * - 이미 전달된 이벤트가 다시 전달되어도 매진 카운터와 랭킹이 바뀌지 않는지 검증 (중복 전달 방지)
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class OutboxRelayIntegrationTest {
+
+	private static final long WAIT_MILLIS = 5000;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxRepositoryPort outboxRepositoryPort;
+
+	@Autowired
+	private OutboxEventJpaRepository outboxEventJpaRepository;
+
+	@Autowired
+	private ConcertRankingService concertRankingService;
+
+	@Autowired
+	private SoldOutCounterService soldOutCounterService;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private ConcertSchedule schedule;
+	private List<Seat> seats;
+	private final List<Long> eventIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("아웃박스 테스트 콘서트");
+		concert.setConcertDec("결제 후처리 아웃박스 테스트용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+
+		seats = new ArrayList<>();
+		for (int seatNumber = 1; seatNumber <= 2; seatNumber++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(seatNumber);
+			seat.setSeatGrade(SeatGrade.VIP);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seats.add(seatRepository.save(seat));
+		}
+
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 Redis 상태 제거
+		concertRankingService.clearRanking();
+		soldOutCounterService.evict(schedule.getConcertScheduleId());
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxEventJpaRepository.deleteAllById(eventIds);
+		reservationJpaRepository.deleteAll(reservationJpaRepository.findAll().stream()
+				.filter(reservation -> reservation.getConcertSchedule().getConcertScheduleId()
+						.equals(schedule.getConcertScheduleId()))
+				.toList());
+		concertRankingService.clearRanking();
+		soldOutCounterService.evict(schedule.getConcertScheduleId());
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+	}
+
+	@Test
+	@DisplayName("결제 완료 이벤트가 전달되어 좌석이 예약 불가로 표시되고 마지막 좌석 결제에서 매진 랭킹이 추가됨")
+	void testRelay_PaymentCompleted_MarksSeatAndAddsSoldOutRanking() throws InterruptedException {
+		// given - 좌석 예약 가능 비트맵을 DB 기준(모두 빈 좌석)으로 만들어 둠
+		assertThat(seatAvailabilityService.findAvailableSeats(schedule)).hasSize(2);
+		assertThat(seatAvailabilityService.isKnownTaken(schedule.getConcertScheduleId(), 1)).isFalse();
+
+		// when - 첫 번째 좌석 결제
+		OutboxEvent first = pay(seats.get(0));
+		awaitPublished(first.getId());
+
+		// then
+		assertThat(seatAvailabilityService.isKnownTaken(schedule.getConcertScheduleId(), 1)).isTrue();
+		assertThat(concertRankingService.getRank(schedule.getConcertScheduleId())).isEqualTo(-1);
+
+		// when - 마지막 좌석 결제
+		OutboxEvent second = pay(seats.get(1));
+		awaitPublished(second.getId());
+
+		// then
+		assertThat(seatAvailabilityService.isKnownTaken(schedule.getConcertScheduleId(), 2)).isTrue();
+		assertThat(concertRankingService.getRank(schedule.getConcertScheduleId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 전달된 이벤트가 다시 전달되어도 매진 카운터와 랭킹은 바뀌지 않음")
+	void testRelay_RedeliveredEvent_IsDeduplicated() throws InterruptedException {
+		// given - 두 좌석 결제가 모두 전달되어 매진
+		OutboxEvent first = pay(seats.get(0));
+		OutboxEvent second = pay(seats.get(1));
+		awaitPublished(first.getId());
+		awaitPublished(second.getId());
+		Long soldOutAt = soldOutTimestamp();
+		assertThat(soldOutAt).isNotNull();
+
+		// when - 처리 후 전달 완료 표시 전에 노드가 죽어 첫 번째 이벤트가 다시 대기 상태가 된 경우
+		OutboxEvent redelivered = outboxEventJpaRepository.findById(first.getId()).orElseThrow();
+		redelivered.setStatus(OutboxEventStatus.PENDING);
+		redelivered.setPublishedAt(null);
+		outboxEventJpaRepository.save(redelivered);
+		awaitPublished(first.getId());
+
+		// then - 카운터가 이벤트 ID로 걸러내어 매진을 다시 표시하지 않음
+		assertThat(soldOutTimestamp()).isEqualTo(soldOutAt);
+		assertThat(soldOutCounterService.recordPaid(schedule.getConcertScheduleId(), first.getId()))
+				.isEqualTo(SoldOutCounterService.PaidCount.DUPLICATE);
+	}
+
+	/**
+	 * 결제 트랜잭션이 커밋된 상태를 만듦 (예약 PAID + 결제 완료 이벤트)
+	 */
+	private OutboxEvent pay(Seat seat) {
+		Reservation reservation = new Reservation();
+		reservation.setUserId(1L);
+		reservation.setConcertSchedule(schedule);
+		reservation.setSeat(seat);
+		reservation.setStatus(ReservationStatus.PAID);
+		reservation.setAmountCents(new BigDecimal(80000));
+		reservation = reservationJpaRepository.save(reservation);
+
+		OutboxEvent event = outboxRepositoryPort.save(OutboxEvent.paymentCompleted(new PaymentCompletedPayload(
+				reservation.getId(), schedule.getConcertScheduleId(), seat.getSeatId(), seat.getSeatNumber())));
+		eventIds.add(event.getId());
+		return event;
+	}
+
+	private void awaitPublished(Long eventId) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+		while (System.currentTimeMillis() < deadline) {
+			OutboxEvent event = outboxEventJpaRepository.findById(eventId).orElseThrow();
+			if (event.getStatus() == OutboxEventStatus.PUBLISHED) {
+				return;
+			}
+			// 주기 작업을 기다리지 않고 직접 전달 (주기 작업과 겹쳐도 한쪽만 가져감)
+			outboxRelay.relayBatch();
+			Thread.sleep(20);
+		}
+		throw new AssertionError("아웃박스 이벤트가 전달되지 않았습니다. eventId : " + eventId);
+	}
+
+	private Long soldOutTimestamp() {
+		return concertRankingService.getTopSoldOutRankingWithScore(10).stream()
+				.filter(entry -> entry.getConcertScheduleId().equals(schedule.getConcertScheduleId()))
+				.map(ConcertRankingService.RankingEntry::getSoldOutTimestamp)
+				.findFirst()
+				.orElse(null);
+	}
+}
@@ -0,0 +1,154 @@
+package kr.hhplus.be.server.reservation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxRelay 단위 테스트
+ *
+ * - 가져간 이벤트를 같은 종류의 처리기 모두에 전달하고 전달 완료로 표시
+ * - 처리기가 실패한 이벤트만 재시도 대기로 되돌리고 나머지는 전달 완료
+ * - 최대 시도 수에 도달하면 FAILED로 남김
+ * - 재시도 대기 시간은 두 배씩 늘고 최대값을 넘지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	@Mock
+	private OutboxRepositoryPort outboxRepositoryPort;
+
+	@Mock
+	private OutboxEventHandler seatHandler;
+
+	@Mock
+	private OutboxEventHandler rankingHandler;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ReservationProperties reservationProperties;
+	private OutboxMetrics outboxMetrics;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		reservationProperties = new ReservationProperties();
+		outboxMetrics = new OutboxMetrics(new SimpleMeterRegistry());
+		outboxRelay = new OutboxRelay(outboxRepositoryPort, List.of(seatHandler, rankingHandler),
+				outboxMetrics, reservationProperties, transactionManager);
+
+		lenient().when(seatHandler.eventType()).thenReturn(OutboxEventType.PAYMENT_COMPLETED);
+		lenient().when(rankingHandler.eventType()).thenReturn(OutboxEventType.PAYMENT_COMPLETED);
+		lenient().when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	@DisplayName("가져간 이벤트를 모든 처리기에 전달하고 같은 토큰으로 전달 완료 표시")
+	void testRelayBatch_DispatchesToAllHandlersAndMarksPublished() {
+		// given
+		OutboxEvent first = event(1L, 0);
+		OutboxEvent second = event(2L, 0);
+		when(outboxRepositoryPort.claim(anyString(), any(), any(), eq(100))).thenReturn(List.of(first, second));
+
+		// when
+		int relayed = outboxRelay.relayBatch();
+
+		// then
+		assertThat(relayed).isEqualTo(2);
+		verify(seatHandler).handle(same(first));
+		verify(seatHandler).handle(same(second));
+		verify(rankingHandler).handle(same(first));
+		verify(rankingHandler).handle(same(second));
+		verify(outboxRepositoryPort).markPublished(eq(List.of(1L, 2L)), anyString(), any());
+		verify(outboxRepositoryPort, never()).markAttemptFailed(any(), anyInt(), any(), anyBoolean(), any());
+	}
+
+	@Test
+	@DisplayName("가져갈 이벤트가 없으면 아무것도 표시하지 않음")
+	void testRelayBatch_NoEvents_DoesNothing() {
+		// given
+		when(outboxRepositoryPort.claim(anyString(), any(), any(), anyInt())).thenReturn(List.of());
+
+		// when
+		int relayed = outboxRelay.relayBatch();
+
+		// then
+		assertThat(relayed).isZero();
+		verify(outboxRepositoryPort, never()).markPublished(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("처리기가 실패한 이벤트만 재시도 대기로 되돌리고 나머지는 전달 완료")
+	void testRelayBatch_HandlerFails_RetriesOnlyFailedEvent() {
+		// given
+		OutboxEvent first = event(1L, 0);
+		OutboxEvent second = event(2L, 2);
+		when(outboxRepositoryPort.claim(anyString(), any(), any(), anyInt())).thenReturn(List.of(first, second));
+		lenient().doThrow(new RuntimeException("Redis error")).when(rankingHandler).handle(same(second));
+
+		// when
+		LocalDateTime before = LocalDateTime.now();
+		outboxRelay.relayBatch();
+
+		// then - 세 번째 실패이므로 1초 * 2^2 = 4초 뒤 재시도
+		verify(outboxRepositoryPort).markPublished(eq(List.of(1L)), anyString(), any());
+		verify(outboxRepositoryPort).markAttemptFailed(same(second), eq(3),
+				argThat(nextAttemptAt -> !nextAttemptAt.isBefore(before.plusSeconds(4))),
+				eq(false), contains("Redis error"));
+	}
+
+	@Test
+	@DisplayName("최대 시도 수에 도달하면 FAILED로 남김")
+	void testRelayBatch_MaxAttemptsReached_MarksExhausted() {
+		// given
+		reservationProperties.getOutbox().setMaxAttempts(3);
+		OutboxEvent event = event(1L, 2);
+		when(outboxRepositoryPort.claim(anyString(), any(), any(), anyInt())).thenReturn(List.of(event));
+		doThrow(new RuntimeException("Redis error")).when(seatHandler).handle(event);
+
+		// when
+		outboxRelay.relayBatch();
+
+		// then
+		verify(outboxRepositoryPort).markAttemptFailed(eq(event), eq(3), any(), eq(true), anyString());
+		verify(rankingHandler, never()).handle(any());
+		verify(outboxRepositoryPort).markPublished(eq(List.of()), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("재시도 대기 시간은 두 배씩 늘고 최대값을 넘지 않음")
+	void testBackoff_DoublesUpToMax() {
+		assertThat(outboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(outboxRelay.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(outboxRelay.backoff(5)).isEqualTo(Duration.ofSeconds(16));
+		assertThat(outboxRelay.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	private OutboxEvent event(Long id, int attempts) {
+		OutboxEvent event = OutboxEvent.paymentCompleted(new PaymentCompletedPayload(id, 10L, 20L + id, id.intValue()));
+		event.setId(id);
+		event.setAttempts(attempts);
+		return event;
+	}
+}
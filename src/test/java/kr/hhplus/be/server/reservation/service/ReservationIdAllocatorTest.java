@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationIdAllocator 단위 테스트 (Redis 우선 홀드의 예약 ID 발급)
+ *
+ * - 받은 구간을 다 쓸 때까지 Redis를 다시 호출하지 않음
+ * - 카운터가 없으면 DB의 가장 큰 예약 ID에서 시작
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationIdAllocatorTest {
+
+	@Mock
+	private SeatHoldStorePort seatHoldStorePort;
+
+	@Mock
+	private ReservationRepositoryPort reservationRepositoryPort;
+
+	@Spy
+	private ReservationProperties reservationProperties = new ReservationProperties();
+
+	@InjectMocks
+	private ReservationIdAllocator reservationIdAllocator;
+
+	@BeforeEach
+	void setUp() {
+		reservationProperties.getWriteBehind().setIdBlockSize(3);
+	}
+
+	@Test
+	@DisplayName("받은 구간의 ID를 차례로 나눠 주고, 다 쓰면 다음 구간을 받음")
+	void testNext_HandsOutBlockThenRefills() {
+		// given
+		when(seatHoldStorePort.allocateReservationIds(3))
+				.thenReturn(OptionalLong.of(13L), OptionalLong.of(23L));
+
+		// when
+		long[] ids = new long[4];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = reservationIdAllocator.next();
+		}
+
+		// then
+		assertThat(ids).containsExactly(11L, 12L, 13L, 21L);
+		verify(seatHoldStorePort, times(2)).allocateReservationIds(3);
+		verifyNoInteractions(reservationRepositoryPort);
+	}
+
+	@Test
+	@DisplayName("카운터가 없으면 DB의 가장 큰 예약 ID로 시작한 뒤 구간을 받음")
+	void testNext_NoCounter_SeedsFromMaxId() {
+		// given
+		when(seatHoldStorePort.allocateReservationIds(3))
+				.thenReturn(OptionalLong.empty(), OptionalLong.of(103L));
+		when(reservationRepositoryPort.findMaxId()).thenReturn(100L);
+
+		// when
+		long id = reservationIdAllocator.next();
+
+		// then
+		assertThat(id).isEqualTo(101L);
+		verify(seatHoldStorePort).initReservationIds(100L);
+	}
+
+	@Test
+	@DisplayName("카운터를 시작한 뒤에도 구간을 받지 못하면 예외 발생")
+	void testNext_StillNoCounter_Throws() {
+		// given
+		when(seatHoldStorePort.allocateReservationIds(3)).thenReturn(OptionalLong.empty());
+		when(reservationRepositoryPort.findMaxId()).thenReturn(0L);
+
+		// when & then
+		assertThatThrownBy(() -> reservationIdAllocator.next())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("예약 ID");
+	}
+}
@@ -0,0 +1,220 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.SeatHold;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 우선 좌석 홀드 쓰기 지연 저장 테스트
+ *
+ * 테스트 목적:
+ * - Redis가 확정한 홀드가 DB 예약 행과 좌석 상태로 저장되는지 검증 (선점할 때 응답한 예약 ID 그대로)
+ * - 같은 좌석의 두 번째 선점은 Redis에서 바로 실패하는지 검증
+ * - DB가 선점할 수 없는 좌석의 홀드는 Redis에서도 취소되는지 검증
+ * - 대기열에서 사라진 홀드를 정합성 점검이 다시 저장하는지 검증
+ *
+ * 스케줄러가 테스트 중 대기열을 가져가지 않도록 저장 주기를 길게 설정합니다.
+ * (다른 테스트 컨텍스트의 작업은 홀드 방식이 redis-first가 아니므로 대기열을 건드리지 않음)
+ */
+@SpringBootTest(properties = {
+		"hhplus.reservation.hold-strategy=redis-first",
+		"hhplus.reservation.write-behind.interval=1h",
+		"hhplus.reservation.write-behind.reconcile-interval=1h"
+})
+@ActiveProfiles("h2")
+class SeatHoldWriteBehindWorkerTest {
+
+	private static final Duration HOLD_DURATION = Duration.ofMinutes(10);
+
+	@Autowired
+	private SeatHoldWriteBehindWorker seatHoldWriteBehindWorker;
+
+	@Autowired
+	private SeatHoldStorePort seatHoldStorePort;
+
+	@Autowired
+	private ReservationIdAllocator reservationIdAllocator;
+
+	@Autowired
+	private ReservationProperties reservationProperties;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private Long concertScheduleId;
+	private Duration originalGrace;
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("쓰기 지연 테스트 콘서트");
+		concert.setConcertDec("Redis 우선 홀드 테스트용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		ConcertSchedule schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		concertScheduleId = concertScheduleRepository.save(schedule).getConcertScheduleId();
+
+		originalGrace = reservationProperties.getWriteBehind().getReconcileGrace();
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 홀드 제거
+		clearHolds();
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationProperties.getWriteBehind().setReconcileGrace(originalGrace);
+		clearHolds();
+		// 저장된 예약은 커밋되므로 같은 인메모리 DB를 쓰는 다른 테스트를 위해 지움
+		reservationJpaRepository.deleteAll(reservationJpaRepository.findAll().stream()
+				.filter(reservation -> concertScheduleId.equals(reservation.getConcertSchedule().getConcertScheduleId()))
+				.toList());
+	}
+
+	private void clearHolds() {
+		Set<String> keys = redisTemplate.keys("seat-hold:{schedule:" + concertScheduleId + "}:*");
+		if (keys != null && !keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+		redisTemplate.opsForSet().remove("seat-hold:schedules", String.valueOf(concertScheduleId));
+	}
+
+	@Test
+	@DisplayName("Redis에서 선점한 홀드가 선점 시 발급한 예약 ID로 DB 예약과 좌석 상태에 저장되어야 함")
+	void testFlush_PersistsClaimedHold() {
+		// given
+		Seat seat = createSeat(1, SeatStatus.NON_RESERVATION);
+		String key = UUID.randomUUID().toString();
+		Optional<SeatHold> hold = claim(seat, 1L, key);
+
+		// when
+		int saved = seatHoldWriteBehindWorker.flushSchedule(concertScheduleId);
+
+		// then
+		assertThat(hold).isPresent();
+		assertThat(saved).isEqualTo(1);
+		Reservation reservation = reservationJpaRepository.findByIdempotencyKey(key).orElseThrow();
+		assertThat(reservation.getId()).isEqualTo(hold.get().reservationId());
+		assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.HOLD);
+		assertThat(reservation.getUserId()).isEqualTo(1L);
+		assertThat(seatRepository.findById(seat.getSeatId()).orElseThrow().getSeatStatus())
+				.isEqualTo(SeatStatus.RESERVATION);
+	}
+
+	@Test
+	@DisplayName("같은 좌석의 두 번째 선점은 실패하고, 같은 멱등성 키 재시도는 같은 홀드를 돌려받아야 함")
+	void testClaim_SecondClaimFails_SameKeyReplays() {
+		// given
+		Seat seat = createSeat(1, SeatStatus.NON_RESERVATION);
+		String key = UUID.randomUUID().toString();
+		SeatHold first = claim(seat, 1L, key).orElseThrow();
+
+		// when
+		Optional<SeatHold> other = claim(seat, 2L, UUID.randomUUID().toString());
+		Optional<SeatHold> replay = claim(seat, 1L, key);
+
+		// then
+		assertThat(other).isEmpty();
+		assertThat(replay).contains(first);
+
+		// 재시도가 대기열에 중복으로 들어가지 않음
+		assertThat(seatHoldWriteBehindWorker.flushSchedule(concertScheduleId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("DB에서 이미 선점된 좌석의 홀드는 Redis에서도 취소되어야 함")
+	void testFlush_RejectsHoldOfSeatTakenInDb() {
+		// given
+		Seat seat = createSeat(1, SeatStatus.RESERVATION);
+		String key = UUID.randomUUID().toString();
+		claim(seat, 1L, key).orElseThrow();
+
+		// when
+		int saved = seatHoldWriteBehindWorker.flushSchedule(concertScheduleId);
+
+		// then
+		assertThat(saved).isZero();
+		assertThat(reservationJpaRepository.findByIdempotencyKey(key)).isEmpty();
+		assertThat(seatHoldStorePort.findActiveHolds(concertScheduleId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("대기열에서 사라진 홀드를 정합성 점검이 다시 넣어 저장해야 함")
+	void testReconcile_RequeuesLostHold() {
+		// given: 대기열에서 꺼낸 뒤 저장 전에 노드가 죽은 상황
+		Seat seat = createSeat(1, SeatStatus.NON_RESERVATION);
+		String key = UUID.randomUUID().toString();
+		claim(seat, 1L, key).orElseThrow();
+		List<SeatHold> lost = seatHoldStorePort.pollPending(concertScheduleId, 10);
+		assertThat(lost).hasSize(1);
+		reservationProperties.getWriteBehind().setReconcileGrace(Duration.ZERO);
+
+		// when
+		int requeued = seatHoldWriteBehindWorker.reconcileSchedule(concertScheduleId);
+		int saved = seatHoldWriteBehindWorker.flushSchedule(concertScheduleId);
+
+		// then
+		assertThat(requeued).isEqualTo(1);
+		assertThat(saved).isEqualTo(1);
+		assertThat(reservationJpaRepository.findByIdempotencyKey(key)).isPresent();
+		assertThat(seatHoldWriteBehindWorker.reconcileSchedule(concertScheduleId)).isZero();
+	}
+
+	private Optional<SeatHold> claim(Seat seat, Long userId, String idempotencyKey) {
+		return seatHoldStorePort.claim(concertScheduleId, seat.getSeatId(), userId, new BigDecimal(8000000),
+				idempotencyKey, HOLD_DURATION, reservationIdAllocator.next());
+	}
+
+	private Seat createSeat(int seatNumber, SeatStatus seatStatus) {
+		Seat seat = new Seat();
+		seat.setSeatNumber(seatNumber);
+		seat.setSeatGrade(SeatGrade.VIP);
+		seat.setSeatStatus(seatStatus);
+		seat.setConcertSchedule(concertScheduleRepository.findById(concertScheduleId).orElseThrow());
+		return seatRepository.save(seat);
+	}
+}
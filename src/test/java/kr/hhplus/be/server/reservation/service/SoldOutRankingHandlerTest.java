@@ -0,0 +1,233 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.ranking.service.ConcertRankingService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService;
+import kr.hhplus.be.server.ranking.service.SoldOutCounterService.PaidCount;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SoldOutRankingHandler 단위 테스트 (결제 완료 이벤트의 매진 확인 및 랭킹 업데이트)
+ *
+ * 다양한 테스트 케이스를 포함:
+ * - 매진 카운터가 처음 전체 좌석 수에 도달하면 랭킹 추가
+ * - 매진이 아니거나 이미 매진으로 표시된 경우 랭킹 미추가
+ * - 다시 전달된 이벤트는 카운터가 걸러내어 랭킹 미추가
+ * - 카운터가 있으면 COUNT 쿼리를 실행하지 않음
+ * - 카운터가 없을 때만 DB에서 세어 초기화 (미전달 이벤트를 반영된 것으로 함께 표시)
+ * - 좌석이 없을 때 처리
+ * - 카운터 오류는 재시도되도록 그대로 던짐
+ */
+@ExtendWith(MockitoExtension.class)
+class SoldOutRankingHandlerTest {
+
+	private static final Long EVENT_ID = 501L;
+
+	@Mock
+	private SoldOutCounterService soldOutCounterService;
+
+	@Mock
+	private ConcertRankingService concertRankingService;
+
+	@Mock
+	private SeatRepositoryPort seatRepositoryPort;
+
+	@Mock
+	private ReservationRepositoryPort reservationRepositoryPort;
+
+	@Mock
+	private OutboxRepositoryPort outboxRepositoryPort;
+
+	@InjectMocks
+	private SoldOutRankingHandler soldOutRankingHandler;
+
+	private Long concertScheduleId;
+	private OutboxEvent event;
+
+	@BeforeEach
+	void setUp() {
+		concertScheduleId = 10L;
+		event = OutboxEvent.paymentCompleted(new PaymentCompletedPayload(1L, concertScheduleId, 20L, 5));
+		event.setId(EVENT_ID);
+	}
+
+	@Test
+	@DisplayName("매진 카운터가 처음 전체 좌석 수에 도달하면 랭킹에 추가됨")
+	void testHandle_CounterReachesTotal_AddsToRanking() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.SOLD_OUT_FIRST);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(concertRankingService).addSoldOutConcertIfAbsent(concertScheduleId);
+	}
+
+	@Test
+	@DisplayName("매진 카운터가 있으면 좌석 수와 결제 완료 수를 COUNT로 조회하지 않음")
+	void testHandle_CounterExists_DoesNotCountFromDatabase() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.COUNTED);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(seatRepositoryPort, never()).countByConcertScheduleId(anyLong());
+		verify(reservationRepositoryPort, never()).countByConcertScheduleIdAndStatus(anyLong(), any());
+		verify(soldOutCounterService, never()).initializeOnPaid(anyLong(), anyLong(), anyLong(), anyLong(), anyList());
+		verify(concertRankingService, never()).addSoldOutConcertIfAbsent(anyLong());
+	}
+
+	@Test
+	@DisplayName("이미 다른 결제가 매진으로 표시했으면 랭킹에 없을 때만 추가함 (처음 매진 시간 유지)")
+	void testHandle_AlreadySoldOut_AddsToRankingIfAbsent() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.SOLD_OUT);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(concertRankingService).addSoldOutConcertIfAbsent(concertScheduleId);
+	}
+
+	@Test
+	@DisplayName("매진 표시 후 랭킹 추가가 실패하면 아웃박스가 다시 전달하도록 그대로 던짐")
+	void testHandle_RankingFails_Throws() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.SOLD_OUT_FIRST);
+		when(concertRankingService.addSoldOutConcertIfAbsent(concertScheduleId))
+				.thenThrow(new RuntimeException("Redis error"));
+
+		// when & then
+		assertThatThrownBy(() -> soldOutRankingHandler.handle(event))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Redis error");
+	}
+
+	@Test
+	@DisplayName("다시 전달된 이벤트라도 매진으로 표시되어 있으면 빠진 랭킹을 채움")
+	void testHandle_DuplicateEventAfterSoldOut_AddsToRankingIfAbsent() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.DUPLICATE);
+		when(soldOutCounterService.isSoldOut(concertScheduleId)).thenReturn(true);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(concertRankingService).addSoldOutConcertIfAbsent(concertScheduleId);
+	}
+
+	@Test
+	@DisplayName("다시 전달된 이벤트는 카운터가 걸러내어 랭킹을 추가하지 않음")
+	void testHandle_DuplicateEvent_DoesNotAddToRanking() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.DUPLICATE);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(seatRepositoryPort, never()).countByConcertScheduleId(anyLong());
+		verify(concertRankingService, never()).addSoldOutConcertIfAbsent(anyLong());
+	}
+
+	@Test
+	@DisplayName("카운터가 없으면 DB에서 세어 초기화하고, 초기화 결과로 매진이면 랭킹에 추가됨")
+	void testHandle_CounterUninitialized_InitializesFromDatabase() {
+		// given
+		long totalSeats = 10L;
+		long paidReservations = 10L;
+		List<Long> unpublished = List.of(498L, 499L, EVENT_ID);
+
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.UNINITIALIZED);
+		when(seatRepositoryPort.countByConcertScheduleId(concertScheduleId)).thenReturn(totalSeats);
+		when(reservationRepositoryPort.countByConcertScheduleIdAndStatus(concertScheduleId, ReservationStatus.PAID))
+				.thenReturn(paidReservations);
+		when(outboxRepositoryPort.findUnpublishedIds(concertScheduleId, OutboxEventType.PAYMENT_COMPLETED))
+				.thenReturn(unpublished);
+		when(soldOutCounterService.initializeOnPaid(concertScheduleId, totalSeats, paidReservations, EVENT_ID, unpublished))
+				.thenReturn(PaidCount.SOLD_OUT_FIRST);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(soldOutCounterService).initializeOnPaid(concertScheduleId, totalSeats, paidReservations, EVENT_ID, unpublished);
+		verify(concertRankingService).addSoldOutConcertIfAbsent(concertScheduleId);
+	}
+
+	@Test
+	@DisplayName("카운터 초기화 결과가 매진이 아니면 랭킹에 추가되지 않음")
+	void testHandle_InitializedNotSoldOut_DoesNotAddToRanking() {
+		// given
+		long totalSeats = 10L;
+		long paidReservations = 5L;
+
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.UNINITIALIZED);
+		when(seatRepositoryPort.countByConcertScheduleId(concertScheduleId)).thenReturn(totalSeats);
+		when(reservationRepositoryPort.countByConcertScheduleIdAndStatus(concertScheduleId, ReservationStatus.PAID))
+				.thenReturn(paidReservations);
+		when(outboxRepositoryPort.findUnpublishedIds(concertScheduleId, OutboxEventType.PAYMENT_COMPLETED))
+				.thenReturn(List.of(EVENT_ID));
+		when(soldOutCounterService.initializeOnPaid(concertScheduleId, totalSeats, paidReservations, EVENT_ID, List.of(EVENT_ID)))
+				.thenReturn(PaidCount.COUNTED);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(concertRankingService, never()).addSoldOutConcertIfAbsent(anyLong());
+	}
+
+	@Test
+	@DisplayName("카운터가 없고 좌석도 없으면 카운터를 초기화하지 않음")
+	void testHandle_NoSeats_DoesNotInitializeCounter() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID)).thenReturn(PaidCount.UNINITIALIZED);
+		when(seatRepositoryPort.countByConcertScheduleId(concertScheduleId)).thenReturn(0L);
+
+		// when
+		soldOutRankingHandler.handle(event);
+
+		// then
+		verify(reservationRepositoryPort, never()).countByConcertScheduleIdAndStatus(anyLong(), any());
+		verify(soldOutCounterService, never()).initializeOnPaid(anyLong(), anyLong(), anyLong(), anyLong(), anyList());
+		verify(concertRankingService, never()).addSoldOutConcertIfAbsent(anyLong());
+	}
+
+	@Test
+	@DisplayName("매진 카운터 갱신 실패는 아웃박스가 재시도하도록 그대로 던짐")
+	void testHandle_CounterFails_Throws() {
+		// given
+		when(soldOutCounterService.recordPaid(concertScheduleId, EVENT_ID))
+				.thenThrow(new RuntimeException("Redis error"));
+
+		// when & then
+		assertThatThrownBy(() -> soldOutRankingHandler.handle(event))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Redis error");
+		verify(concertRankingService, never()).addSoldOutConcertIfAbsent(anyLong());
+	}
+}
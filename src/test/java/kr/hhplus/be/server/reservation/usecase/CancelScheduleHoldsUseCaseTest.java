@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.common.service.DistributedLockService;
+import kr.hhplus.be.server.common.service.LockKeys;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CancelScheduleHoldsUseCase 단위 테스트
+ *
+ * - 공연 일정 쓰기 락 안에서 일괄 취소가 실행되는지
+ * - 쓰기 락을 얻지 못하면 아무것도 변경하지 않는지
+ */
+@ExtendWith(MockitoExtension.class)
+class CancelScheduleHoldsUseCaseTest {
+
+	@Mock
+	private ReservationRepositoryPort reservationRepositoryPort;
+
+	@Mock
+	private SeatRepositoryPort seatRepositoryPort;
+
+	@Mock
+	private DistributedLockService distributedLockService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@InjectMocks
+	private CancelScheduleHoldsUseCase cancelScheduleHoldsUseCase;
+
+	@Test
+	@DisplayName("공연 일정 쓰기 락 안에서 HOLD 예약을 일괄 취소하고 선점된 좌석을 되돌림")
+	void testExecute_CancelsHoldsUnderScheduleWriteLock() {
+		// given
+		when(distributedLockService.executeWithWriteLock(eq(LockKeys.schedule(1L)), any(Supplier.class)))
+				.thenAnswer(invocation -> {
+					Supplier<?> supplier = invocation.getArgument(1);
+					return supplier.get();
+				});
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(reservationRepositoryPort.cancelHoldsBySchedule(1L)).thenReturn(3);
+
+		// when
+		int cancelledCount = cancelScheduleHoldsUseCase.execute(1L);
+
+		// then
+		assertThat(cancelledCount).isEqualTo(3);
+		verify(seatRepositoryPort).releaseSeatsOfHoldsBySchedule(1L);
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	@DisplayName("쓰기 락을 얻지 못하면 예약을 변경하지 않고 실패함")
+	void testExecute_WriteLockFailed_DoesNotCancel() {
+		// given
+		when(distributedLockService.executeWithWriteLock(anyString(), any(Supplier.class)))
+				.thenThrow(new IllegalStateException("쓰기 락 획득에 실패했습니다."));
+
+		// when & then
+		assertThatThrownBy(() -> cancelScheduleHoldsUseCase.execute(1L))
+				.isInstanceOf(IllegalStateException.class);
+		verify(reservationRepositoryPort, never()).cancelHoldsBySchedule(anyLong());
+	}
+}
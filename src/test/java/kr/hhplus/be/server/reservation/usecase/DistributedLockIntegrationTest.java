@@ -17,6 +17,7 @@ import kr.hhplus.be.server.point.repository.WalletRepository;
 import kr.hhplus.be.server.reservation.domain.Payment;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
 import kr.hhplus.be.server.reservation.repository.PaymentJpaRepository;
 import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 1. 좌석 예약 시 분산락 적용 검증
  * 2. 결제 처리 시 분산락 적용 검증
  * 3. 동시 요청 시 1건만 성공하는지 확인
+ * 4. 락을 잃은 이전 소유자의 쓰기가 펜싱 토큰으로 거절되는지 확인
  */
 @SpringBootTest
 @ActiveProfiles("h2")
@@ -77,6 +79,9 @@ class DistributedLockIntegrationTest {
 	@Autowired
 	private PaymentJpaRepository paymentJpaRepository;
 
+	@Autowired
+	private ReservationRepositoryPort reservationRepositoryPort;
+
 	@Autowired
 	private WalletRepository walletRepository;
 
@@ -311,6 +316,43 @@ class DistributedLockIntegrationTest {
 				.isEqualTo(ReservationStatus.PAID);
 	}
 
+	@Test
+	@DisplayName("펜싱 토큰: 더 큰 토큰이 기록된 예약은 이전 토큰으로 결제 완료 변경할 수 없고, 롤백된 변경은 토큰을 남기지 않아야 함")
+	void testFencingToken_StaleTokenLosesToNewerToken() {
+		// given: 토큰 6이 기록된 HOLD 예약
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Long reservationId = transactionTemplate.execute(status -> {
+			Reservation reservation = new Reservation();
+			reservation.setUserId(userId);
+			reservation.setSeat(seatRepository.findById(seatId).orElseThrow());
+			reservation.setConcertSchedule(concertScheduleRepository.findById(concertScheduleId).orElseThrow());
+			reservation.setStatus(ReservationStatus.HOLD);
+			reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
+			reservation.setAmountCents(new BigDecimal(80000));
+			reservation.setFencingToken(6L);
+			return reservationJpaRepository.save(reservation).getId();
+		});
+
+		// when: 토큰 8의 결제가 변경 후 롤백되고, 락을 잃은 토큰 5, 6의 요청이 뒤늦게 변경을 시도함
+		transactionTemplate.execute(status -> {
+			boolean changed = reservationRepositoryPort.markAsPaid(reservationId, 8L);
+			status.setRollbackOnly();
+			return changed;
+		});
+		Boolean stalePaid = transactionTemplate.execute(status -> reservationRepositoryPort.markAsPaid(reservationId, 5L));
+		Boolean sameTokenPaid = transactionTemplate.execute(status -> reservationRepositoryPort.markAsPaid(reservationId, 6L));
+
+		// then: 롤백된 토큰 8은 남지 않고, 이전 토큰은 거절되며 더 큰 토큰만 결제 완료로 바꿀 수 있음
+		Reservation rolledBack = reservationJpaRepository.findById(reservationId).orElseThrow();
+		assertThat(rolledBack.getFencingToken()).isEqualTo(6L);
+		assertThat(rolledBack.getStatus()).isEqualTo(ReservationStatus.HOLD);
+		assertThat(stalePaid).isFalse();
+		assertThat(sameTokenPaid).isFalse();
+		Boolean newerPaid = transactionTemplate.execute(status -> reservationRepositoryPort.markAsPaid(reservationId, 7L));
+		assertThat(newerPaid).isTrue();
+		assertThat(reservationJpaRepository.findById(reservationId).orElseThrow().getFencingToken()).isEqualTo(7L);
+	}
+
 	@Test
 	@DisplayName("분산락 적용: 다른 좌석에 동시 예약 요청 시 모두 성공해야 함")
 	@org.springframework.transaction.annotation.Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
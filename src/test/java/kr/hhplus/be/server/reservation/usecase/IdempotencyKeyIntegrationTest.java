@@ -0,0 +1,221 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.point.common.UserStatus;
+import kr.hhplus.be.server.point.domain.User;
+import kr.hhplus.be.server.point.domain.Wallet;
+import kr.hhplus.be.server.point.repository.WalletRepository;
+import kr.hhplus.be.server.reservation.domain.Payment;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.PaymentJpaRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멱등성 키 insert-first 통합 테스트 (H2 + 실제 Redis)
+ *
+ * 테스트 목적:
+ * - 분산락이 없는 조건부 UPDATE 방식에서도 같은 멱등성 키의 동시 홀드 요청은 예약 하나로 합쳐지는지 검증
+ * - 결제 완료 후 같은 멱등성 키로 다시 결제하면 유니크 제약으로 걸러져 기존 결제를 받고 잔액은 한 번만 차감되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class IdempotencyKeyIntegrationTest {
+
+	private static final BigDecimal INITIAL_BALANCE = new BigDecimal(100000000);
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private ProcessPaymentUseCase processPaymentUseCase;
+
+	@Autowired
+	private ReservationProperties reservationProperties;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	@Autowired
+	private PaymentJpaRepository paymentJpaRepository;
+
+	@Autowired
+	private WalletRepository walletRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Long concertScheduleId;
+	private Long seatId;
+	private Long userId;
+	private Long walletId;
+	private String idempotencyKey;
+	private ReservationProperties.HoldStrategy originalStrategy;
+	private boolean originalAdmissionFilter;
+
+	@BeforeEach
+	void setUp() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			User user = new User();
+			user.setUserName("멱등성 테스트 사용자");
+			user.setUserEmail(UUID.randomUUID() + "@test.com");
+			user.setUserTel("010" + (System.nanoTime() % 100_000_000));
+			user.setUserStatus(UserStatus.NORMAL);
+			entityManager.persist(user);
+
+			Wallet wallet = new Wallet();
+			wallet.setUser(user);
+			wallet.setBalanceCents(INITIAL_BALANCE);
+			wallet.setCurrency("KRW");
+			wallet = walletRepository.save(wallet);
+			userId = user.getId();
+			walletId = wallet.getId();
+
+			Concert concert = new Concert();
+			concert.setConcertName("멱등성 테스트 콘서트");
+			concert.setConcertDec("멱등성 키 테스트용 콘서트");
+			concert.setConcertStatus(ConcertStatus.RESERVATION);
+			concert = concertRepository.save(concert);
+
+			ConcertSchedule schedule = new ConcertSchedule();
+			schedule.setConcert(concert);
+			schedule.setConcertDate("20241225");
+			schedule.setConcertTime("180000");
+			schedule.setConcertPrice(new BigDecimal(80000));
+			schedule = concertScheduleRepository.save(schedule);
+			concertScheduleId = schedule.getConcertScheduleId();
+
+			Seat seat = new Seat();
+			seat.setSeatNumber(1);
+			seat.setSeatGrade(SeatGrade.VIP);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seatId = seatRepository.save(seat).getSeatId();
+		});
+		idempotencyKey = UUID.randomUUID().toString();
+
+		originalStrategy = reservationProperties.getHoldStrategy();
+		originalAdmissionFilter = reservationProperties.isAdmissionFilter();
+		// 사전 확인(비트맵)의 재요청 처리를 거치지 않고 트랜잭션 안에서 멱등성 키 충돌을 확인
+		reservationProperties.setAdmissionFilter(false);
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 비트맵 제거
+		seatAvailabilityService.evict(concertScheduleId);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationProperties.setHoldStrategy(originalStrategy);
+		reservationProperties.setAdmissionFilter(originalAdmissionFilter);
+		seatAvailabilityService.evict(concertScheduleId);
+		// 결제와 예약은 커밋되므로 같은 인메모리 DB를 쓰는 다른 테스트를 위해 지움
+		paymentJpaRepository.findByIdempotencyKey(idempotencyKey).ifPresent(paymentJpaRepository::delete);
+		reservationJpaRepository.deleteAll(reservationsOfSchedule());
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 방식에서 같은 멱등성 키로 동시에 홀드하면 모두 같은 예약 하나를 받음")
+	void testConditionalHold_ConcurrentSameKey_SingleReservation() throws InterruptedException {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		int threadCount = 8;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(threadCount);
+		ConcurrentLinkedQueue<Long> reservationIds = new ConcurrentLinkedQueue<>();
+		ConcurrentLinkedQueue<Exception> exceptions = new ConcurrentLinkedQueue<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					startLatch.await();
+					reservationIds.add(reserveConcertUseCase.execute(userId, seatId, idempotencyKey).getId());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (Exception e) {
+					exceptions.add(e);
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+		startLatch.countDown();
+		assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+		executorService.shutdown();
+
+		// then
+		assertThat(exceptions).isEmpty();
+		assertThat(reservationIds).hasSize(threadCount);
+		assertThat(reservationIds).containsOnly(reservationIds.peek());
+		assertThat(reservationsOfSchedule()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("결제 완료 후 같은 멱등성 키로 다시 결제하면 기존 결제를 받고 잔액은 한 번만 차감됨")
+	void testPayment_RetryWithSameKey_ReturnsStoredPayment() {
+		// given
+		Reservation reservation = reserveConcertUseCase.execute(userId, seatId, UUID.randomUUID().toString());
+		Payment first = processPaymentUseCase.execute(reservation.getId(), idempotencyKey);
+
+		// when
+		Payment retried = processPaymentUseCase.execute(reservation.getId(), idempotencyKey);
+
+		// then
+		assertThat(retried.getId()).isEqualTo(first.getId());
+		assertThat(retried.isApproved()).isTrue();
+		assertThat(walletRepository.findById(walletId).orElseThrow().getBalanceCents())
+				.isEqualByComparingTo(INITIAL_BALANCE.subtract(reservation.getAmountCents()));
+	}
+
+	private List<Reservation> reservationsOfSchedule() {
+		return reservationJpaRepository.findAll().stream()
+				.filter(reservation -> concertScheduleId.equals(reservation.getConcertSchedule().getConcertScheduleId()))
+				.toList();
+	}
+}
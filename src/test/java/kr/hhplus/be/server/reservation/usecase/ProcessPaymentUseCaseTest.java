@@ -7,11 +7,18 @@ import kr.hhplus.be.server.point.domain.Ledger;
 import kr.hhplus.be.server.point.domain.LedgerType;
 import kr.hhplus.be.server.point.domain.User;
 import kr.hhplus.be.server.point.domain.Wallet;
+import kr.hhplus.be.server.reservation.domain.OutboxEvent;
+import kr.hhplus.be.server.reservation.domain.OutboxEventStatus;
+import kr.hhplus.be.server.reservation.domain.OutboxEventType;
 import kr.hhplus.be.server.reservation.domain.Payment;
+import kr.hhplus.be.server.reservation.domain.PaymentCompletedPayload;
 import kr.hhplus.be.server.reservation.domain.PaymentStatus;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationEventType;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.LedgerRepositoryPort;
+import kr.hhplus.be.server.reservation.port.OutboxRepositoryPort;
 import kr.hhplus.be.server.reservation.port.PaymentRepositoryPort;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
 import kr.hhplus.be.server.reservation.port.WalletRepositoryPort;
@@ -19,9 +26,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -48,6 +58,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ProcessPaymentUseCaseTest {
 
+	private static final long FENCING_TOKEN = 7L;
+
 	@Mock
 	private ReservationRepositoryPort reservationRepositoryPort;
 
@@ -66,6 +78,12 @@ class ProcessPaymentUseCaseTest {
 	@Mock
 	private PlatformTransactionManager transactionManager;
 
+	@Mock
+	private OutboxRepositoryPort outboxRepositoryPort;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private ProcessPaymentUseCase processPaymentUseCase;
 
@@ -81,6 +99,13 @@ class ProcessPaymentUseCaseTest {
 		userId = 100L;
 		idempotencyKey = "test-payment-key";
 
+		// 결제 세마포어 허가 안에서 실행되는 람다를 실제로 실행
+		lenient().when(distributedLockService.executeWithPermit(eq(ProcessPaymentUseCase.PAYMENT_SEMAPHORE), any(java.util.function.Supplier.class)))
+				.thenAnswer(invocation -> {
+					java.util.function.Supplier<?> supplier = invocation.getArgument(1);
+					return supplier.get();
+				});
+
 		// Reservation 설정
 		reservation = new Reservation();
 		reservation.setId(reservationId);
@@ -89,6 +114,15 @@ class ProcessPaymentUseCaseTest {
 		reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(10));
 		reservation.setAmountCents(new BigDecimal(80000));
 
+		ConcertSchedule concertSchedule = new ConcertSchedule();
+		concertSchedule.setConcertScheduleId(10L);
+		reservation.setConcertSchedule(concertSchedule);
+
+		Seat seat = new Seat();
+		seat.setSeatId(20L);
+		seat.setSeatNumber(5);
+		reservation.setSeat(seat);
+
 		// Wallet 설정
 		User user = new User();
 		user.setId(userId);
@@ -103,14 +137,13 @@ class ProcessPaymentUseCaseTest {
 	@DisplayName("정상적인 결제 처리 시 결제가 승인되고 예약 상태가 PAID로 변경됨")
 	void testExecute_Success_ApprovesPaymentAndUpdatesReservation() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
-		when(paymentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
 		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(wallet));
 		when(walletRepositoryPort.deductBalanceIfSufficient(anyLong(), any(BigDecimal.class))).thenReturn(true);
 
@@ -129,7 +162,7 @@ class ProcessPaymentUseCaseTest {
 		});
 
 		when(ledgerRepositoryPort.save(any(Ledger.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(reservationRepositoryPort.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
 
 		// TransactionTemplate Mock 설정
 		doAnswer(invocation -> {
@@ -149,12 +182,39 @@ class ProcessPaymentUseCaseTest {
 		verify(walletRepositoryPort, never()).deductBalance(anyLong(), any());
 		verify(paymentRepositoryPort, times(1)).save(any(Payment.class)); // APPROVED 상태로 한 번만 저장
 		verify(ledgerRepositoryPort).save(any(Ledger.class));
-		verify(reservationRepositoryPort).save(any(Reservation.class));
+		verify(reservationRepositoryPort).markAsPaid(reservationId, FENCING_TOKEN);
+	}
+
+	@Test
+	@DisplayName("락을 잃은 요청(펜싱 토큰 거절)은 잔액을 차감하지 않고 예외 발생")
+	void testExecute_StaleFencingToken_ThrowsWithoutDeducting() {
+		// given
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
+			@SuppressWarnings("unchecked")
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
+		});
+
+		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(false);
+
+		// TransactionTemplate Mock 설정
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
+
+		// when & then
+		assertThatThrownBy(() -> processPaymentUseCase.execute(reservationId, idempotencyKey))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("락 소유권을 잃은 결제 요청");
+		verify(walletRepositoryPort, never()).deductBalanceIfSufficient(anyLong(), any());
+		// 먼저 INSERT한 결제도 함께 롤백됨
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
 	}
 
 	@Test
-	@DisplayName("멱등성 키가 있고 기존 결제가 있으면 기존 결제 반환")
-	void testExecute_WithIdempotencyKey_ReturnsExistingPayment() {
+	@DisplayName("같은 멱등성 키의 결제가 이미 있으면 INSERT가 유니크 제약에 걸려 롤백되고 기존 결제 반환")
+	void testExecute_DuplicateIdempotencyKey_ReturnsExistingPayment() {
 		// given
 		Payment existingPayment = new Payment();
 		existingPayment.setId(1L);
@@ -163,42 +223,64 @@ class ProcessPaymentUseCaseTest {
 		existingPayment.setStatus(PaymentStatus.APPROVED);
 		existingPayment.setIdempotencyKey(idempotencyKey);
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
-		when(paymentRepositoryPort.findByIdempotencyKey(idempotencyKey))
-				.thenReturn(Optional.of(existingPayment));
-
-		// TransactionTemplate Mock 설정
-		doAnswer(invocation -> {
-			org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
-			return callback.doInTransaction(null);
-		}).when(transactionManager).getTransaction(any());
+		when(paymentRepositoryPort.save(any(Payment.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'idempotency_key'"));
+		when(paymentRepositoryPort.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.of(existingPayment));
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
 
 		// when
 		Payment result = processPaymentUseCase.execute(reservationId, idempotencyKey);
 
 		// then
-		assertThat(result).isNotNull();
-		assertThat(result.getId()).isEqualTo(1L);
-		assertThat(result.getIdempotencyKey()).isEqualTo(idempotencyKey);
-		verify(paymentRepositoryPort).findByIdempotencyKey(idempotencyKey);
+		assertThat(result).isSameAs(existingPayment);
+		// 키 조회는 롤백된 뒤에만 수행됨
+		var inOrder = inOrder(paymentRepositoryPort, transactionManager);
+		inOrder.verify(paymentRepositoryPort).save(any(Payment.class));
+		inOrder.verify(transactionManager).rollback(any());
+		inOrder.verify(paymentRepositoryPort).findByIdempotencyKey(idempotencyKey);
+		verify(reservationRepositoryPort, never()).markAsPaid(anyLong(), anyLong());
 		verify(walletRepositoryPort, never()).deductBalanceIfSufficient(anyLong(), any());
-		verify(paymentRepositoryPort, never()).save(any());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	@DisplayName("멱등성 키와 무관한 제약 위반이면 기존 결제가 없으므로 그대로 던짐")
+	void testExecute_OtherConstraintViolation_Rethrows() {
+		// given
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
+			@SuppressWarnings("unchecked")
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
+		});
+
+		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
+		when(paymentRepositoryPort.save(any(Payment.class)))
+				.thenThrow(new DataIntegrityViolationException("Cannot add or update a child row"));
+		when(paymentRepositoryPort.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
+
+		// when & then
+		assertThatThrownBy(() -> processPaymentUseCase.execute(reservationId, idempotencyKey))
+				.isInstanceOf(DataIntegrityViolationException.class);
 	}
 
 	@Test
 	@DisplayName("예약을 찾을 수 없으면 예외 발생")
 	void testExecute_ReservationNotFound_ThrowsException() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.empty());
@@ -221,10 +303,10 @@ class ProcessPaymentUseCaseTest {
 		// given
 		reservation.setHoldExpiresAt(LocalDateTime.now().minusMinutes(5)); // 만료됨
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
@@ -249,10 +331,10 @@ class ProcessPaymentUseCaseTest {
 		// given
 		reservation.setStatus(ReservationStatus.PAID);
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
@@ -273,14 +355,14 @@ class ProcessPaymentUseCaseTest {
 	@DisplayName("지갑을 찾을 수 없으면 예외 발생")
 	void testExecute_WalletNotFound_ThrowsException() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
-		when(paymentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
 		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.empty());
 
 		// TransactionTemplate Mock 설정
@@ -301,14 +383,14 @@ class ProcessPaymentUseCaseTest {
 		// given
 		wallet.setBalanceCents(new BigDecimal(10000)); // 100원 (부족한 잔액)
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
 			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Payment> supplier = invocation.getArgument(1);
-			return supplier.get();
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
 		});
 
 		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
-		when(paymentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
 		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(wallet));
 		when(walletRepositoryPort.deductBalanceIfSufficient(anyLong(), any(BigDecimal.class))).thenReturn(false);
 		when(walletRepositoryPort.getBalance(wallet.getId())).thenReturn(new BigDecimal(10000));
@@ -325,6 +407,113 @@ class ProcessPaymentUseCaseTest {
 				.hasMessageContaining("잔액이 부족합니다");
 		verify(walletRepositoryPort).deductBalanceIfSufficient(wallet.getId(), reservation.getAmountCents());
 		verify(walletRepositoryPort).getBalance(wallet.getId());
-		verify(paymentRepositoryPort, never()).save(any());
+		verify(ledgerRepositoryPort, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("결제 후처리는 결제 저장 뒤 같은 트랜잭션에 결제 완료 아웃박스 이벤트로 저장됨")
+	void testExecute_Success_SavesPaymentCompletedOutboxEvent() {
+		// given
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
+			@SuppressWarnings("unchecked")
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
+		});
+
+		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
+		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(wallet));
+		when(walletRepositoryPort.deductBalanceIfSufficient(anyLong(), any(BigDecimal.class))).thenReturn(true);
+		when(paymentRepositoryPort.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(ledgerRepositoryPort.save(any(Ledger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(outboxRepositoryPort.save(any(OutboxEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
+
+		// when
+		Payment result = processPaymentUseCase.execute(reservationId, idempotencyKey);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+		ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+		var inOrder = inOrder(paymentRepositoryPort, reservationRepositoryPort, outboxRepositoryPort, transactionManager);
+		inOrder.verify(paymentRepositoryPort).save(any(Payment.class));
+		inOrder.verify(reservationRepositoryPort).markAsPaid(reservationId, FENCING_TOKEN);
+		inOrder.verify(outboxRepositoryPort).save(captor.capture());
+		inOrder.verify(transactionManager).commit(any());
+
+		OutboxEvent event = captor.getValue();
+		assertThat(event.getEventType()).isEqualTo(OutboxEventType.PAYMENT_COMPLETED);
+		assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+		assertThat(event.getAggregateId()).isEqualTo(reservationId);
+		assertThat(event.getConcertScheduleId()).isEqualTo(10L);
+		assertThat(PaymentCompletedPayload.parse(event.getPayload()))
+				.isEqualTo(new PaymentCompletedPayload(reservationId, 10L, 20L, 5));
+		// 처음 요청은 멱등성 키를 미리 조회하지 않음 (INSERT가 키를 선점)
+		verify(paymentRepositoryPort, never()).findByIdempotencyKey(anyString());
+	}
+
+	@Test
+	@DisplayName("결제 트랜잭션 안에서 데이터 플랫폼 전송용 결제 완료 이벤트를 발행함 (전송은 커밋 후 리스너가 처리)")
+	void testExecute_Success_PublishesPaidEventBeforeCommit() {
+		// given
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
+			@SuppressWarnings("unchecked")
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
+		});
+
+		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
+		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(wallet));
+		when(walletRepositoryPort.deductBalanceIfSufficient(anyLong(), any(BigDecimal.class))).thenReturn(true);
+		when(paymentRepositoryPort.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(ledgerRepositoryPort.save(any(Ledger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(outboxRepositoryPort.save(any(OutboxEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
+
+		// when
+		processPaymentUseCase.execute(reservationId, idempotencyKey);
+
+		// then
+		ArgumentCaptor<ReservationEvent> captor = ArgumentCaptor.forClass(ReservationEvent.class);
+		var inOrder = inOrder(eventPublisher, transactionManager);
+		inOrder.verify(eventPublisher).publishEvent(captor.capture());
+		inOrder.verify(transactionManager).commit(any());
+
+		ReservationEvent event = captor.getValue();
+		assertThat(event.type()).isEqualTo(ReservationEventType.PAID);
+		assertThat(event.reservationId()).isEqualTo(reservationId);
+		assertThat(event.userId()).isEqualTo(userId);
+		assertThat(event.concertScheduleId()).isEqualTo(10L);
+		assertThat(event.seatId()).isEqualTo(20L);
+		assertThat(event.amountCents()).isEqualTo(reservation.getAmountCents());
+	}
+
+	@Test
+	@DisplayName("결제가 실패하면 아웃박스 이벤트를 저장하지 않고 결제 완료 이벤트도 발행하지 않음")
+	void testExecute_Failure_DoesNotSaveOutboxEvent() {
+		// given
+		when(distributedLockService.executeWithFencedLock(anyString(), any(java.util.function.LongFunction.class))).thenAnswer(invocation -> {
+			@SuppressWarnings("unchecked")
+			java.util.function.LongFunction<Payment> task = invocation.getArgument(1);
+			return task.apply(FENCING_TOKEN);
+		});
+
+		when(reservationRepositoryPort.findById(reservationId)).thenReturn(Optional.of(reservation));
+		when(reservationRepositoryPort.markAsPaid(reservationId, FENCING_TOKEN)).thenReturn(true);
+		when(walletRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(wallet));
+		when(walletRepositoryPort.deductBalanceIfSufficient(anyLong(), any(BigDecimal.class))).thenReturn(false);
+		when(walletRepositoryPort.getBalance(wallet.getId())).thenReturn(new BigDecimal(10000));
+		when(transactionManager.getTransaction(any())).thenReturn(
+				new org.springframework.transaction.support.SimpleTransactionStatus());
+
+		// when & then
+		assertThatThrownBy(() -> processPaymentUseCase.execute(reservationId, idempotencyKey))
+				.isInstanceOf(IllegalStateException.class);
+		verify(outboxRepositoryPort, never()).save(any());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		verify(transactionManager).rollback(any());
 	}
 }
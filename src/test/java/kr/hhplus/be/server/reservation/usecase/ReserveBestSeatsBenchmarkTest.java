@@ -0,0 +1,210 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.dto.SeatResponse;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 직접 지정 vs 최적 좌석 자동 배정 벤치마크
+ *
+ * ROYAL 200석 공연 일정에 USERS명이 동시에 이어진 2석을 요청하고, 실패하면 최대 MAX_TRIES번까지 다시 요청합니다.
+ * - pick: 좌석 맵을 읽고 앞에서부터 첫 이어진 빈 2석을 직접 지정 (모두 같은 좌석을 노림)
+ * - best: ReserveBestSeatsUseCase로 서버가 앞쪽 후보 블록 중 하나를 골라 배정
+ * 클라이언트 요청 수(재시도 포함), 실패 요청 수, 성공까지의 지연, 전체 소요 시간을 출력합니다.
+ * (best의 서버 내부 재시도는 요청 수에 포함되지 않고 지연에 포함됩니다)
+ *
+ * 실행: ./gradlew benchmark --tests "*ReserveBestSeatsBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("h2")
+class ReserveBestSeatsBenchmarkTest {
+
+	private static final int SEATS = 200;
+	private static final int USERS = 32;
+	private static final int COUNT = 2;
+	private static final int MAX_TRIES = 20;
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private ReserveBestSeatsUseCase reserveBestSeatsUseCase;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private Concert concert;
+	private final List<Long> scheduleIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		concert = new Concert();
+		concert.setConcertName("벤치마크 콘서트");
+		concert.setConcertDec("최적 좌석 배정 비교용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduleIds.forEach(seatAvailabilityService::evict);
+		reservationJpaRepository.deleteAll(reservationJpaRepository.findAll().stream()
+				.filter(reservation -> scheduleIds.contains(reservation.getConcertSchedule().getConcertScheduleId()))
+				.toList());
+	}
+
+	@Test
+	@DisplayName("좌석 직접 지정과 최적 좌석 배정의 재시도 수와 지연 비교")
+	void comparePickAndBestAvailable() throws InterruptedException {
+		// 워밍업
+		run(newSchedule(), false);
+		run(newSchedule(), true);
+
+		report("pick x" + USERS, run(newSchedule(), false));
+		report("best x" + USERS, run(newSchedule(), true));
+	}
+
+	private Result run(ConcertSchedule schedule, boolean bestAvailable) throws InterruptedException {
+		LatencyRecorder recorder = new LatencyRecorder(USERS);
+		AtomicInteger requests = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		AtomicInteger successes = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(USERS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(USERS);
+		try {
+			for (int u = 0; u < USERS; u++) {
+				long userId = u + 1;
+				executorService.submit(() -> {
+					try {
+						startLatch.await();
+						long start = System.nanoTime();
+						for (int attempt = 0; attempt < MAX_TRIES; attempt++) {
+							requests.incrementAndGet();
+							try {
+								if (bestAvailable) {
+									reserveBestSeatsUseCase.execute(userId, schedule.getConcertScheduleId(), SeatGrade.ROYAL, COUNT, null);
+								} else {
+									reserveConcertUseCase.executeGroup(userId, firstFreeBlock(schedule), null);
+								}
+								successes.incrementAndGet();
+								recorder.record(System.nanoTime() - start);
+								return;
+							} catch (RuntimeException e) {
+								failures.incrementAndGet();
+							}
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						doneLatch.countDown();
+					}
+				});
+			}
+			long runStart = System.nanoTime();
+			startLatch.countDown();
+			assertThat(doneLatch.await(2, TimeUnit.MINUTES)).isTrue();
+			long elapsedNanos = System.nanoTime() - runStart;
+
+			// 같은 좌석이 두 번 홀드되지 않아야 함
+			List<Long> heldSeatIds = reservationJpaRepository.findAll().stream()
+					.filter(reservation -> schedule.getConcertScheduleId().equals(reservation.getConcertSchedule().getConcertScheduleId()))
+					.map(Reservation::getSeat)
+					.map(Seat::getSeatId)
+					.toList();
+			assertThat(heldSeatIds).doesNotHaveDuplicates().hasSize(successes.get() * COUNT);
+			return new Result(recorder, elapsedNanos, requests.get(), failures.get(), successes.get());
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 좌석 맵에서 앞에서부터 첫 이어진 빈 COUNT석 (사용자가 직접 고르는 경우)
+	 */
+	private List<Long> firstFreeBlock(ConcertSchedule schedule) {
+		List<SeatResponse> free = seatAvailabilityService.findAvailableSeats(schedule);
+		for (int i = 0; i + COUNT <= free.size(); i++) {
+			if (free.get(i + COUNT - 1).getSeatNumber() - free.get(i).getSeatNumber() == COUNT - 1) {
+				return free.subList(i, i + COUNT).stream().map(SeatResponse::getSeatId).toList();
+			}
+		}
+		throw new IllegalStateException("이어진 빈 좌석이 없습니다.");
+	}
+
+	private ConcertSchedule newSchedule() {
+		ConcertSchedule schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+		scheduleIds.add(schedule.getConcertScheduleId());
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 비트맵 제거
+		seatAvailabilityService.evict(schedule.getConcertScheduleId());
+
+		List<Seat> seats = new ArrayList<>(SEATS);
+		for (int seatNumber = 1; seatNumber <= SEATS; seatNumber++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(seatNumber);
+			seat.setSeatGrade(SeatGrade.ROYAL);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seats.add(seat);
+		}
+		seatRepository.saveAll(seats);
+		return schedule;
+	}
+
+	private static void report(String name, Result result) {
+		System.out.println(result.recorder.summary(name + " time to hold"));
+		System.out.printf("%s: %d/%d users held, %d requests, %d failed requests, %.1f ms total%n", name,
+				result.successes, USERS, result.requests, result.failures, result.elapsedNanos / 1_000_000.0);
+	}
+
+	private record Result(LatencyRecorder recorder, long elapsedNanos, int requests, int failures, int successes) {
+	}
+}
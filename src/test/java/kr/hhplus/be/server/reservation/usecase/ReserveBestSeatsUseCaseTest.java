@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReserveBestSeatsUseCase 단위 테스트
+ *
+ * - 고른 블록이 이미 선점되었으면 다른 후보로 다시 시도하는지
+ * - 이어진 빈 좌석이 없으면 선점을 시도하지 않고 실패하는지
+ * - 같은 멱등성 키의 재요청은 배정된 예약들을 돌려주는지
+ */
+@ExtendWith(MockitoExtension.class)
+class ReserveBestSeatsUseCaseTest {
+
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Mock
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Mock
+	private ReservationRepositoryPort reservationRepositoryPort;
+
+	@Spy
+	private ReservationProperties reservationProperties = new ReservationProperties();
+
+	@InjectMocks
+	private ReserveBestSeatsUseCase reserveBestSeatsUseCase;
+
+	@Test
+	@DisplayName("고른 블록이 이미 선점되었으면 다른 후보 블록으로 다시 시도함")
+	void testExecute_BlockTaken_RetriesAnotherCandidate() {
+		// given: 후보 두 블록 중 어느 것을 먼저 고르든 첫 시도는 실패
+		List<Long> first = List.of(1L, 2L);
+		List<Long> second = List.of(5L, 6L);
+		when(seatAvailabilityService.findFreeBlocks(10L, SeatGrade.ROYAL, 2, ReserveBestSeatsUseCase.CANDIDATES))
+				.thenReturn(List.of(first, second));
+		List<Reservation> reservations = List.of(new Reservation(), new Reservation());
+		when(reserveConcertUseCase.executeGroup(eq(1L), anyList(), isNull()))
+				.thenThrow(new IllegalArgumentException("이미 예약된 좌석입니다."))
+				.thenReturn(reservations);
+
+		// when
+		List<Reservation> result = reserveBestSeatsUseCase.execute(1L, 10L, SeatGrade.ROYAL, 2, null);
+
+		// then
+		assertThat(result).isSameAs(reservations);
+		verify(reserveConcertUseCase).executeGroup(1L, first, null);
+		verify(reserveConcertUseCase).executeGroup(1L, second, null);
+	}
+
+	@Test
+	@DisplayName("이어진 빈 좌석이 없으면 선점을 시도하지 않고 실패함")
+	void testExecute_NoFreeBlock_Fails() {
+		// given
+		when(seatAvailabilityService.findFreeBlocks(anyLong(), any(), anyInt(), anyInt())).thenReturn(List.of());
+
+		// when & then
+		assertThatThrownBy(() -> reserveBestSeatsUseCase.execute(1L, 10L, SeatGrade.VIP, 4, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이어진 빈 좌석");
+		verifyNoInteractions(reserveConcertUseCase);
+	}
+
+	@Test
+	@DisplayName("같은 멱등성 키의 재요청은 배정을 다시 하지 않고 기존 예약들을 돌려줌")
+	void testExecute_SameIdempotencyKey_ReturnsExistingReservations() {
+		// given
+		Reservation reservation = new Reservation();
+		Seat seat = new Seat();
+		seat.setSeatId(3L);
+		reservation.setSeat(seat);
+		when(reservationRepositoryPort.findAllByIdempotencyKeyPrefix("key:")).thenReturn(List.of(reservation));
+
+		// when
+		List<Reservation> result = reserveBestSeatsUseCase.execute(1L, 10L, SeatGrade.VIP, 1, "key");
+
+		// then
+		assertThat(result).containsExactly(reservation);
+		verifyNoInteractions(seatAvailabilityService, reserveConcertUseCase);
+	}
+
+	@Test
+	@DisplayName("좌석 수가 최대 좌석 수를 넘으면 바로 실패함")
+	void testExecute_TooManySeats_Fails() {
+		assertThatThrownBy(() -> reserveBestSeatsUseCase.execute(1L, 10L, SeatGrade.VIP,
+				reservationProperties.getMaxSeatsPerHold() + 1, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(seatAvailabilityService, reserveConcertUseCase, reservationRepositoryPort);
+	}
+}
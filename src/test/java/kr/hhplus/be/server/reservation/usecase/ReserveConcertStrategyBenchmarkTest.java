@@ -0,0 +1,189 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.benchmark.LatencyRecorder;
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.config.ReservationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 홀드 방식별 벤치마크 (lock vs conditional-update vs redis-first)
+ *
+ * ReserveConcertUseCaseConcurrencyTest의 두 시나리오를 라운드마다 새 좌석으로 반복합니다.
+ * - 같은 좌석 경합: 라운드마다 10명이 한 좌석을 동시에 요청 (1명만 성공해야 함)
+ * - 다른 좌석: 라운드마다 5명이 각자 다른 좌석을 동시에 요청 (모두 성공해야 함)
+ * 요청별 응답 지연(성공/실패 모두)과 라운드 전체 소요 시간, 초당 홀드 성공 수를 방식별로 출력합니다.
+ * redis-first는 응답 시점까지(Redis 홀드 확정)만 측정하며 쓰기 지연 저장은 백그라운드에서 진행됩니다.
+ *
+ * 실행: ./gradlew benchmark --tests "*ReserveConcertStrategyBenchmarkTest"
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("h2")
+class ReserveConcertStrategyBenchmarkTest {
+
+	private static final int ROUNDS = 30;
+	private static final int CONTENDERS = 10;
+	private static final int DISTINCT_SEATS = 5;
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private ReservationProperties reservationProperties;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private ConcertSchedule schedule;
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("벤치마크 콘서트");
+		concert.setConcertDec("좌석 홀드 방식 비교용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+
+		// 이전 실행(다른 인메모리 DB)에서 같은 좌석 ID로 남은 redis-first 홀드 제거
+		Set<String> keys = redisTemplate.keys("seat-hold:*");
+		if (keys != null && !keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("좌석 홀드 방식별 경합/비경합 지연과 처리 시간 비교")
+	void compareHoldStrategies() throws InterruptedException {
+		ReservationProperties.HoldStrategy original = reservationProperties.getHoldStrategy();
+		try {
+			for (ReservationProperties.HoldStrategy strategy : ReservationProperties.HoldStrategy.values()) {
+				reservationProperties.setHoldStrategy(strategy);
+				String name = strategy.name().toLowerCase();
+
+				run(CONTENDERS, true, 3);
+				report(name + " same seat x" + CONTENDERS, run(CONTENDERS, true, ROUNDS));
+				report(name + " distinct seats x" + DISTINCT_SEATS, run(DISTINCT_SEATS, false, ROUNDS));
+			}
+		} finally {
+			reservationProperties.setHoldStrategy(original);
+		}
+	}
+
+	/**
+	 * 라운드마다 새 좌석을 만들고 threads개 요청을 동시에 보냅니다.
+	 *
+	 * @param sameSeat true면 모든 요청이 한 좌석을, false면 요청마다 다른 좌석을 예약
+	 */
+	private Result run(int threads, boolean sameSeat, int rounds) throws InterruptedException {
+		LatencyRecorder recorder = new LatencyRecorder(threads * rounds);
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		long elapsedNanos = 0;
+		int totalSuccess = 0;
+		try {
+			for (int round = 0; round < rounds; round++) {
+				List<Long> seatIds = newSeats(sameSeat ? 1 : threads);
+				CountDownLatch startLatch = new CountDownLatch(1);
+				CountDownLatch doneLatch = new CountDownLatch(threads);
+				AtomicInteger successCount = new AtomicInteger();
+
+				for (int t = 0; t < threads; t++) {
+					long userId = t + 1;
+					Long seatId = seatIds.get(sameSeat ? 0 : t);
+					executorService.submit(() -> {
+						try {
+							startLatch.await();
+							long start = System.nanoTime();
+							try {
+								reserveConcertUseCase.execute(userId, seatId, null);
+								successCount.incrementAndGet();
+							} catch (RuntimeException e) {
+								// 경합에서 진 요청 (지연 시간은 함께 기록)
+							}
+							recorder.record(System.nanoTime() - start);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						} finally {
+							doneLatch.countDown();
+						}
+					});
+				}
+
+				long roundStart = System.nanoTime();
+				startLatch.countDown();
+				assertThat(doneLatch.await(1, TimeUnit.MINUTES)).isTrue();
+				elapsedNanos += System.nanoTime() - roundStart;
+				assertThat(successCount.get()).isEqualTo(sameSeat ? 1 : threads);
+				totalSuccess += successCount.get();
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+		return new Result(recorder, elapsedNanos, rounds, totalSuccess);
+	}
+
+	private List<Long> newSeats(int count) {
+		List<Seat> seats = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(i + 1);
+			seat.setSeatGrade(SeatGrade.VIP);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seats.add(seat);
+		}
+		return seatRepository.saveAll(seats).stream().map(Seat::getSeatId).toList();
+	}
+
+	private static void report(String name, Result result) {
+		System.out.println(result.recorder.summary(name));
+		System.out.printf("%s: %.2f ms/round, %.0f holds/s%n", name,
+				result.elapsedNanos / 1_000_000.0 / result.rounds,
+				result.successCount / (result.elapsedNanos / 1_000_000_000.0));
+	}
+
+	private record Result(LatencyRecorder recorder, long elapsedNanos, int rounds, int successCount) {
+	}
+}
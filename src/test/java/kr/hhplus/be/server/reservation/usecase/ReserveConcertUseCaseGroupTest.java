@@ -0,0 +1,207 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.concert.common.ConcertStatus;
+import kr.hhplus.be.server.concert.common.SeatGrade;
+import kr.hhplus.be.server.concert.common.SeatStatus;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertSchedule;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.repository.ConcertScheduleRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.repository.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 좌석 함께 예약 통합 테스트
+ *
+ * 테스트 목적:
+ * - 좌석 여러 개가 한 번에 홀드되고 예약 행이 배치 INSERT로 저장(ID 생성)되는지 검증
+ * - 같은 멱등성 키의 재요청은 새 예약 없이 기존 예약들을 돌려주는지 검증
+ * - 좌석 하나라도 선점하지 못하면 나머지 좌석도 홀드되지 않는지 검증 (락, 조건부 UPDATE 방식)
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class ReserveConcertUseCaseGroupTest {
+
+	@Autowired
+	private ReserveConcertUseCase reserveConcertUseCase;
+
+	@Autowired
+	private ReservationProperties reservationProperties;
+
+	@Autowired
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertScheduleRepository concertScheduleRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private ReservationJpaRepository reservationJpaRepository;
+
+	private Long concertScheduleId;
+	private List<Long> seatIds;
+	private ReservationProperties.HoldStrategy originalStrategy;
+
+	@BeforeEach
+	void setUp() {
+		Concert concert = new Concert();
+		concert.setConcertName("여러 좌석 예약 테스트 콘서트");
+		concert.setConcertDec("여러 좌석 함께 예약 테스트용 콘서트");
+		concert.setConcertStatus(ConcertStatus.RESERVATION);
+		concert = concertRepository.save(concert);
+
+		ConcertSchedule schedule = new ConcertSchedule();
+		schedule.setConcert(concert);
+		schedule.setConcertDate("20241225");
+		schedule.setConcertTime("180000");
+		schedule.setConcertPrice(new BigDecimal(80000));
+		schedule = concertScheduleRepository.save(schedule);
+		concertScheduleId = schedule.getConcertScheduleId();
+
+		seatIds = new ArrayList<>();
+		for (int seatNumber = 1; seatNumber <= 5; seatNumber++) {
+			Seat seat = new Seat();
+			seat.setSeatNumber(seatNumber);
+			seat.setSeatGrade(SeatGrade.VIP);
+			seat.setSeatStatus(SeatStatus.NON_RESERVATION);
+			seat.setConcertSchedule(schedule);
+			seatIds.add(seatRepository.save(seat).getSeatId());
+		}
+
+		originalStrategy = reservationProperties.getHoldStrategy();
+		// 이전 실행(다른 인메모리 DB)에서 같은 공연 일정 ID로 남은 비트맵 제거
+		seatAvailabilityService.evict(concertScheduleId);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationProperties.setHoldStrategy(originalStrategy);
+		seatAvailabilityService.evict(concertScheduleId);
+		// 예약은 커밋되므로 같은 인메모리 DB를 쓰는 다른 테스트를 위해 지움
+		reservationJpaRepository.deleteAll(reservationsOfSchedule());
+	}
+
+	@Test
+	@DisplayName("좌석 4개를 한 번에 홀드하고 예약 ID가 채워져야 함")
+	void testExecuteGroup_HoldsAllSeats() {
+		// when
+		List<Reservation> reservations = reserveConcertUseCase.executeGroup(1L, seatIds.subList(0, 4), "group-key");
+
+		// then
+		assertThat(reservations).hasSize(4);
+		assertThat(reservations).allSatisfy(reservation -> {
+			assertThat(reservation.getId()).isNotNull();
+			assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.HOLD);
+			assertThat(reservation.getAmountCents()).isEqualByComparingTo(new BigDecimal(8000000));
+		});
+		assertThat(reservations).extracting(Reservation::getIdempotencyKey)
+				.containsExactly("group-key:" + seatIds.get(0), "group-key:" + seatIds.get(1),
+						"group-key:" + seatIds.get(2), "group-key:" + seatIds.get(3));
+
+		List<Reservation> stored = reservationsOfSchedule();
+		assertThat(stored).extracting(Reservation::getId)
+				.containsExactlyInAnyOrderElementsOf(reservations.stream().map(Reservation::getId).toList());
+		assertThat(stored).allSatisfy(reservation -> {
+			assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.HOLD);
+			assertThat(reservation.getHoldExpiresAt()).isNotNull();
+		});
+	}
+
+	@Test
+	@DisplayName("같은 멱등성 키의 재요청은 새 예약 없이 기존 예약들을 돌려줘야 함")
+	void testExecuteGroup_SameIdempotencyKey_ReturnsExistingReservations() {
+		// given
+		List<Reservation> first = reserveConcertUseCase.executeGroup(1L, seatIds.subList(0, 3), "retry-key");
+
+		// when
+		List<Reservation> retried = reserveConcertUseCase.executeGroup(1L, seatIds.subList(0, 3), "retry-key");
+
+		// then
+		assertThat(retried).extracting(Reservation::getId)
+				.containsExactlyElementsOf(first.stream().map(Reservation::getId).toList());
+		assertThat(reservationsOfSchedule()).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("락 방식에서 좌석 하나라도 홀드되어 있으면 나머지 좌석도 홀드하지 않아야 함")
+	void testExecuteGroup_Lock_OneSeatTaken_HoldsNothing() {
+		// given
+		reserveConcertUseCase.execute(2L, seatIds.get(2), null);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeGroup(1L, seatIds.subList(0, 4), null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(reservationsOfSchedule()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 방식에서 좌석 하나라도 선점되어 있으면 나머지 좌석 선점도 롤백되어야 함")
+	void testExecuteGroup_ConditionalUpdate_OneSeatClaimed_RollsBack() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		reserveConcertUseCase.executeGroup(2L, seatIds.subList(3, 5), null);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeGroup(1L, seatIds.subList(0, 4), null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+		assertThat(reservationsOfSchedule()).hasSize(2);
+		for (Long seatId : seatIds.subList(0, 3)) {
+			assertThat(seatRepository.findById(seatId).orElseThrow().getSeatStatus()).isEqualTo(SeatStatus.NON_RESERVATION);
+		}
+	}
+
+	@Test
+	@DisplayName("다른 공연 일정의 좌석은 함께 예약할 수 없어야 함")
+	void testExecuteGroup_DifferentSchedules_Rejected() {
+		// given
+		ConcertSchedule otherSchedule = new ConcertSchedule();
+		otherSchedule.setConcert(concertScheduleRepository.findById(concertScheduleId).orElseThrow().getConcert());
+		otherSchedule.setConcertDate("20241226");
+		otherSchedule.setConcertTime("180000");
+		otherSchedule.setConcertPrice(new BigDecimal(80000));
+		otherSchedule = concertScheduleRepository.save(otherSchedule);
+		Seat otherSeat = new Seat();
+		otherSeat.setSeatNumber(1);
+		otherSeat.setSeatGrade(SeatGrade.VIP);
+		otherSeat.setSeatStatus(SeatStatus.NON_RESERVATION);
+		otherSeat.setConcertSchedule(otherSchedule);
+		Long otherSeatId = seatRepository.save(otherSeat).getSeatId();
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeGroup(1L, List.of(seatIds.get(0), otherSeatId), null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("같은 공연 일정");
+		assertThat(reservationsOfSchedule()).isEmpty();
+	}
+
+	private List<Reservation> reservationsOfSchedule() {
+		return reservationJpaRepository.findAll().stream()
+				.filter(reservation -> concertScheduleId.equals(reservation.getConcertSchedule().getConcertScheduleId()))
+				.toList();
+	}
+}
@@ -1,28 +1,45 @@
 package kr.hhplus.be.server.reservation.usecase;
 
 import kr.hhplus.be.server.common.service.DistributedLockService;
+import kr.hhplus.be.server.common.service.LockContendedException;
+import kr.hhplus.be.server.common.service.LockKeys;
+import kr.hhplus.be.server.concert.service.SeatAvailabilityService;
+import kr.hhplus.be.server.config.ReservationProperties;
 import kr.hhplus.be.server.concert.common.SeatGrade;
 import kr.hhplus.be.server.concert.common.SeatStatus;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.domain.ConcertSchedule;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationEventType;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.SeatHold;
 import kr.hhplus.be.server.reservation.port.ReservationRepositoryPort;
+import kr.hhplus.be.server.reservation.port.SeatHoldStorePort;
 import kr.hhplus.be.server.reservation.port.SeatRepositoryPort;
+import kr.hhplus.be.server.reservation.service.ReservationIdAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,6 +70,21 @@ class ReserveConcertUseCaseTest {
 	@Mock
 	private PlatformTransactionManager transactionManager;
 
+	@Mock
+	private SeatHoldStorePort seatHoldStorePort;
+
+	@Spy
+	private ReservationProperties reservationProperties = new ReservationProperties();
+
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private ReservationIdAllocator reservationIdAllocator;
+
 	@InjectMocks
 	private ReserveConcertUseCase reserveConcertUseCase;
 
@@ -87,6 +119,16 @@ class ReserveConcertUseCaseTest {
 		seat.setSeatStatus(SeatStatus.NON_RESERVATION);
 		seat.setConcertSchedule(concertSchedule);
 
+		// 락 키(공연 일정 해시 태그) 생성을 위한 좌석 조회 (입력 검증에서 거절되는 테스트는 조회하지 않음)
+		lenient().when(seatRepositoryPort.findById(seatId)).thenReturn(Optional.of(seat));
+
+		// 공연 일정 읽기 락 내부에서 실행되는 람다를 실제로 실행
+		lenient().when(distributedLockService.executeWithReadLock(eq(LockKeys.schedule(1L)), ArgumentMatchers.<Supplier<Object>>any()))
+				.thenAnswer(invocation -> {
+					Supplier<?> supplier = invocation.getArgument(1);
+					return supplier.get();
+				});
+
 		// TransactionTemplate은 실제로 사용되므로 Mock 설정 불필요
 	}
 
@@ -94,10 +136,9 @@ class ReserveConcertUseCaseTest {
 	@DisplayName("정상적인 좌석 예약 시 예약이 생성됨")
 	void testExecute_Success_CreatesReservation() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
 			// 분산락 내부에서 실행되는 람다를 실제로 실행
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
 
@@ -132,43 +173,130 @@ class ReserveConcertUseCaseTest {
 	}
 
 	@Test
-	@DisplayName("멱등성 키가 있고 기존 예약이 있으면 기존 예약 반환")
+	@DisplayName("비동기 예약은 같은 좌석 락 키로 비동기 락을 사용함")
+	void testExecuteAsync_UsesAsyncSeatLock() {
+		// given
+		Reservation savedReservation = new Reservation();
+		savedReservation.setId(1L);
+		savedReservation.setStatus(ReservationStatus.HOLD);
+		when(distributedLockService.executeWithLockAsync(eq(LockKeys.seat(1L, seatId)), ArgumentMatchers.<Supplier<Reservation>>any()))
+				.thenReturn(CompletableFuture.completedFuture(savedReservation));
+
+		// when
+		Reservation result = reserveConcertUseCase.executeAsync(userId, seatId, idempotencyKey).join();
+
+		// then
+		assertThat(result).isSameAs(savedReservation);
+		verify(distributedLockService, never()).executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any());
+	}
+
+	@Test
+	@DisplayName("좌석 락 대기자가 너무 많으면 좌석 경합 예외로 바로 실패함")
+	void testExecute_TooManyWaiters_ThrowsSeatContested() {
+		// given
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any()))
+				.thenThrow(new LockContendedException(LockKeys.seat(1L, seatId)));
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.execute(userId, seatId, idempotencyKey))
+				.isInstanceOf(SeatContestedException.class)
+				.hasFieldOrPropertyWithValue("seatId", seatId);
+		verify(seatRepositoryPort, never()).findByIdWithLock(anyLong());
+	}
+
+	@Test
+	@DisplayName("비동기 예약도 좌석 락 대기자가 너무 많으면 좌석 경합 예외로 완료됨")
+	void testExecuteAsync_TooManyWaiters_CompletesWithSeatContested() {
+		// given
+		when(distributedLockService.executeWithLockAsync(anyString(), ArgumentMatchers.<Supplier<Reservation>>any()))
+				.thenReturn(CompletableFuture.failedFuture(new LockContendedException(LockKeys.seat(1L, seatId))));
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeAsync(userId, seatId, idempotencyKey).join())
+				.hasCauseInstanceOf(SeatContestedException.class);
+	}
+
+	@Test
+	@DisplayName("멱등성 키가 있고 기존 예약이 있으면 미리 조회하지 않고, 자기 홀드 때문에 실패한 뒤 기존 예약 반환")
 	void testExecute_WithIdempotencyKey_ReturnsExistingReservation() {
 		// given
+		reservationProperties.setAdmissionFilter(false);
 		Reservation existingReservation = new Reservation();
 		existingReservation.setId(1L);
 		existingReservation.setUserId(userId);
 		existingReservation.setStatus(ReservationStatus.HOLD);
 		existingReservation.setIdempotencyKey(idempotencyKey);
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
-
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(seatRepositoryPort.findByIdWithLock(seatId)).thenReturn(Optional.of(seat));
+		when(reservationRepositoryPort.existsBySeatIdAndStatus(seatId, ReservationStatus.HOLD)).thenReturn(true);
 		when(reservationRepositoryPort.findByIdempotencyKey(idempotencyKey))
 				.thenReturn(Optional.of(existingReservation));
 
 		// when
 		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
 
-		// then
-		assertThat(result).isNotNull();
-		assertThat(result.getId()).isEqualTo(1L);
-		assertThat(result.getIdempotencyKey()).isEqualTo(idempotencyKey);
-		verify(reservationRepositoryPort).findByIdempotencyKey(idempotencyKey);
-		verify(seatRepositoryPort, never()).findByIdWithLock(any());
+		// then - 키 조회는 트랜잭션이 롤백된 뒤에만 수행됨
+		assertThat(result).isSameAs(existingReservation);
+		var inOrder = inOrder(transactionManager, reservationRepositoryPort);
+		inOrder.verify(transactionManager).rollback(any());
+		inOrder.verify(reservationRepositoryPort).findByIdempotencyKey(idempotencyKey);
 		verify(reservationRepositoryPort, never()).save(any());
 	}
 
+	@Test
+	@DisplayName("조건부 UPDATE 방식에서 같은 멱등성 키의 예약 INSERT가 유니크 제약에 걸리면 롤백 후 기존 예약 반환")
+	void testExecute_ConditionalUpdate_DuplicateIdempotencyKey_ReturnsExistingReservation() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		Reservation existingReservation = new Reservation();
+		existingReservation.setId(1L);
+		existingReservation.setIdempotencyKey(idempotencyKey);
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(seatRepositoryPort.claimSeat(seatId)).thenReturn(true);
+		when(reservationRepositoryPort.save(any(Reservation.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'idempotency_key'"));
+		when(reservationRepositoryPort.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.of(existingReservation));
+
+		// when
+		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+
+		// then - 좌석 선점도 함께 롤백되고 좌석 홀드 이벤트는 발행되지 않음
+		assertThat(result).isSameAs(existingReservation);
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		verify(seatAvailabilityService, never()).markTaken(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("같은 멱등성 키의 예약이 없으면 좌석 선점 실패를 그대로 던짐")
+	void testExecute_ConditionalUpdate_AlreadyClaimedByOther_Rethrows() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(seatRepositoryPort.claimSeat(seatId)).thenReturn(false);
+		when(reservationRepositoryPort.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.execute(userId, seatId, idempotencyKey))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+	}
+
 	@Test
 	@DisplayName("좌석을 찾을 수 없으면 예외 발생")
 	void testExecute_SeatNotFound_ThrowsException() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
 
@@ -193,9 +321,8 @@ class ReserveConcertUseCaseTest {
 		// given
 		seat.setSeatStatus(SeatStatus.RESERVATION);
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
 
@@ -218,9 +345,8 @@ class ReserveConcertUseCaseTest {
 	@DisplayName("이미 홀드된 좌석이면 예외 발생")
 	void testExecute_SeatAlreadyHeld_ThrowsException() {
 		// given
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
 
@@ -248,9 +374,8 @@ class ReserveConcertUseCaseTest {
 		concertSchedule.setConcertPrice(concertPrice);
 		seat.setConcertSchedule(concertSchedule);
 
-		when(distributedLockService.executeWithLock(anyString(), any(java.util.function.Supplier.class))).thenAnswer(invocation -> {
-			@SuppressWarnings("unchecked")
-			java.util.function.Supplier<Reservation> supplier = invocation.getArgument(1);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any())).thenAnswer(invocation -> {
+			Supplier<Reservation> supplier = invocation.getArgument(1);
 			return supplier.get();
 		});
 
@@ -283,4 +408,221 @@ class ReserveConcertUseCaseTest {
 		// then
 		assertThat(result.getAmountCents()).isEqualByComparingTo(new BigDecimal(8000000)); // 80000원 * 100센트
 	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 방식은 분산락 없이 좌석을 선점하고 예약을 생성함")
+	void testExecute_ConditionalUpdate_ClaimsSeatWithoutLock() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(seatRepositoryPort.claimSeat(seatId)).thenReturn(true);
+		when(reservationRepositoryPort.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(ReservationStatus.HOLD);
+		assertThat(result.getAmountCents()).isEqualByComparingTo(new BigDecimal(8000000));
+		verifyNoInteractions(distributedLockService);
+		verify(seatRepositoryPort, never()).findByIdWithLock(anyLong());
+		verify(reservationRepositoryPort, never()).existsBySeatIdAndStatus(anyLong(), any());
+		verify(reservationRepositoryPort, never()).findByIdempotencyKey(anyString());
+		verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReservationEvent held
+				&& held.type() == ReservationEventType.HELD && seatId.equals(held.seatId())));
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 방식에서 이미 선점된 좌석이면 예약을 만들지 않고 실패함")
+	void testExecute_ConditionalUpdate_AlreadyClaimed_Fails() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		when(transactionManager.getTransaction(any()))
+				.thenReturn(new SimpleTransactionStatus());
+		when(seatRepositoryPort.claimSeat(seatId)).thenReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeAsync(userId, seatId, null).join())
+				.hasCauseInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+		verify(reservationRepositoryPort, never()).save(any());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		verify(transactionManager).rollback(any());
+	}
+
+	@Test
+	@DisplayName("예약 불가로 표시된 좌석은 분산락, 트랜잭션 없이 바로 거절함")
+	void testExecute_KnownTakenSeat_RejectedBeforeLock() {
+		// given
+		when(seatAvailabilityService.isKnownTaken(1L, 1)).thenReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.execute(userId, seatId, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+		verifyNoInteractions(distributedLockService, transactionManager, reservationRepositoryPort);
+		verify(seatRepositoryPort, never()).findByIdWithLock(anyLong());
+	}
+
+	@Test
+	@DisplayName("예약 불가로 표시된 좌석이라도 같은 멱등성 키의 재요청이면 기존 예약을 반환함")
+	void testExecute_KnownTakenSeat_SameIdempotencyKey_ReturnsExistingReservation() {
+		// given
+		Reservation existingReservation = new Reservation();
+		existingReservation.setId(1L);
+		existingReservation.setIdempotencyKey(idempotencyKey);
+		when(seatAvailabilityService.isKnownTaken(1L, 1)).thenReturn(true);
+		when(reservationRepositoryPort.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.of(existingReservation));
+
+		// when
+		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+
+		// then
+		assertThat(result).isSameAs(existingReservation);
+		verifyNoInteractions(distributedLockService, transactionManager);
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 방식도 예약 불가로 표시된 좌석은 트랜잭션 없이 거절함")
+	void testExecuteAsync_ConditionalUpdate_KnownTakenSeat_RejectedBeforeTransaction() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.CONDITIONAL_UPDATE);
+		when(seatAvailabilityService.isKnownTaken(1L, 1)).thenReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeAsync(userId, seatId, null).join())
+				.hasCauseInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+		verifyNoInteractions(distributedLockService, transactionManager);
+		verify(seatRepositoryPort, never()).claimSeat(anyLong());
+	}
+
+	@Test
+	@DisplayName("사전 확인을 끄면 예약 가능 비트맵을 보지 않고 락 안에서 판단함")
+	void testExecute_AdmissionFilterDisabled_SkipsPreCheck() {
+		// given
+		reservationProperties.setAdmissionFilter(false);
+		when(distributedLockService.executeWithLock(anyString(), ArgumentMatchers.<Supplier<Reservation>>any()))
+				.thenThrow(new LockContendedException(LockKeys.seat(1L, seatId)));
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.execute(userId, seatId, null))
+				.isInstanceOf(SeatContestedException.class);
+		verify(seatAvailabilityService, never()).isKnownTaken(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("여러 좌석 예약은 최대 좌석 수를 넘으면 락, 트랜잭션 없이 거절함")
+	void testExecuteGroup_TooManySeats_Rejected() {
+		// given
+		reservationProperties.setMaxSeatsPerHold(2);
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.executeGroup(userId, java.util.List.of(seatId, 101L, 102L), null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("좌석 수를 넘었습니다");
+		verifyNoInteractions(distributedLockService, transactionManager, seatRepositoryPort);
+	}
+
+	@Test
+	@DisplayName("Redis 우선 방식은 DB 트랜잭션 없이 Redis 홀드만으로 바로 응답하고, 미리 발급한 예약 ID를 돌려줌")
+	void testExecute_RedisFirst_RespondsFromRedisHold() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.REDIS_FIRST);
+		long expiresAt = System.currentTimeMillis() + 600_000;
+		when(reservationIdAllocator.next()).thenReturn(42L);
+		when(seatHoldStorePort.claim(eq(1L), eq(seatId), eq(userId), any(BigDecimal.class), eq(idempotencyKey), any(), eq(42L)))
+				.thenReturn(Optional.of(new SeatHold(42L, 1L, seatId, userId, new BigDecimal(8000000), expiresAt, idempotencyKey)));
+
+		// when
+		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+
+		// then
+		assertThat(result.getId()).isEqualTo(42L);
+		assertThat(result.getStatus()).isEqualTo(ReservationStatus.HOLD);
+		assertThat(result.getSeat().getSeatId()).isEqualTo(seatId);
+		assertThat(result.getIdempotencyKey()).isEqualTo(idempotencyKey);
+		verifyNoInteractions(distributedLockService, transactionManager);
+		verify(reservationRepositoryPort, never()).save(any());
+		verify(seatAvailabilityService).markTaken(1L, 1);
+	}
+
+	@Test
+	@DisplayName("Redis 우선 방식에서 예약 가능 비트맵 표시가 실패해도 Redis 홀드로 응답함")
+	void testExecute_RedisFirst_MarkTakenFails_StillResponds() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.REDIS_FIRST);
+		long expiresAt = System.currentTimeMillis() + 600_000;
+		when(reservationIdAllocator.next()).thenReturn(42L);
+		when(seatHoldStorePort.claim(eq(1L), eq(seatId), eq(userId), any(BigDecimal.class), eq(idempotencyKey), any(), eq(42L)))
+				.thenReturn(Optional.of(new SeatHold(42L, 1L, seatId, userId, new BigDecimal(8000000), expiresAt, idempotencyKey)));
+		doThrow(new RuntimeException("Redis 연결 실패")).when(seatAvailabilityService).markTaken(1L, 1);
+
+		// when
+		Reservation result = reserveConcertUseCase.execute(userId, seatId, idempotencyKey);
+
+		// then
+		assertThat(result.getId()).isEqualTo(42L);
+		assertThat(result.getStatus()).isEqualTo(ReservationStatus.HOLD);
+	}
+
+	@Test
+	@DisplayName("Redis 우선 방식에서 이미 홀드된 좌석이면 실패함")
+	void testExecute_RedisFirst_AlreadyHeld_Fails() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.REDIS_FIRST);
+		when(seatHoldStorePort.claim(eq(1L), eq(seatId), eq(userId), any(BigDecimal.class), anyString(), any(), anyLong()))
+				.thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> reserveConcertUseCase.execute(userId, seatId, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("이미 예약된 좌석");
+		verifyNoInteractions(seatAvailabilityService);
+	}
+
+	@Test
+	@DisplayName("좌석 기준 정보는 유지 시간 안에는 다시 읽지 않고, 지나면 바뀐 가격을 DB에서 다시 읽음")
+	void testExecute_RedisFirst_SeatInfoReloadedAfterTtl() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.REDIS_FIRST);
+		when(seatHoldStorePort.claim(eq(1L), eq(seatId), eq(userId), any(BigDecimal.class), anyString(), any(), anyLong()))
+				.thenReturn(Optional.empty());
+		reserveConcertUseCase.executeAsync(userId, seatId, null);
+		reserveConcertUseCase.executeAsync(userId, seatId, null);
+		verify(seatRepositoryPort, times(1)).findById(seatId);
+
+		// when: 유지 시간이 지난 뒤 가격 변경
+		reservationProperties.getSeatCache().setTtl(Duration.ZERO);
+		concertSchedule.setConcertPrice(new BigDecimal(90000));
+		reserveConcertUseCase.executeAsync(userId, seatId, null);
+
+		// then
+		verify(seatRepositoryPort, times(2)).findById(seatId);
+		verify(seatHoldStorePort).claim(eq(1L), eq(seatId), eq(userId), eq(new BigDecimal(9000000)), anyString(), any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("좌석 기준 정보가 최대 좌석 수를 넘으면 오래전에 읽은 좌석부터 버림")
+	void testExecute_RedisFirst_SeatInfoBounded() {
+		// given
+		reservationProperties.setHoldStrategy(ReservationProperties.HoldStrategy.REDIS_FIRST);
+		reservationProperties.getSeatCache().setMaxSeats(1);
+		Seat other = new Seat();
+		other.setSeatId(101L);
+		other.setSeatNumber(2);
+		other.setConcertSchedule(concertSchedule);
+		when(seatRepositoryPort.findById(101L)).thenReturn(Optional.of(other));
+		when(seatHoldStorePort.claim(eq(1L), anyLong(), eq(userId), any(BigDecimal.class), anyString(), any(), anyLong()))
+				.thenReturn(Optional.empty());
+
+		// when: 좌석 두 개를 읽은 뒤 처음 좌석을 다시 요청
+		reserveConcertUseCase.executeAsync(userId, seatId, null);
+		reserveConcertUseCase.executeAsync(userId, 101L, null);
+		reserveConcertUseCase.executeAsync(userId, seatId, null);
+
+		// then
+		verify(seatRepositoryPort, times(2)).findById(seatId);
+	}
 }